@@ -0,0 +1,52 @@
+package org.choon.careerbee.domain.company.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.LocationInfo;
+import org.choon.careerbee.domain.company.entity.enums.BusinessType;
+import org.choon.careerbee.domain.company.entity.enums.RecruitingStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 지도 범위 검색 응답의 JSON 직렬화 비용을 측정한다. (마커 수별)
+ */
+@State(Scope.Benchmark)
+public class CompanyRangeSearchRespBenchmark {
+
+    @Param({"50", "500"})
+    private int markerCount;
+
+    private ObjectMapper objectMapper;
+    private CompanyRangeSearchResp response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        BusinessType[] businessTypes = BusinessType.values();
+        List<CompanyMarkerInfo> markers = new ArrayList<>(markerCount);
+        for (int i = 0; i < markerCount; i++) {
+            markers.add(new CompanyMarkerInfo(
+                (long) i,
+                "https://cdn.careerbee.co.kr/markers/" + i + ".png",
+                businessTypes[i % businessTypes.length],
+                i % 3 == 0 ? RecruitingStatus.ONGOING : RecruitingStatus.CLOSED,
+                new LocationInfo(37.40 + i * 0.0001, 127.10 + i * 0.0001)
+            ));
+        }
+        response = new CompanyRangeSearchResp(markers);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,21 @@
+package org.choon.careerbee.domain.company.service.query;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 기업 검색어의 LIKE 특수문자 이스케이프 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+public class EscapeLikeBenchmark {
+
+    @Param({"카카오", "  네이버 클라우드  ", "100%_성장!기업"})
+    private String keyword;
+
+    @Benchmark
+    public String escapeLike() {
+        return CompanyQueryServiceImpl.escapeLike(keyword);
+    }
+}
@@ -0,0 +1,51 @@
+package org.choon.careerbee.domain.competition.dto.internal;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.choon.careerbee.domain.competition.dto.request.CompetitionResultSubmitReq.SubmitInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 대회 답안 채점 비용을 측정한다. 정답 목록으로 정답표를 만드는 과정까지 포함한 경우와 채점만 한 경우를 나눠 본다.
+ */
+@State(Scope.Benchmark)
+public class GradingResultBenchmark {
+
+    private static final int PROBLEM_COUNT = 5;
+
+    private List<ProblemAnswerInfo> answers;
+    private CompetitionAnswerKey answerKey;
+    private List<SubmitInfo> submittedAnswers;
+
+    @Setup
+    public void setUp() {
+        answers = new ArrayList<>(PROBLEM_COUNT);
+        submittedAnswers = new ArrayList<>(PROBLEM_COUNT);
+        for (long problemId = 1; problemId <= PROBLEM_COUNT; problemId++) {
+            short answer = (short) (problemId % 4 + 1);
+            answers.add(new ProblemAnswerInfo(problemId, answer, "해설 " + problemId));
+            submittedAnswers.add(new SubmitInfo(
+                problemId, problemId % 2 == 0 ? answer : (short) (answer % 4 + 1)
+            ));
+        }
+        answerKey = toAnswerKey(answers);
+    }
+
+    @Benchmark
+    public GradingResult gradeWithAnswerKeyBuild() {
+        return GradingResult.grade(toAnswerKey(answers), submittedAnswers);
+    }
+
+    @Benchmark
+    public GradingResult gradeOnly() {
+        return GradingResult.grade(answerKey, submittedAnswers);
+    }
+
+    private CompetitionAnswerKey toAnswerKey(List<ProblemAnswerInfo> answers) {
+        return CompetitionAnswerKey.of(1L, LocalDateTime.MAX, answers);
+    }
+}
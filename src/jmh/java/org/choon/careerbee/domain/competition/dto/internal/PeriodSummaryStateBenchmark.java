@@ -0,0 +1,65 @@
+package org.choon.careerbee.domain.competition.dto.internal;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.choon.careerbee.domain.competition.dto.response.DailyResultSummaryResp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 주간/월간 집계에서 회원별 하루치 결과를 누적하는 비용을 측정한다. (한 달치, 회원 수별)
+ */
+@State(Scope.Benchmark)
+public class PeriodSummaryStateBenchmark {
+
+    private static final LocalDate MONTH_START = LocalDate.of(2025, 6, 1);
+    private static final int DAYS = 30;
+
+    @Param({"100", "1000"})
+    private int memberCount;
+
+    private List<List<DailyResultSummaryResp>> dailyResults;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        dailyResults = new ArrayList<>(DAYS);
+        for (int day = 0; day < DAYS; day++) {
+            List<DailyResultSummaryResp> results = new ArrayList<>(memberCount);
+            for (long memberId = 1; memberId <= memberCount; memberId++) {
+                // 약 20% 는 참여하지 않은 날로 두어 연속 참여가 끊기는 경우를 섞는다.
+                if (random.nextInt(5) == 0) {
+                    continue;
+                }
+                results.add(new DailyResultSummaryResp(
+                    memberId, (short) random.nextInt(6), 10_000 + random.nextInt(300_000)
+                ));
+            }
+            dailyResults.add(results);
+        }
+    }
+
+    @Benchmark
+    public PeriodSummaryState[] foldMonth() {
+        PeriodSummaryState[] states = new PeriodSummaryState[memberCount + 1];
+        for (int i = 1; i <= memberCount; i++) {
+            states[i] = PeriodSummaryState.empty((long) i);
+        }
+
+        for (int day = 0; day < DAYS; day++) {
+            LocalDate date = MONTH_START.plusDays(day);
+            for (DailyResultSummaryResp result : dailyResults.get(day)) {
+                int index = result.memberId().intValue();
+                if (!states[index].hasFolded(date)) {
+                    states[index] = states[index].fold(result, date);
+                }
+            }
+        }
+        return states;
+    }
+}
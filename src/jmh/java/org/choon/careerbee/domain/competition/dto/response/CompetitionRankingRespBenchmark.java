@@ -0,0 +1,50 @@
+package org.choon.careerbee.domain.competition.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import org.choon.careerbee.domain.competition.dto.response.CompetitionRankingResp.RankingInfo;
+import org.choon.careerbee.domain.competition.dto.response.CompetitionRankingResp.RankingInfoWithContinuousAndCorrectRate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 대회 랭킹 응답(일간/주간/월간 상위 10명)의 JSON 직렬화 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+public class CompetitionRankingRespBenchmark {
+
+    private static final int TOP_N = 10;
+
+    private ObjectMapper objectMapper;
+    private CompetitionRankingResp response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<RankingInfo> daily = new ArrayList<>(TOP_N);
+        List<RankingInfoWithContinuousAndCorrectRate> week = new ArrayList<>(TOP_N);
+        List<RankingInfoWithContinuousAndCorrectRate> month = new ArrayList<>(TOP_N);
+        for (int i = 0; i < TOP_N; i++) {
+            String nickname = "회원" + i;
+            String profileUrl = "https://cdn.careerbee.co.kr/profiles/" + i + ".png";
+            daily.add(new RankingInfo(
+                nickname, profileUrl, 60_000L + i * 1_000L, (short) (5 - i % 5)));
+            week.add(RankingInfoWithContinuousAndCorrectRate.from(
+                nickname, profileUrl, 7 - i % 7, 95.5 - i));
+            month.add(RankingInfoWithContinuousAndCorrectRate.from(
+                nickname, profileUrl, 30 - i, 90.0 - i));
+        }
+        response = new CompetitionRankingResp(daily, week, month);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,48 @@
+package org.choon.careerbee.util.jwt;
+
+import java.util.Base64;
+import org.choon.careerbee.domain.auth.dto.internal.MemberAuthInfo;
+import org.choon.careerbee.domain.auth.entity.enums.TokenType;
+import org.choon.careerbee.domain.auth.security.PrincipalDetails;
+import org.choon.careerbee.domain.member.entity.enums.RoleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 요청마다 실행되는 토큰 검증 경로를 측정한다. 회원 조회는 고정 응답으로 대체해 JWT 처리 비용만 본다.
+ */
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private static final long ONE_HOUR_MILLIS = 3_600_000L;
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        String secret = Base64.getEncoder()
+            .encodeToString("careerbee-jmh-benchmark-secret-key-0123456789".getBytes());
+        PrincipalDetails principal = new PrincipalDetails(
+            new MemberAuthInfo(1L, RoleType.ROLE_MEMBER)
+        );
+
+        jwtUtil = new JwtUtil(
+            secret, ONE_HOUR_MILLIS, ONE_HOUR_MILLIS, 1_000L, username -> principal
+        );
+        accessToken = jwtUtil.createToken(1L, RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN);
+    }
+
+    @Benchmark
+    public Long extractAllClaims() {
+        return jwtUtil.getIdInToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtUtil.getAuthentication(accessToken);
+    }
+}
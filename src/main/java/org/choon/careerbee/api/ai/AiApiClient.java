@@ -3,8 +3,12 @@ package org.choon.careerbee.api.ai;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import java.net.http.HttpClient;
 import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.choon.careerbee.common.enums.CustomResponseStatus;
 import org.choon.careerbee.common.exception.CustomException;
@@ -26,9 +30,16 @@ import org.choon.careerbee.domain.member.dto.response.ResumeDraftResp;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+/**
+ * AI 서버 클라이언트.
+ * <p>
+ * 모든 호출은 {@link AiBulkhead} 의 엔드포인트 묶음별 한도 안에서 실행되고, 비동기 호출은 그 전용 가상 스레드에서 돌아간다.
+ * 묶음마다 응답 대기 시간이 다른 RestClient 를 두되, 연결 풀은 하나의 HttpClient 를 함께 쓴다.
+ */
 @Component
 @Slf4j
 public class AiApiClient {
@@ -36,52 +47,39 @@ public class AiApiClient {
     private final ObjectMapper objectMapper = new ObjectMapper()
         .enable(SerializationFeature.INDENT_OUTPUT);
 
-    private final RestClient aiRestClient;
+    private final Map<AiEndpointGroup, RestClient> restClients =
+        new EnumMap<>(AiEndpointGroup.class);
+    private final AiBulkhead bulkhead;
 
     public AiApiClient(
-        @Qualifier("aiRestClient") RestClient aiRestClient
+        @Qualifier("aiRestClient") RestClient aiRestClient,
+        @Qualifier("aiHttpClient") HttpClient aiHttpClient,
+        AiBulkhead bulkhead
     ) {
-        this.aiRestClient = aiRestClient;
+        for (AiEndpointGroup group : AiEndpointGroup.values()) {
+            JdkClientHttpRequestFactory requestFactory =
+                new JdkClientHttpRequestFactory(aiHttpClient);
+            requestFactory.setReadTimeout(group.getReadTimeout());
+            restClients.put(group, aiRestClient.mutate().requestFactory(requestFactory).build());
+        }
+        this.bulkhead = bulkhead;
     }
 
     public ResumeDraftResp requestResumeDraft(ResumeDraftReq resumeDraftReq) {
-        AiResumeDraftResp body = aiRestClient
-            .post()
-            .uri(uriBuilder -> uriBuilder
-                .path("/resume/draft")
-                .build())
-            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-            .body(resumeDraftReq)
-            .retrieve()
-            .body(AiResumeDraftResp.class);
+        AiResumeDraftResp body = bulkhead.call(AiEndpointGroup.RESUME_DRAFT, () -> post(
+            AiEndpoint.RESUME_DRAFT, resumeDraftReq, AiResumeDraftResp.class,
+            CustomResponseStatus.AI_INVALID_INPUT_FIELDS, "이력서 초안 응답"
+        ));
 
         return new ResumeDraftResp(body.data().toString());
     }
 
     public ExtractResumeRespFromAi requestExtractResume(ExtractResumeReq extractResumeReq) {
         log.info("요청 객체 :  {}", extractResumeReq);
-        AiResumeExtractResp body = aiRestClient
-            .post()
-            .uri(uriBuilder -> uriBuilder
-                .path("/resume/extract")
-                .build())
-            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-            .body(extractResumeReq)
-            .exchange((req, resp) -> {
-                String responseBody = new String(resp.getBody().readAllBytes(),
-                    StandardCharsets.UTF_8);
-
-                if (resp.getStatusCode().is4xxClientError()) {
-                    log.error("[4xx] ai 서버 에러!! : {}", responseBody);
-                    throw new CustomException(CustomResponseStatus.EXTENSION_NOT_EXIST);
-                } else if (resp.getStatusCode().is5xxServerError()) {
-                    log.error("[5xx] ai 서버 에러!! : {}", responseBody);
-                    throw new CustomException(CustomResponseStatus.AI_INTERNAL_SERVER_ERROR);
-                } else {
-                    logJson("1. 이력서 정보 추출 응답", responseBody);
-                    return objectMapper.readValue(responseBody, AiResumeExtractResp.class);
-                }
-            });
+        AiResumeExtractResp body = bulkhead.call(AiEndpointGroup.RESUME_EXTRACT, () -> post(
+            AiEndpoint.RESUME_EXTRACT, extractResumeReq, AiResumeExtractResp.class,
+            CustomResponseStatus.EXTENSION_NOT_EXIST, "1. 이력서 정보 추출 응답"
+        ));
 
         logJson("2. 최종 이력서 정보 추출 응답", body);
         return objectMapper.convertValue(body.data(), ExtractResumeRespFromAi.class);
@@ -90,46 +88,20 @@ public class AiApiClient {
     public CompletableFuture<ExtractResumeResp> requestExtractResumeAsync(
         ExtractResumeReq extractResumeReq
     ) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                log.info("요청 객체 : {}", extractResumeReq);
-
-                // 동기 방식으로 한 번 실행하지만 supplyAsync로 비동기화
-                AiResumeExtractResp body = aiRestClient
-                    .post()
-                    .uri(uriBuilder -> uriBuilder
-                        .path("/resume/extract")
-                        .build())
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .body(extractResumeReq)
-                    .exchange((req, resp) -> {
-                        String responseBody = new String(resp.getBody().readAllBytes(),
-                            StandardCharsets.UTF_8);
-
-                        if (resp.getStatusCode().is4xxClientError()) {
-                            log.error("[4xx] ai 서버 에러!! : {}", responseBody);
-                            throw new CustomException(CustomResponseStatus.EXTENSION_NOT_EXIST);
-                        } else if (resp.getStatusCode().is5xxServerError()) {
-                            log.error("[5xx] ai 서버 에러!! : {}", responseBody);
-                            throw new CustomException(
-                                CustomResponseStatus.AI_INTERNAL_SERVER_ERROR);
-                        } else {
-                            logJson("1. 이력서 정보 추출 응답", responseBody);
-                            return objectMapper.readValue(responseBody, AiResumeExtractResp.class);
-                        }
-                    });
+        return submit(AiEndpointGroup.RESUME_EXTRACT, () -> {
+            log.info("요청 객체 : {}", extractResumeReq);
+            AiResumeExtractResp body = post(
+                AiEndpoint.RESUME_EXTRACT, extractResumeReq, AiResumeExtractResp.class,
+                CustomResponseStatus.EXTENSION_NOT_EXIST, "1. 이력서 정보 추출 응답"
+            );
 
-                logJson("2. 최종 이력서 정보 추출 응답", body);
+            logJson("2. 최종 이력서 정보 추출 응답", body);
 
-                ExtractResumeRespFromAi extractResumeRespFromAi = objectMapper.convertValue(
-                    body.data(), ExtractResumeRespFromAi.class);
+            ExtractResumeRespFromAi extractResumeRespFromAi = objectMapper.convertValue(
+                body.data(), ExtractResumeRespFromAi.class);
 
-                logJson("3. 최종 추출 dto", extractResumeRespFromAi);
-                return ExtractResumeResp.from(extractResumeRespFromAi);
-            } catch (Exception e) {
-                // 예외는 비동기적으로 처리되므로 런타임 예외로 감싸서 throw
-                throw new RuntimeException("AI 서버 요청 실패", e);
-            }
+            logJson("3. 최종 추출 dto", extractResumeRespFromAi);
+            return ExtractResumeResp.from(extractResumeRespFromAi);
         });
     }
 
@@ -137,28 +109,11 @@ public class AiApiClient {
         AdvancedResumeInitReq extractResumeReq
     ) {
         log.info("요청 객체 :  {}", extractResumeReq);
-        AdvancedResumeInitRespFromAI body = aiRestClient
-            .post()
-            .uri(uriBuilder -> uriBuilder
-                .path("/api/v1/resume/agent/init")
-                .build())
-            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-            .body(extractResumeReq)
-            .exchange((req, resp) -> {
-                String responseBody = new String(resp.getBody().readAllBytes(),
-                    StandardCharsets.UTF_8);
-
-                if (resp.getStatusCode().is4xxClientError()) {
-                    log.error("[4xx] ai 서버 에러!! : {}", responseBody);
-                    throw new CustomException(CustomResponseStatus.MISSING_REQUIRED_FIELDS);
-                } else if (resp.getStatusCode().is5xxServerError()) {
-                    log.error("[5xx] ai 서버 에러!! : {}", responseBody);
-                    throw new CustomException(CustomResponseStatus.AI_INTERNAL_SERVER_ERROR);
-                } else {
-                    logJson("1. 고급 이력서 생성(init) 응답", responseBody);
-                    return objectMapper.readValue(responseBody, AdvancedResumeInitRespFromAI.class);
-                }
-            });
+        AdvancedResumeInitRespFromAI body = bulkhead.call(AiEndpointGroup.RESUME_AGENT,
+            () -> post(
+                AiEndpoint.RESUME_AGENT_INIT, extractResumeReq, AdvancedResumeInitRespFromAI.class,
+                CustomResponseStatus.MISSING_REQUIRED_FIELDS, "1. 고급 이력서 생성(init) 응답"
+            ));
 
         logJson("2. 고급 이력서 생성(init) 응답", body);
         return objectMapper.convertValue(body, AdvancedResumeInitResp.class);
@@ -167,71 +122,27 @@ public class AiApiClient {
     public CompletableFuture<AdvancedResumeInitResp> requestAdvancedResumeInitAsync(
         AdvancedResumeInitReq extractResumeReq
     ) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                log.info("요청 객체 :  {}", extractResumeReq);
-                AdvancedResumeInitRespFromAI body = aiRestClient
-                    .post()
-                    .uri(uriBuilder -> uriBuilder
-                        .path("/api/v1/resume/agent/init")
-                        .build())
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .body(extractResumeReq)
-                    .exchange((req, resp) -> {
-                        String responseBody = new String(resp.getBody().readAllBytes(),
-                            StandardCharsets.UTF_8);
-
-                        if (resp.getStatusCode().is4xxClientError()) {
-                            log.error("[4xx] ai 서버 에러!! : {}", responseBody);
-                            throw new CustomException(CustomResponseStatus.MISSING_REQUIRED_FIELDS);
-                        } else if (resp.getStatusCode().is5xxServerError()) {
-                            log.error("[5xx] ai 서버 에러!! : {}", responseBody);
-                            throw new CustomException(
-                                CustomResponseStatus.AI_INTERNAL_SERVER_ERROR);
-                        } else {
-                            logJson("1. 고급 이력서 생성(init) 응답", responseBody);
-                            return objectMapper.readValue(responseBody,
-                                AdvancedResumeInitRespFromAI.class);
-                        }
-                    });
-
-                logJson("2. 고급 이력서 생성(init) 응답", body);
-                return new AdvancedResumeInitResp(body.question());
-            } catch (Exception e) {
-                // 예외는 비동기적으로 처리되므로 런타임 예외로 감싸서 throw
-                throw new RuntimeException("AI 서버 요청 실패", e);
-            }
+        return submit(AiEndpointGroup.RESUME_AGENT, () -> {
+            log.info("요청 객체 :  {}", extractResumeReq);
+            AdvancedResumeInitRespFromAI body = post(
+                AiEndpoint.RESUME_AGENT_INIT, extractResumeReq, AdvancedResumeInitRespFromAI.class,
+                CustomResponseStatus.MISSING_REQUIRED_FIELDS, "1. 고급 이력서 생성(init) 응답"
+            );
+
+            logJson("2. 고급 이력서 생성(init) 응답", body);
+            return new AdvancedResumeInitResp(body.question());
         });
-
     }
 
     public AdvancedResumeRespFromAi requestAdvancedResumeUpdate(
         AdvancedResumeUpdateReqToAi reqToAi
     ) {
         log.info("요청 객체 :  {}", reqToAi);
-
-        AdvancedResumeRespFromAi result = aiRestClient
-            .post()
-            .uri(uriBuilder -> uriBuilder.path("/api/v1/resume/agent/update").build())
-            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-            .body(reqToAi)
-            .exchange((req, resp) -> {
-                String responseBody = new String(resp.getBody().readAllBytes(),
-                    StandardCharsets.UTF_8);
-
-                if (resp.getStatusCode().is4xxClientError()) {
-                    log.error("[4xx] ai 서버 에러!! : {}", responseBody);
-                    throw new CustomException(CustomResponseStatus.MISSING_REQUIRED_FIELDS);
-                } else if (resp.getStatusCode().is5xxServerError()) {
-                    log.error("[5xx] ai 서버 에러!! : {}", responseBody);
-                    throw new CustomException(CustomResponseStatus.AI_INTERNAL_SERVER_ERROR);
-                }
-
-                log.info("데이터 : {}", responseBody);
-                logJson("1. 고급 이력서 생성(update) 응답", responseBody);
-
-                return objectMapper.readValue(responseBody, AdvancedResumeRespFromAi.class);
-            });
+        AdvancedResumeRespFromAi result = bulkhead.call(AiEndpointGroup.RESUME_AGENT,
+            () -> post(
+                AiEndpoint.RESUME_AGENT_UPDATE, reqToAi, AdvancedResumeRespFromAi.class,
+                CustomResponseStatus.MISSING_REQUIRED_FIELDS, "1. 고급 이력서 생성(update) 응답"
+            ));
 
         logJson("2. 고급 이력서 생성(update) 최종 응답 객체", result);
         return result;
@@ -240,99 +151,74 @@ public class AiApiClient {
     public CompletableFuture<AdvancedResumeRespFromAi> requestAdvancedResumeUpdateAsync(
         AdvancedResumeUpdateReqToAi reqToAi
     ) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                log.info("요청 객체 :  {}", reqToAi);
-                AdvancedResumeRespFromAi result = aiRestClient
-                    .post()
-                    .uri(uriBuilder -> uriBuilder.path("/api/v1/resume/agent/update").build())
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .body(reqToAi)
-                    .exchange((req, resp) -> {
-                        String responseBody = new String(resp.getBody().readAllBytes(),
-                            StandardCharsets.UTF_8);
-
-                        if (resp.getStatusCode().is4xxClientError()) {
-                            log.error("[4xx] ai 서버 에러!! : {}", responseBody);
-                            throw new CustomException(CustomResponseStatus.AI_INVALID_INPUT_FIELDS);
-                        } else if (resp.getStatusCode().is5xxServerError()) {
-                            throw new CustomException(
-                                CustomResponseStatus.AI_INTERNAL_SERVER_ERROR);
-                        }
+        return submit(AiEndpointGroup.RESUME_AGENT, () -> {
+            log.info("요청 객체 :  {}", reqToAi);
+            AdvancedResumeRespFromAi result = post(
+                AiEndpoint.RESUME_AGENT_UPDATE, reqToAi, AdvancedResumeRespFromAi.class,
+                CustomResponseStatus.AI_INVALID_INPUT_FIELDS, "1. 고급 이력서 생성(update) 응답"
+            );
+
+            logJson("2. 고급 이력서 생성(update) 응답", result);
+            return result;
+        });
+    }
 
-                        log.info("데이터 : {}", responseBody);
-                        logJson("1. 고급 이력서 생성(update) 응답", responseBody);
-                        return objectMapper.readValue(
-                            responseBody, AdvancedResumeRespFromAi.class);
-                    });
+    public AiFeedbackRespFromAi requestFeedback(AiFeedbackReq feedbackReq) {
+        AiFeedbackRespWrapper body = bulkhead.call(AiEndpointGroup.FEEDBACK, () -> post(
+            AiEndpoint.FEEDBACK, feedbackReq, AiFeedbackRespWrapper.class,
+            CustomResponseStatus.EXTENSION_NOT_EXIST, "생성된 피드백"
+        ));
 
-                logJson("2. 고급 이력서 생성(update) 응답", result);
-                return result;
+        return body.data();
+    }
 
-            } catch (Exception e) {
-                // 예외는 비동기적으로 처리되므로 런타임 예외로 감싸서 throw
-                throw new RuntimeException("AI 서버 요청 실패", e);
-            }
-        });
+    public CompletableFuture<AiFeedbackRespFromAi> requestFeedbackAsync(AiFeedbackReq feedbackReq) {
+        log.info("ai 서버로 요청 보냄");
+        return submit(AiEndpointGroup.FEEDBACK, () -> post(
+            AiEndpoint.FEEDBACK, feedbackReq, AiFeedbackRespWrapper.class,
+            CustomResponseStatus.AI_INVALID_INPUT_FIELDS, "생성된 피드백"
+        ).data());
     }
 
-    public AiFeedbackRespFromAi requestFeedback(AiFeedbackReq feedbackReq) {
-        AiFeedbackRespWrapper body = aiRestClient
+    /**
+     * AI 서버에 요청하고 응답 본문을 {@code responseType} 으로 읽는다. 4xx 는 {@code clientErrorStatus}, 5xx 는
+     * {@link CustomResponseStatus#AI_INTERNAL_SERVER_ERROR} 로 바꿔 던진다.
+     */
+    private <T> T post(
+        AiEndpoint endpoint,
+        Object requestBody,
+        Class<T> responseType,
+        CustomResponseStatus clientErrorStatus,
+        String label
+    ) {
+        return restClients.get(endpoint.getGroup())
             .post()
             .uri(uriBuilder -> uriBuilder
-                .path("/feedback/create")
+                .path(endpoint.getPath())
                 .build())
             .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-            .body(feedbackReq)
+            .body(requestBody)
             .exchange((req, resp) -> {
                 String responseBody = new String(resp.getBody().readAllBytes(),
                     StandardCharsets.UTF_8);
 
                 if (resp.getStatusCode().is4xxClientError()) {
                     log.error("[4xx] ai 서버 에러!! : {}", responseBody);
-                    throw new CustomException(CustomResponseStatus.EXTENSION_NOT_EXIST);
+                    throw new CustomException(clientErrorStatus);
                 } else if (resp.getStatusCode().is5xxServerError()) {
                     log.error("[5xx] ai 서버 에러!! : {}", responseBody);
                     throw new CustomException(CustomResponseStatus.AI_INTERNAL_SERVER_ERROR);
-                } else {
-                    logJson("생성된 피드백", responseBody);
-                    return objectMapper.readValue(responseBody, AiFeedbackRespWrapper.class);
                 }
-            });
 
-        return body.data();
+                logJson(label, responseBody);
+                return objectMapper.readValue(responseBody, responseType);
+            });
     }
 
-    public CompletableFuture<AiFeedbackRespFromAi> requestFeedbackAsync(AiFeedbackReq feedbackReq) {
-        log.info("ai 서버로 요청 보냄");
-        return CompletableFuture.supplyAsync(() -> {
+    private <T> CompletableFuture<T> submit(AiEndpointGroup group, Supplier<T> request) {
+        return bulkhead.submit(group, () -> {
             try {
-                AiFeedbackRespWrapper body = aiRestClient
-                    .post()
-                    .uri(uriBuilder -> uriBuilder
-                        .path("/feedback/create")
-                        .build())
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .body(feedbackReq)
-                    .exchange((req, resp) -> {
-                        String responseBody = new String(resp.getBody().readAllBytes(),
-                            StandardCharsets.UTF_8);
-
-                        if (resp.getStatusCode().is4xxClientError()) {
-                            log.error("[4xx] ai 서버 에러!! : {}", responseBody);
-                            throw new CustomException(CustomResponseStatus.AI_INVALID_INPUT_FIELDS);
-                        } else if (resp.getStatusCode().is5xxServerError()) {
-                            log.error("[5xx] ai 서버 에러!! : {}", responseBody);
-                            throw new CustomException(
-                                CustomResponseStatus.AI_INTERNAL_SERVER_ERROR);
-                        } else {
-                            logJson("생성된 피드백", responseBody);
-                            return objectMapper.readValue(responseBody,
-                                AiFeedbackRespWrapper.class);
-                        }
-                    });
-
-                return body.data();
+                return request.get();
             } catch (Exception e) {
                 // 예외는 비동기적으로 처리되므로 런타임 예외로 감싸서 throw
                 throw new RuntimeException("AI 서버 요청 실패", e);
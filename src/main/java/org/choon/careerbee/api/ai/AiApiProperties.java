@@ -11,4 +11,7 @@ public class AiApiProperties {
     @Value("${ai.api.base-url}")
     private String baseUrl;
 
+    @Value("${ai.api.connect-timeout-ms:3000}")
+    private long connectTimeoutMillis;
+
 }
@@ -0,0 +1,103 @@
+package org.choon.careerbee.api.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 서버 호출을 엔드포인트 묶음별 동시 실행 한도 안에서 실행한다.
+ * <p>
+ * 비동기 호출은 공용 ForkJoinPool 대신 전용 가상 스레드에서 돌아가므로, 오래 걸리는 LLM 응답이 다른 작업의 스레드를 붙잡지
+ * 않는다. 한도가 찬 묶음은 {@code max-wait} 만큼만 자리를 기다리고, 그래도 차 있으면 거절한다. 묶음별 실행 중 건수, 한도,
+ * 거절 건수는 {@code ai.bulkhead.*} 메트릭으로 노출한다.
+ */
+@Slf4j
+@Component
+public class AiBulkhead implements DisposableBean {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("ai-call-", 0).factory());
+    private final Map<AiEndpointGroup, Semaphore> permits = new EnumMap<>(AiEndpointGroup.class);
+    private final Map<AiEndpointGroup, Counter> rejectedCounters =
+        new EnumMap<>(AiEndpointGroup.class);
+    private final long maxWaitMillis;
+
+    public AiBulkhead(
+        MeterRegistry meterRegistry,
+        @Value("${ai.api.bulkhead.max-wait-ms:2000}") long maxWaitMillis
+    ) {
+        this.maxWaitMillis = maxWaitMillis;
+
+        for (AiEndpointGroup group : AiEndpointGroup.values()) {
+            Semaphore semaphore = new Semaphore(group.getMaxConcurrent());
+            permits.put(group, semaphore);
+
+            Gauge.builder("ai.bulkhead.active", semaphore,
+                    s -> group.getMaxConcurrent() - s.availablePermits())
+                .description("실행 중인 AI 요청 수")
+                .tag("endpoint", group.getTag())
+                .register(meterRegistry);
+            Gauge.builder("ai.bulkhead.limit", group, AiEndpointGroup::getMaxConcurrent)
+                .description("동시에 실행할 수 있는 AI 요청 수")
+                .tag("endpoint", group.getTag())
+                .register(meterRegistry);
+            rejectedCounters.put(group, Counter.builder("ai.bulkhead.rejected")
+                .description("한도가 차 거절한 AI 요청 수")
+                .tag("endpoint", group.getTag())
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 호출한 스레드에서 실행한다.
+     */
+    public <T> T call(AiEndpointGroup group, Supplier<T> request) {
+        acquire(group);
+        try {
+            return request.get();
+        } finally {
+            permits.get(group).release();
+        }
+    }
+
+    /**
+     * 전용 가상 스레드에서 실행한다. 자리를 기다리는 것도 그 스레드에서 하므로 호출한 스레드는 막히지 않는다.
+     */
+    public <T> CompletableFuture<T> submit(AiEndpointGroup group, Supplier<T> request) {
+        return CompletableFuture.supplyAsync(() -> call(group, request), executor);
+    }
+
+    private void acquire(AiEndpointGroup group) {
+        try {
+            if (permits.get(group).tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        rejectedCounters.get(group).increment();
+        log.warn("[AiBulkhead] 동시 실행 한도 초과로 거절 - endpoint: {}, limit: {}",
+            group.getTag(), group.getMaxConcurrent());
+        throw new CustomException(CustomResponseStatus.AI_REQUEST_OVERLOADED);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,17 @@
+package org.choon.careerbee.api.ai;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AiEndpoint {
+    RESUME_DRAFT("/resume/draft", AiEndpointGroup.RESUME_DRAFT),
+    RESUME_EXTRACT("/resume/extract", AiEndpointGroup.RESUME_EXTRACT),
+    RESUME_AGENT_INIT("/api/v1/resume/agent/init", AiEndpointGroup.RESUME_AGENT),
+    RESUME_AGENT_UPDATE("/api/v1/resume/agent/update", AiEndpointGroup.RESUME_AGENT),
+    FEEDBACK("/feedback/create", AiEndpointGroup.FEEDBACK);
+
+    private final String path;
+    private final AiEndpointGroup group;
+}
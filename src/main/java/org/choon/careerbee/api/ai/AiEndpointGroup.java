@@ -0,0 +1,21 @@
+package org.choon.careerbee.api.ai;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 동시 실행 한도와 응답 대기 시간을 함께 쓰는 AI 엔드포인트 묶음. {@code tag} 는 메트릭의 endpoint 태그 값이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AiEndpointGroup {
+    RESUME_DRAFT("resume-draft", Duration.ofSeconds(30), 10),
+    RESUME_EXTRACT("resume-extract", Duration.ofSeconds(60), 20),
+    RESUME_AGENT("resume-agent", Duration.ofSeconds(120), 20),
+    FEEDBACK("feedback", Duration.ofSeconds(60), 30);
+
+    private final String tag;
+    private final Duration readTimeout;
+    private final int maxConcurrent;
+}
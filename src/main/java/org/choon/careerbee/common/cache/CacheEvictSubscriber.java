@@ -0,0 +1,31 @@
+package org.choon.careerbee.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.pubsub.dto.CacheEvictEvent;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheEvictSubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final TwoLevelCacheManager twoLevelCacheManager;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String json = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            CacheEvictEvent event = objectMapper.readValue(json, CacheEvictEvent.class);
+            twoLevelCacheManager.evictLocal(event);
+        } catch (Exception e) {
+            log.error("[CacheEvictSubscriber] 캐시 무효화 메시지 처리 실패: {}", json, e);
+        }
+    }
+}
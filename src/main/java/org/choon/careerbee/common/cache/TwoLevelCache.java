@@ -0,0 +1,145 @@
+package org.choon.careerbee.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * 프로세스 내 Caffeine(L1) 캐시를 Redis(L2) 캐시 앞에 둔 2단 캐시.
+ * <p>
+ * 조회는 L1 → L2 순으로 하고 L2 적중 시 L1 을 채운다. 삭제와 기존 값을 덮어쓰는 쓰기는 L2 에 먼저 반영한 뒤 다른 노드에
+ * L1 무효화를 알린다.
+ * L1 키는 노드 간 무효화 메시지와 맞추기 위해 문자열로 정규화한다.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final org.springframework.cache.Cache remote;
+    private final Consumer<String> evictBroadcaster;
+
+    public TwoLevelCache(
+        String name,
+        Cache<String, Object> local,
+        org.springframework.cache.Cache remote,
+        Consumer<String> evictBroadcaster
+    ) {
+        super(true);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.evictBroadcaster = evictBroadcaster;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+
+        Object storeValue = toStoreValue(wrapper.get());
+        local.put(localKey, storeValue);
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return (T) fromStoreValue(cached);
+        }
+
+        T value = remote.get(key, valueLoader);
+        local.put(localKey, toStoreValue(value));
+        return value;
+    }
+
+    /**
+     * {@code @Cacheable} 의 미스 적재는 L2 에 값이 없을 때라 다른 노드의 L1 에도 값이 없으므로 무효화를 알리지 않는다. 이미
+     * 있던 값을 덮어쓴 경우에만 다른 노드의 L1 을 비운다.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        if (existing != null) {
+            remote.put(key, value);
+            evictBroadcaster.accept(localKey(key));
+        }
+        local.put(localKey(key), toStoreValue(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        local.invalidate(localKey(key));
+        if (existing == null) {
+            evictBroadcaster.accept(localKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        evictBroadcaster.accept(localKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        local.invalidate(localKey(key));
+        evictBroadcaster.accept(localKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        evictBroadcaster.accept(null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        evictBroadcaster.accept(null);
+        return invalidated;
+    }
+
+    /**
+     * 다른 노드의 변경 알림을 받아 로컬(L1) 항목만 제거한다. {@code key} 가 null 이면 전체를 비운다.
+     */
+    void evictLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+            return;
+        }
+        local.invalidate(key);
+    }
+
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
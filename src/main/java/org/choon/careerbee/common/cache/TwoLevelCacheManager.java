@@ -0,0 +1,117 @@
+package org.choon.careerbee.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.pubsub.RedisPublisher;
+import org.choon.careerbee.common.pubsub.dto.CacheEvictEvent;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+/**
+ * 캐시 이름별 Caffeine(L1) 설정과 Redis(L2) 캐시를 묶어 {@link TwoLevelCache} 를 만들어 주는 CacheManager.
+ * <p>
+ * L1 변경은 Redis pub/sub 으로 다른 노드에 전파하며, 자신이 보낸 메시지는 노드 ID 로 걸러낸다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, InitializingBean {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisCacheManager remoteCacheManager;
+    private final Map<String, LocalCacheSpec> localSpecs;
+    private final LocalCacheSpec defaultLocalSpec;
+    private final RedisPublisher redisPublisher;
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+        RedisCacheManager remoteCacheManager,
+        Map<String, LocalCacheSpec> localSpecs,
+        LocalCacheSpec defaultLocalSpec,
+        RedisPublisher redisPublisher
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localSpecs = Map.copyOf(localSpecs);
+        this.defaultLocalSpec = defaultLocalSpec;
+        this.redisPublisher = redisPublisher;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // 캐시 이름별 Redis TTL 설정은 초기화 시점에 적재된다.
+        remoteCacheManager.afterPropertiesSet();
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> createCache(n, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(remoteCacheManager.getCacheNames());
+        names.addAll(caches.keySet());
+        return names;
+    }
+
+    /**
+     * 다른 노드에서 전파된 무효화 메시지를 로컬(L1) 캐시에 반영한다.
+     */
+    public void evictLocal(CacheEvictEvent event) {
+        if (nodeId.equals(event.nodeId())) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(event.cacheName());
+        if (cache != null) {
+            cache.evictLocal(event.key());
+        }
+    }
+
+    private TwoLevelCache createCache(String name, Cache remote) {
+        LocalCacheSpec spec = localSpecs.getOrDefault(name, defaultLocalSpec);
+
+        return new TwoLevelCache(
+            name,
+            Caffeine.newBuilder()
+                .expireAfterWrite(spec.ttl())
+                .maximumSize(spec.maximumSize())
+                .build(),
+            remote,
+            key -> broadcastEvict(name, key)
+        );
+    }
+
+    private void broadcastEvict(String cacheName, String key) {
+        try {
+            redisPublisher.publishCacheEvictEvent(CacheEvictEvent.of(nodeId, cacheName, key));
+        } catch (RuntimeException e) {
+            // 전파에 실패해도 다른 노드의 L1 은 TTL 이 지나면 정리되므로 캐시 연산은 계속 진행한다.
+            log.warn("[TwoLevelCache] 캐시 무효화 전파 실패 - cache: {}, key: {}", cacheName, key, e);
+        }
+    }
+
+    public record LocalCacheSpec(Duration ttl, long maximumSize) {
+
+        public static LocalCacheSpec of(Duration ttl, long maximumSize) {
+            return new LocalCacheSpec(ttl, maximumSize);
+        }
+    }
+}
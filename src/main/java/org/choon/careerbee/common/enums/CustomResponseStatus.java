@@ -14,6 +14,8 @@ public enum CustomResponseStatus {
     DUPLICATE_REQUEST(HttpStatus.TOO_MANY_REQUESTS.value(), "중복된 요청입니다. 잠시 후 다시 시도해주세요."),
     LOCK_ACQUISITION_FAILED(HttpStatus.TOO_MANY_REQUESTS.value(),
         "현재 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    AI_REQUEST_OVERLOADED(HttpStatus.TOO_MANY_REQUESTS.value(),
+        "AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     INVALID_LOGIN_LOGIC(HttpStatus.INTERNAL_SERVER_ERROR.value(), "비정상적인 로그인 로직이 감지되었습니다."),
     MEMBER_NOT_EXIST(HttpStatus.NOT_FOUND.value(), "존재하지 않는 회원입니다."),
@@ -25,6 +27,7 @@ public enum CustomResponseStatus {
 
     INVALID_LATITUDE_ERROR(HttpStatus.BAD_REQUEST.value(), "위도를 정확하게 입력해주세요 : 34~44"),
     INVALID_LONGITUDE_ERROR(HttpStatus.BAD_REQUEST.value(), "경도를 정확하게 입력해주세요 : 124~134"),
+    INVALID_TILE_COORDINATE(HttpStatus.BAD_REQUEST.value(), "유효하지 않은 타일 좌표입니다. (zoom : 5~18)"),
     COMPANY_NOT_EXIST(HttpStatus.NOT_FOUND.value(), "존재하지 않는 기업입니다."),
     WISH_ALREADY_EXIST(HttpStatus.CONFLICT.value(), "이미 관심기업에 등록되어 있습니다."),
     WISH_COMPANY_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "존재하지 않는 관심기업 입니다."),
@@ -49,6 +52,7 @@ public enum CustomResponseStatus {
 
     BAD_JWT(HttpStatus.BAD_REQUEST.value(), "잘못된 토큰입니다."),
     EXPIRED_JWT(HttpStatus.UNAUTHORIZED.value(), "만료된 토큰입니다."),
+    REVOKED_JWT(HttpStatus.UNAUTHORIZED.value(), "더 이상 유효하지 않은 토큰입니다. 토큰을 재발급해주세요."),
     NULL_JWT(HttpStatus.BAD_REQUEST.value(), "토큰이 공백입니다."),
 
     LOGOUT_MEMBER(HttpStatus.NOT_FOUND.value(), "로그아웃 되었습니다. 다시 로그인을 진행해주세요."),
@@ -0,0 +1,15 @@
+package org.choon.careerbee.common.pubsub;
+
+import java.util.Set;
+
+/**
+ * 회원 대상 이벤트를 어느 노드의 채널로 발행할지 찾는다.
+ */
+public interface MemberNodeLocator {
+
+    /**
+     * 회원이 연결된 노드 id 들을 반환한다. 여러 탭이 서로 다른 노드에 연결되어 있으면 모두 포함하고, 연결된 노드가 없으면
+     * 비어 있다.
+     */
+    Set<String> findNodes(Long memberId);
+}
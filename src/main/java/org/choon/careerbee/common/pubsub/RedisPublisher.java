@@ -2,93 +2,119 @@ package org.choon.careerbee.common.pubsub;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.choon.careerbee.common.pubsub.dto.AdvancedResumeInitEvent;
 import org.choon.careerbee.common.pubsub.dto.AdvancedResumeUpdateEvent;
 import org.choon.careerbee.common.pubsub.dto.AiErrorEvent;
+import org.choon.careerbee.common.pubsub.dto.CacheEvictEvent;
 import org.choon.careerbee.common.pubsub.dto.DailyWinnerEventPayload;
 import org.choon.careerbee.common.pubsub.dto.FeedbackEvent;
 import org.choon.careerbee.common.pubsub.dto.OpenRecruitingEventPayload;
 import org.choon.careerbee.common.pubsub.dto.ResumeExtractedEvent;
+import org.choon.careerbee.common.pubsub.dto.TokenBlacklistedEvent;
+import org.choon.careerbee.common.pubsub.dto.TokenVersionChangedEvent;
 import org.choon.careerbee.common.pubsub.enums.Channel;
 import org.choon.careerbee.domain.competition.dto.event.PointEvent;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisPublisher {
 
     private final StringRedisTemplate stringRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final MemberNodeLocator memberNodeLocator;
 
     public void publishResumeExtractedEvent(ResumeExtractedEvent event) {
-        try {
-            String json = objectMapper.writeValueAsString(event);
-            stringRedisTemplate.convertAndSend(Channel.RESUME_EXTRACTED.getValue(), json);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Redis 메시지 직렬화 실패", e);
-        }
+        publishToMemberNode(event.memberId(), Channel.RESUME_EXTRACTED, event);
     }
 
     public void publishAdvancedResumeInitEvent(AdvancedResumeInitEvent event) {
-        try {
-            String json = objectMapper.writeValueAsString(event);
-            stringRedisTemplate.convertAndSend(Channel.ADVANCED_RESUME_INIT.getValue(), json);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Redis 메시지 직렬화 실패", e);
-        }
+        publishToMemberNode(event.memberId(), Channel.ADVANCED_RESUME_INIT, event);
     }
 
     public void publishAdvancedResumeUpdateEvent(AdvancedResumeUpdateEvent event) {
+        publishToMemberNode(event.memberId(), Channel.ADVANCED_RESUME_UPDATE, event);
+    }
+
+    public void publishInterviewProblemFeedbackEvent(FeedbackEvent event) {
+        publishToMemberNode(event.memberId(), Channel.PROBLEM_FEEDBACK, event);
+    }
+
+    public void publishAiErrorEvent(AiErrorEvent event) {
+        publishToMemberNode(event.memberId(), Channel.AI_ERROR_CHANNEL, event);
+    }
+
+    public void publishPointEvent(PointEvent event) {
+        publishToMemberNode(event.member().getId(), Channel.COMPETITION_POINT, event);
+    }
+
+    public void publishOpenRecruitingEvent(OpenRecruitingEventPayload event) {
         try {
             String json = objectMapper.writeValueAsString(event);
-            stringRedisTemplate.convertAndSend(Channel.ADVANCED_RESUME_UPDATE.getValue(), json);
+            stringRedisTemplate.convertAndSend(Channel.OPEN_RECRUITING.getValue(), json);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Redis 메시지 직렬화 실패", e);
         }
     }
 
-    public void publishInterviewProblemFeedbackEvent(FeedbackEvent event) {
+    public void publishDailyWinnerEvent(DailyWinnerEventPayload event) {
         try {
             String json = objectMapper.writeValueAsString(event);
-            stringRedisTemplate.convertAndSend(Channel.PROBLEM_FEEDBACK.getValue(), json);
+            stringRedisTemplate.convertAndSend(Channel.DAILY_WINNER.getValue(), json);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Redis 메시지 직렬화 실패", e);
         }
     }
 
-    public void publishAiErrorEvent(AiErrorEvent event) {
+    public void publishTokenBlacklistedEvent(TokenBlacklistedEvent event) {
         try {
             String json = objectMapper.writeValueAsString(event);
-            stringRedisTemplate.convertAndSend(Channel.AI_ERROR_CHANNEL.getValue(), json);
+            stringRedisTemplate.convertAndSend(Channel.TOKEN_BLACKLISTED.getValue(), json);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Redis 메시지 직렬화 실패", e);
         }
     }
 
-    public void publishPointEvent(PointEvent event) {
+    public void publishTokenVersionChangedEvent(TokenVersionChangedEvent event) {
         try {
             String json = objectMapper.writeValueAsString(event);
-            stringRedisTemplate.convertAndSend(Channel.COMPETITION_POINT.getValue(), json);
+            stringRedisTemplate.convertAndSend(Channel.TOKEN_VERSION_CHANGED.getValue(), json);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Redis 메시지 직렬화 실패", e);
         }
     }
 
-    public void publishOpenRecruitingEvent(OpenRecruitingEventPayload event) {
+    public void publishCacheEvictEvent(CacheEvictEvent event) {
         try {
             String json = objectMapper.writeValueAsString(event);
-            stringRedisTemplate.convertAndSend(Channel.OPEN_RECRUITING.getValue(), json);
+            stringRedisTemplate.convertAndSend(Channel.CACHE_EVICT.getValue(), json);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Redis 메시지 직렬화 실패", e);
         }
     }
 
-    public void publishDailyWinnerEvent(DailyWinnerEventPayload event) {
+    /**
+     * 회원이 연결된 노드들의 전용 채널로만 발행한다. 탭마다 다른 노드에 연결될 수 있으므로 노드마다 한 번씩 발행하고, 연결된
+     * 노드가 없으면 받을 emitter 도 없으므로 발행하지 않는다.
+     */
+    private void publishToMemberNode(Long memberId, Channel channel, Object event) {
+        Set<String> nodeIds = memberNodeLocator.findNodes(memberId);
+        if (nodeIds.isEmpty()) {
+            log.info("[RedisPublisher] SSE 연결 없음, 발행 생략 - channel: {}, memberId: {}",
+                channel.getValue(), memberId);
+            return;
+        }
+
         try {
             String json = objectMapper.writeValueAsString(event);
-            stringRedisTemplate.convertAndSend(Channel.DAILY_WINNER.getValue(), json);
+            for (String nodeId : nodeIds) {
+                stringRedisTemplate.convertAndSend(channel.forNode(nodeId), json);
+            }
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Redis 메시지 직렬화 실패", e);
         }
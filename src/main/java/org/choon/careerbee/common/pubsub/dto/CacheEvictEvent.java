@@ -0,0 +1,16 @@
+package org.choon.careerbee.common.pubsub.dto;
+
+/**
+ * 다른 노드의 로컬(L1) 캐시 무효화 요청. {@code key} 가 null 이면 해당 캐시 전체를 비운다.
+ */
+public record CacheEvictEvent(
+    String nodeId,
+    String cacheName,
+    String key
+) {
+
+    public static CacheEvictEvent of(String nodeId, String cacheName, String key) {
+        return new CacheEvictEvent(nodeId, cacheName, key);
+    }
+
+}
@@ -0,0 +1,7 @@
+package org.choon.careerbee.common.pubsub.dto;
+
+public record TokenBlacklistedEvent(
+    String tokenId
+) {
+
+}
@@ -14,7 +14,12 @@ public enum Channel {
     COMPETITION_POINT("competition.participant.point"),
     OPEN_RECRUITING("open-recruiting"),
     DAILY_WINNER("daily-winner"),
-    AI_ERROR_CHANNEL("ai-error-channel");
+    AI_ERROR_CHANNEL("ai-error-channel"),
+    CACHE_EVICT("cache.evict"),
+    TOKEN_BLACKLISTED("auth.token.blacklisted"),
+    TOKEN_VERSION_CHANGED("auth.token.version");
+
+    private static final String NODE_TOPIC_PREFIX = "sse.node.";
 
     private String value;
 
@@ -22,9 +27,27 @@ public enum Channel {
         this.value = value;
     }
 
+    /**
+     * 특정 노드만 구독하는 채널 이름. 예) {@code sse.node.{nodeId}.resume.extract.complete}
+     */
+    public String forNode(String nodeId) {
+        return NODE_TOPIC_PREFIX + nodeId + "." + value;
+    }
+
+    public static String nodePattern(String nodeId) {
+        return NODE_TOPIC_PREFIX + nodeId + ".*";
+    }
+
+    /**
+     * 수신한 채널 이름에서 노드 접두사를 떼어내고 원래 채널을 찾는다.
+     */
     public static Channel from(String value) {
+        String channelValue = value.startsWith(NODE_TOPIC_PREFIX)
+            ? value.substring(value.indexOf('.', NODE_TOPIC_PREFIX.length()) + 1)
+            : value;
+
         return Arrays.stream(Channel.values())
-            .filter(c -> c.getValue().equals(value))
+            .filter(c -> c.getValue().equals(channelValue))
             .findFirst()
             .orElseThrow(() -> new CustomException(CustomResponseStatus.CHANNEL_NOT_FOUND));
     }
@@ -0,0 +1,45 @@
+package org.choon.careerbee.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션의 결과에 맞춰 Redis 반영이나 캐시 무효화 같은 트랜잭션 밖의 작업을 실행한다.
+ */
+public class TransactionCallbacks {
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 실행한다. 롤백되면 실행하지 않고, 트랜잭션 밖에서 호출하면 바로 실행한다.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션이 커밋되지 않고 끝나면 실행한다. 트랜잭션 밖에서 호출하면 되돌릴 것이 없으므로 실행하지 않는다.
+     */
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
@@ -3,7 +3,9 @@ package org.choon.careerbee.config.redis;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-import org.springframework.cache.CacheManager;
+import org.choon.careerbee.common.cache.TwoLevelCacheManager;
+import org.choon.careerbee.common.cache.TwoLevelCacheManager.LocalCacheSpec;
+import org.choon.careerbee.common.pubsub.RedisPublisher;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,7 +23,9 @@ public class RedisCacheConfig {
     private static final Long DEFAULT_TTL = 30L;
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoLevelCacheManager cacheManager(
+        RedisConnectionFactory redisConnectionFactory, RedisPublisher redisPublisher
+    ) {
         // 1. 공통 직렬화(Serialization) 설정
         RedisCacheConfiguration commonConfig = RedisCacheConfiguration.defaultCacheConfig()
             .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(
@@ -46,11 +50,32 @@ public class RedisCacheConfig {
         cacheConfigurations.put("memberRank",
             commonConfig.entryTtl(Duration.ofDays(1)));
 
-        // 3. CacheManager 빌더를 사용하여 최종 CacheManager 객체 생성
-        return RedisCacheManager.RedisCacheManagerBuilder
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder
             .fromConnectionFactory(redisConnectionFactory)
             .cacheDefaults(commonConfig.entryTtl(Duration.ofMinutes(DEFAULT_TTL)))
             .withInitialCacheConfigurations(cacheConfigurations)
             .build();
+
+        // 3. 캐시 이름별 로컬(L1) TTL·최대 건수 설정
+        // 노드 간 무효화가 유실돼도 L1 TTL 안에는 L2 값으로 수렴하도록 L2 보다 짧게 잡는다.
+        Map<String, LocalCacheSpec> localSpecs = new HashMap<>();
+
+        localSpecs.put("companyStaticDetail", LocalCacheSpec.of(Duration.ofMinutes(30), 5_000));
+        localSpecs.put("recruitments", LocalCacheSpec.of(Duration.ofMinutes(10), 5_000));
+        localSpecs.put("recentIssue", LocalCacheSpec.of(Duration.ofMinutes(30), 5_000));
+        localSpecs.put("wishCount", LocalCacheSpec.of(Duration.ofSeconds(30), 5_000));
+
+        localSpecs.put("competitionProblem", LocalCacheSpec.of(Duration.ofMinutes(5), 100));
+        localSpecs.put("competitionId", LocalCacheSpec.of(Duration.ofMinutes(5), 100));
+        localSpecs.put("competitionRank", LocalCacheSpec.of(Duration.ofSeconds(30), 100));
+        localSpecs.put("memberRank", LocalCacheSpec.of(Duration.ofSeconds(30), 10_000));
+
+        // 4. L1(Caffeine) + L2(Redis) 2단 CacheManager 생성
+        return new TwoLevelCacheManager(
+            redisCacheManager,
+            localSpecs,
+            LocalCacheSpec.of(Duration.ofMinutes(1), 1_000),
+            redisPublisher
+        );
     }
 }
@@ -2,12 +2,17 @@ package org.choon.careerbee.config.redis;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.choon.careerbee.common.cache.CacheEvictSubscriber;
 import org.choon.careerbee.common.pubsub.RedisSubscriber;
 import org.choon.careerbee.common.pubsub.enums.Channel;
+import org.choon.careerbee.domain.auth.service.blacklist.TokenBlacklistSubscriber;
+import org.choon.careerbee.domain.auth.service.version.MemberTokenVersionSubscriber;
+import org.choon.careerbee.domain.notification.service.sse.SsePresenceRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
@@ -21,7 +26,11 @@ public class RedisPubSubConfig {
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
         RedisConnectionFactory connectionFactory,
-        MessageListenerAdapter listenerAdapter
+        MessageListenerAdapter listenerAdapter,
+        CacheEvictSubscriber cacheEvictSubscriber,
+        TokenBlacklistSubscriber tokenBlacklistSubscriber,
+        MemberTokenVersionSubscriber memberTokenVersionSubscriber,
+        SsePresenceRegistry presenceRegistry
     ) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
@@ -41,6 +50,25 @@ public class RedisPubSubConfig {
             container.addMessageListener(listenerAdapter, new PatternTopic(topic));
         }
 
+        // 회원 단위 SSE 이벤트는 해당 회원이 연결된 노드의 전용 채널로만 들어온다.
+        container.addMessageListener(
+            listenerAdapter, new PatternTopic(Channel.nodePattern(presenceRegistry.nodeId()))
+        );
+
+        // L1 캐시 무효화는 알림 처리와 분리된 전용 리스너로 받는다.
+        container.addMessageListener(
+            cacheEvictSubscriber, new ChannelTopic(Channel.CACHE_EVICT.getValue())
+        );
+
+        container.addMessageListener(
+            tokenBlacklistSubscriber, new ChannelTopic(Channel.TOKEN_BLACKLISTED.getValue())
+        );
+
+        container.addMessageListener(
+            memberTokenVersionSubscriber,
+            new ChannelTopic(Channel.TOKEN_VERSION_CHANGED.getValue())
+        );
+
         return container;
     }
 
@@ -1,10 +1,14 @@
 package org.choon.careerbee.config.restClient;
 
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Version;
+import java.time.Duration;
 import org.choon.careerbee.api.ai.AiApiProperties;
 import org.choon.careerbee.domain.company.api.NextApiProperties;
 import org.choon.careerbee.domain.company.api.SaraminApiProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration
@@ -17,10 +21,22 @@ public class RestClientConfig {
             .build();
     }
 
+    /**
+     * AI 서버용 HTTP 클라이언트. 연결을 재사용하는 JDK HttpClient 하나를 엔드포인트별 RestClient 가 함께 쓴다.
+     */
     @Bean
-    public RestClient aiRestClient(AiApiProperties props) {
+    public HttpClient aiHttpClient(AiApiProperties props) {
+        return HttpClient.newBuilder()
+            .version(Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(props.getConnectTimeoutMillis()))
+            .build();
+    }
+
+    @Bean
+    public RestClient aiRestClient(AiApiProperties props, HttpClient aiHttpClient) {
         return RestClient.builder()
             .baseUrl(props.getBaseUrl())
+            .requestFactory(new JdkClientHttpRequestFactory(aiHttpClient))
             .build();
     }
 
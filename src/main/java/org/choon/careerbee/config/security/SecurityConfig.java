@@ -4,9 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Arrays;
 import java.util.Collections;
 import lombok.RequiredArgsConstructor;
+import org.choon.careerbee.domain.auth.service.blacklist.TokenBlacklist;
+import org.choon.careerbee.domain.auth.service.version.MemberTokenVersion;
 import org.choon.careerbee.filter.jwt.JwtAuthenticationFilter;
 import org.choon.careerbee.util.jwt.JwtUtil;
-import org.redisson.api.RedissonClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -26,7 +27,8 @@ import org.springframework.web.cors.CorsConfigurationSource;
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
-    private final RedissonClient redissonClient;
+    private final TokenBlacklist tokenBlacklist;
+    private final MemberTokenVersion memberTokenVersion;
     private final ObjectMapper objectMapper;
 
     @Bean
@@ -63,6 +65,8 @@ public class SecurityConfig {
                 .requestMatchers(
                     "/health-check",
                     "/api/v1/companies",
+                    "/api/v1/companies/tiles/**",
+                    "/api/v1/companies/clusters",
                     "/api/v1/auth/oauth/**",
                     "/swagger-ui/**",
                     "/v3/api-docs/**",
@@ -87,7 +91,10 @@ public class SecurityConfig {
             // 커스텀 JWT 핸들러 및 엔트리 포인트를 사용하기 위해 httpBasic disable
             .httpBasic(AbstractHttpConfigurer::disable)
             // JWT Filter 를 필터체인에 끼워넣어줌
-            .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, redissonClient, objectMapper),
+            .addFilterBefore(
+                new JwtAuthenticationFilter(
+                    jwtUtil, tokenBlacklist, memberTokenVersion, objectMapper
+                ),
                 UsernamePasswordAuthenticationFilter.class)
             .build();
     }
@@ -0,0 +1,34 @@
+package org.choon.careerbee.domain.auth.schedule;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.domain.auth.service.blacklist.TokenBlacklist;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드마다 블랙리스트 필터를 주기적으로 다시 만든다. 만료된 토큰이 필터에 쌓여 오탐이 늘어나는 것을 막는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistRunner {
+
+    private final TokenBlacklist tokenBlacklist;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void rebuild() {
+        try {
+            tokenBlacklist.rebuild();
+        } catch (Exception e) {
+            log.error("[TokenBlacklist] 블랙리스트 필터 재구성 실패", e);
+        }
+    }
+}
@@ -10,7 +10,7 @@ import org.choon.careerbee.domain.auth.dto.jwt.AuthTokens;
 import org.choon.careerbee.domain.auth.dto.jwt.TokenClaimInfo;
 import org.choon.careerbee.domain.auth.dto.response.OAuthLoginUrlResp;
 import org.choon.careerbee.domain.auth.entity.enums.OAuthProvider;
-import org.choon.careerbee.domain.auth.entity.enums.TokenType;
+import org.choon.careerbee.domain.auth.service.blacklist.TokenBlacklist;
 import org.choon.careerbee.domain.auth.service.oauth.OAuthInfoResponse;
 import org.choon.careerbee.domain.auth.service.oauth.OAuthLoginParams;
 import org.choon.careerbee.domain.auth.service.oauth.OAuthLoginUrlProviderFactory;
@@ -37,7 +37,6 @@ public class AuthServiceImpl implements AuthService {
     private Long refreshTokenTTL;
 
     private static final String RT_KEY = "rt:";
-    private static final String BL_KEY = "bl:";
 
     private final JwtUtil jwtUtil;
     private final TokenGenerator tokenGenerator;
@@ -48,6 +47,7 @@ public class AuthServiceImpl implements AuthService {
     private final MemberQueryService memberQueryService;
 
     private final RedissonClient redissonClient;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     public OAuthLoginUrlResp getOAuthLoginUrl(String oauthProvider, String origin) {
@@ -61,13 +61,14 @@ public class AuthServiceImpl implements AuthService {
         OAuthInfoResponse info = requestOAuthInfoService.request(params, origin);
         final Member validMember = findOrCreateMember(info);
 
-        String accessToken = jwtUtil.createToken(validMember.getId(), TokenType.ACCESS_TOKEN);
-        String refreshToken = jwtUtil.createToken(validMember.getId(), TokenType.REFRESH_TOKEN);
+        AuthTokens tokens = tokenGenerator.generateToken(
+            validMember.getId(), validMember.getRole()
+        );
 
         RBucket<String> bucket = redissonClient.getBucket(RT_KEY + validMember.getId());
-        bucket.set(refreshToken, Duration.ofMillis(refreshTokenTTL));
+        bucket.set(tokens.refreshToken(), Duration.ofMillis(refreshTokenTTL));
 
-        return new AuthTokens(accessToken, refreshToken);
+        return tokens;
     }
 
     @Override
@@ -78,11 +79,13 @@ public class AuthServiceImpl implements AuthService {
         Member memberRef = memberQueryService.getReferenceById(tokenClaims.id());
 
         redissonClient.getBucket(RT_KEY + memberRef.getId()).delete();
+        jwtUtil.evictAuthentication(resolveAccessToken);
 
         long remainMs = jwtUtil.getRemainingMillis(resolveAccessToken);
         if (remainMs > 0) {
-            redissonClient.getBucket(BL_KEY + resolveAccessToken)
-                .set("", Duration.ofMillis(remainMs));
+            tokenBlacklist.blacklist(
+                jwtUtil.getTokenId(resolveAccessToken), Duration.ofMillis(remainMs)
+            );
         }
     }
 
@@ -92,16 +95,19 @@ public class AuthServiceImpl implements AuthService {
         TokenClaimInfo tokenClaims = parseTokenOrThrow(rtInCookie);
         log.info("쿠키안에 들어있는 RT : {}", rtInCookie);
 
-        Member memberRef = memberQueryService.getReferenceById(tokenClaims.id());
+        // 새 토큰에 현재 권한을 담고, 토큰 버전이 올라간 탈퇴 회원이 다시 발급받지 못하도록 회원을 조회한다.
+        Member validMember = ensureNotWithdrawn(memberQueryService.findById(tokenClaims.id()));
 
-        RBucket<String> bucket = redissonClient.getBucket(RT_KEY + memberRef.getId());
+        RBucket<String> bucket = redissonClient.getBucket(RT_KEY + validMember.getId());
         String storedRt = bucket.get();
 
         if (storedRt == null || !storedRt.equals(rtInCookie)) {
             throw new CustomException(CustomResponseStatus.REFRESH_TOKEN_NOT_FOUND);
         }
 
-        AuthTokens newTokens = tokenGenerator.generateToken(memberRef.getId());
+        AuthTokens newTokens = tokenGenerator.generateToken(
+            validMember.getId(), validMember.getRole()
+        );
         bucket.set(newTokens.refreshToken(), Duration.ofMillis(refreshTokenTTL));
 
         return newTokens;
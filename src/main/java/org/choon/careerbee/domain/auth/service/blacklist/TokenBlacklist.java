@@ -0,0 +1,101 @@
+package org.choon.careerbee.domain.auth.service.blacklist;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.pubsub.RedisPublisher;
+import org.choon.careerbee.common.pubsub.dto.TokenBlacklistedEvent;
+import org.choon.careerbee.util.bloom.LocalBloomFilter;
+import org.choon.careerbee.util.redis.RedisKeyFactory;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃한 액세스 토큰(jti)의 블랙리스트.
+ * <p>
+ * 원본은 Redis 의 {@code bl:<jti>} 키이고, 각 노드는 같은 집합을 로컬 Bloom filter 로 들고 있다. 필터에 없는 토큰은
+ * Redis 를 조회하지 않고 통과시키며, 필터에 걸린 경우에만 Redis 로 확인한다. 다른 노드의 로그아웃은 pub/sub 으로 받아 필터에
+ * 더하고, 만료된 항목은 {@link #rebuild()} 로 필터를 새로 만들어 비운다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklist {
+
+    private final RedissonClient redissonClient;
+    private final RedisPublisher redisPublisher;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile LocalBloomFilter filter;
+    // 재구성 중에 들어온 토큰은 새 필터에도 넣어 교체 시 빠지지 않게 한다.
+    private volatile LocalBloomFilter pending;
+    // 첫 재구성 전에는 필터가 비어 있으므로 모든 토큰을 Redis 로 확인한다.
+    private volatile boolean ready;
+
+    public TokenBlacklist(
+        RedissonClient redissonClient,
+        RedisPublisher redisPublisher,
+        @Value("${jwt.blacklist.expected-insertions:100000}") long expectedInsertions,
+        @Value("${jwt.blacklist.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.redissonClient = redissonClient;
+        this.redisPublisher = redisPublisher;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = newFilter();
+    }
+
+    public void blacklist(String tokenId, Duration ttl) {
+        redissonClient.getBucket(RedisKeyFactory.tokenBlacklistKey(tokenId)).set("", ttl);
+        addLocal(tokenId);
+        redisPublisher.publishTokenBlacklistedEvent(new TokenBlacklistedEvent(tokenId));
+    }
+
+    public boolean isBlacklisted(String tokenId) {
+        if (ready && !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return redissonClient.getBucket(RedisKeyFactory.tokenBlacklistKey(tokenId)).isExists();
+    }
+
+    /**
+     * 다른 노드에서 로그아웃한 토큰을 현재 노드의 필터에 반영한다.
+     */
+    public void addLocal(String tokenId) {
+        LocalBloomFilter next = pending;
+        filter.put(tokenId);
+        if (next != null) {
+            next.put(tokenId);
+        }
+    }
+
+    /**
+     * Redis 에 남아 있는 블랙리스트로 필터를 새로 만들어 교체한다. 만료되어 사라진 토큰은 새 필터에서 빠진다.
+     */
+    public synchronized int rebuild() {
+        LocalBloomFilter next = newFilter();
+        pending = next;
+
+        int count = 0;
+        try {
+            String prefix = RedisKeyFactory.tokenBlacklistKey("");
+            for (String key : redissonClient.getKeys()
+                .getKeysByPattern(RedisKeyFactory.tokenBlacklistKeyPattern())) {
+                next.put(key.substring(prefix.length()));
+                count++;
+            }
+
+            filter = next;
+            ready = true;
+        } finally {
+            pending = null;
+        }
+
+        log.info("[TokenBlacklist] 블랙리스트 필터 재구성 완료 - {}건", count);
+        return count;
+    }
+
+    private LocalBloomFilter newFilter() {
+        return new LocalBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+}
@@ -0,0 +1,31 @@
+package org.choon.careerbee.domain.auth.service.blacklist;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.pubsub.dto.TokenBlacklistedEvent;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistSubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final TokenBlacklist tokenBlacklist;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String json = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            TokenBlacklistedEvent event = objectMapper.readValue(json, TokenBlacklistedEvent.class);
+            tokenBlacklist.addLocal(event.tokenId());
+        } catch (Exception e) {
+            log.error("[TokenBlacklistSubscriber] 블랙리스트 메시지 처리 실패: {}", json, e);
+        }
+    }
+}
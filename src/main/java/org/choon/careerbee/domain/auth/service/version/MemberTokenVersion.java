@@ -0,0 +1,88 @@
+package org.choon.careerbee.domain.auth.service.version;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.pubsub.RedisPublisher;
+import org.choon.careerbee.common.pubsub.dto.TokenVersionChangedEvent;
+import org.choon.careerbee.common.transaction.TransactionCallbacks;
+import org.choon.careerbee.util.redis.RedisKeyFactory;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 토큰 버전 스탬프.
+ * <p>
+ * 토큰에는 발급 시점의 버전이 {@code ver} 클레임으로 들어가고, 인증 시 현재 버전과 다르면 토큰을 무효로 본다. 탈퇴나 권한
+ * 변경처럼 토큰 속 클레임을 더 믿을 수 없게 되는 경우 {@link #bump(Long)} 으로 버전을 올린다. 버전을 올린 적이 없는 회원은
+ * 키가 없고 0 으로 읽는다. 인증 경로의 조회는 노드 로컬 캐시로 받고, 다른 노드의 변경은 pub/sub 으로 받아 캐시를 비운다.
+ */
+@Slf4j
+@Component
+public class MemberTokenVersion {
+
+    private final RedissonClient redissonClient;
+    private final RedisPublisher redisPublisher;
+    private final Cache<Long, Long> localVersions;
+
+    public MemberTokenVersion(
+        RedissonClient redissonClient,
+        RedisPublisher redisPublisher,
+        @Value("${jwt.token-version.cache-ttl-seconds:60}") long cacheTtlSeconds,
+        @Value("${jwt.token-version.cache-maximum-size:50000}") long cacheMaximumSize
+    ) {
+        this.redissonClient = redissonClient;
+        this.redisPublisher = redisPublisher;
+        // pub/sub 메시지를 놓친 노드도 TTL 이 지나면 Redis 값으로 돌아온다.
+        this.localVersions = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+            .maximumSize(cacheMaximumSize)
+            .build();
+    }
+
+    /**
+     * 인증 경로에서 쓰는 현재 버전. 로컬 캐시에 없을 때만 Redis 를 조회한다.
+     */
+    public long current(Long memberId) {
+        return localVersions.get(memberId, this::load);
+    }
+
+    /**
+     * 토큰 발급 시 쓰는 버전. 다른 노드에서 막 올린 버전을 놓치지 않도록 항상 Redis 에서 읽는다.
+     */
+    public long forIssue(Long memberId) {
+        long version = load(memberId);
+        localVersions.put(memberId, version);
+        return version;
+    }
+
+    /**
+     * 커밋 이후 버전을 올려 이전에 발급된 토큰을 모두 무효로 만든다.
+     */
+    public void bump(Long memberId) {
+        TransactionCallbacks.afterCommit(() -> {
+            long version = versionOf(memberId).incrementAndGet();
+            localVersions.invalidate(memberId);
+            redisPublisher.publishTokenVersionChangedEvent(new TokenVersionChangedEvent(memberId));
+            log.info("[TokenVersion] 토큰 버전 변경 - memberId: {}, version: {}", memberId, version);
+        });
+    }
+
+    /**
+     * 다른 노드에서 버전을 올린 회원을 현재 노드의 캐시에서 제거한다.
+     */
+    public void evictLocal(Long memberId) {
+        localVersions.invalidate(memberId);
+    }
+
+    private long load(Long memberId) {
+        return versionOf(memberId).get();
+    }
+
+    private RAtomicLong versionOf(Long memberId) {
+        return redissonClient.getAtomicLong(RedisKeyFactory.tokenVersionKey(memberId));
+    }
+}
@@ -0,0 +1,32 @@
+package org.choon.careerbee.domain.auth.service.version;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.pubsub.dto.TokenVersionChangedEvent;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberTokenVersionSubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final MemberTokenVersion memberTokenVersion;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String json = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            TokenVersionChangedEvent event =
+                objectMapper.readValue(json, TokenVersionChangedEvent.class);
+            memberTokenVersion.evictLocal(event.memberId());
+        } catch (Exception e) {
+            log.error("[MemberTokenVersionSubscriber] 토큰 버전 메시지 처리 실패: {}", json, e);
+        }
+    }
+}
@@ -1,28 +1,29 @@
 package org.choon.careerbee.domain.company.api;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.Map;
+import java.io.IOException;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.choon.careerbee.common.enums.CustomResponseStatus;
 import org.choon.careerbee.common.exception.CustomException;
 import org.choon.careerbee.domain.company.dto.response.SaraminRecruitingResp;
-import org.choon.careerbee.domain.company.exception.RetryableSaraminException;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriBuilder;
 
 @Component
 @Slf4j
 public class CompanyApiClient {
 
+    // 사람인이 허용하는 페이지당 최대 건수
+    public static final int PAGE_SIZE = 110;
+
     private final RestClient saraminRestClient;
     private final SaraminApiProperties props;
-    private final ObjectMapper objectMapper;
+    private final SaraminResponseParser responseParser;
 
     public CompanyApiClient(
         @Qualifier("saraminRestClient") RestClient saraminRestClient,
@@ -31,78 +32,66 @@ public class CompanyApiClient {
     ) {
         this.saraminRestClient = saraminRestClient;
         this.props = props;
-        this.objectMapper = objectMapper;
+        this.responseParser = new SaraminResponseParser(objectMapper.getFactory());
     }
 
-    public SaraminRecruitingResp searchAllRecruitment(String keyword) {
-        ResponseEntity<String> response = saraminRestClient
-            .get()
-            .uri(uriBuilder -> uriBuilder
+    /**
+     * 등록일 역순으로 한 페이지를 가져온다. {@code publishedMin} 이 0 보다 크면 그 시각(Unix timestamp, 포함) 이후에,
+     * {@code publishedMax} 가 0 보다 크면 그 시각(포함) 이전에 등록된 공고만 검색한다.
+     */
+    public SaraminRecruitingResp searchRecruitment(
+        String keyword,
+        boolean openRecruitment,
+        long publishedMin,
+        long publishedMax,
+        int page
+    ) {
+        return search(uriBuilder -> {
+            uriBuilder
                 .path("/job-search")
                 .queryParam("access-key", props.getAccessKey())
                 .queryParam("keywords", keyword) // 검색 키워드
                 .queryParam("loc_cd", 102180) // 근무지/지역조건
                 .queryParam("job_mid_cd", 2) // 상위 직무 코드
-                .queryParam("count", 110) // 검색 결과 수
-                .queryParam("fields", "posting-date,expiration-date") // 공고 시작, 마감일
-                .build())
-            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-            .retrieve()
-            .toEntity(String.class);
-
-        return handleSaraminResponse(response);
+                .queryParam("sort", "pd") // 등록일 역순
+                .queryParam("start", page) // 페이지 번호 (0부터)
+                .queryParam("count", PAGE_SIZE) // 페이지당 검색 결과 수
+                .queryParam("fields", "posting-date,expiration-date"); // 공고 시작, 마감일
+            if (openRecruitment) {
+                uriBuilder.queryParam("bbs_gb", 1); // 공채 공고만
+            }
+            if (publishedMin > 0) {
+                uriBuilder.queryParam("published_min", publishedMin); // 등록일 하한
+            }
+            if (publishedMax > 0) {
+                uriBuilder.queryParam("published_max", publishedMax); // 등록일 상한
+            }
+            return uriBuilder;
+        });
     }
 
-    public SaraminRecruitingResp searchOpenRecruitment(String keyword) {
-        ResponseEntity<String> response = saraminRestClient
+    /**
+     * 응답 본문을 스트림 그대로 파서에 넘긴다. 오류 상태로 온 응답도 본문의 {@code code} 를 먼저 확인해 사람인 오류로 바꾼다.
+     */
+    private SaraminRecruitingResp search(Function<UriBuilder, UriBuilder> query) {
+        return saraminRestClient
             .get()
-            .uri(uriBuilder -> uriBuilder
-                .path("/job-search")
-                .queryParam("access-key", props.getAccessKey())
-                .queryParam("keywords", keyword)
-                .queryParam("bbs_gb", 1)
-                .queryParam("loc_cd", 102180)
-                .queryParam("job_mid_cd", 2)
-                .queryParam("count", 110)
-                .queryParam("fields", "posting-date,expiration-date")
-                .build())
+            .uri(uriBuilder -> query.apply(uriBuilder).build())
             .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-            .retrieve()
-            .toEntity(String.class);
-
-        return handleSaraminResponse(response);
-    }
-
-    private SaraminRecruitingResp handleSaraminResponse(ResponseEntity<String> response) {
-        String body = response.getBody();
-
-        try {
-            JsonNode root = objectMapper.readTree(body);
-            int code = root.path("code").asInt();
-
-            if (code == 99) {
-                throw new RetryableSaraminException("사람인 일시적 오류 (code 99)");
-            }
-
-            Map<Integer, CustomResponseStatus> errorCodeMap = Map.of(
-                1, CustomResponseStatus.SARAMIN_API_KEY_EMPTY_ERROR,
-                2, CustomResponseStatus.SARAMIN_API_KEY_INVALID_ERROR,
-                3, CustomResponseStatus.SARAMIN_INVALID_PARAM_ERROR,
-                4, CustomResponseStatus.SARAMIN_TOO_MANY_REQUEST_ERROR
-            );
-
-            if (code != 0) {
-                CustomResponseStatus status = errorCodeMap.getOrDefault(
-                    code, CustomResponseStatus.INTERNAL_SERVER_ERROR
-                );
-                throw new CustomException(status);
-            }
-
-            return objectMapper.treeToValue(root, SaraminRecruitingResp.class);
-
-        } catch (JsonProcessingException e) {
-            throw new CustomException(CustomResponseStatus.INTERNAL_SERVER_ERROR);
-        }
+            .exchange((request, response) -> {
+                try {
+                    SaraminRecruitingResp resp = responseParser.parse(response.getBody());
+                    if (response.getStatusCode().isError()) {
+                        throw new CustomException(
+                            CustomResponseStatus.SARAMIN_INTERNAL_SERVER_ERROR);
+                    }
+                    return resp;
+                } catch (IOException e) {
+                    log.warn("[Saramin] 응답 본문 파싱 실패 - status: {}",
+                        response.getStatusCode(), e);
+                    throw new CustomException(CustomResponseStatus.INTERNAL_SERVER_ERROR);
+                }
+            });
     }
 
 }
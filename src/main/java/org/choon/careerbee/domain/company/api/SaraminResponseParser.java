@@ -0,0 +1,166 @@
+package org.choon.careerbee.domain.company.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.company.dto.response.SaraminRecruitingResp;
+import org.choon.careerbee.domain.company.dto.response.SaraminRecruitingResp.Job;
+import org.choon.careerbee.domain.company.exception.RetryableSaraminException;
+
+/**
+ * 사람인 검색 응답을 스트림에서 바로 읽는다.
+ * <p>
+ * 본문을 문자열이나 트리로 만들지 않고 토큰 단위로 읽으며, {@code code} 가 오면 그 자리에서 오류를 던진다. 공고는
+ * {@code jobs.job[]} 을 하나씩 읽어 저장에 쓰는 필드만 남기고 나머지는 건너뛴다.
+ */
+public class SaraminResponseParser {
+
+    private static final int RETRYABLE_ERROR_CODE = 99;
+    private static final Map<Integer, CustomResponseStatus> ERROR_CODES = Map.of(
+        1, CustomResponseStatus.SARAMIN_API_KEY_EMPTY_ERROR,
+        2, CustomResponseStatus.SARAMIN_API_KEY_INVALID_ERROR,
+        3, CustomResponseStatus.SARAMIN_INVALID_PARAM_ERROR,
+        4, CustomResponseStatus.SARAMIN_TOO_MANY_REQUEST_ERROR
+    );
+
+    private final JsonFactory jsonFactory;
+
+    public SaraminResponseParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public SaraminRecruitingResp parse(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new CustomException(CustomResponseStatus.SARAMIN_INTERNAL_SERVER_ERROR);
+            }
+
+            SaraminRecruitingResp resp = SaraminRecruitingResp.empty();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "code" -> checkCode(parser.getValueAsInt(-1));
+                    case "jobs" -> resp = readJobs(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+            return resp;
+        }
+    }
+
+    private void checkCode(int code) {
+        if (code == 0) {
+            return;
+        }
+        if (code == RETRYABLE_ERROR_CODE) {
+            throw new RetryableSaraminException("사람인 일시적 오류 (code 99)");
+        }
+        throw new CustomException(
+            ERROR_CODES.getOrDefault(code, CustomResponseStatus.INTERNAL_SERVER_ERROR));
+    }
+
+    private SaraminRecruitingResp readJobs(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return SaraminRecruitingResp.empty();
+        }
+
+        int start = 0;
+        int count = 0;
+        int total = 0;
+        List<Job> jobs = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "start" -> start = parser.getValueAsInt();
+                case "count" -> count = parser.getValueAsInt();
+                case "total" -> total = parser.getValueAsInt();
+                case "job" -> readJobArray(parser, jobs);
+                default -> parser.skipChildren();
+            }
+        }
+        return new SaraminRecruitingResp(start, count, total, jobs);
+    }
+
+    private void readJobArray(JsonParser parser, List<Job> jobs) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            jobs.add(readJob(parser));
+        }
+    }
+
+    private Job readJob(JsonParser parser) throws IOException {
+        Long id = null;
+        String url = null;
+        Integer active = null;
+        String companyName = null;
+        String title = null;
+        Long postingTimestamp = null;
+        String postingDate = null;
+        String expirationDate = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "id" -> id = parser.getValueAsLong();
+                case "url" -> url = parser.getValueAsString();
+                case "active" -> active = parser.getValueAsInt();
+                case "company" -> companyName = readNested(parser, "detail", "name");
+                case "position" -> title = readNested(parser, "title");
+                case "posting-timestamp" -> postingTimestamp = parser.getValueAsLong();
+                case "posting-date" -> postingDate = parser.getValueAsString();
+                case "expiration-date" -> expirationDate = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return new Job(id, url, active, companyName, title, postingTimestamp, postingDate,
+            expirationDate);
+    }
+
+    /**
+     * 현재 객체에서 {@code path} 를 따라 내려가 문자열 값을 읽고, 나머지 필드는 건너뛴 채 객체 끝에서 멈춘다.
+     */
+    private String readNested(JsonParser parser, String... path) throws IOException {
+        return readNested(parser, path, 0);
+    }
+
+    private String readNested(JsonParser parser, String[] path, int depth) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        String result = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (!field.equals(path[depth]) || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+            } else if (depth == path.length - 1) {
+                result = parser.getValueAsString();
+                parser.skipChildren();
+            } else {
+                result = readNested(parser, path, depth + 1);
+            }
+        }
+        return result;
+    }
+}
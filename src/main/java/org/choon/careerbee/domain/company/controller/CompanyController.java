@@ -12,8 +12,10 @@ import org.choon.careerbee.domain.company.dto.internal.CompanyRecruitInfo;
 import org.choon.careerbee.domain.company.dto.request.CompanyQueryAddressInfo;
 import org.choon.careerbee.domain.company.dto.request.CompanyQueryCond;
 import org.choon.careerbee.domain.company.dto.request.RecentIssueUpdateReq;
+import org.choon.careerbee.domain.company.dto.response.CompanyClusterResp;
 import org.choon.careerbee.domain.company.dto.response.CompanyDetailResp;
 import org.choon.careerbee.domain.company.dto.response.CompanyIdResp;
+import org.choon.careerbee.domain.company.dto.response.CompanyMarkerTileResp;
 import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp;
 import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
 import org.choon.careerbee.domain.company.dto.response.CompanySearchResp;
@@ -22,6 +24,8 @@ import org.choon.careerbee.domain.company.dto.response.RecentIssueResp;
 import org.choon.careerbee.domain.company.dto.response.WishCountResp;
 import org.choon.careerbee.domain.company.service.command.CompanyCommandService;
 import org.choon.careerbee.domain.company.service.query.CompanyQueryService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -64,6 +68,56 @@ public class CompanyController {
         );
     }
 
+    @Operation(
+        summary = "기업 마커 클러스터 조회",
+        description = "줌 레벨이 낮으면 업종/채용상태별 개수를 포함한 클러스터를, 높으면 개별 기업 마커를 반환합니다.",
+        tags = {"Company"}
+    )
+    @GetMapping("/clusters")
+    public ResponseEntity<CommonResponse<CompanyClusterResp>> fetchCompanyClusters(
+        @Parameter(description = "조회 기준이 되는 주소 정보 (위도, 경도)")
+        @ModelAttribute CompanyQueryAddressInfo companyQueryAddressInfo,
+
+        @Parameter(description = "기업 필터링 조건 (조회 반경, 채용중, 회사성격)")
+        @ModelAttribute CompanyQueryCond companyQueryCond,
+
+        @Parameter(description = "지도 줌 레벨", example = "11")
+        @RequestParam("zoom") int zoom
+    ) {
+        CompanyClusterResp response = queryService.fetchCompanyClusters(
+            companyQueryAddressInfo, companyQueryCond, zoom);
+
+        return CommonResponseEntity.ok(
+            response,
+            CustomResponseStatus.SUCCESS,
+            "기업 클러스터 조회에 성공하였습니다."
+        );
+    }
+
+    @Operation(
+        summary = "기업 마커 타일 조회",
+        description = "z/x/y 타일에 속한 기업 마커를 조회합니다. ETag가 일치하면 304를 반환합니다.",
+        tags = {"Company"}
+    )
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    public ResponseEntity<byte[]> fetchCompanyMarkerTile(
+        @Parameter(description = "줌 레벨 (5~18)", example = "14")
+        @PathVariable("z") int z,
+        @Parameter(description = "타일 X 좌표", example = "13972")
+        @PathVariable("x") int x,
+        @Parameter(description = "타일 Y 좌표", example = "6346")
+        @PathVariable("y") int y
+    ) {
+        CompanyMarkerTileResp response = queryService.fetchCompanyMarkerTile(z, x, y);
+
+        // If-None-Match가 ETag와 일치하면 HttpEntityMethodProcessor가 304로 응답한다.
+        return ResponseEntity.ok()
+            .eTag(response.etag())
+            .cacheControl(CacheControl.noCache())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(response.body());
+    }
+
     @Operation(
         summary = "기업 간단 정보 조회",
         description = "기업 ID에 따른 요약 정보를 조회합니다.",
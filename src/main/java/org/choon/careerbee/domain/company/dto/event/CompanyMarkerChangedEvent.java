@@ -0,0 +1,9 @@
+package org.choon.careerbee.domain.company.dto.event;
+
+import java.util.Set;
+
+public record CompanyMarkerChangedEvent(
+    Set<Long> companyIds
+) {
+
+}
@@ -0,0 +1,20 @@
+package org.choon.careerbee.domain.company.dto.internal;
+
+import java.util.List;
+import java.util.Set;
+import org.choon.careerbee.domain.company.dto.response.SaraminRecruitingResp.Job;
+
+/**
+ * 한 번의 수집에서 모은 공고. 키워드 사이에 겹친 공고는 하나로 합쳐져 있고, 공채 검색에서 한 번이라도 나온 공고는 공채로 본다.
+ * 공고와 함께 저장해야 할 검색별 워터마크도 담는다.
+ */
+public record CollectedRecruitments(
+    List<Job> jobs,
+    Set<Long> openRecruitmentIds,
+    List<SaraminSyncWatermark> watermarks
+) {
+
+    public boolean isOpenRecruitment(Long jobId) {
+        return openRecruitmentIds.contains(jobId);
+    }
+}
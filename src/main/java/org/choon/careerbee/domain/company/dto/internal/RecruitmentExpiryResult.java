@@ -0,0 +1,19 @@
+package org.choon.careerbee.domain.company.dto.internal;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 마감 공고 정리 결과. 공고가 만료된 기업과 채용 상태가 종료로 바뀐 기업을 나눠 담는다.
+ */
+public record RecruitmentExpiryResult(
+    Set<Long> expiredCompanyIds,
+    Set<Long> closedCompanyIds
+) {
+
+    public Set<Long> changedCompanyIds() {
+        Set<Long> changed = new HashSet<>(expiredCompanyIds);
+        changed.addAll(closedCompanyIds);
+        return changed;
+    }
+}
@@ -0,0 +1,28 @@
+package org.choon.careerbee.domain.company.dto.internal;
+
+import java.util.Set;
+
+/**
+ * 한 검색에서 새로 받은 공고 중 가장 늦은 등록 시각과, 그 시각에 등록된 공고 ID.
+ * <p>
+ * {@code resumeBefore} 가 0 보다 크면 검색이 최대 페이지 수에서 멈춘 것이다. 워터마크는 옮기지 않고, 다음 수집이 이 시각부터
+ * 이어 읽은 뒤 끝나면 그때 {@code postingTimestamp} 로 옮긴다.
+ */
+public record SaraminSyncWatermark(
+    String keyword,
+    boolean openRecruitment,
+    long postingTimestamp,
+    Set<Long> boundaryIds,
+    long resumeBefore
+) {
+
+    public SaraminSyncWatermark(
+        String keyword, boolean openRecruitment, long postingTimestamp, Set<Long> boundaryIds
+    ) {
+        this(keyword, openRecruitment, postingTimestamp, boundaryIds, 0L);
+    }
+
+    public boolean isSuspended() {
+        return resumeBefore > 0;
+    }
+}
@@ -1,8 +0,0 @@
-package org.choon.careerbee.domain.company.dto.response;
-
-public record CompanyActiveCount(
-    Long companyId,
-    Long recruitmentCount
-) {
-
-}
@@ -0,0 +1,23 @@
+package org.choon.careerbee.domain.company.dto.response;
+
+import java.util.List;
+import java.util.Map;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.LocationInfo;
+import org.choon.careerbee.domain.company.entity.enums.BusinessType;
+import org.choon.careerbee.domain.company.entity.enums.RecruitingStatus;
+
+public record CompanyClusterResp(
+    List<ClusterInfo> clusters,
+    List<CompanyMarkerInfo> companies
+) {
+
+    public record ClusterInfo(
+        LocationInfo locationInfo,
+        int count,
+        Map<BusinessType, Integer> businessTypeCounts,
+        Map<RecruitingStatus, Integer> recruitingStatusCounts
+    ) {
+
+    }
+}
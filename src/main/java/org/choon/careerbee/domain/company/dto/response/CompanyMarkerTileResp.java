@@ -0,0 +1,11 @@
+package org.choon.careerbee.domain.company.dto.response;
+
+/**
+ * 미리 직렬화된 타일 응답 본문(CommonResponse JSON)과 그 ETag.
+ */
+public record CompanyMarkerTileResp(
+    byte[] body,
+    String etag
+) {
+
+}
@@ -1,104 +1,32 @@
 package org.choon.careerbee.domain.company.dto.response;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
-import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import java.util.List;
 
-@JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+/**
+ * 사람인 채용공고 검색 응답 중 저장에 쓰는 값만 담는다. 응답 본문은 {@code SaraminResponseParser} 가 스트리밍으로 읽어 바로
+ * 이 형태로 만든다.
+ */
 public record SaraminRecruitingResp(
-    Jobs jobs
+    int start,
+    int count,
+    int total,
+    List<Job> jobs
 ) {
 
-    @JsonInclude(JsonInclude.Include.NON_NULL)
-    public record Jobs(
-        Integer count,
-        Integer start,
-        String total,
-        List<Job> job
-    ) {
-
+    public static SaraminRecruitingResp empty() {
+        return new SaraminRecruitingResp(0, 0, 0, List.of());
     }
 
-    @JsonInclude(JsonInclude.Include.NON_NULL)
-    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
     public record Job(
+        Long id,
         String url,
         Integer active,
-        Company company,
-        Position position,
-        String keyword,
-        Salary salary,
-        Long id,
-        String postingTimestamp,
-        String postingDate,
-        String modificationTimestamp,
-        String openingTimestamp,
-        String expirationTimestamp,
-        String expirationDate,
-        CloseType closeType,
-        String readCnt,
-        String applyCnt
-    ) {
-
-    }
-
-    public record Company(Detail detail) {
-
-        public record Detail(String href, String name) {
-
-        }
-    }
-
-    @JsonInclude(JsonInclude.Include.NON_NULL)
-    public record Position(
+        String companyName,
         String title,
-        Industry industry,
-        Location location,
-        JobType jobType,
-        JobMidCode jobMidCode,
-        JobCode jobCode,
-        ExperienceLevel experienceLevel,
-        RequiredEducationLevel requiredEducationLevel,
-        String industryKeywordCode,
-        String jobCodeKeywordCode
+        Long postingTimestamp,
+        String postingDate,
+        String expirationDate
     ) {
 
-        public record Industry(String code, String name) {
-
-        }
-
-        public record Location(String code, String name) {
-
-        }
-
-        public record JobType(String code, String name) {
-
-        }
-
-        public record JobMidCode(String code, String name) {
-
-        }
-
-        public record JobCode(String code, String name) {
-
-        }
-
-        public record ExperienceLevel(Integer code, Integer min, Integer max, String name) {
-
-        }
-
-        public record RequiredEducationLevel(String code, String name) {
-
-        }
-    }
-
-    public record CloseType(String code, String name) {
-
-    }
-
-    public record Salary(String code, String name) {
-
     }
 }
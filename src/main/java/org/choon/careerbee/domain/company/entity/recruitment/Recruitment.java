@@ -75,10 +75,4 @@ public class Recruitment {
             .build();
     }
 
-    public void expired(LocalDateTime when) {
-        if (this.expiredAt == null) {
-            this.expiredAt = when;
-        }
-    }
-
 }
@@ -0,0 +1,135 @@
+package org.choon.careerbee.domain.company.entity.recruitment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사람인 검색(키워드 + 공채 여부)별로 어디까지 가져왔는지를 기록한다.
+ * <p>
+ * {@code lastPostingTimestamp} 는 지금까지 받은 공고 중 가장 늦은 등록 시각이고, {@code lastSeenIds} 는 그 시각에
+ * 등록된 공고 ID 다. 다음 수집은 이 시각부터 검색하므로 경계의 공고가 다시 내려오는데, 이 ID 를 만나면 페이지 넘기기를 멈춘다.
+ * <p>
+ * 최대 페이지 수에서 멈춘 수집은 워터마크를 옮기지 않고 {@code resumeBefore} 에 지금까지 읽은 가장 이른 등록 시각을 남긴다.
+ * 다음 수집은 워터마크와 이 시각 사이만 이어 읽고, 다 읽으면 처음 멈춘 수집에서 본 가장 늦은 시각({@code pendingPostingTimestamp})
+ * 으로 워터마크를 옮긴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "saramin_sync_state",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"keyword", "open_recruitment"})
+)
+public class SaraminSyncState {
+
+    private static final String ID_DELIMITER = ",";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 50, nullable = false)
+    private String keyword;
+
+    @Column(name = "open_recruitment", nullable = false)
+    private boolean openRecruitment;
+
+    @Column(name = "last_posting_timestamp", nullable = false)
+    private long lastPostingTimestamp;
+
+    @Column(name = "last_seen_ids", length = 2000, nullable = false)
+    private String lastSeenIds;
+
+    @Column(name = "resume_before", nullable = false)
+    private long resumeBefore;
+
+    @Column(name = "pending_posting_timestamp", nullable = false)
+    private long pendingPostingTimestamp;
+
+    @Column(name = "pending_seen_ids", length = 2000, nullable = false)
+    private String pendingSeenIds;
+
+    private SaraminSyncState(String keyword, boolean openRecruitment) {
+        this.keyword = keyword;
+        this.openRecruitment = openRecruitment;
+        this.lastPostingTimestamp = 0L;
+        this.lastSeenIds = "";
+        this.resumeBefore = 0L;
+        this.pendingPostingTimestamp = 0L;
+        this.pendingSeenIds = "";
+    }
+
+    public static SaraminSyncState of(String keyword, boolean openRecruitment) {
+        return new SaraminSyncState(keyword, openRecruitment);
+    }
+
+    public Set<Long> seenIds() {
+        return parseIds(lastSeenIds);
+    }
+
+    public Set<Long> pendingIds() {
+        return parseIds(pendingSeenIds);
+    }
+
+    public boolean isResuming() {
+        return resumeBefore > 0;
+    }
+
+    /**
+     * 최대 페이지 수에서 멈춘 수집을 기록한다. 워터마크는 그대로 두고, 이어 읽을 위치와 다 읽은 뒤 옮길 워터마크만 남긴다.
+     */
+    public void suspend(long resumeBefore, long pendingTimestamp, Set<Long> pendingIds) {
+        this.resumeBefore = resumeBefore;
+        this.pendingPostingTimestamp = pendingTimestamp;
+        this.pendingSeenIds = joinIds(pendingIds);
+    }
+
+    /**
+     * 더 늦은 시각이면 워터마크를 옮기고, 같은 시각이면 경계 ID 를 합친다. 이전 시각은 무시한다. 끝까지 읽은 수집이므로 이어
+     * 읽기 상태는 지운다.
+     */
+    public void advance(long postingTimestamp, Set<Long> ids) {
+        this.resumeBefore = 0L;
+        this.pendingPostingTimestamp = 0L;
+        this.pendingSeenIds = "";
+
+        if (postingTimestamp < lastPostingTimestamp) {
+            return;
+        }
+
+        Set<Long> boundaryIds = new HashSet<>(ids);
+        if (postingTimestamp == lastPostingTimestamp) {
+            boundaryIds.addAll(seenIds());
+        }
+
+        this.lastPostingTimestamp = postingTimestamp;
+        this.lastSeenIds = joinIds(boundaryIds);
+    }
+
+    private static Set<Long> parseIds(String ids) {
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        return Arrays.stream(ids.split(ID_DELIMITER))
+            .map(Long::valueOf)
+            .collect(Collectors.toSet());
+    }
+
+    private static String joinIds(Set<Long> ids) {
+        return ids.stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(ID_DELIMITER));
+    }
+}
@@ -1,5 +1,6 @@
 package org.choon.careerbee.domain.company.repository.custom;
 
+import java.util.Collection;
 import java.util.List;
 import org.choon.careerbee.domain.company.dto.internal.CompanyRecruitInfo;
 import org.choon.careerbee.domain.company.dto.internal.CompanyStaticPart;
@@ -30,6 +31,8 @@ public interface CompanyCustomRepository {
 
     List<CompanyMarkerInfo> fetchAllCompanyMarkerInfo();
 
+    List<CompanyMarkerInfo> fetchCompanyMarkerInfosByIds(Collection<Long> companyIds);
+
     CompanyStaticPart fetchCompanyStaticInfoById(Long companyId);
 
     String fetchCompanyRecentIssueById(Long companyId);
@@ -13,6 +13,7 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -231,6 +232,31 @@ public class CompanyCustomRepositoryImpl implements CompanyCustomRepository {
             .fetch();
     }
 
+    @Override
+    public List<CompanyMarkerInfo> fetchCompanyMarkerInfosByIds(Collection<Long> companyIds) {
+        if (companyIds == null || companyIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return queryFactory.select(
+                Projections.constructor(
+                    CompanyMarkerInfo.class,
+                    company.id,
+                    company.markerUrl,
+                    company.businessType,
+                    company.recruitingStatus,
+                    Projections.constructor(
+                        LocationInfo.class,
+                        Expressions.numberTemplate(Double.class, "ST_X({0})", company.geoPoint),
+                        Expressions.numberTemplate(Double.class, "ST_Y({0})", company.geoPoint)
+                    )
+                )
+            )
+            .from(company)
+            .where(company.id.in(companyIds))
+            .fetch();
+    }
+
     @Override
     public CompanyStaticPart fetchCompanyStaticInfoById(Long companyId) {
         Company company = queryFactory
@@ -1,9 +1,15 @@
 package org.choon.careerbee.domain.company.repository.jdbc;
 
 import java.util.List;
+import java.util.Set;
 import org.choon.careerbee.domain.company.dto.request.RecentIssueUpdateReq;
 
 public interface CompanyJdbcRepository {
 
     void batchUpdateRecentIssues(List<RecentIssueUpdateReq> updateRequests);
+
+    /**
+     * 진행 중인 공고가 하나도 없는 채용 중 기업을 채용 종료로 바꾸고, 바뀐 기업 ID 를 돌려준다.
+     */
+    Set<Long> closeRecruitingWithoutActivePostings();
 }
@@ -2,7 +2,10 @@ package org.choon.careerbee.domain.company.repository.jdbc;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.choon.careerbee.domain.company.dto.request.RecentIssueUpdateReq;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
@@ -21,6 +24,33 @@ public class CompanyJdbcRepositoryImpl implements CompanyJdbcRepository {
         WHERE name = ?
         """;
 
+    private static final int CHUNK = 1000;
+
+    // 대상 기업 행을 잠가, 그 사이 새 공고가 들어와 다시 채용 중이 되는 것을 막는다.
+    private static final String FIND_CLOSABLE_SQL = """
+        SELECT c.id
+        FROM company c
+        WHERE c.recruiting_status = 'ONGOING'
+          AND c.deleted_at IS NULL
+          AND NOT EXISTS (
+            SELECT 1
+            FROM recruitment r
+            WHERE r.company_id = c.id
+              AND r.expired_at IS NULL
+          )
+        FOR UPDATE
+        """;
+
+    private static final String CLOSE_SQL = """
+        UPDATE company c
+        LEFT JOIN recruitment r
+          ON r.company_id = c.id
+         AND r.expired_at IS NULL
+        SET c.recruiting_status = 'CLOSED'
+        WHERE c.recruiting_status = 'ONGOING'
+          AND r.id IS NULL
+          AND c.id IN (""";
+
     @Override
     public void batchUpdateRecentIssues(List<RecentIssueUpdateReq> updateRequests) {
         jdbcTemplate.batchUpdate(SQL, new BatchPreparedStatementSetter() {
@@ -37,4 +67,20 @@ public class CompanyJdbcRepositoryImpl implements CompanyJdbcRepository {
             }
         });
     }
+
+    @Override
+    public Set<Long> closeRecruitingWithoutActivePostings() {
+        List<Long> closable = jdbcTemplate.queryForList(FIND_CLOSABLE_SQL, Long.class);
+
+        for (int from = 0; from < closable.size(); from += CHUNK) {
+            List<Long> chunk = closable.subList(
+                from, Math.min(from + CHUNK, closable.size()));
+            String sql = CLOSE_SQL
+                + String.join(", ", Collections.nCopies(chunk.size(), "?"))
+                + ")";
+            jdbcTemplate.update(sql, chunk.toArray());
+        }
+
+        return new HashSet<>(closable);
+    }
 }
@@ -1,10 +1,17 @@
 package org.choon.careerbee.domain.company.repository.jdbc;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import org.choon.careerbee.domain.company.entity.recruitment.Recruitment;
 
 public interface RecruitmentCustomJdbcRepository {
 
     void batchInsert(List<Recruitment> recruitments);
 
+    /**
+     * {@code now} 이전에 마감된 공고를 한 번의 UPDATE 로 만료 처리하고, 공고가 만료된 기업 ID 를 돌려준다.
+     */
+    Set<Long> expireEndedBefore(LocalDateTime now);
+
 }
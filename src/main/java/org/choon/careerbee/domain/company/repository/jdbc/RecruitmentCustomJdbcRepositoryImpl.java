@@ -4,7 +4,10 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.choon.careerbee.domain.company.entity.recruitment.Recruitment;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
@@ -24,6 +27,20 @@ public class RecruitmentCustomJdbcRepositoryImpl implements
         ON DUPLICATE KEY UPDATE id = id
         """;
 
+    private static final String EXPIRE_SQL = """
+        UPDATE recruitment
+        SET expired_at = ?
+        WHERE end_date < ?
+          AND expired_at IS NULL
+        """;
+
+    // 이번 UPDATE 가 찍은 만료 시각으로 방금 만료된 공고의 기업을 찾는다.
+    private static final String EXPIRED_COMPANY_IDS_SQL = """
+        SELECT DISTINCT company_id
+        FROM recruitment
+        WHERE expired_at = ?
+        """;
+
     private final JdbcTemplate jdbcTemplate;
 
 
@@ -56,6 +73,20 @@ public class RecruitmentCustomJdbcRepositoryImpl implements
         });
     }
 
+    @Override
+    @Transactional
+    public Set<Long> expireEndedBefore(LocalDateTime now) {
+        // DATETIME(6) 에 저장된 값과 그대로 비교할 수 있도록 마이크로초로 맞춘다.
+        Timestamp expiredAt = Timestamp.valueOf(now.truncatedTo(ChronoUnit.MICROS));
+        int expired = jdbcTemplate.update(EXPIRE_SQL, expiredAt, expiredAt);
+        if (expired == 0) {
+            return Set.of();
+        }
+
+        return new HashSet<>(
+            jdbcTemplate.queryForList(EXPIRED_COMPANY_IDS_SQL, Long.class, expiredAt));
+    }
+
     private Timestamp toTimestamp(LocalDateTime ldt) {
         return ldt != null ? Timestamp.valueOf(ldt) : null;
     }
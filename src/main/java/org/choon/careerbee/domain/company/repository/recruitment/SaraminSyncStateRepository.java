@@ -0,0 +1,8 @@
+package org.choon.careerbee.domain.company.repository.recruitment;
+
+import org.choon.careerbee.domain.company.entity.recruitment.SaraminSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SaraminSyncStateRepository extends JpaRepository<SaraminSyncState, Long> {
+
+}
@@ -16,4 +16,6 @@ public interface WishCompanyCustomRepository {
     Map<Long, List<Long>> getWishMemberIdsGroupedByCompanyId(List<Long> list);
 
     Long fetchWishCountById(Long companyId);
+
+    Map<Long, Long> fetchAllWishCounts();
 }
@@ -98,6 +98,20 @@ public class WishCompanyCustomRepositoryImpl implements WishCompanyCustomReposit
             .fetchOne();
     }
 
+    @Override
+    public Map<Long, Long> fetchAllWishCounts() {
+        return queryFactory
+            .select(wishCompany.company.id, wishCompany.count())
+            .from(wishCompany)
+            .groupBy(wishCompany.company.id)
+            .fetch()
+            .stream()
+            .collect(Collectors.toMap(
+                tuple -> tuple.get(wishCompany.company.id),
+                tuple -> tuple.get(wishCompany.count())
+            ));
+    }
+
     public Map<Long, List<Long>> getWishMemberIdsGroupedByCompanyId(List<Long> companyIds) {
         List<Tuple> result = queryFactory
             .select(wishCompany.company.id, wishCompany.member.id)
@@ -5,7 +5,10 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.domain.company.dto.internal.RecruitmentExpiryResult;
 import org.choon.careerbee.domain.company.service.command.CompanyCommandService;
+import org.choon.careerbee.domain.company.service.ingest.SaraminRecruitmentIngestion;
+import org.choon.careerbee.domain.company.service.wish.CompanyWishCounter;
 import org.choon.careerbee.util.lock.DistributedLockExecutor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -20,6 +23,8 @@ public class CompanyScheduleRunner {
     );
 
     private final CompanyCommandService commandService;
+    private final SaraminRecruitmentIngestion recruitmentIngestion;
+    private final CompanyWishCounter companyWishCounter;
     private final DistributedLockExecutor lockExecutor;
 
     @Scheduled(cron = "0 0 14 * * *", zone = "Asia/Seoul") // 매일 오후 2시
@@ -31,17 +36,23 @@ public class CompanyScheduleRunner {
                 LocalDateTime now = LocalDateTime.now();
 
                 log.info("공고 데이터 수집 시작!");
-                for (String keyword : KEYWORDS) {
-                    commandService.updateCompanyRecruiting(keyword);
-                    commandService.updateCompanyOpenRecruiting(keyword);
-                }
+                recruitmentIngestion.ingest(KEYWORDS);
                 log.info("공고 데이터 수집 마감!");
 
                 log.info("[{}] 공고 삭제 및 기업 채용상태 변경 스케줄러 작동", now);
-                commandService.cleanExpiredRecruitments(now);
-                log.info("[{}] 공고 삭제 및 기업 채용상태 변경 스케줄러 마감", now);
+                RecruitmentExpiryResult result = commandService.cleanExpiredRecruitments(now);
+                log.info("[{}] 공고 삭제 및 기업 채용상태 변경 스케줄러 마감 - 변경 기업 {}곳", now,
+                    result.changedCompanyIds().size());
             }
         );
     }
 
+    @Scheduled(cron = "0 30 * * * *", zone = "Asia/Seoul") // 매시 30분
+    public void wishCountReconcileProcess() {
+        lockExecutor.execute("lock:company:wish-reconcile", 0, 300, TimeUnit.SECONDS, () -> {
+                int drifted = companyWishCounter.reconcile();
+                log.info("[WishCount] 관심 수 정합성 점검 완료 - 교정 {}건", drifted);
+            }
+        );
+    }
 }
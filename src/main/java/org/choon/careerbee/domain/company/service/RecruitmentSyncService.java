@@ -1,8 +1,8 @@
 package org.choon.careerbee.domain.company.service;
 
-import org.choon.careerbee.domain.company.dto.response.SaraminRecruitingResp;
+import org.choon.careerbee.domain.company.dto.internal.CollectedRecruitments;
 
 public interface RecruitmentSyncService {
 
-    void persistNewRecruitmentsAndNotify(SaraminRecruitingResp apiResp, boolean isOpenRecruitment);
+    void persistNewRecruitmentsAndNotify(CollectedRecruitments collected);
 }
@@ -16,13 +16,17 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.domain.company.dto.event.CompanyMarkerChangedEvent;
+import org.choon.careerbee.domain.company.dto.internal.CollectedRecruitments;
 import org.choon.careerbee.domain.company.dto.internal.JobContext;
-import org.choon.careerbee.domain.company.dto.response.SaraminRecruitingResp;
+import org.choon.careerbee.domain.company.dto.internal.SaraminSyncWatermark;
 import org.choon.careerbee.domain.company.dto.response.SaraminRecruitingResp.Job;
 import org.choon.careerbee.domain.company.entity.Company;
 import org.choon.careerbee.domain.company.entity.enums.RecruitingStatus;
 import org.choon.careerbee.domain.company.entity.recruitment.Recruitment;
+import org.choon.careerbee.domain.company.entity.recruitment.SaraminSyncState;
 import org.choon.careerbee.domain.company.repository.recruitment.RecruitmentRepository;
+import org.choon.careerbee.domain.company.repository.recruitment.SaraminSyncStateRepository;
 import org.choon.careerbee.domain.company.repository.wish.WishCompanyRepository;
 import org.choon.careerbee.domain.company.service.query.CompanyQueryService;
 import org.choon.careerbee.domain.notification.dto.event.OpenRecruitingEvent;
@@ -32,6 +36,7 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -45,45 +50,51 @@ public class RecruitmentSyncServiceImpl implements RecruitmentSyncService {
     private final CompanyQueryService companyQueryService;
     private final RecruitmentRepository recruitmentRepository;
     private final WishCompanyRepository wishCompanyRepository;
+    private final SaraminSyncStateRepository syncStateRepository;
     private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 한 번의 수집 결과를 한 트랜잭션으로 저장한다. 기업·기존 공고·관심 회원은 수집 전체에 대해 한 번씩만 조회한다.
+     * 검색별 워터마크도 같은 트랜잭션에서 옮겨, 공고 저장이 실패하면 다음 수집이 같은 구간을 다시 가져온다.
+     */
     @Override
+    @Transactional
     @Retryable(
         retryFor = {TransientDataAccessException.class},
         maxAttempts = 3,
         backoff = @Backoff(delay = 3000, multiplier = 2))
-    public void persistNewRecruitmentsAndNotify(
-        SaraminRecruitingResp apiResp,
-        boolean isOpenRecruitment
-    ) {
-        List<Job> jobs = apiResp.jobs().job();
+    public void persistNewRecruitmentsAndNotify(CollectedRecruitments collected) {
+        List<Job> jobs = collected.jobs();
         JobContext context = extractJobContext(jobs);
 
         List<Recruitment> toSave = new ArrayList<>();
         Map<String, Set<Long>> toNoti = new HashMap<>();
+        Set<Long> reopenedCompanyIds = new HashSet<>();
 
         for (Job job : jobs) {
-            processJob(job, context, isOpenRecruitment, toSave, toNoti);
+            processJob(job, context, collected.isOpenRecruitment(job.id()), toSave, toNoti,
+                reopenedCompanyIds);
         }
 
         saveNewRecruitments(toSave);
-        notifyWishMembersIfNeeded(isOpenRecruitment, toNoti);
+        notifyWishMembersIfNeeded(toNoti);
+        publishMarkerChangedIfNeeded(reopenedCompanyIds);
+        advanceWatermarks(collected.watermarks());
     }
 
     @Recover
     public void recruitmentSaveRecover(
         TransientDataAccessException ex,
-        SaraminRecruitingResp apiResp,
-        boolean isOpenRecruitment
+        CollectedRecruitments collected
     ) {
-        log.error("[공고 저장 실패] 사람인 응답 건수={}, openRecruit={}", apiResp.jobs().job().size(),
-            isOpenRecruitment, ex);
+        log.error("[공고 저장 실패] 사람인 수집 건수={}, 공채 건수={}", collected.jobs().size(),
+            collected.openRecruitmentIds().size(), ex);
         Sentry.captureException(ex);
     }
 
     private JobContext extractJobContext(List<Job> jobs) {
         List<String> companyNames = jobs.stream()
-            .map(j -> j.company().detail().name())
+            .map(Job::companyName)
             .distinct()
             .toList();
 
@@ -111,17 +122,21 @@ public class RecruitmentSyncServiceImpl implements RecruitmentSyncService {
         JobContext context,
         boolean isOpenRecruitment,
         List<Recruitment> toSave,
-        Map<String, Set<Long>> toNoti
+        Map<String, Set<Long>> toNoti,
+        Set<Long> reopenedCompanyIds
     ) {
         if (job.active() == RECRUITING_STATUS_CLOSED) {
             return;
         }
 
-        Company company = context.companyMap().get(job.company().detail().name());
+        Company company = context.companyMap().get(job.companyName());
         if (company == null || context.existingIds().contains(job.id())) {
             return;
         }
 
+        if (company.getRecruitingStatus() != RecruitingStatus.ONGOING) {
+            reopenedCompanyIds.add(company.getId());
+        }
         company.changeRecruitingStatus(RecruitingStatus.ONGOING);
 
         if (isOpenRecruitment) {
@@ -135,7 +150,7 @@ public class RecruitmentSyncServiceImpl implements RecruitmentSyncService {
             company,
             job.id(),
             job.url(),
-            job.position().title(),
+            job.title(),
             parseSaraminDate(job.postingDate()).orElse(null),
             parseSaraminDate(job.expirationDate()).orElse(null)
         ));
@@ -147,13 +162,48 @@ public class RecruitmentSyncServiceImpl implements RecruitmentSyncService {
         }
     }
 
-    private void notifyWishMembersIfNeeded(boolean isOpenRecruitment,
-        Map<String, Set<Long>> toNoti) {
-        if (isOpenRecruitment && !toNoti.isEmpty()) {
+    private void notifyWishMembersIfNeeded(Map<String, Set<Long>> toNoti) {
+        if (!toNoti.isEmpty()) {
             eventPublisher.publishEvent(new OpenRecruitingEvent(toNoti));
         }
     }
 
+    private void publishMarkerChangedIfNeeded(Set<Long> reopenedCompanyIds) {
+        if (!reopenedCompanyIds.isEmpty()) {
+            eventPublisher.publishEvent(new CompanyMarkerChangedEvent(reopenedCompanyIds));
+        }
+    }
+
+    private void advanceWatermarks(List<SaraminSyncWatermark> watermarks) {
+        if (watermarks.isEmpty()) {
+            return;
+        }
+
+        Map<String, SaraminSyncState> states = syncStateRepository.findAll().stream()
+            .collect(Collectors.toMap(
+                state -> stateKey(state.getKeyword(), state.isOpenRecruitment()),
+                Function.identity()
+            ));
+
+        for (SaraminSyncWatermark watermark : watermarks) {
+            SaraminSyncState state = states.computeIfAbsent(
+                stateKey(watermark.keyword(), watermark.openRecruitment()),
+                key -> syncStateRepository.save(
+                    SaraminSyncState.of(watermark.keyword(), watermark.openRecruitment()))
+            );
+            if (watermark.isSuspended()) {
+                state.suspend(watermark.resumeBefore(), watermark.postingTimestamp(),
+                    watermark.boundaryIds());
+                continue;
+            }
+            state.advance(watermark.postingTimestamp(), watermark.boundaryIds());
+        }
+    }
+
+    private static String stateKey(String keyword, boolean openRecruitment) {
+        return keyword + ":" + openRecruitment;
+    }
+
     private Optional<LocalDateTime> parseSaraminDate(String dateStr) {
         return Optional.ofNullable(dateStr)
             .filter(date -> !date.isBlank())
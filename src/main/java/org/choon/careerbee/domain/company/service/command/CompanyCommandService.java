@@ -2,6 +2,7 @@ package org.choon.careerbee.domain.company.service.command;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import org.choon.careerbee.domain.company.dto.internal.RecruitmentExpiryResult;
 import org.choon.careerbee.domain.company.dto.request.RecentIssueUpdateReq;
 
 public interface CompanyCommandService {
@@ -10,11 +11,7 @@ public interface CompanyCommandService {
 
     void deleteWishCompany(Long accessMemberId, Long companyId);
 
-    void updateCompanyRecruiting(String keyword);
-
-    void updateCompanyOpenRecruiting(String keyword);
-
-    void cleanExpiredRecruitments(LocalDateTime now);
+    RecruitmentExpiryResult cleanExpiredRecruitments(LocalDateTime now);
 
     void updateRecentIssue(List<RecentIssueUpdateReq> updateRequests);
 }
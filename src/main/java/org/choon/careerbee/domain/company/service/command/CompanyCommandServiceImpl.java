@@ -3,31 +3,30 @@ package org.choon.careerbee.domain.company.service.command;
 import io.sentry.Sentry;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.choon.careerbee.common.enums.CustomResponseStatus;
 import org.choon.careerbee.common.exception.CustomException;
-import org.choon.careerbee.domain.company.api.CompanyApiClient;
+import org.choon.careerbee.common.transaction.TransactionCallbacks;
 import org.choon.careerbee.domain.company.api.NextApiClient;
+import org.choon.careerbee.domain.company.dto.event.CompanyMarkerChangedEvent;
+import org.choon.careerbee.domain.company.dto.internal.RecruitmentExpiryResult;
 import org.choon.careerbee.domain.company.dto.request.CompanyRevalidateReq;
 import org.choon.careerbee.domain.company.dto.request.RecentIssueUpdateReq;
-import org.choon.careerbee.domain.company.dto.response.CompanyActiveCount;
-import org.choon.careerbee.domain.company.dto.response.SaraminRecruitingResp;
 import org.choon.careerbee.domain.company.entity.Company;
-import org.choon.careerbee.domain.company.entity.recruitment.Recruitment;
 import org.choon.careerbee.domain.company.entity.wish.WishCompany;
-import org.choon.careerbee.domain.company.exception.RetryableSaraminException;
 import org.choon.careerbee.domain.company.repository.CompanyRepository;
 import org.choon.careerbee.domain.company.repository.recruitment.RecruitmentRepository;
 import org.choon.careerbee.domain.company.repository.wish.WishCompanyRepository;
-import org.choon.careerbee.domain.company.service.RecruitmentSyncService;
 import org.choon.careerbee.domain.company.service.query.CompanyQueryService;
+import org.choon.careerbee.domain.company.service.wish.CompanyWishCounter;
 import org.choon.careerbee.domain.member.entity.Member;
 import org.choon.careerbee.domain.member.service.MemberQueryService;
 import org.redisson.api.RedissonClient;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.TransientDataAccessException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
@@ -42,19 +41,19 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CompanyCommandServiceImpl implements CompanyCommandService {
 
-    private static final String COMPANY_WISH_KEY_PREFIX = "company:wish:";
     private final RecruitmentRepository recruitmentRepository;
     private static final long TTL = 1L;
     private final CompanyRepository companyRepository;
 
-    private final CompanyApiClient companyApiClient;
     private final NextApiClient nextApiClient;
 
     private final WishCompanyRepository wishCompanyRepository;
     private final MemberQueryService memberQueryService;
     private final CompanyQueryService companyQueryService;
-    private final RecruitmentSyncService recruitmentSyncService;
     private final RedissonClient redissonClient;
+    private final CompanyWishCounter companyWishCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
     @Override
     public void registWishCompany(Long accessMemberId, Long companyId) {
@@ -74,10 +73,7 @@ public class CompanyCommandServiceImpl implements CompanyCommandService {
         }
 
         wishCompanyRepository.save(WishCompany.of(validMember, validCompany));
-
-//        String wishCountKey = COMPANY_WISH_KEY_PREFIX + companyId;
-//        RAtomicLong atomicLong = redissonClient.getAtomicLong(wishCountKey);
-//        atomicLong.incrementAndGet();
+        companyWishCounter.increment(companyId);
     }
 
     @Override
@@ -98,42 +94,7 @@ public class CompanyCommandServiceImpl implements CompanyCommandService {
             .orElseThrow(() -> new CustomException(CustomResponseStatus.WISH_COMPANY_NOT_FOUND));
 
         wishCompanyRepository.delete(wishCompany);
-//
-//        String wishCountKey = COMPANY_WISH_KEY_PREFIX + companyId;
-//        RAtomicLong atomicLong = redissonClient.getAtomicLong(wishCountKey);
-//        if (atomicLong.isExists() && atomicLong.get() > 0) {
-//            atomicLong.decrementAndGet();
-//        }
-    }
-
-    @Retryable(
-        retryFor = {RetryableSaraminException.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 3000, multiplier = 2))
-    @Override
-    public void updateCompanyRecruiting(String keyword) {
-        SaraminRecruitingResp apiResp = companyApiClient.searchAllRecruitment(keyword);
-        log.info("전체 공고 개수 : {}", apiResp.jobs().job().size());
-
-        recruitmentSyncService.persistNewRecruitmentsAndNotify(apiResp, false);
-    }
-
-    @Retryable(
-        retryFor = {RetryableSaraminException.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 3000, multiplier = 2))
-    @Override
-    public void updateCompanyOpenRecruiting(String keyword) {
-        SaraminRecruitingResp apiResp = companyApiClient.searchOpenRecruitment(keyword);
-        log.info("공채 공고 개수 : {}", apiResp.jobs().job().size());
-
-        recruitmentSyncService.persistNewRecruitmentsAndNotify(apiResp, true);
-    }
-
-    @Recover
-    public void recruitingRecover(RetryableSaraminException ex, String keyword) {
-        log.error("[Saramin API No React] {}에 대한 미응답", keyword);
-        Sentry.captureException(ex);
+        companyWishCounter.decrement(companyId);
     }
 
     @Override
@@ -141,9 +102,17 @@ public class CompanyCommandServiceImpl implements CompanyCommandService {
         retryFor = {TransientDataAccessException.class},
         maxAttempts = 3,
         backoff = @Backoff(delay = 3000, multiplier = 2))
-    public void cleanExpiredRecruitments(LocalDateTime now) {
-        expireRecruitments(now);
-        closeRecruitingStatusForInactiveCompanies();
+    public RecruitmentExpiryResult cleanExpiredRecruitments(LocalDateTime now) {
+        Set<Long> expiredCompanyIds = recruitmentRepository.expireEndedBefore(now);
+        Set<Long> closedCompanyIds = companyRepository.closeRecruitingWithoutActivePostings();
+        log.info("[RecruitCleanup] 공고 만료 기업 {}곳, 채용 종료 기업 {}곳",
+            expiredCompanyIds.size(), closedCompanyIds.size());
+
+        evictRecruitmentsAfterCommit(expiredCompanyIds);
+        if (!closedCompanyIds.isEmpty()) {
+            eventPublisher.publishEvent(new CompanyMarkerChangedEvent(closedCompanyIds));
+        }
+        return new RecruitmentExpiryResult(expiredCompanyIds, closedCompanyIds);
     }
 
     @Async
@@ -161,36 +130,33 @@ public class CompanyCommandServiceImpl implements CompanyCommandService {
         // 3. 이름 기반 기업 ID 조회
         List<Long> companyIds = companyQueryService.findIdByCompanyNameIn(companyNames);
 
-        // 4. Next 서버에 revalidate 요청
-        nextApiClient.revalidateRecentIssue(new CompanyRevalidateReq(companyIds));
+        // 4. 커밋 이후 최근 이슈 캐시 무효화 (다른 노드의 L1 캐시까지 함께 비워진다)
+        // 5. 캐시를 비운 뒤 Next 서버에 revalidate 요청
+        TransactionCallbacks.afterCommit(() -> {
+            Cache recentIssueCache = cacheManager.getCache("recentIssue");
+            if (recentIssueCache != null) {
+                companyIds.forEach(recentIssueCache::evict);
+            }
+            nextApiClient.revalidateRecentIssue(new CompanyRevalidateReq(companyIds));
+        });
     }
 
     @Recover
-    public void recoverCleanExpiredRecruitments(
+    public RecruitmentExpiryResult recoverCleanExpiredRecruitments(
         TransientDataAccessException ex, LocalDateTime now
     ) {
         log.error("[RecruitCleanup] 마감 공고 삭제 실패 - 시각: {}, 메시지: {}", now, ex.getMessage(), ex);
         Sentry.captureException(ex);
+        return new RecruitmentExpiryResult(Set.of(), Set.of());
     }
 
-    private void expireRecruitments(LocalDateTime now) {
-        List<Recruitment> expiredBefore = recruitmentRepository.findExpiredBefore(now);
-        expiredBefore.forEach(r -> r.expired(now));
-    }
-
-    private void closeRecruitingStatusForInactiveCompanies() {
-        List<CompanyActiveCount> activeList = recruitmentRepository.countActiveByCompany();
-
-        List<Long> companyIds = activeList.stream()
-            .map(CompanyActiveCount::companyId)
-            .toList();
-
-        Map<Long, Company> companyMap = companyQueryService.findByIds(companyIds).stream()
-            .collect(Collectors.toMap(Company::getId, Function.identity()));
-
-        for (CompanyActiveCount c : activeList) {
-            Company company = companyMap.get(c.companyId());
-            company.closeRecruitingIfNoActivePostings(c.recruitmentCount());
+    private void evictRecruitmentsAfterCommit(Set<Long> companyIds) {
+        Cache recruitmentsCache = cacheManager.getCache("recruitments");
+        if (recruitmentsCache == null || companyIds.isEmpty()) {
+            return;
         }
+
+        // 커밋 전에 캐시를 비우면 그 사이 조회가 변경 전 값을 다시 캐시할 수 있다.
+        TransactionCallbacks.afterCommit(() -> companyIds.forEach(recruitmentsCache::evict));
     }
 }
@@ -0,0 +1,78 @@
+package org.choon.careerbee.domain.company.service.index;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.choon.careerbee.domain.company.dto.request.CompanyQueryAddressInfo;
+import org.choon.careerbee.domain.company.dto.request.CompanyQueryCond;
+import org.choon.careerbee.domain.company.dto.response.CompanyClusterResp;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
+import org.choon.careerbee.domain.company.entity.enums.BusinessType;
+import org.choon.careerbee.domain.company.entity.enums.RecruitingStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 필터 조합(채용상태, 업종)별 클러스터 인덱스를 보관한다.
+ * <p>
+ * 인덱스 스냅샷이 바뀌면 해당 조합을 처음 조회하는 시점에 다시 만든다. 세밀한 줌에서는 클러스터 없이
+ * {@link CompanyMarkerIndex}의 반경 검색 결과를 그대로 돌려준다.
+ * <p>
+ * 반경이 주어지면 미리 만든 클러스터는 원 밖의 모서리 기업까지 묶고 있으므로 쓰지 않는다. 그리드 셀로 후보를 좁히고
+ * haversine 검사를 통과한 기업만 모아, 요청한 줌 한 단계만 그 자리에서 묶는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompanyMarkerClusterIndex {
+
+    private final CompanyMarkerIndex companyMarkerIndex;
+
+    private final Map<FilterKey, Built> clusterers = new ConcurrentHashMap<>();
+
+    public CompanyClusterResp query(
+        CompanyQueryAddressInfo center, CompanyQueryCond cond, int zoom
+    ) {
+        if (zoom > CompanyMarkerClusterer.MAX_CLUSTER_ZOOM) {
+            return new CompanyClusterResp(
+                List.of(), companyMarkerIndex.search(center, cond).companies()
+            );
+        }
+
+        CompanyMarkerGrid snapshot = companyMarkerIndex.snapshot();
+        if (cond.radius() != null) {
+            return CompanyMarkerClusterer.ofZoom(snapshot.search(center, cond), zoom)
+                .query(-90d, 90d, -180d, 180d, zoom);
+        }
+
+        FilterKey key = new FilterKey(cond.recruitingStatus(), cond.type());
+
+        Built built = clusterers.compute(key, (k, existing) ->
+            existing != null && existing.source() == snapshot
+                ? existing
+                : new Built(snapshot, CompanyMarkerClusterer.of(filter(snapshot, k)))
+        );
+
+        return built.clusterer().query(-90d, 90d, -180d, 180d, zoom);
+    }
+
+    private static List<CompanyMarkerInfo> filter(CompanyMarkerGrid grid, FilterKey key) {
+        return grid.all().stream()
+            .filter(m -> key.status() == null || m.recruitingStatus() == key.status())
+            .filter(m -> key.type() == null || m.businessType() == key.type())
+            .toList();
+    }
+
+    private record FilterKey(
+        RecruitingStatus status,
+        BusinessType type
+    ) {
+
+    }
+
+    private record Built(
+        CompanyMarkerGrid source,
+        CompanyMarkerClusterer clusterer
+    ) {
+
+    }
+}
@@ -0,0 +1,304 @@
+package org.choon.careerbee.domain.company.service.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.choon.careerbee.domain.company.dto.response.CompanyClusterResp;
+import org.choon.careerbee.domain.company.dto.response.CompanyClusterResp.ClusterInfo;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.LocationInfo;
+import org.choon.careerbee.domain.company.entity.enums.BusinessType;
+import org.choon.careerbee.domain.company.entity.enums.RecruitingStatus;
+
+/**
+ * supercluster 방식의 계층형 마커 클러스터 인덱스.
+ * <p>
+ * 메르카토르 평면(0~1)으로 투영한 좌표를 가장 세밀한 줌부터 거친 줌 방향으로 한 단계씩 묶는다. 각 줌에서는 화면 기준
+ * {@link #CLUSTER_RADIUS_PX} 픽셀 안의 점들을 가중 중심으로 합치고, 업종/채용상태별 개수를 함께 누적한다.
+ */
+public final class CompanyMarkerClusterer {
+
+    public static final int MIN_ZOOM = 5;
+    public static final int MAX_CLUSTER_ZOOM = 15;
+
+    private static final double CLUSTER_RADIUS_PX = 60d;
+    private static final double TILE_EXTENT_PX = 256d;
+
+    private final Level[] levels = new Level[MAX_CLUSTER_ZOOM + 2];
+
+    private CompanyMarkerClusterer(Collection<CompanyMarkerInfo> markers) {
+        List<Node> current = leavesOf(markers);
+
+        levels[MAX_CLUSTER_ZOOM + 1] = new Level(current, radiusAt(MAX_CLUSTER_ZOOM + 1));
+        for (int z = MAX_CLUSTER_ZOOM; z >= MIN_ZOOM; z--) {
+            current = cluster(levels[z + 1], radiusAt(z));
+            levels[z] = new Level(current, radiusAt(z));
+        }
+    }
+
+    private CompanyMarkerClusterer(Collection<CompanyMarkerInfo> markers, int zoom) {
+        levels[MAX_CLUSTER_ZOOM + 1] =
+            new Level(leavesOf(markers), radiusAt(MAX_CLUSTER_ZOOM + 1));
+        if (zoom <= MAX_CLUSTER_ZOOM) {
+            levels[zoom] = new Level(
+                cluster(levels[MAX_CLUSTER_ZOOM + 1], radiusAt(zoom)), radiusAt(zoom));
+        }
+    }
+
+    public static CompanyMarkerClusterer of(Collection<CompanyMarkerInfo> markers) {
+        return new CompanyMarkerClusterer(markers);
+    }
+
+    /**
+     * 한 줌 레벨만 개별 마커에서 바로 묶는다. 요청마다 달라지는 소수의 마커(반경 검색 결과 등)를 묶을 때 쓰며, 만든 줌으로만
+     * 조회해야 한다.
+     */
+    public static CompanyMarkerClusterer ofZoom(Collection<CompanyMarkerInfo> markers, int zoom) {
+        return new CompanyMarkerClusterer(markers, clampZoom(zoom));
+    }
+
+    /**
+     * 주어진 위경도 영역 안에서 해당 줌 레벨의 클러스터와 (묶이지 않은) 개별 마커를 반환한다.
+     */
+    public CompanyClusterResp query(
+        double minLat, double maxLat, double minLon, double maxLon, int zoom
+    ) {
+        int z = clampZoom(zoom);
+        if (levels[z] == null) {
+            throw new IllegalArgumentException("클러스터를 만들지 않은 줌 레벨입니다: " + zoom);
+        }
+
+        double minX = lngX(minLon);
+        double maxX = lngX(maxLon);
+        double minY = latY(maxLat);
+        double maxY = latY(minLat);
+
+        List<ClusterInfo> clusters = new ArrayList<>();
+        List<CompanyMarkerInfo> companies = new ArrayList<>();
+
+        for (Node node : levels[z].range(minX, minY, maxX, maxY)) {
+            if (node.marker != null) {
+                companies.add(node.marker);
+            } else {
+                clusters.add(node.toClusterInfo());
+            }
+        }
+
+        return new CompanyClusterResp(clusters, companies);
+    }
+
+    private static int clampZoom(int zoom) {
+        return Math.max(MIN_ZOOM, Math.min(MAX_CLUSTER_ZOOM + 1, zoom));
+    }
+
+    private static List<Node> leavesOf(Collection<CompanyMarkerInfo> markers) {
+        List<Node> leaves = new ArrayList<>(markers.size());
+        for (CompanyMarkerInfo marker : markers) {
+            leaves.add(Node.leaf(marker));
+        }
+        return leaves;
+    }
+
+    private static List<Node> cluster(Level previous, double radius) {
+        List<Node> points = previous.nodes;
+        boolean[] merged = new boolean[points.size()];
+        Map<Node, Integer> positions = new HashMap<>(points.size() * 2);
+        for (int i = 0; i < points.size(); i++) {
+            positions.put(points.get(i), i);
+        }
+
+        Level neighbourIndex = new Level(points, radius);
+        double radiusSq = radius * radius;
+        List<Node> clustered = new ArrayList<>();
+
+        for (int i = 0; i < points.size(); i++) {
+            if (merged[i]) {
+                continue;
+            }
+            merged[i] = true;
+
+            Node seed = points.get(i);
+            Node aggregate = null;
+
+            for (Node neighbour : neighbourIndex.range(
+                seed.x - radius, seed.y - radius, seed.x + radius, seed.y + radius)) {
+                int j = positions.get(neighbour);
+                if (merged[j] || seed.distanceSq(neighbour) > radiusSq) {
+                    continue;
+                }
+                merged[j] = true;
+
+                if (aggregate == null) {
+                    aggregate = Node.clusterOf(seed);
+                }
+                aggregate.absorb(neighbour);
+            }
+
+            clustered.add(aggregate != null ? aggregate : seed);
+        }
+
+        return clustered;
+    }
+
+    private static double radiusAt(int zoom) {
+        return CLUSTER_RADIUS_PX / (TILE_EXTENT_PX * Math.pow(2, zoom));
+    }
+
+    private static double lngX(double lng) {
+        return lng / 360d + 0.5d;
+    }
+
+    private static double latY(double lat) {
+        double sin = Math.sin(Math.toRadians(lat));
+        double y = 0.5d - 0.25d * Math.log((1d + sin) / (1d - sin)) / Math.PI;
+        return Math.max(0d, Math.min(1d, y));
+    }
+
+    private static double xLng(double x) {
+        return (x - 0.5d) * 360d;
+    }
+
+    private static double yLat(double y) {
+        double y2 = (180d - y * 360d) * Math.PI / 180d;
+        return 360d * Math.atan(Math.exp(y2)) / Math.PI - 90d;
+    }
+
+    /**
+     * 한 줌 레벨의 노드들과, 범위 조회를 위한 고정 크기 셀 인덱스.
+     */
+    private static final class Level {
+
+        private final List<Node> nodes;
+        private final double cellSize;
+        private final Map<Long, List<Node>> cells = new HashMap<>();
+
+        private Level(List<Node> nodes, double cellSize) {
+            this.nodes = nodes;
+            this.cellSize = cellSize;
+            for (Node node : nodes) {
+                cells.computeIfAbsent(cellKey(cell(node.x), cell(node.y)), k -> new ArrayList<>())
+                    .add(node);
+            }
+        }
+
+        private List<Node> range(double minX, double minY, double maxX, double maxY) {
+            long minCol = cell(minX);
+            long maxCol = cell(maxX);
+            long minRow = cell(minY);
+            long maxRow = cell(maxY);
+
+            List<Node> result = new ArrayList<>();
+            if ((maxCol - minCol + 1) * (maxRow - minRow + 1) > cells.size()) {
+                for (Node node : nodes) {
+                    if (node.within(minX, minY, maxX, maxY)) {
+                        result.add(node);
+                    }
+                }
+                return result;
+            }
+
+            for (long col = minCol; col <= maxCol; col++) {
+                for (long row = minRow; row <= maxRow; row++) {
+                    List<Node> cell = cells.get(cellKey(col, row));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Node node : cell) {
+                        if (node.within(minX, minY, maxX, maxY)) {
+                            result.add(node);
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+
+        private long cell(double value) {
+            return (long) Math.floor(value / cellSize);
+        }
+
+        private static long cellKey(long col, long row) {
+            return (col << 32) | (row & 0xFFFFFFFFL);
+        }
+    }
+
+    private static final class Node {
+
+        private double x;
+        private double y;
+        private int count;
+        private final CompanyMarkerInfo marker;
+        private final EnumMap<BusinessType, Integer> businessTypeCounts;
+        private final EnumMap<RecruitingStatus, Integer> recruitingStatusCounts;
+
+        private Node(
+            double x, double y, int count, CompanyMarkerInfo marker,
+            EnumMap<BusinessType, Integer> businessTypeCounts,
+            EnumMap<RecruitingStatus, Integer> recruitingStatusCounts
+        ) {
+            this.x = x;
+            this.y = y;
+            this.count = count;
+            this.marker = marker;
+            this.businessTypeCounts = businessTypeCounts;
+            this.recruitingStatusCounts = recruitingStatusCounts;
+        }
+
+        private static Node leaf(CompanyMarkerInfo marker) {
+            EnumMap<BusinessType, Integer> types = new EnumMap<>(BusinessType.class);
+            EnumMap<RecruitingStatus, Integer> statuses = new EnumMap<>(RecruitingStatus.class);
+            if (marker.businessType() != null) {
+                types.put(marker.businessType(), 1);
+            }
+            if (marker.recruitingStatus() != null) {
+                statuses.put(marker.recruitingStatus(), 1);
+            }
+
+            return new Node(
+                lngX(marker.locationInfo().longitude()),
+                latY(marker.locationInfo().latitude()),
+                1, marker, types, statuses
+            );
+        }
+
+        private static Node clusterOf(Node seed) {
+            return new Node(
+                seed.x, seed.y, seed.count, null,
+                new EnumMap<>(seed.businessTypeCounts),
+                new EnumMap<>(seed.recruitingStatusCounts)
+            );
+        }
+
+        private void absorb(Node other) {
+            int total = count + other.count;
+            x = (x * count + other.x * other.count) / total;
+            y = (y * count + other.y * other.count) / total;
+            count = total;
+            other.businessTypeCounts.forEach((k, v) -> businessTypeCounts.merge(k, v, Integer::sum));
+            other.recruitingStatusCounts.forEach(
+                (k, v) -> recruitingStatusCounts.merge(k, v, Integer::sum));
+        }
+
+        private double distanceSq(Node other) {
+            double dx = x - other.x;
+            double dy = y - other.y;
+            return dx * dx + dy * dy;
+        }
+
+        private boolean within(double minX, double minY, double maxX, double maxY) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY;
+        }
+
+        private ClusterInfo toClusterInfo() {
+            return new ClusterInfo(
+                new LocationInfo(yLat(y), xLng(x)),
+                count,
+                Map.copyOf(businessTypeCounts),
+                Map.copyOf(recruitingStatusCounts)
+            );
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.choon.careerbee.domain.company.service.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.choon.careerbee.domain.company.dto.request.CompanyQueryAddressInfo;
+import org.choon.careerbee.domain.company.dto.request.CompanyQueryCond;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
+import org.choon.careerbee.domain.company.entity.enums.BusinessType;
+import org.choon.careerbee.domain.company.entity.enums.RecruitingStatus;
+
+/**
+ * 기업 마커를 고정 크기(위경도 0.01도, 약 1km) 격자로 나눠 보관하는 불변 인덱스.
+ * <p>
+ * 반경 검색 시 원을 감싸는 셀만 훑은 뒤 MySQL {@code ST_Distance_Sphere}와 같은 구면 거리로 최종 필터링한다.
+ */
+public final class CompanyMarkerGrid {
+
+    // MySQL ST_Distance_Sphere 기본 반지름과 동일하게 맞춘다.
+    static final double EARTH_RADIUS_METERS = 6_370_986d;
+    static final double CELL_SIZE_DEGREES = 0.01d;
+
+    private static final Comparator<CompanyMarkerInfo> ID_ORDER =
+        Comparator.comparing(CompanyMarkerInfo::id);
+
+    private final Map<Long, List<CompanyMarkerInfo>> cells;
+    private final Map<Long, CompanyMarkerInfo> markers;
+
+    private CompanyMarkerGrid(Map<Long, CompanyMarkerInfo> markers) {
+        this.markers = markers;
+        this.cells = new HashMap<>();
+        for (CompanyMarkerInfo marker : markers.values()) {
+            cells.computeIfAbsent(cellKeyOf(marker), k -> new ArrayList<>()).add(marker);
+        }
+    }
+
+    public static CompanyMarkerGrid empty() {
+        return new CompanyMarkerGrid(Map.of());
+    }
+
+    public static CompanyMarkerGrid of(Collection<CompanyMarkerInfo> markerInfos) {
+        Map<Long, CompanyMarkerInfo> markers = new HashMap<>();
+        for (CompanyMarkerInfo marker : markerInfos) {
+            if (marker.locationInfo() != null) {
+                markers.put(marker.id(), marker);
+            }
+        }
+        return new CompanyMarkerGrid(markers);
+    }
+
+    /**
+     * 일부 기업 정보만 교체(또는 삭제)한 새 인덱스를 만든다. 기존 인스턴스는 변경하지 않는다.
+     */
+    public CompanyMarkerGrid with(Collection<Long> changedIds, Collection<CompanyMarkerInfo> fresh) {
+        Map<Long, CompanyMarkerInfo> next = new HashMap<>(markers);
+        changedIds.forEach(next::remove);
+        for (CompanyMarkerInfo marker : fresh) {
+            if (marker.locationInfo() != null) {
+                next.put(marker.id(), marker);
+            }
+        }
+        return new CompanyMarkerGrid(next);
+    }
+
+    public CompanyMarkerInfo get(Long companyId) {
+        return markers.get(companyId);
+    }
+
+    public int size() {
+        return markers.size();
+    }
+
+    public Collection<CompanyMarkerInfo> all() {
+        return markers.values();
+    }
+
+    public List<CompanyMarkerInfo> search(
+        CompanyQueryAddressInfo center, CompanyQueryCond cond
+    ) {
+        RecruitingStatus status = cond.recruitingStatus();
+        BusinessType type = cond.type();
+        Integer radius = cond.radius();
+
+        List<CompanyMarkerInfo> result = new ArrayList<>();
+        for (CompanyMarkerInfo marker : candidates(center, radius)) {
+            if (status != null && marker.recruitingStatus() != status) {
+                continue;
+            }
+            if (type != null && marker.businessType() != type) {
+                continue;
+            }
+            if (radius != null && distanceMeters(center, marker) > radius) {
+                continue;
+            }
+            result.add(marker);
+        }
+
+        result.sort(ID_ORDER);
+        return result;
+    }
+
+    /**
+     * 위경도 사각 영역(경계 포함)에 들어오는 마커를 id 순으로 반환한다.
+     */
+    public List<CompanyMarkerInfo> within(
+        double minLat, double maxLat, double minLon, double maxLon
+    ) {
+        Iterable<CompanyMarkerInfo> candidates = cellsIn(
+            cellIndex(minLat), cellIndex(maxLat), cellIndex(minLon), cellIndex(maxLon)
+        );
+
+        List<CompanyMarkerInfo> result = new ArrayList<>();
+        for (CompanyMarkerInfo marker : candidates) {
+            double lat = marker.locationInfo().latitude();
+            double lon = marker.locationInfo().longitude();
+            if (lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon) {
+                result.add(marker);
+            }
+        }
+
+        result.sort(ID_ORDER);
+        return result;
+    }
+
+    private Iterable<CompanyMarkerInfo> candidates(CompanyQueryAddressInfo center, Integer radius) {
+        if (radius == null) {
+            return markers.values();
+        }
+
+        double latDelta = Math.toDegrees(radius / EARTH_RADIUS_METERS);
+        double maxAbsLat = Math.min(89d, Math.abs(center.latitude()) + latDelta);
+        double lonDelta = latDelta / Math.cos(Math.toRadians(maxAbsLat));
+
+        return cellsIn(
+            cellIndex(center.latitude() - latDelta),
+            cellIndex(center.latitude() + latDelta),
+            cellIndex(center.longitude() - lonDelta),
+            cellIndex(center.longitude() + lonDelta)
+        );
+    }
+
+    private Iterable<CompanyMarkerInfo> cellsIn(
+        long minRow, long maxRow, long minCol, long maxCol
+    ) {
+        // 훑어야 할 셀이 실제 셀 개수보다 많으면(반경·영역이 매우 큰 경우) 전체 스캔이 더 싸다.
+        if ((maxRow - minRow + 1) * (maxCol - minCol + 1) > cells.size()) {
+            return markers.values();
+        }
+
+        List<CompanyMarkerInfo> candidates = new ArrayList<>();
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                List<CompanyMarkerInfo> cell = cells.get(cellKey(row, col));
+                if (cell != null) {
+                    candidates.addAll(cell);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    static double distanceMeters(CompanyQueryAddressInfo center, CompanyMarkerInfo marker) {
+        double lat1 = Math.toRadians(center.latitude());
+        double lat2 = Math.toRadians(marker.locationInfo().latitude());
+        double dLat = lat2 - lat1;
+        double dLon = Math.toRadians(marker.locationInfo().longitude() - center.longitude());
+
+        double h = Math.pow(Math.sin(dLat / 2), 2)
+            + Math.cos(lat1) * Math.cos(lat2) * Math.pow(Math.sin(dLon / 2), 2);
+
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1d, Math.sqrt(h)));
+    }
+
+    private static long cellKeyOf(CompanyMarkerInfo marker) {
+        return cellKey(
+            cellIndex(marker.locationInfo().latitude()),
+            cellIndex(marker.locationInfo().longitude())
+        );
+    }
+
+    private static long cellIndex(double degrees) {
+        return (long) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    private static long cellKey(long row, long col) {
+        return (row << 32) | (col & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,131 @@
+package org.choon.careerbee.domain.company.service.index;
+
+import jakarta.annotation.PostConstruct;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.domain.company.dto.event.CompanyMarkerChangedEvent;
+import org.choon.careerbee.domain.company.dto.request.CompanyQueryAddressInfo;
+import org.choon.careerbee.domain.company.dto.request.CompanyQueryCond;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
+import org.choon.careerbee.domain.company.repository.CompanyRepository;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 지도 반경 검색용 인메모리 격자 인덱스.
+ * <p>
+ * 기동 시 전체 기업 마커를 적재하고, 채용 상태·위치가 바뀐 기업은 커밋 이후 해당 기업만 다시 읽어 교체한다. 다른 노드에서
+ * 발생한 변경은 주기적인 전체 재적재로 수렴시킨다.
+ * <p>
+ * 전체 재적재는 DB 를 읽는 동안 들어온 변경 기업을 모아 두었다가, 새 격자를 교체하기 전에 그 기업들만 다시 읽어 반영한다. 변경이
+ * 커밋되기 전에 읽은 전체 목록이 그 변경을 덮어쓰지 않게 하기 위함이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyMarkerIndex {
+
+    private final CompanyRepository companyRepository;
+
+    private volatile CompanyMarkerGrid grid = CompanyMarkerGrid.empty();
+    private volatile boolean loaded = false;
+    private volatile long generation = 0L;
+
+    // 재적재 중에 들어온 변경 기업. this 로 동기화한다.
+    private final Set<Long> changedDuringReload = new HashSet<>();
+    private boolean reloading = false;
+
+    @PostConstruct
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(fixedDelay = 10, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void reload() {
+        synchronized (this) {
+            reloading = true;
+            changedDuringReload.clear();
+        }
+
+        CompanyMarkerGrid rebuilt;
+        try {
+            rebuilt = CompanyMarkerGrid.of(companyRepository.fetchAllCompanyMarkerInfo());
+            while (true) {
+                List<Long> changed;
+                synchronized (this) {
+                    if (changedDuringReload.isEmpty()) {
+                        grid = rebuilt;
+                        loaded = true;
+                        generation++;
+                        break;
+                    }
+                    changed = List.copyOf(changedDuringReload);
+                    changedDuringReload.clear();
+                }
+                rebuilt = rebuilt.with(changed,
+                    companyRepository.fetchCompanyMarkerInfosByIds(changed));
+            }
+        } finally {
+            synchronized (this) {
+                reloading = false;
+                changedDuringReload.clear();
+            }
+        }
+        log.info("[CompanyMarkerIndex] 기업 마커 {}건 적재 완료", rebuilt.size());
+    }
+
+    // 타일 캐시 등 인덱스를 읽는 후속 리스너보다 먼저 갱신되어야 한다.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(CompanyMarkerChangedEvent event) {
+        if (event.companyIds().isEmpty()) {
+            return;
+        }
+
+        synchronized (this) {
+            if (reloading) {
+                changedDuringReload.addAll(event.companyIds());
+            }
+        }
+
+        List<CompanyMarkerInfo> fresh = companyRepository
+            .fetchCompanyMarkerInfosByIds(event.companyIds());
+
+        synchronized (this) {
+            grid = grid.with(event.companyIds(), fresh);
+        }
+        log.info("[CompanyMarkerIndex] 기업 마커 {}건 갱신", event.companyIds().size());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public CompanyRangeSearchResp search(
+        CompanyQueryAddressInfo companyQueryAddressInfo, CompanyQueryCond companyQueryCond
+    ) {
+        return new CompanyRangeSearchResp(
+            grid.search(companyQueryAddressInfo, companyQueryCond)
+        );
+    }
+
+    public CompanyMarkerGrid snapshot() {
+        return grid;
+    }
+
+    /**
+     * 전체 재적재가 일어날 때마다 증가한다. 인덱스 기반 파생 캐시의 일괄 무효화 기준으로 사용한다.
+     */
+    public long generation() {
+        return generation;
+    }
+}
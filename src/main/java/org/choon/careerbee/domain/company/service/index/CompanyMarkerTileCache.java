@@ -0,0 +1,157 @@
+package org.choon.careerbee.domain.company.service.index;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.dto.CommonResponse;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.company.dto.event.CompanyMarkerChangedEvent;
+import org.choon.careerbee.domain.company.dto.response.CompanyMarkerTileResp;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+/**
+ * z/x/y 타일 단위로 직렬화된 마커 응답을 보관하는 캐시.
+ * <p>
+ * 타일은 요청 시점에 {@link CompanyMarkerIndex} 스냅샷으로부터 만들어지며, 기업 마커가 바뀌면 그 기업이 속했던 타일과 새로
+ * 속하게 된 타일만 지운다. 인덱스가 전체 재적재되면 세대 값이 달라지고, 처음 본 새 세대 요청에서 이전 세대 타일을 모두 버린다.
+ * <p>
+ * 타일 API 는 인증 없이 열려 있으므로 캐시 크기를 제한하고, 마커가 없는 타일은 캐시하지 않는다. 기업별 타일 목록은 기업마다 줌
+ * 단계 수만큼만 쌓이며, 캐시에서 밀려난 타일을 가리키는 항목은 무효화 시 지워도 아무 일이 없으므로 그대로 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyMarkerTileCache {
+
+    private static final String TILE_SUCCESS_MESSAGE = "기업 타일 조회에 성공하였습니다.";
+    private static final long MAX_TILES = 20_000L;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+
+    private final CompanyMarkerIndex companyMarkerIndex;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<MarkerTile, CachedTile> tiles = Caffeine.newBuilder()
+        .maximumSize(MAX_TILES)
+        .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+        .build();
+    private final Map<Long, Set<MarkerTile>> tilesByCompanyId = new ConcurrentHashMap<>();
+    private final AtomicLong evictionEpoch = new AtomicLong();
+    private final AtomicLong cachedGeneration = new AtomicLong();
+
+    public CompanyMarkerTileResp get(MarkerTile tile) {
+        long generation = companyMarkerIndex.generation();
+        dropStaleGeneration(generation);
+
+        CachedTile cached = tiles.getIfPresent(tile);
+        if (cached != null && cached.generation() == generation) {
+            return cached.resp();
+        }
+
+        long epoch = evictionEpoch.get();
+        List<CompanyMarkerInfo> markers = collect(companyMarkerIndex.snapshot(), tile);
+        CompanyMarkerTileResp resp = serialize(markers);
+
+        // 만드는 도중 무효화가 있었다면 낡은 스냅샷일 수 있으므로 응답만 하고 캐시에는 올리지 않는다.
+        if (!markers.isEmpty() && evictionEpoch.get() == epoch) {
+            tiles.put(tile, new CachedTile(resp, generation));
+            for (CompanyMarkerInfo marker : markers) {
+                tilesByCompanyId
+                    .computeIfAbsent(marker.id(), k -> ConcurrentHashMap.newKeySet())
+                    .add(tile);
+            }
+        }
+
+        return resp;
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(CompanyMarkerChangedEvent event) {
+        evictionEpoch.incrementAndGet();
+
+        CompanyMarkerGrid grid = companyMarkerIndex.snapshot();
+        Set<MarkerTile> affected = new HashSet<>();
+
+        for (Long companyId : event.companyIds()) {
+            Set<MarkerTile> previous = tilesByCompanyId.remove(companyId);
+            if (previous != null) {
+                affected.addAll(previous);
+            }
+
+            CompanyMarkerInfo current = grid.get(companyId);
+            if (current != null) {
+                for (int z = MarkerTile.MIN_ZOOM; z <= MarkerTile.MAX_ZOOM; z++) {
+                    affected.add(MarkerTile.containing(
+                        current.locationInfo().latitude(),
+                        current.locationInfo().longitude(),
+                        z
+                    ));
+                }
+            }
+        }
+
+        tiles.invalidateAll(affected);
+        log.info("[CompanyMarkerTileCache] 기업 {}건 변경으로 타일 {}개 무효화",
+            event.companyIds().size(), affected.size());
+    }
+
+    private void dropStaleGeneration(long generation) {
+        long previous = cachedGeneration.get();
+        if (previous == generation || !cachedGeneration.compareAndSet(previous, generation)) {
+            return;
+        }
+
+        evictionEpoch.incrementAndGet();
+        tiles.invalidateAll();
+        tilesByCompanyId.clear();
+    }
+
+    private List<CompanyMarkerInfo> collect(CompanyMarkerGrid grid, MarkerTile tile) {
+        return grid.within(
+                tile.minLatitude(), tile.maxLatitude(), tile.minLongitude(), tile.maxLongitude()
+            ).stream()
+            .filter(m -> tile.equals(MarkerTile.containing(
+                m.locationInfo().latitude(), m.locationInfo().longitude(), tile.z())))
+            .toList();
+    }
+
+    private CompanyMarkerTileResp serialize(List<CompanyMarkerInfo> markers) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(
+                CommonResponse.createSuccessWithMessage(
+                    new CompanyRangeSearchResp(markers),
+                    CustomResponseStatus.SUCCESS,
+                    TILE_SUCCESS_MESSAGE
+                )
+            );
+            return new CompanyMarkerTileResp(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new CustomException(CustomResponseStatus.JSON_PARSING_ERROR);
+        }
+    }
+
+    private record CachedTile(
+        CompanyMarkerTileResp resp,
+        long generation
+    ) {
+
+    }
+}
@@ -0,0 +1,65 @@
+package org.choon.careerbee.domain.company.service.index;
+
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+
+/**
+ * 웹 메르카토르(XYZ) 타일 좌표.
+ */
+public record MarkerTile(
+    int z,
+    int x,
+    int y
+) {
+
+    public static final int MIN_ZOOM = 5;
+    public static final int MAX_ZOOM = 18;
+
+    public MarkerTile {
+        if (z < MIN_ZOOM || z > MAX_ZOOM) {
+            throw new CustomException(CustomResponseStatus.INVALID_TILE_COORDINATE);
+        }
+
+        int n = 1 << z;
+        if (x < 0 || x >= n || y < 0 || y >= n) {
+            throw new CustomException(CustomResponseStatus.INVALID_TILE_COORDINATE);
+        }
+    }
+
+    public static MarkerTile containing(double latitude, double longitude, int z) {
+        int n = 1 << z;
+        double latRad = Math.toRadians(latitude);
+
+        int x = (int) Math.floor((longitude + 180d) / 360d * n);
+        int y = (int) Math.floor(
+            (1d - Math.log(Math.tan(latRad) + 1d / Math.cos(latRad)) / Math.PI) / 2d * n
+        );
+
+        return new MarkerTile(z, clamp(x, n), clamp(y, n));
+    }
+
+    public double minLongitude() {
+        return x / (double) (1 << z) * 360d - 180d;
+    }
+
+    public double maxLongitude() {
+        return (x + 1) / (double) (1 << z) * 360d - 180d;
+    }
+
+    public double maxLatitude() {
+        return latitudeOf(y);
+    }
+
+    public double minLatitude() {
+        return latitudeOf(y + 1);
+    }
+
+    private double latitudeOf(int tileY) {
+        double n = Math.PI * (1d - 2d * tileY / (1 << z));
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    private static int clamp(int value, int n) {
+        return Math.max(0, Math.min(n - 1, value));
+    }
+}
@@ -0,0 +1,292 @@
+package org.choon.careerbee.domain.company.service.ingest;
+
+import io.sentry.Sentry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.company.api.CompanyApiClient;
+import org.choon.careerbee.domain.company.dto.internal.CollectedRecruitments;
+import org.choon.careerbee.domain.company.dto.internal.SaraminSyncWatermark;
+import org.choon.careerbee.domain.company.dto.response.SaraminRecruitingResp;
+import org.choon.careerbee.domain.company.dto.response.SaraminRecruitingResp.Job;
+import org.choon.careerbee.domain.company.entity.recruitment.SaraminSyncState;
+import org.choon.careerbee.domain.company.exception.RetryableSaraminException;
+import org.choon.careerbee.domain.company.repository.recruitment.SaraminSyncStateRepository;
+import org.choon.careerbee.domain.company.service.RecruitmentSyncService;
+import org.choon.careerbee.util.ratelimit.TokenBucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사람인 공고를 키워드별로 동시에 수집해 한 번에 저장한다.
+ * <p>
+ * 키워드마다 전체 공고와 공채 공고 검색을 가상 스레드에서 돌리고, 모든 호출은 하나의 토큰 버킷을 거친다. 사람인이 요청 한도
+ * 초과(code 4)를 알리면 버킷 전체를 잠시 멈춘 뒤 다시 시도하고, 일시 오류(code 99)는 호출한 검색만 다시 시도한다. 실패한 검색은
+ * 건너뛰고 나머지 결과는 저장한다.
+ * <p>
+ * 검색마다 {@link SaraminSyncState} 의 워터마크 이후에 등록된 공고만 등록일 역순으로 페이지를 넘기며 가져오고, 이미 본 공고를
+ * 만나면 멈춘다. 새 워터마크는 공고와 같은 트랜잭션에서 저장되므로, 저장에 실패한 공고는 다음 수집에서 다시 내려온다.
+ * <p>
+ * 이미 본 공고에 닿기 전에 최대 페이지 수에서 멈춘 검색은 워터마크를 옮기지 않는다. 대신 지금까지 읽은 가장 이른 등록 시각을
+ * 이어 읽을 위치로 남기고, 다음 수집은 워터마크와 그 시각 사이만 읽는다. 처음부터 다시 읽지 않으므로 공고가 많은 검색도 수집마다
+ * 최대 페이지 수만큼씩 나아가고, 다 읽으면 처음 멈춘 검색에서 본 가장 늦은 시각으로 워터마크를 옮긴다. 이어 읽는 동안 새로
+ * 등록된 공고는 그 다음 수집부터 가져온다.
+ */
+@Slf4j
+@Component
+public class SaraminRecruitmentIngestion {
+
+    private final CompanyApiClient companyApiClient;
+    private final RecruitmentSyncService recruitmentSyncService;
+    private final SaraminSyncStateRepository syncStateRepository;
+    private final TokenBucket rateLimiter;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final int maxPages;
+
+    public SaraminRecruitmentIngestion(
+        CompanyApiClient companyApiClient,
+        RecruitmentSyncService recruitmentSyncService,
+        SaraminSyncStateRepository syncStateRepository,
+        @Value("${saramin.api.rate-limit.permits-per-second:2}") double permitsPerSecond,
+        @Value("${saramin.api.rate-limit.burst:2}") int burst,
+        @Value("${saramin.api.retry.max-attempts:3}") int maxAttempts,
+        @Value("${saramin.api.retry.backoff-millis:3000}") long backoffMillis,
+        @Value("${saramin.api.sync.max-pages:10}") int maxPages
+    ) {
+        this.companyApiClient = companyApiClient;
+        this.recruitmentSyncService = recruitmentSyncService;
+        this.syncStateRepository = syncStateRepository;
+        this.rateLimiter = new TokenBucket(permitsPerSecond, burst);
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxPages = maxPages;
+    }
+
+    public void ingest(List<String> keywords) {
+        CollectedRecruitments collected = collect(keywords);
+        log.info("[Saramin] 공고 수집 완료 - 전체 {}건, 공채 {}건",
+            collected.jobs().size(), collected.openRecruitmentIds().size());
+
+        if (!collected.jobs().isEmpty()) {
+            recruitmentSyncService.persistNewRecruitmentsAndNotify(collected);
+        }
+    }
+
+    public CollectedRecruitments collect(List<String> keywords) {
+        Map<SearchKey, SaraminSyncState> states = syncStateRepository.findAll().stream()
+            .collect(Collectors.toMap(
+                state -> new SearchKey(state.getKeyword(), state.isOpenRecruitment()),
+                Function.identity()
+            ));
+
+        List<SearchTask> tasks = new ArrayList<>(keywords.size() * 2);
+        for (String keyword : keywords) {
+            tasks.add(SearchTask.of(new SearchKey(keyword, false), states));
+            tasks.add(SearchTask.of(new SearchKey(keyword, true), states));
+        }
+
+        Map<Long, Job> jobs = new LinkedHashMap<>();
+        Set<Long> openRecruitmentIds = new HashSet<>();
+        List<SaraminSyncWatermark> watermarks = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<SearchResult>> futures = tasks.stream()
+                .map(task -> executor.submit(() -> search(task)))
+                .toList();
+
+            for (int i = 0; i < tasks.size(); i++) {
+                SearchTask task = tasks.get(i);
+                SearchResult result = await(task, futures.get(i));
+                for (Job job : result.jobs()) {
+                    jobs.putIfAbsent(job.id(), job);
+                    if (task.openRecruitment()) {
+                        openRecruitmentIds.add(job.id());
+                    }
+                }
+                watermarkOf(task, result).ifPresent(watermarks::add);
+            }
+        }
+
+        return new CollectedRecruitments(List.copyOf(jobs.values()), openRecruitmentIds,
+            watermarks);
+    }
+
+    /**
+     * 워터마크 이후의 공고를 페이지 단위로 가져온다. 이미 본 공고가 나오거나 마지막 페이지에 닿으면 멈춘다. 그 전에 최대 페이지
+     * 수에 닿으면 잘린 결과로 표시한다.
+     */
+    private SearchResult search(SearchTask task) throws InterruptedException {
+        List<Job> found = new ArrayList<>();
+        for (int page = 0; page < maxPages; page++) {
+            SaraminRecruitingResp resp = fetchPage(task, page);
+
+            boolean reachedSeen = false;
+            for (Job job : resp.jobs()) {
+                if (job.id() == null) {
+                    continue;
+                }
+                if (task.seenIds().contains(job.id())) {
+                    reachedSeen = true;
+                    continue;
+                }
+                found.add(job);
+            }
+
+            boolean lastPage = resp.jobs().size() < CompanyApiClient.PAGE_SIZE
+                || (page + 1) * CompanyApiClient.PAGE_SIZE >= resp.total();
+            if (reachedSeen || lastPage) {
+                return new SearchResult(found, false);
+            }
+        }
+
+        log.warn("[Saramin] 최대 {}페이지까지 읽고 멈춤, 다음 수집에서 이어 읽음 - keyword: {}, 공채: {}",
+            maxPages, task.keyword(), task.openRecruitment());
+        return new SearchResult(found, true);
+    }
+
+    private SaraminRecruitingResp fetchPage(SearchTask task, int page)
+        throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            rateLimiter.acquire();
+            try {
+                return companyApiClient.searchRecruitment(task.keyword(), task.openRecruitment(),
+                    task.publishedMin(), task.publishedMax(), page);
+            } catch (RetryableSaraminException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                Thread.sleep(backoff(attempt));
+            } catch (CustomException e) {
+                boolean tooManyRequests = e.getCustomResponseStatus()
+                    == CustomResponseStatus.SARAMIN_TOO_MANY_REQUEST_ERROR;
+                if (!tooManyRequests || attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("[Saramin] 요청 한도 초과로 {}ms 동안 호출 중단 - keyword: {}",
+                    backoff(attempt), task.keyword());
+                rateLimiter.pause(Duration.ofMillis(backoff(attempt)));
+            }
+        }
+    }
+
+    /**
+     * 끝까지 읽은 검색은 옮길 워터마크를, 잘린 검색은 이어 읽을 위치를 담은 워터마크를 만든다. 이어 읽던 검색이면 옮길 워터마크는
+     * 처음 멈춘 검색에서 본 값이다.
+     */
+    private Optional<SaraminSyncWatermark> watermarkOf(SearchTask task, SearchResult result) {
+        Optional<SaraminSyncWatermark> newest = task.resuming()
+            ? Optional.of(new SaraminSyncWatermark(task.keyword(), task.openRecruitment(),
+                task.pendingTimestamp(), task.pendingIds()))
+            : latestOf(task, result.jobs());
+        if (!result.truncated()) {
+            return newest;
+        }
+
+        long oldest = result.jobs().stream()
+            .map(Job::postingTimestamp)
+            .filter(Objects::nonNull)
+            .mapToLong(Long::longValue)
+            .min()
+            .orElse(0L);
+        if (oldest <= 0) {
+            return Optional.empty();
+        }
+        // 읽은 공고가 모두 이어 읽기 시작 시각과 같으면 그 시각을 건너뛰어야 다음 수집이 앞으로 나아간다.
+        long resumeBefore = task.resuming() && oldest >= task.publishedMax()
+            ? task.publishedMax() - 1
+            : oldest;
+
+        return newest.map(watermark -> new SaraminSyncWatermark(watermark.keyword(),
+            watermark.openRecruitment(), watermark.postingTimestamp(), watermark.boundaryIds(),
+            resumeBefore));
+    }
+
+    private Optional<SaraminSyncWatermark> latestOf(SearchTask task, List<Job> found) {
+        long latest = found.stream()
+            .map(Job::postingTimestamp)
+            .filter(Objects::nonNull)
+            .mapToLong(Long::longValue)
+            .max()
+            .orElse(0L);
+        if (latest <= 0) {
+            return Optional.empty();
+        }
+
+        Set<Long> boundaryIds = found.stream()
+            .filter(job -> job.postingTimestamp() != null && job.postingTimestamp() == latest)
+            .map(Job::id)
+            .collect(Collectors.toSet());
+        return Optional.of(new SaraminSyncWatermark(task.keyword(), task.openRecruitment(),
+            latest, boundaryIds));
+    }
+
+    private SearchResult await(SearchTask task, Future<SearchResult> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            log.error("[Saramin API No React] {} (공채: {}) 검색 실패", task.keyword(),
+                task.openRecruitment(), e.getCause());
+            Sentry.captureException(e.getCause());
+            return SearchResult.EMPTY;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return SearchResult.EMPTY;
+        }
+    }
+
+    private long backoff(int attempt) {
+        return backoffMillis << (attempt - 1);
+    }
+
+    private record SearchResult(List<Job> jobs, boolean truncated) {
+
+        static final SearchResult EMPTY = new SearchResult(List.of(), false);
+    }
+
+    private record SearchKey(String keyword, boolean openRecruitment) {
+
+    }
+
+    private record SearchTask(
+        String keyword,
+        boolean openRecruitment,
+        long publishedMin,
+        long publishedMax,
+        Set<Long> seenIds,
+        long pendingTimestamp,
+        Set<Long> pendingIds
+    ) {
+
+        static SearchTask of(SearchKey key, Map<SearchKey, SaraminSyncState> states) {
+            SaraminSyncState state = states.get(key);
+            if (state == null) {
+                return new SearchTask(key.keyword(), key.openRecruitment(), 0L, 0L, Set.of(),
+                    0L, Set.of());
+            }
+            return new SearchTask(key.keyword(), key.openRecruitment(),
+                state.getLastPostingTimestamp(), state.getResumeBefore(), state.seenIds(),
+                state.getPendingPostingTimestamp(), state.pendingIds());
+        }
+
+        boolean resuming() {
+            return publishedMax > 0;
+        }
+    }
+}
@@ -5,7 +5,9 @@ import org.choon.careerbee.domain.company.dto.internal.CompanyRecruitInfo;
 import org.choon.careerbee.domain.company.dto.request.CompanyQueryAddressInfo;
 import org.choon.careerbee.domain.company.dto.request.CompanyQueryCond;
 import org.choon.careerbee.domain.company.dto.response.CheckWishCompanyResp;
+import org.choon.careerbee.domain.company.dto.response.CompanyClusterResp;
 import org.choon.careerbee.domain.company.dto.response.CompanyDetailResp;
+import org.choon.careerbee.domain.company.dto.response.CompanyMarkerTileResp;
 import org.choon.careerbee.domain.company.dto.response.CompanyIdResp;
 import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp;
 import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
@@ -22,6 +24,11 @@ public interface CompanyQueryService {
     CompanyRangeSearchResp fetchCompaniesByDistance(CompanyQueryAddressInfo companyQueryAddressInfo,
         CompanyQueryCond companyQueryCond);
 
+    CompanyClusterResp fetchCompanyClusters(CompanyQueryAddressInfo companyQueryAddressInfo,
+        CompanyQueryCond companyQueryCond, int zoom);
+
+    CompanyMarkerTileResp fetchCompanyMarkerTile(int z, int x, int y);
+
     CompanySummaryInfo fetchCompanySummary(Long companyId);
 
     CheckWishCompanyResp checkWishCompany(Long accessMemberId, Long companyId);
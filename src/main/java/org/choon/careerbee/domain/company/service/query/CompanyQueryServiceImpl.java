@@ -14,7 +14,9 @@ import org.choon.careerbee.domain.company.dto.internal.CompanySummaryInfoWithout
 import org.choon.careerbee.domain.company.dto.request.CompanyQueryAddressInfo;
 import org.choon.careerbee.domain.company.dto.request.CompanyQueryCond;
 import org.choon.careerbee.domain.company.dto.response.CheckWishCompanyResp;
+import org.choon.careerbee.domain.company.dto.response.CompanyClusterResp;
 import org.choon.careerbee.domain.company.dto.response.CompanyDetailResp;
+import org.choon.careerbee.domain.company.dto.response.CompanyMarkerTileResp;
 import org.choon.careerbee.domain.company.dto.response.CompanyIdResp;
 import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp;
 import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
@@ -27,6 +29,10 @@ import org.choon.careerbee.domain.company.entity.Company;
 import org.choon.careerbee.domain.company.entity.enums.RecruitingStatus;
 import org.choon.careerbee.domain.company.repository.CompanyRepository;
 import org.choon.careerbee.domain.company.repository.wish.WishCompanyRepository;
+import org.choon.careerbee.domain.company.service.index.CompanyMarkerClusterIndex;
+import org.choon.careerbee.domain.company.service.index.CompanyMarkerIndex;
+import org.choon.careerbee.domain.company.service.index.CompanyMarkerTileCache;
+import org.choon.careerbee.domain.company.service.index.MarkerTile;
 import org.choon.careerbee.domain.company.service.query.internal.CompanyRecentIssueQueryService;
 import org.choon.careerbee.domain.company.service.query.internal.CompanyRecruitmentQueryService;
 import org.choon.careerbee.domain.company.service.query.internal.CompanyStaticDataQueryService;
@@ -44,8 +50,6 @@ import org.springframework.transaction.annotation.Transactional;
 public class CompanyQueryServiceImpl implements CompanyQueryService {
 
     private static final String COMPANY_SIMPLE_KEY_PREFIX = "company:simple:";
-    private static final String COMPANY_WISH_KEY_PREFIX = "company:wish:";
-    private static final Long COMPANY_WISH_KEY_TTL = 10L;
 
     private final CompanyRepository companyRepository;
     private final WishCompanyRepository wishCompanyRepository;
@@ -56,17 +60,38 @@ public class CompanyQueryServiceImpl implements CompanyQueryService {
     private final CompanyRecruitmentQueryService recruitmentQueryService;
     private final CompanyStaticDataQueryService staticDataQueryService;
     private final CompanyRecentIssueQueryService recentIssueQueryService;
+    private final CompanyMarkerIndex companyMarkerIndex;
+    private final CompanyMarkerTileCache companyMarkerTileCache;
+    private final CompanyMarkerClusterIndex companyMarkerClusterIndex;
+    private final CompanyWishCounter companyWishCounter;
 
     @Override
     public CompanyRangeSearchResp fetchCompaniesByDistance(
         CompanyQueryAddressInfo companyQueryAddressInfo, CompanyQueryCond companyQueryCond
     ) {
+        if (companyMarkerIndex.isLoaded()) {
+            return companyMarkerIndex.search(companyQueryAddressInfo, companyQueryCond);
+        }
+
         return companyRepository.fetchByDistanceAndCondition(
             companyQueryAddressInfo,
             companyQueryCond
         );
     }
 
+    @Override
+    public CompanyClusterResp fetchCompanyClusters(
+        CompanyQueryAddressInfo companyQueryAddressInfo, CompanyQueryCond companyQueryCond,
+        int zoom
+    ) {
+        return companyMarkerClusterIndex.query(companyQueryAddressInfo, companyQueryCond, zoom);
+    }
+
+    @Override
+    public CompanyMarkerTileResp fetchCompanyMarkerTile(int z, int x, int y) {
+        return companyMarkerTileCache.get(new MarkerTile(z, x, y));
+    }
+
     @Override
     public CompanySummaryInfo fetchCompanySummary(Long companyId) {
         try {
@@ -182,7 +207,7 @@ public class CompanyQueryServiceImpl implements CompanyQueryService {
         return new WishCountResp(fetchWishCount(companyId));
     }
 
-    private String escapeLike(String keyword) {
+    static String escapeLike(String keyword) {
         return keyword.strip()
             .chars()
             .mapToObj(c -> {
@@ -211,18 +236,6 @@ public class CompanyQueryServiceImpl implements CompanyQueryService {
     }
 
     private Long fetchWishCount(Long companyId) {
-//        RBucket<String> wishCountBucket = redissonClient.getBucket(
-//            COMPANY_WISH_KEY_PREFIX + companyId
-//        );
-//
-//        String wishCountJson = wishCountBucket.get();
-
-//        if (wishCountJson != null) {
-//            return Long.valueOf(wishCountJson);
-//        }
-
-        Long wishCount = wishCompanyRepository.fetchWishCountById(companyId);
-//        wishCountBucket.set(String.valueOf(wishCount), Duration.ofSeconds(COMPANY_WISH_KEY_TTL));
-        return wishCount;
+        return companyWishCounter.get(companyId);
     }
 }
@@ -0,0 +1,149 @@
+package org.choon.careerbee.domain.company.service.wish;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.transaction.TransactionCallbacks;
+import org.choon.careerbee.domain.company.repository.wish.WishCompanyRepository;
+import org.choon.careerbee.util.redis.RedisKeyFactory;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기업별 관심 수를 Redis 원자 카운터로 관리한다.
+ * <p>
+ * 원본은 wish_company 테이블이며, 카운터는 커밋 이후에만 증감한다. 카운터가 없으면 DB 에서 한 번 읽어 채우고, 어긋난 값은
+ * {@link #reconcile()} 이 주기적으로 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyWishCounter {
+
+    /** {@link RedisKeyFactory#wishCountKey(Long)} 형식의 키만 교정 대상으로 삼는다. */
+    private static final Pattern WISH_KEY = Pattern.compile("^company:wish:(\\d{1,18})$");
+
+    private final RedissonClient redissonClient;
+    private final WishCompanyRepository wishCompanyRepository;
+
+    // 직전 교정에서 본 차이(DB - 카운터). 두 번 연속 같을 때만 교정한다.
+    private final Map<Long, Long> observedDrift = new ConcurrentHashMap<>();
+
+    public long get(Long companyId) {
+        RAtomicLong counter = counterOf(companyId);
+        if (counter.isExists()) {
+            return counter.get();
+        }
+        return seed(companyId, counter);
+    }
+
+    public void increment(Long companyId) {
+        TransactionCallbacks.afterCommit(() -> {
+            RAtomicLong counter = counterOf(companyId);
+            if (counter.isExists()) {
+                counter.incrementAndGet();
+                return;
+            }
+            // 커밋 이후라 DB 집계에 이번 등록이 이미 포함되어 있다.
+            seed(companyId, counter);
+        });
+    }
+
+    public void decrement(Long companyId) {
+        TransactionCallbacks.afterCommit(() -> {
+            RAtomicLong counter = counterOf(companyId);
+            if (!counter.isExists()) {
+                seed(companyId, counter);
+                return;
+            }
+            if (counter.decrementAndGet() < 0) {
+                counter.set(wishCompanyRepository.fetchWishCountById(companyId));
+            }
+        });
+    }
+
+    /**
+     * DB 집계와 카운터를 비교해 어긋난 값을 교정하고, 교정한 기업 수를 반환한다.
+     * <p>
+     * 카운터를 먼저 읽고 DB 를 나중에 읽는다. 반대 순서면 그 사이에 커밋되어 이미 INCR 된 관심이 DB 집계에 빠져, 맞는 카운터를
+     * 낡은 값으로 되돌린다. 읽기와 커밋 후 증감 사이의 일시적인 차이는 다음 교정 때 사라지므로, 같은 차이가 두 번 연속 보일
+     * 때만 compare-and-set 으로 교정한다. 카운터가 없는 기업은 다음 조회 때 DB 에서 채우므로 건너뛴다.
+     */
+    public int reconcile() {
+        Set<Long> companyIds = new HashSet<>();
+        Iterable<String> keys = redissonClient.getKeys()
+            .getKeysByPattern(RedisKeyFactory.wishCountKeyPattern());
+        for (String key : keys) {
+            Matcher matcher = WISH_KEY.matcher(key);
+            if (!matcher.matches()) {
+                log.debug("[WishCount] 형식이 다른 키는 건너뜀 - key: {}", key);
+                continue;
+            }
+            companyIds.add(Long.parseLong(matcher.group(1)));
+        }
+        observedDrift.keySet().retainAll(companyIds);
+        if (companyIds.isEmpty()) {
+            return 0;
+        }
+
+        RBatch readBatch = redissonClient.createBatch();
+        Map<Long, RFuture<Long>> cached = new HashMap<>();
+        companyIds.forEach(id -> cached.put(
+            id, readBatch.getAtomicLong(RedisKeyFactory.wishCountKey(id)).getAsync()
+        ));
+        readBatch.execute();
+
+        Map<Long, Long> dbCounts = wishCompanyRepository.fetchAllWishCounts();
+
+        RBatch fixBatch = redissonClient.createBatch();
+        int drifted = 0;
+        for (Map.Entry<Long, RFuture<Long>> entry : cached.entrySet()) {
+            Long companyId = entry.getKey();
+            long actual = entry.getValue().toCompletableFuture().join();
+            long expected = dbCounts.getOrDefault(companyId, 0L);
+            long drift = expected - actual;
+
+            Long previous = drift == 0
+                ? observedDrift.remove(companyId)
+                : observedDrift.put(companyId, drift);
+            if (drift == 0 || previous == null || previous != drift) {
+                continue;
+            }
+
+            log.warn("[WishCount] 관심 수 불일치 - companyId: {}, redis: {}, db: {}",
+                companyId, actual, expected);
+            fixBatch.getAtomicLong(RedisKeyFactory.wishCountKey(companyId))
+                .compareAndSetAsync(actual, expected);
+            observedDrift.remove(companyId);
+            drifted++;
+        }
+
+        if (drifted > 0) {
+            fixBatch.execute();
+            log.info("[WishCount] 관심 수 교정 {}건 (전체 {}건)", drifted, companyIds.size());
+        }
+        return drifted;
+    }
+
+    private long seed(Long companyId, RAtomicLong counter) {
+        long dbCount = wishCompanyRepository.fetchWishCountById(companyId);
+        // 다른 요청이 먼저 채웠다면 그 값을 존중한다.
+        if (counter.compareAndSet(0L, dbCount)) {
+            return dbCount;
+        }
+        return counter.get();
+    }
+
+    private RAtomicLong counterOf(Long companyId) {
+        return redissonClient.getAtomicLong(RedisKeyFactory.wishCountKey(companyId));
+    }
+}
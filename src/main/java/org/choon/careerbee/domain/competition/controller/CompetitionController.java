@@ -10,7 +10,7 @@ import org.choon.careerbee.domain.competition.dto.request.CompetitionResultSubmi
 import org.choon.careerbee.domain.competition.dto.response.CompetitionGradingResp;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionIdResp;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionParticipationResp;
-import org.choon.careerbee.domain.competition.dto.response.CompetitionProblemResp;
+import org.choon.careerbee.domain.competition.dto.response.CompetitionProblemSnapshotResp;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionRankingResp;
 import org.choon.careerbee.domain.competition.dto.response.LiveRankingResp;
 import org.choon.careerbee.domain.competition.dto.response.MemberLiveRankingResp;
@@ -20,6 +20,8 @@ import org.choon.careerbee.domain.competition.service.query.CompetitionQueryServ
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -87,16 +89,17 @@ public class CompetitionController {
     }
 
     @GetMapping("competitions/{competitionId}/problems")
-    public ResponseEntity<CommonResponse<CompetitionProblemResp>> fetchCompetitionProblems(
+    public ResponseEntity<byte[]> fetchCompetitionProblems(
         @PathVariable("competitionId") Long competitionId
     ) {
-        CompetitionProblemResp response = queryService.fetchProblems(competitionId);
-
-        return CommonResponseEntity.ok(
-            response,
-            CustomResponseStatus.SUCCESS,
-            "대회 문제 조회에 성공하였습니다."
-        );
+        CompetitionProblemSnapshotResp response = queryService.fetchProblemSnapshot(competitionId);
+
+        // If-None-Match가 ETag와 일치하면 HttpEntityMethodProcessor가 304로 응답한다.
+        return ResponseEntity.ok()
+            .eTag(response.etag())
+            .cacheControl(CacheControl.noCache())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(response.body());
     }
 
     @GetMapping("competitions/rankings")
@@ -20,7 +20,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.choon.careerbee.common.entity.BaseEntity;
 import org.choon.careerbee.domain.competition.domain.enums.SummaryType;
-import org.choon.careerbee.domain.competition.dto.request.TempSummaryInfo;
 import org.choon.careerbee.domain.member.entity.Member;
 
 @Entity
@@ -67,6 +66,16 @@ public class CompetitionSummary extends BaseEntity {
     @Column(name = "period_end", nullable = false)
     private LocalDate periodEnd;
 
+    // 주간/월간 증분 집계용 누적 상태
+    @Column(name = "participation_count", nullable = false)
+    private Integer participationCount;
+
+    @Column(name = "current_streak", nullable = false)
+    private Integer currentStreak;
+
+    @Column(name = "last_participated_on")
+    private LocalDate lastParticipatedOn;
+
     @Builder
     private CompetitionSummary(
         Member member, Short solvedCount, Long elapsedTime,
@@ -82,6 +91,8 @@ public class CompetitionSummary extends BaseEntity {
         this.correctRate = correctRate;
         this.periodStart = periodStart;
         this.periodEnd = periodEnd;
+        this.participationCount = 0;
+        this.currentStreak = 0;
     }
 
     public static CompetitionSummary of(
@@ -102,14 +113,6 @@ public class CompetitionSummary extends BaseEntity {
             .build();
     }
 
-    public void updateSummary(TempSummaryInfo summaryInfo) {
-        short current = this.solvedCount == null ? 0 : this.solvedCount;
-        this.solvedCount = (short) (current + summaryInfo.solvedSum());
-        this.elapsedTime += summaryInfo.timeSum();
-        this.correctRate = summaryInfo.correctRate();
-        this.maxContinuousDays = summaryInfo.maxStreak();
-    }
-
     public void updateRank(Long newRank) {
         this.ranking = newRank;
     }
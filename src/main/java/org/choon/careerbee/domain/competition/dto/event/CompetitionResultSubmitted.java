@@ -0,0 +1,12 @@
+package org.choon.careerbee.domain.competition.dto.event;
+
+import java.time.LocalDate;
+
+public record CompetitionResultSubmitted(
+    Long memberId,
+    LocalDate day,
+    short solvedCount,
+    int elapsedTime
+) {
+
+}
@@ -0,0 +1,82 @@
+package org.choon.careerbee.domain.competition.dto.internal;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 대회의 정답표. 문제 ID 를 정렬한 {@code long[]} 에서 이진 탐색으로 찾으므로 채점할 때 박싱이나 해시 계산이 없다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 요청이 함께 읽어도 된다.
+ */
+public final class CompetitionAnswerKey {
+
+    private final Long competitionId;
+    private final LocalDateTime endsAt;
+    private final long[] problemIds;
+    private final short[] answers;
+    private final String[] solutions;
+
+    private CompetitionAnswerKey(
+        Long competitionId, LocalDateTime endsAt,
+        long[] problemIds, short[] answers, String[] solutions
+    ) {
+        this.competitionId = competitionId;
+        this.endsAt = endsAt;
+        this.problemIds = problemIds;
+        this.answers = answers;
+        this.solutions = solutions;
+    }
+
+    public static CompetitionAnswerKey of(
+        Long competitionId, LocalDateTime endsAt, List<ProblemAnswerInfo> answerInfos
+    ) {
+        List<ProblemAnswerInfo> sorted = answerInfos.stream()
+            .sorted(Comparator.comparing(ProblemAnswerInfo::problemId))
+            .toList();
+
+        int size = sorted.size();
+        long[] problemIds = new long[size];
+        short[] answers = new short[size];
+        String[] solutions = new String[size];
+        for (int i = 0; i < size; i++) {
+            ProblemAnswerInfo info = sorted.get(i);
+            problemIds[i] = info.problemId();
+            answers[i] = info.answer();
+            solutions[i] = info.solution();
+        }
+
+        return new CompetitionAnswerKey(competitionId, endsAt, problemIds, answers, solutions);
+    }
+
+    /**
+     * @return 문제의 위치. 이 대회의 문제가 아니면 음수
+     */
+    public int indexOf(long problemId) {
+        return Arrays.binarySearch(problemIds, problemId);
+    }
+
+    public short answerAt(int index) {
+        return answers[index];
+    }
+
+    public String solutionAt(int index) {
+        return solutions[index];
+    }
+
+    public boolean hasEnded(LocalDateTime now) {
+        return now.isAfter(endsAt);
+    }
+
+    public Long competitionId() {
+        return competitionId;
+    }
+
+    public LocalDateTime endsAt() {
+        return endsAt;
+    }
+
+    public int size() {
+        return problemIds.length;
+    }
+}
@@ -0,0 +1,13 @@
+package org.choon.careerbee.domain.competition.dto.internal;
+
+import java.time.LocalDate;
+
+public record CompetitionSubmission(
+    Long competitionId,
+    Long memberId,
+    short solvedCount,
+    int elapsedTime,
+    LocalDate day
+) {
+
+}
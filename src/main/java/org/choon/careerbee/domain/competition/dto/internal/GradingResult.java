@@ -1,6 +1,8 @@
 package org.choon.careerbee.domain.competition.dto.internal;
 
+import java.util.ArrayList;
 import java.util.List;
+import org.choon.careerbee.domain.competition.dto.request.CompetitionResultSubmitReq.SubmitInfo;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionGradingResp.CompetitionGradingInfo;
 
 public record GradingResult(
@@ -8,4 +10,36 @@ public record GradingResult(
     short correctCount
 ) {
 
+    /**
+     * 대회 정답표와 제출 답안을 비교해 채점한다. 대회에 없는 문제는 오답으로 처리한다.
+     */
+    public static GradingResult grade(
+        CompetitionAnswerKey answerKey, List<SubmitInfo> submittedAnswers
+    ) {
+        List<CompetitionGradingInfo> gradingInfos = new ArrayList<>(submittedAnswers.size());
+        short correctCount = 0;
+
+        for (SubmitInfo submit : submittedAnswers) {
+            int index = submit.problemId() != null ? answerKey.indexOf(submit.problemId()) : -1;
+            boolean exists = index >= 0;
+
+            short answer = exists ? answerKey.answerAt(index) : 0;
+            boolean isCorrect = exists
+                && submit.userChoice() != null
+                && answer == submit.userChoice();
+
+            if (isCorrect) {
+                correctCount++;
+            }
+
+            gradingInfos.add(new CompetitionGradingInfo(
+                submit.problemId(),
+                answer,
+                isCorrect,
+                exists ? answerKey.solutionAt(index) : null
+            ));
+        }
+
+        return new GradingResult(gradingInfos, correctCount);
+    }
 }
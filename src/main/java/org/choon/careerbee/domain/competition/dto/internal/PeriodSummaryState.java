@@ -0,0 +1,51 @@
+package org.choon.careerbee.domain.competition.dto.internal;
+
+import java.time.LocalDate;
+import org.choon.careerbee.domain.competition.dto.response.DailyResultSummaryResp;
+
+/**
+ * 주간/월간 집계에서 회원별로 누적해 두는 상태. 하루치 결과를 {@link #fold} 로 더해 다음 상태를 만든다.
+ */
+public record PeriodSummaryState(
+    Long memberId,
+    short solvedSum,
+    long timeSum,
+    int participationCount,
+    int currentStreak,
+    int maxStreak,
+    LocalDate lastParticipatedOn
+) {
+
+    private static final int PROBLEM_CHOICE_COUNT = 5;
+
+    public static PeriodSummaryState empty(Long memberId) {
+        return new PeriodSummaryState(memberId, (short) 0, 0L, 0, 0, 0, null);
+    }
+
+    /**
+     * 이미 반영한 날짜(또는 그 이전 날짜)의 결과인지 확인한다. 재시도로 같은 날을 두 번 더하지 않기 위해 사용한다.
+     */
+    public boolean hasFolded(LocalDate day) {
+        return lastParticipatedOn != null && !day.isAfter(lastParticipatedOn);
+    }
+
+    public PeriodSummaryState fold(DailyResultSummaryResp result, LocalDate day) {
+        int streak = day.minusDays(1).equals(lastParticipatedOn) ? currentStreak + 1 : 1;
+
+        return new PeriodSummaryState(
+            memberId,
+            (short) (solvedSum + result.solvedSum()),
+            timeSum + result.timeSum(),
+            participationCount + 1,
+            streak,
+            Math.max(maxStreak, streak),
+            day
+        );
+    }
+
+    public double correctRate() {
+        return participationCount == 0
+            ? 0
+            : (double) solvedSum / (participationCount * PROBLEM_CHOICE_COUNT) * 100;
+    }
+}
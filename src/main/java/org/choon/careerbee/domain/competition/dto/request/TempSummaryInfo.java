@@ -1,11 +0,0 @@
-package org.choon.careerbee.domain.competition.dto.request;
-
-public record TempSummaryInfo(
-    Long memberId,
-    Short solvedSum,
-    Long timeSum,
-    Double correctRate,
-    Integer maxStreak
-) {
-
-}
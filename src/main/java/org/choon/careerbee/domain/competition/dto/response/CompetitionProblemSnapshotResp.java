@@ -0,0 +1,11 @@
+package org.choon.careerbee.domain.competition.dto.response;
+
+/**
+ * 미리 직렬화된 대회 문제 응답 본문(CommonResponse JSON)과 그 ETag.
+ */
+public record CompetitionProblemSnapshotResp(
+    byte[] body,
+    String etag
+) {
+
+}
@@ -8,9 +8,11 @@ import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionIdResp;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionProblemResp;
@@ -26,48 +28,49 @@ public class CompetitionCustomRepositoryImpl implements CompetitionCustomReposit
 
     @Override
     public CompetitionProblemResp fetchCompetitionProblemsByCompetitionId(Long competitionId) {
-        // 1. 문제 + 보기 선택지 JOIN
+        // 1. 문제 + 보기 선택지 JOIN. 엔티티 대신 응답에 필요한 컬럼만 가져온다.
         List<Tuple> results = queryFactory
-            .select(competitionProblem, problemChoice)
+            .select(
+                competitionProblem.id,
+                competitionProblem.title,
+                competitionProblem.description,
+                problemChoice.choiceOrder,
+                problemChoice.content
+            )
             .from(competitionProblem)
             .leftJoin(problemChoice).on(problemChoice.competitionProblem.eq(competitionProblem))
             .where(competitionProblem.competition.id.eq(competitionId))
             .orderBy(competitionProblem.id.asc(), problemChoice.choiceOrder.asc())
             .fetch();
 
-        // 2. 선택지 그룹핑
-        Map<Long, List<ProblemChoiceInfo>> choiceMap = results.stream()
-            .filter(tuple -> tuple.get(problemChoice) != null)
-            .collect(Collectors.groupingBy(
-                tuple -> tuple.get(competitionProblem).getId(),
-                Collectors.mapping(
-                    tuple -> new ProblemChoiceInfo(
-                        tuple.get(problemChoice).getChoiceOrder(),
-                        tuple.get(problemChoice).getContent()
-                    ),
-                    Collectors.toList()
-                )
-            ));
+        // 2. 정렬된 행을 한 번 훑으며 문제별로 선택지를 모은다.
+        Map<Long, Tuple> problemRows = new LinkedHashMap<>();
+        Map<Long, List<ProblemChoiceInfo>> choiceMap = new HashMap<>();
+        for (Tuple row : results) {
+            Long problemId = row.get(competitionProblem.id);
+            problemRows.putIfAbsent(problemId, row);
+
+            List<ProblemChoiceInfo> choices =
+                choiceMap.computeIfAbsent(problemId, id -> new ArrayList<>());
+            Short choiceOrder = row.get(problemChoice.choiceOrder);
+            if (choiceOrder != null) {
+                choices.add(new ProblemChoiceInfo(choiceOrder, row.get(problemChoice.content)));
+            }
+        }
 
         // 3. 문제 정보 구성
-        List<CompetitionProblemResp.ProblemInfo> problemInfos = results.stream()
-            .map(tuple -> tuple.get(competitionProblem))
-            .distinct()
-            .collect(Collectors.collectingAndThen(
-                Collectors.toList(),
-                list -> {
-                    int[] index = {1};
-                    return list.stream()
-                        .map(problem -> new ProblemInfo(
-                            problem.getId(),
-                            index[0]++,
-                            problem.getTitle(),
-                            problem.getDescription(),
-                            choiceMap.getOrDefault(problem.getId(), List.of())
-                        ))
-                        .collect(Collectors.toList());
-                }
+        List<ProblemInfo> problemInfos = new ArrayList<>(problemRows.size());
+        int number = 1;
+        for (Map.Entry<Long, Tuple> entry : problemRows.entrySet()) {
+            Tuple row = entry.getValue();
+            problemInfos.add(new ProblemInfo(
+                entry.getKey(),
+                number++,
+                row.get(competitionProblem.title),
+                row.get(competitionProblem.description),
+                List.copyOf(choiceMap.get(entry.getKey()))
             ));
+        }
 
         return new CompetitionProblemResp(problemInfos);
     }
@@ -4,6 +4,7 @@ import static org.choon.careerbee.domain.competition.domain.QCompetitionResult.c
 
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -105,9 +106,7 @@ public class CompetitionResultCustomRepositoryImpl implements
                 competitionResult.elapsedTime
             )
             .from(competitionResult)
-            .where(competitionResult.createdAt.year().eq(today.getYear())
-                .and(competitionResult.createdAt.month().eq(today.getMonthValue()))
-                .and(competitionResult.createdAt.dayOfMonth().eq(today.getDayOfMonth())))
+            .where(createdOn(today))
             .orderBy(
                 competitionResult.solvedCount.desc(),
                 competitionResult.elapsedTime.asc())
@@ -139,9 +138,7 @@ public class CompetitionResultCustomRepositoryImpl implements
                 competitionResult.elapsedTime
             )
             .from(competitionResult)
-            .where(competitionResult.createdAt.year().eq(today.getYear())
-                .and(competitionResult.createdAt.month().eq(today.getMonthValue()))
-                .and(competitionResult.createdAt.dayOfMonth().eq(today.getDayOfMonth())))
+            .where(createdOn(today))
             .orderBy(
                 competitionResult.solvedCount.desc(),
                 competitionResult.elapsedTime.asc())
@@ -166,4 +163,10 @@ public class CompetitionResultCustomRepositoryImpl implements
 
         return new LiveRankingResp(rankerInfos);
     }
+
+    // 컬럼에 함수를 씌우지 않고 범위 조건으로 비교해야 created_at 인덱스를 탈 수 있다.
+    private BooleanExpression createdOn(LocalDate day) {
+        return competitionResult.createdAt.goe(day.atStartOfDay())
+            .and(competitionResult.createdAt.lt(day.plusDays(1).atStartOfDay()));
+    }
 }
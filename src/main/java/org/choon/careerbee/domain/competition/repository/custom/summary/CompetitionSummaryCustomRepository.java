@@ -1,9 +1,11 @@
 package org.choon.careerbee.domain.competition.repository.custom.summary;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.choon.careerbee.domain.competition.domain.CompetitionSummary;
 import org.choon.careerbee.domain.competition.domain.enums.SummaryType;
+import org.choon.careerbee.domain.competition.dto.internal.PeriodSummaryState;
 import org.choon.careerbee.domain.competition.dto.request.SummaryPeriod;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionRankingResp;
 import org.choon.careerbee.domain.competition.dto.response.MemberRankingResp;
@@ -20,4 +22,8 @@ public interface CompetitionSummaryCustomRepository {
     );
 
     List<Top10Info> fetchTop10Ranker(SummaryPeriod summaryPeriod, SummaryType summaryType);
+
+    List<PeriodSummaryState> fetchPeriodStates(
+        SummaryPeriod summaryPeriod, SummaryType summaryType, Collection<Long> memberIds
+    );
 }
@@ -7,10 +7,12 @@ import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.choon.careerbee.domain.competition.domain.CompetitionSummary;
 import org.choon.careerbee.domain.competition.domain.enums.SummaryType;
+import org.choon.careerbee.domain.competition.dto.internal.PeriodSummaryState;
 import org.choon.careerbee.domain.competition.dto.request.SummaryPeriod;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionRankingResp;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionRankingResp.RankingInfo;
@@ -156,6 +158,45 @@ public class CompetitionSummaryCustomRepositoryImpl implements
             .fetch();
     }
 
+    @Override
+    public List<PeriodSummaryState> fetchPeriodStates(
+        SummaryPeriod summaryPeriod, SummaryType summaryType, Collection<Long> memberIds
+    ) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+            .select(
+                competitionSummary.member.id,
+                competitionSummary.solvedCount,
+                competitionSummary.elapsedTime,
+                competitionSummary.participationCount,
+                competitionSummary.currentStreak,
+                competitionSummary.maxContinuousDays,
+                competitionSummary.lastParticipatedOn
+            )
+            .from(competitionSummary)
+            .where(
+                competitionSummary.type.eq(summaryType),
+                competitionSummary.periodStart.eq(summaryPeriod.startAt()),
+                competitionSummary.periodEnd.eq(summaryPeriod.endAt()),
+                competitionSummary.member.id.in(memberIds)
+            )
+            .fetch()
+            .stream()
+            .map(tuple -> new PeriodSummaryState(
+                tuple.get(competitionSummary.member.id),
+                tuple.get(competitionSummary.solvedCount),
+                tuple.get(competitionSummary.elapsedTime),
+                tuple.get(competitionSummary.participationCount),
+                tuple.get(competitionSummary.currentStreak),
+                tuple.get(competitionSummary.maxContinuousDays),
+                tuple.get(competitionSummary.lastParticipatedOn)
+            ))
+            .toList();
+    }
+
     private MemberDayRankInfo fetchDailyRankingByDate(
         Long memberId, SummaryType type, LocalDate today
     ) {
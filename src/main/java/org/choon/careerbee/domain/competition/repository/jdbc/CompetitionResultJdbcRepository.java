@@ -0,0 +1,17 @@
+package org.choon.careerbee.domain.competition.repository.jdbc;
+
+import java.util.List;
+import org.choon.careerbee.domain.competition.dto.internal.CompetitionSubmission;
+
+public interface CompetitionResultJdbcRepository {
+
+    /**
+     * 주어진 회원 중 해당 대회 결과가 이미 저장된 회원 ID 를 반환한다.
+     */
+    List<Long> findSubmittedMemberIds(Long competitionId, List<Long> memberIds);
+
+    /**
+     * 제출 결과를 multi-row INSERT 로 저장한다. 중복 행은 유니크 제약 위반으로 실패하므로 호출 전에 걸러야 한다.
+     */
+    void batchInsert(List<CompetitionSubmission> submissions);
+}
@@ -0,0 +1,67 @@
+package org.choon.careerbee.domain.competition.repository.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.choon.careerbee.domain.competition.dto.internal.CompetitionSubmission;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class CompetitionResultJdbcRepositoryImpl implements CompetitionResultJdbcRepository {
+
+    private static final int CHUNK = 500;
+    private static final String SUBMITTED_MEMBER_IDS_PREFIX = """
+        SELECT member_id FROM competition_result
+        WHERE competition_id = ? AND member_id IN (""";
+    private static final String INSERT_PREFIX = """
+        INSERT INTO competition_result
+          (competition_id, member_id, solved_count, elapsed_time, created_at, modified_at)
+        VALUES
+        """;
+    private static final String VALUES_ROW = "(?, ?, ?, ?, NOW(), NOW())";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> findSubmittedMemberIds(Long competitionId, List<Long> memberIds) {
+        if (memberIds.isEmpty()) return List.of();
+
+        String sql = SUBMITTED_MEMBER_IDS_PREFIX
+            + String.join(", ", Collections.nCopies(memberIds.size(), "?"))
+            + ")";
+
+        List<Object> args = new ArrayList<>(memberIds.size() + 1);
+        args.add(competitionId);
+        args.addAll(memberIds);
+
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+
+    @Override
+    @Transactional
+    public void batchInsert(List<CompetitionSubmission> submissions) {
+        if (submissions.isEmpty()) return;
+
+        for (int from = 0; from < submissions.size(); from += CHUNK) {
+            int to = Math.min(from + CHUNK, submissions.size());
+            List<CompetitionSubmission> sub = submissions.subList(from, to);
+
+            String sql = INSERT_PREFIX
+                + String.join(", ", Collections.nCopies(sub.size(), VALUES_ROW));
+
+            List<Object> args = new ArrayList<>(sub.size() * 4);
+            for (CompetitionSubmission submission : sub) {
+                args.add(submission.competitionId());
+                args.add(submission.memberId());
+                args.add(submission.solvedCount());
+                args.add(submission.elapsedTime());
+            }
+
+            jdbcTemplate.update(sql, args.toArray());
+        }
+    }
+}
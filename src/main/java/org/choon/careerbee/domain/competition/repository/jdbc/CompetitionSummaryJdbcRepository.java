@@ -4,6 +4,8 @@ import java.time.LocalDate;
 import java.util.List;
 import org.choon.careerbee.domain.competition.domain.CompetitionSummary;
 import org.choon.careerbee.domain.competition.domain.enums.SummaryType;
+import org.choon.careerbee.domain.competition.dto.internal.PeriodSummaryState;
+import org.choon.careerbee.domain.competition.dto.request.SummaryPeriod;
 
 public interface CompetitionSummaryJdbcRepository {
 
@@ -22,4 +24,21 @@ public interface CompetitionSummaryJdbcRepository {
     );
 
     void batchInsert(List<CompetitionSummary> list);
+
+    /**
+     * 회원별 누적 상태를 INSERT ... ON DUPLICATE KEY UPDATE 로 한 번에 반영한다. 신규 행의 순위는 0 으로 들어간다.
+     */
+    void upsertPeriodStates(
+        SummaryType type, SummaryPeriod period, List<PeriodSummaryState> states
+    );
+
+    /**
+     * 지정한 날에 참여하지 않은 회원의 연속 참여 일수를 0 으로 되돌리고, 바뀐 행 수를 반환한다.
+     */
+    int resetBrokenStreaks(SummaryType type, SummaryPeriod period, LocalDate day);
+
+    /**
+     * 기간 내 전체 순위를 DB 에서 다시 매기고, 순위가 바뀐 행 수를 반환한다.
+     */
+    int rerankPeriod(SummaryType type, SummaryPeriod period);
 }
@@ -5,6 +5,8 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.choon.careerbee.domain.competition.domain.CompetitionSummary;
 import org.choon.careerbee.domain.competition.domain.enums.SummaryType;
+import org.choon.careerbee.domain.competition.dto.internal.PeriodSummaryState;
+import org.choon.careerbee.domain.competition.dto.request.SummaryPeriod;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
@@ -26,8 +28,52 @@ public class CompetitionSummaryJdbcRepositoryImpl implements
         INSERT INTO competition_summary
           (member_id, solved_count, elapsed_time, ranking,
            max_continuous_day, correct_rate, type,
-           period_start, period_end, created_at, modified_at)
-        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
+           period_start, period_end, participation_count, current_streak,
+           last_participated_on, created_at, modified_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
+        """;
+    private static final String UPSERT_STATE_SQL = """
+        INSERT INTO competition_summary
+          (member_id, solved_count, elapsed_time, ranking,
+           max_continuous_day, correct_rate, type,
+           period_start, period_end, participation_count, current_streak,
+           last_participated_on, created_at, modified_at)
+        VALUES (?, ?, ?, 0, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
+        ON DUPLICATE KEY UPDATE
+          solved_count         = VALUES(solved_count),
+          elapsed_time         = VALUES(elapsed_time),
+          max_continuous_day   = VALUES(max_continuous_day),
+          correct_rate         = VALUES(correct_rate),
+          participation_count  = VALUES(participation_count),
+          current_streak       = VALUES(current_streak),
+          last_participated_on = VALUES(last_participated_on),
+          modified_at          = NOW()
+        """;
+    private static final String RESET_STREAK_SQL = """
+        UPDATE competition_summary
+        SET current_streak = 0,
+            modified_at    = NOW()
+        WHERE type = ?
+          AND period_start = ?
+          AND period_end   = ?
+          AND current_streak > 0
+          AND (last_participated_on IS NULL OR last_participated_on < ?)
+        """;
+    // 동점은 먼저 가입한(회원 ID 가 작은) 순으로 고정해 재집계 시에도 순위가 흔들리지 않게 한다.
+    private static final String RERANK_SQL = """
+        UPDATE competition_summary cs
+        JOIN (
+            SELECT id,
+                   ROW_NUMBER() OVER (
+                       ORDER BY solved_count DESC, elapsed_time ASC, member_id ASC
+                   ) AS new_rank
+            FROM competition_summary
+            WHERE type = ?
+              AND period_start = ?
+              AND period_end   = ?
+        ) ranked ON cs.id = ranked.id
+        SET cs.ranking = ranked.new_rank
+        WHERE cs.ranking <> ranked.new_rank
         """;
 
     private final JdbcTemplate jdbcTemplate;
@@ -66,6 +112,10 @@ public class CompetitionSummaryJdbcRepositoryImpl implements
                     ps.setString(7, cs.getType().name());
                     ps.setDate(8, java.sql.Date.valueOf(cs.getPeriodStart()));
                     ps.setDate(9, java.sql.Date.valueOf(cs.getPeriodEnd()));
+                    ps.setInt(10, cs.getParticipationCount());
+                    ps.setInt(11, cs.getCurrentStreak());
+                    ps.setDate(12, cs.getLastParticipatedOn() == null
+                        ? null : java.sql.Date.valueOf(cs.getLastParticipatedOn()));
                 }
 
                 @Override
@@ -102,6 +152,10 @@ public class CompetitionSummaryJdbcRepositoryImpl implements
                     ps.setString(7, cs.getType().name());
                     ps.setDate(8, java.sql.Date.valueOf(cs.getPeriodStart()));
                     ps.setDate(9, java.sql.Date.valueOf(cs.getPeriodEnd()));
+                    ps.setInt(10, cs.getParticipationCount());
+                    ps.setInt(11, cs.getCurrentStreak());
+                    ps.setDate(12, cs.getLastParticipatedOn() == null
+                        ? null : java.sql.Date.valueOf(cs.getLastParticipatedOn()));
                 }
 
                 @Override
@@ -111,4 +165,53 @@ public class CompetitionSummaryJdbcRepositoryImpl implements
             });
         }
     }
+
+    @Override
+    @Transactional
+    public void upsertPeriodStates(
+        SummaryType type, SummaryPeriod period, List<PeriodSummaryState> states
+    ) {
+        for (int from = 0; from < states.size(); from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, states.size());
+            List<PeriodSummaryState> sub = states.subList(from, to);
+
+            jdbcTemplate.batchUpdate(UPSERT_STATE_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(java.sql.PreparedStatement ps, int i)
+                    throws java.sql.SQLException {
+
+                    PeriodSummaryState state = sub.get(i);
+                    ps.setLong(1, state.memberId());
+                    ps.setShort(2, state.solvedSum());
+                    ps.setLong(3, state.timeSum());
+                    ps.setInt(4, state.maxStreak());
+                    ps.setDouble(5, state.correctRate());
+                    ps.setString(6, type.name());
+                    ps.setDate(7, java.sql.Date.valueOf(period.startAt()));
+                    ps.setDate(8, java.sql.Date.valueOf(period.endAt()));
+                    ps.setInt(9, state.participationCount());
+                    ps.setInt(10, state.currentStreak());
+                    ps.setDate(11, java.sql.Date.valueOf(state.lastParticipatedOn()));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return sub.size();
+                }
+            });
+        }
+    }
+
+    @Override
+    @Transactional
+    public int resetBrokenStreaks(SummaryType type, SummaryPeriod period, LocalDate day) {
+        return jdbcTemplate.update(RESET_STREAK_SQL,
+            type.name(), period.startAt(), period.endAt(), day);
+    }
+
+    @Override
+    @Transactional
+    public int rerankPeriod(SummaryType type, SummaryPeriod period) {
+        return jdbcTemplate.update(RERANK_SQL, type.name(), period.startAt(), period.endAt());
+    }
 }
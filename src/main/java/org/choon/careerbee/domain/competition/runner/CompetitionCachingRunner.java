@@ -4,7 +4,9 @@ import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionIdResp;
+import org.choon.careerbee.domain.competition.service.grading.CompetitionAnswerKeyCache;
 import org.choon.careerbee.domain.competition.service.query.CompetitionQueryService;
+import org.choon.careerbee.domain.competition.service.snapshot.CompetitionProblemSnapshot;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -14,6 +16,8 @@ import org.springframework.stereotype.Component;
 public class CompetitionCachingRunner {
 
     private final CompetitionQueryService queryService;
+    private final CompetitionProblemSnapshot problemSnapshot;
+    private final CompetitionAnswerKeyCache answerKeyCache;
 
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
     public void competitionIdCacheWarmUpJob() {
@@ -25,8 +29,19 @@ public class CompetitionCachingRunner {
     @Scheduled(cron = "0 58 12 * * *", zone = "Asia/Seoul")
     public void competitionProblemCacheWarmUpJob() {
         CompetitionIdResp competitionIdResp = queryService.fetchCompetitionIdBy(LocalDate.now());
+        if (competitionIdResp == null) {
+            log.info("오늘 대회가 없어 문제 스냅샷 웜업을 건너뜁니다.");
+            return;
+        }
+
         log.info("오늘 대회 문제 캐시 웜업 시작 : {}", competitionIdResp);
-        queryService.fetchProblems(competitionIdResp.competitionId());
+        problemSnapshot.warmUp(competitionIdResp.competitionId());
+        answerKeyCache.warmUp(competitionIdResp.competitionId());
         log.info("오늘 대회 문제 캐시 웜업 완료 : {}", competitionIdResp);
     }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void competitionAnswerKeyEvictJob() {
+        answerKeyCache.evictEnded();
+    }
 }
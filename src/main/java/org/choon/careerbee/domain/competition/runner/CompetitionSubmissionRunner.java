@@ -0,0 +1,105 @@
+package org.choon.careerbee.domain.competition.runner;
+
+import io.sentry.Sentry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.competition.service.submission.CompetitionResultWriter;
+import org.choon.careerbee.domain.competition.service.submission.CompetitionSubmissionQueue;
+import org.choon.careerbee.domain.competition.service.submission.CompetitionSubmissionQueue.QueuedSubmission;
+import org.choon.careerbee.util.lock.DistributedLockExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대회 제출 큐를 비워 DB 에 저장한다.
+ * <p>
+ * 각 노드는 자기 로컬 큐를 짧은 주기로 묶어 저장하고, 분산 락을 잡은 한 노드가 스트림에 오래 남은 항목을 다시 저장한다. 묶음
+ * 저장이 실패하면 한 건씩 나눠 저장해, 문제가 있는 항목 하나가 묶음 전체를 막지 않게 한다. 실패한 항목은 스트림에 남아 다음
+ * 복구 주기에 다시 시도된다.
+ * <p>
+ * 한 번의 flush 는 최대 {@link #MAX_BATCHES_PER_FLUSH} 묶음까지만 저장하고 스케줄러 스레드를 돌려준다. 남은 항목은 다음 주기에
+ * 이어서 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompetitionSubmissionRunner {
+
+    private static final String RECOVERY_LOCK_KEY = "lock:competition:submission:recovery";
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_BATCHES_PER_FLUSH = 10;
+    private static final int RECOVERY_LIMIT = 1000;
+    private static final Duration RECOVERY_AGE = Duration.ofSeconds(30);
+
+    private final CompetitionSubmissionQueue submissionQueue;
+    private final CompetitionResultWriter resultWriter;
+    private final DistributedLockExecutor lockExecutor;
+
+    @Scheduled(fixedDelay = 200)
+    public void flush() {
+        flush(MAX_BATCHES_PER_FLUSH);
+    }
+
+    @Scheduled(fixedDelay = 30_000)
+    public void recover() {
+        try {
+            lockExecutor.execute(RECOVERY_LOCK_KEY, 0L, 300L, TimeUnit.SECONDS, this::recoverStale);
+        } catch (CustomException e) {
+            log.error("[CompetitionSubmission] 제출 복구 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("[CompetitionSubmission] 종료 전 제출 큐 저장 - {}건", submissionQueue.pendingSize());
+        flush(Integer.MAX_VALUE);
+    }
+
+    private void flush(int maxBatches) {
+        for (int flushed = 0; flushed < maxBatches; flushed++) {
+            List<QueuedSubmission> batch = submissionQueue.drain(BATCH_SIZE);
+            if (batch.isEmpty()) {
+                return;
+            }
+            persist(batch);
+        }
+    }
+
+    private void recoverStale() {
+        List<QueuedSubmission> stale = submissionQueue.fetchStale(RECOVERY_AGE, RECOVERY_LIMIT);
+        if (stale.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < stale.size(); from += BATCH_SIZE) {
+            persist(stale.subList(from, Math.min(from + BATCH_SIZE, stale.size())));
+        }
+        log.info("[CompetitionSubmission] 스트림에 남은 제출 {}건 복구", stale.size());
+    }
+
+    private void persist(List<QueuedSubmission> batch) {
+        try {
+            resultWriter.write(batch.stream().map(QueuedSubmission::submission).toList());
+            submissionQueue.ack(batch.stream().map(QueuedSubmission::messageId).toList());
+        } catch (RuntimeException e) {
+            log.warn("[CompetitionSubmission] 묶음 저장 실패, 한 건씩 다시 저장 - {}건", batch.size(), e);
+            batch.forEach(this::persistOne);
+        }
+    }
+
+    private void persistOne(QueuedSubmission queued) {
+        try {
+            resultWriter.write(List.of(queued.submission()));
+            submissionQueue.ack(List.of(queued.messageId()));
+        } catch (RuntimeException e) {
+            log.error("[CompetitionSubmission] 제출 저장 실패 - id: {}, submission: {}",
+                queued.messageId(), queued.submission(), e);
+            Sentry.captureException(e);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package org.choon.careerbee.domain.competition.service.command;
 
-import static org.choon.careerbee.domain.competition.dto.request.CompetitionResultSubmitReq.SubmitInfo;
-
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.sentry.Sentry;
 import java.time.Clock;
@@ -9,45 +7,37 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.choon.careerbee.common.enums.CustomResponseStatus;
 import org.choon.careerbee.common.exception.CustomException;
 import org.choon.careerbee.domain.competition.domain.Competition;
 import org.choon.careerbee.domain.competition.domain.CompetitionParticipant;
-import org.choon.careerbee.domain.competition.domain.CompetitionResult;
 import org.choon.careerbee.domain.competition.domain.enums.SummaryType;
-import org.choon.careerbee.domain.competition.dto.event.PointEvent;
+import org.choon.careerbee.domain.competition.dto.internal.CompetitionAnswerKey;
+import org.choon.careerbee.domain.competition.dto.internal.CompetitionSubmission;
 import org.choon.careerbee.domain.competition.dto.internal.GradingResult;
-import org.choon.careerbee.domain.competition.dto.internal.ProblemAnswerInfo;
-import org.choon.careerbee.domain.competition.dto.internal.SubmissionContext;
 import org.choon.careerbee.domain.competition.dto.request.CompetitionResultSubmitReq;
 import org.choon.careerbee.domain.competition.dto.request.SummaryPeriod;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionGradingResp;
-import org.choon.careerbee.domain.competition.dto.response.CompetitionGradingResp.CompetitionGradingInfo;
 import org.choon.careerbee.domain.competition.repository.CompetitionParticipantRepository;
-import org.choon.careerbee.domain.competition.repository.CompetitionProblemRepository;
 import org.choon.careerbee.domain.competition.repository.CompetitionRepository;
-import org.choon.careerbee.domain.competition.repository.CompetitionResultRepository;
 import org.choon.careerbee.domain.competition.repository.CompetitionSummaryRepository;
+import org.choon.careerbee.domain.competition.service.grading.CompetitionAnswerKeyCache;
+import org.choon.careerbee.domain.competition.service.grading.CompetitionSubmissionGuard;
+import org.choon.careerbee.domain.competition.service.submission.CompetitionSubmissionQueue;
 import org.choon.careerbee.domain.member.entity.Member;
 import org.choon.careerbee.domain.member.service.MemberQueryService;
-import org.choon.careerbee.domain.notification.entity.enums.NotificationType;
 import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
 import org.redisson.codec.TypedJsonJacksonCodec;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.TransientDataAccessException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
@@ -56,16 +46,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class CompetitionCommandServiceImpl implements CompetitionCommandService {
 
-    private static final Integer PARTICIPATION_POINT = 15;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final CompetitionRepository competitionRepository;
     private final CompetitionParticipantRepository competitionParticipantRepository;
-    private final CompetitionResultRepository competitionResultRepository;
     private final CompetitionSummaryRepository summaryRepository;
     private final MemberQueryService memberQueryService;
-    private final ApplicationEventPublisher eventPublisher;
-    private final CompetitionProblemRepository competitionProblemRepository;
+    private final CompetitionAnswerKeyCache answerKeyCache;
+    private final CompetitionSubmissionGuard submissionGuard;
+    private final CompetitionSubmissionQueue submissionQueue;
     private final RedissonClient redissonClient;
     private final Clock clock;
 
@@ -98,77 +87,35 @@ public class CompetitionCommandServiceImpl implements CompetitionCommandService
             secondsUntilMidnight);
     }
 
+    /**
+     * 채점까지만 요청 안에서 끝내고, 결과·포인트·알림 저장은 제출 큐에 맡긴다. 큐 기록에 실패하면 선점한 키를 풀어 다시 제출할 수 있게
+     * 한다.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CompetitionGradingResp submitCompetitionResult(
         Long competitionId,
         CompetitionResultSubmitReq req,
         Long memberId
     ) {
-        SubmissionContext context = validateSubmission(competitionId, memberId);
-        GradingResult grading = gradeAnswers(competitionId, req);
-        persistAndNotify(context, grading, req.elapsedTime());
-
-        return new CompetitionGradingResp(grading.gradingInfos());
-    }
-
-    private SubmissionContext validateSubmission(Long competitionId, Long memberId) {
-        Competition competition = competitionRepository.findById(competitionId)
-            .orElseThrow(() -> new CustomException(CustomResponseStatus.COMPETITION_NOT_EXIST));
-
-        Member member = memberQueryService.findById(memberId);
-
-        if (competitionResultRepository.existsByMemberIdAndCompetitionId(memberId, competitionId)) {
-            throw new CustomException(CustomResponseStatus.RESULT_ALREADY_SUBMIT);
-        }
-
-        return new SubmissionContext(competition, member);
-    }
-
-    private GradingResult gradeAnswers(Long competitionId, CompetitionResultSubmitReq req) {
-        Map<Long, ProblemAnswerInfo> answerMap =
-            competitionProblemRepository.getProblemAnswerInfoByCompetitionId(competitionId)
-                .stream()
-                .collect(Collectors.toMap(ProblemAnswerInfo::problemId, Function.identity()));
-
-        List<CompetitionGradingInfo> gradingInfos = new ArrayList<>();
-        short correctCount = 0;
-
-        for (SubmitInfo submit : req.submittedAnswers()) {
-            ProblemAnswerInfo answer = answerMap.get(submit.problemId());
-            boolean isCorrect = answer != null && answer.answer() == submit.userChoice();
-
-            if (isCorrect) {
-                correctCount++;
-            }
-
-            gradingInfos.add(new CompetitionGradingInfo(
-                submit.problemId(),
-                answer.answer(),
-                isCorrect,
-                answer != null ? answer.solution() : null
-            ));
-        }
-
-        return new GradingResult(gradingInfos, correctCount);
-    }
-
-    private void persistAndNotify(
-        SubmissionContext context, GradingResult grading, int elapsedTime
-    ) {
-        context.member().plusPoint(PARTICIPATION_POINT);
-
-        competitionResultRepository.save(
-            CompetitionResult.of(
-                context.competition(),
-                context.member(),
+        CompetitionAnswerKey answerKey = answerKeyCache.get(competitionId);
+        submissionGuard.acquire(competitionId, memberId, answerKey.endsAt());
+
+        try {
+            GradingResult grading = GradingResult.grade(answerKey, req.submittedAnswers());
+            submissionQueue.enqueue(new CompetitionSubmission(
+                competitionId,
+                memberId,
                 grading.correctCount(),
-                elapsedTime
-            )
-        );
+                req.elapsedTime(),
+                answerKey.endsAt().toLocalDate()
+            ));
 
-        eventPublisher.publishEvent(
-            new PointEvent(context.member(), PARTICIPATION_POINT, NotificationType.POINT, false)
-        );
+            return new CompetitionGradingResp(grading.gradingInfos());
+        } catch (RuntimeException e) {
+            submissionGuard.release(competitionId, memberId);
+            throw e;
+        }
     }
 
     @Retryable(
@@ -0,0 +1,75 @@
+package org.choon.careerbee.domain.competition.service.grading;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.competition.domain.Competition;
+import org.choon.careerbee.domain.competition.dto.internal.CompetitionAnswerKey;
+import org.choon.careerbee.domain.competition.repository.CompetitionProblemRepository;
+import org.choon.careerbee.domain.competition.repository.CompetitionRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 중인 대회의 정답표를 노드 메모리에 보관한다.
+ * <p>
+ * 대회가 열리기 전에 {@link #warmUp(Long)} 으로 적재하고, 끝난 대회는 {@link #evictEnded()} 로 비운다. 적재 전에 들어온
+ * 제출은 처음 한 번만 DB 에서 읽어 채운다. 정답표가 있다는 것은 대회가 존재한다는 뜻이므로 제출 시 대회를 따로 조회하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompetitionAnswerKeyCache {
+
+    private final CompetitionRepository competitionRepository;
+    private final CompetitionProblemRepository competitionProblemRepository;
+    private final Clock clock;
+
+    private final Map<Long, CompetitionAnswerKey> answerKeys = new ConcurrentHashMap<>();
+
+    public CompetitionAnswerKey get(Long competitionId) {
+        CompetitionAnswerKey answerKey = answerKeys.get(competitionId);
+        if (answerKey != null) {
+            return answerKey;
+        }
+
+        // 같은 대회의 동시 제출이 몰려도 DB 조회는 한 번만 일어난다.
+        return answerKeys.computeIfAbsent(competitionId, this::load);
+    }
+
+    public CompetitionAnswerKey warmUp(Long competitionId) {
+        CompetitionAnswerKey answerKey = load(competitionId);
+        answerKeys.put(competitionId, answerKey);
+
+        log.info("[CompetitionAnswerKey] 정답표 적재 - 대회 ID: {}, 문제 수: {}",
+            competitionId, answerKey.size());
+        return answerKey;
+    }
+
+    public int evictEnded() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int before = answerKeys.size();
+        answerKeys.values().removeIf(answerKey -> answerKey.hasEnded(now));
+
+        int evicted = before - answerKeys.size();
+        if (evicted > 0) {
+            log.info("[CompetitionAnswerKey] 종료된 대회 정답표 {}건 제거", evicted);
+        }
+        return evicted;
+    }
+
+    private CompetitionAnswerKey load(Long competitionId) {
+        Competition competition = competitionRepository.findById(competitionId)
+            .orElseThrow(() -> new CustomException(CustomResponseStatus.COMPETITION_NOT_EXIST));
+
+        return CompetitionAnswerKey.of(
+            competitionId,
+            competition.getEndDateTime(),
+            competitionProblemRepository.getProblemAnswerInfoByCompetitionId(competitionId)
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package org.choon.careerbee.domain.competition.service.grading;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.common.transaction.TransactionCallbacks;
+import org.choon.careerbee.util.redis.RedisKeyFactory;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대회 결과의 중복 제출을 Redis SETNX 로 막는다.
+ * <p>
+ * (대회, 회원) 키를 먼저 선점한 요청만 채점과 저장으로 넘어간다. 저장 트랜잭션이 롤백되거나 제출 큐 기록에 실패하면 키를 지워
+ * 다시 제출할 수 있게 한다.
+ * 키는 대회 종료 후 하루 동안 남기며, 그 이후의 중복은 competition_result 의 (member_id, competition_id) 유니크 제약이 막는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompetitionSubmissionGuard {
+
+    private static final Duration RETENTION_AFTER_END = Duration.ofDays(1);
+
+    private final RedissonClient redissonClient;
+    private final Clock clock;
+
+    public void acquire(Long competitionId, Long memberId, LocalDateTime endsAt) {
+        RBucket<String> guard = redissonClient.getBucket(
+            RedisKeyFactory.competitionSubmissionKey(competitionId, memberId),
+            StringCodec.INSTANCE
+        );
+
+        if (!guard.setIfAbsent("1", ttlUntil(endsAt))) {
+            throw new CustomException(CustomResponseStatus.RESULT_ALREADY_SUBMIT);
+        }
+
+        TransactionCallbacks.afterRollback(guard::delete);
+    }
+
+    public void release(Long competitionId, Long memberId) {
+        redissonClient.getBucket(
+            RedisKeyFactory.competitionSubmissionKey(competitionId, memberId),
+            StringCodec.INSTANCE
+        ).delete();
+    }
+
+    private Duration ttlUntil(LocalDateTime endsAt) {
+        Duration untilEnd = Duration.between(LocalDateTime.now(clock), endsAt);
+        return (untilEnd.isNegative() ? Duration.ZERO : untilEnd).plus(RETENTION_AFTER_END);
+    }
+}
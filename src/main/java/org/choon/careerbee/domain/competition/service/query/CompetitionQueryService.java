@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionIdResp;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionParticipationResp;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionProblemResp;
+import org.choon.careerbee.domain.competition.dto.response.CompetitionProblemSnapshotResp;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionRankingResp;
 import org.choon.careerbee.domain.competition.dto.response.LiveRankingResp;
 import org.choon.careerbee.domain.competition.dto.response.MemberLiveRankingResp;
@@ -17,6 +18,8 @@ public interface CompetitionQueryService {
 
     CompetitionProblemResp fetchProblems(Long competitionId);
 
+    CompetitionProblemSnapshotResp fetchProblemSnapshot(Long competitionId);
+
     CompetitionRankingResp fetchRankings(LocalDate today);
 
     CompetitionIdResp fetchCompetitionIdBy(LocalDate today);
@@ -10,6 +10,7 @@ import org.choon.careerbee.common.exception.CustomException;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionIdResp;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionParticipationResp;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionProblemResp;
+import org.choon.careerbee.domain.competition.dto.response.CompetitionProblemSnapshotResp;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionRankingResp;
 import org.choon.careerbee.domain.competition.dto.response.LiveRankingResp;
 import org.choon.careerbee.domain.competition.dto.response.MemberLiveRankingResp;
@@ -18,6 +19,8 @@ import org.choon.careerbee.domain.competition.repository.CompetitionParticipantR
 import org.choon.careerbee.domain.competition.repository.CompetitionRepository;
 import org.choon.careerbee.domain.competition.repository.CompetitionResultRepository;
 import org.choon.careerbee.domain.competition.repository.CompetitionSummaryRepository;
+import org.choon.careerbee.domain.competition.service.ranking.CompetitionLiveLeaderboard;
+import org.choon.careerbee.domain.competition.service.snapshot.CompetitionProblemSnapshot;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 
@@ -32,6 +35,8 @@ public class CompetitionQueryServiceImpl implements CompetitionQueryService {
     private final CompetitionParticipantRepository competitionParticipantRepository;
     private final CompetitionSummaryRepository competitionSummaryRepository;
     private final CompetitionResultRepository competitionResultRepository;
+    private final CompetitionLiveLeaderboard liveLeaderboard;
+    private final CompetitionProblemSnapshot problemSnapshot;
 
     private final RedissonClient redissonClient;
     private final Clock clock;
@@ -51,7 +56,6 @@ public class CompetitionQueryServiceImpl implements CompetitionQueryService {
     }
 
     @Override
-//    @Cacheable(cacheNames = "competitionProblem", key = "#competitionId", unless = "#result == null")
     public CompetitionProblemResp fetchProblems(Long competitionId) {
         if (!competitionRepository.existsById(competitionId)) {
             throw new CustomException(CustomResponseStatus.COMPETITION_NOT_EXIST);
@@ -60,6 +64,11 @@ public class CompetitionQueryServiceImpl implements CompetitionQueryService {
         return competitionRepository.fetchCompetitionProblemsByCompetitionId(competitionId);
     }
 
+    @Override
+    public CompetitionProblemSnapshotResp fetchProblemSnapshot(Long competitionId) {
+        return problemSnapshot.get(competitionId);
+    }
+
     @Override
 //    @Cacheable(
 //        cacheNames = "competitionRank",
@@ -87,6 +96,10 @@ public class CompetitionQueryServiceImpl implements CompetitionQueryService {
     public MemberLiveRankingResp fetchMemberLiveRanking(
         Long accessMemberId, LocalDate today
     ) {
+        if (liveLeaderboard.isServing(today)) {
+            return liveLeaderboard.fetchMemberRanking(accessMemberId, today);
+        }
+
         return competitionResultRepository.fetchMemberLiveRankingByDate(
             accessMemberId, today
         ).orElse(null);
@@ -94,6 +107,10 @@ public class CompetitionQueryServiceImpl implements CompetitionQueryService {
 
     @Override
     public LiveRankingResp fetchLiveRanking(LocalDate today) {
+        if (liveLeaderboard.isServing(today)) {
+            return liveLeaderboard.fetchTop(today);
+        }
+
         return competitionResultRepository.fetchLiveRankingByDate(today);
     }
 
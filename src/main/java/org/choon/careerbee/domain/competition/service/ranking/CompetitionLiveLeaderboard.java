@@ -0,0 +1,223 @@
+package org.choon.careerbee.domain.competition.service.ranking;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.competition.dto.event.CompetitionResultSubmitted;
+import org.choon.careerbee.domain.competition.dto.response.DailyResultSummaryResp;
+import org.choon.careerbee.domain.competition.dto.response.LiveRankingResp;
+import org.choon.careerbee.domain.competition.dto.response.LiveRankingResp.RankerInfo;
+import org.choon.careerbee.domain.competition.dto.response.MemberLiveRankingResp;
+import org.choon.careerbee.domain.competition.repository.CompetitionResultRepository;
+import org.choon.careerbee.domain.member.entity.Member;
+import org.choon.careerbee.domain.member.repository.MemberRepository;
+import org.choon.careerbee.util.lock.DistributedLockExecutor;
+import org.choon.careerbee.util.redis.RedisKeyFactory;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchOptions.ExecutionMode;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScoredSortedSetAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 오늘 대회의 실시간 랭킹을 Redis ZSET 으로 유지한다.
+ * <p>
+ * 점수는 {@code solvedCount * 2^32 - elapsedTime} 으로, 내림차순 정렬 시 맞힌 개수 내림차순 → 소요 시간 오름차순이
+ * 된다. ZSET 이 완전하다는 보장은 적재 완료 마커로 표시하며, 마커가 없으면(콜드 스타트·Redis 유실) DB 에서 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompetitionLiveLeaderboard {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final double SCORE_BASE = 4_294_967_296d; // 2^32 > Integer.MAX_VALUE
+    private static final Duration KEY_TTL = Duration.ofDays(2);
+    private static final int TOP_SIZE = 10;
+
+    private final RedissonClient redissonClient;
+    private final CompetitionResultRepository competitionResultRepository;
+    private final MemberRepository memberRepository;
+    private final DistributedLockExecutor lockExecutor;
+    private final Clock clock;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(CompetitionResultSubmitted event) {
+        // 적재가 안 된 상태라면 다음 조회 시 DB 에서 다시 적재되므로 여기서는 건너뛴다.
+        if (!ensureLoaded(event.day())) {
+            return;
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        RScoredSortedSetAsync<String> leaderboard = batch.getScoredSortedSet(
+            RedisKeyFactory.liveRankingKey(format(event.day())), StringCodec.INSTANCE
+        );
+        leaderboard.addAsync(
+            score(event.solvedCount(), event.elapsedTime()),
+            String.valueOf(event.memberId())
+        );
+        leaderboard.expireAsync(KEY_TTL);
+        batch.execute();
+    }
+
+    /**
+     * 해당 날짜의 랭킹을 ZSET 으로 응답할 수 있는지 확인한다. 실시간 랭킹은 오늘 날짜만 유지한다.
+     */
+    public boolean isServing(LocalDate date) {
+        return date.equals(LocalDate.now(clock)) && ensureLoaded(date);
+    }
+
+    public LiveRankingResp fetchTop(LocalDate date) {
+        Collection<ScoredEntry<String>> entries =
+            leaderboardOf(date).entryRangeReversed(0, TOP_SIZE - 1);
+
+        List<Long> memberIds = entries.stream()
+            .map(entry -> Long.valueOf(entry.getValue()))
+            .toList();
+        Map<Long, Member> members = memberRepository.findAllById(memberIds).stream()
+            .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        List<RankerInfo> rankerInfos = new ArrayList<>();
+        long rank = 1L;
+        for (ScoredEntry<String> entry : entries) {
+            Member member = members.get(Long.valueOf(entry.getValue()));
+            double score = entry.getScore();
+            rankerInfos.add(new RankerInfo(
+                rank++,
+                member != null ? member.getNickname() : null,
+                member != null ? member.getImgUrl() : null,
+                elapsedTimeOf(score),
+                solvedCountOf(score)
+            ));
+        }
+
+        return new LiveRankingResp(rankerInfos);
+    }
+
+    public MemberLiveRankingResp fetchMemberRanking(Long memberId, LocalDate date) {
+        // 순위와 점수를 한 번의 왕복으로 조회한다.
+        RBatch batch = redissonClient.createBatch();
+        RScoredSortedSetAsync<String> leaderboard = batch.getScoredSortedSet(
+            RedisKeyFactory.liveRankingKey(format(date)), StringCodec.INSTANCE
+        );
+        String member = String.valueOf(memberId);
+        RFuture<Integer> rankFuture = leaderboard.revRankAsync(member);
+        RFuture<Double> scoreFuture = leaderboard.getScoreAsync(member);
+        batch.execute();
+
+        Integer rank = rankFuture.toCompletableFuture().join();
+        Double score = scoreFuture.toCompletableFuture().join();
+        if (rank == null || score == null) {
+            return null;
+        }
+
+        return new MemberLiveRankingResp(
+            rank + 1L,
+            elapsedTimeOf(score),
+            solvedCountOf(score)
+        );
+    }
+
+    /**
+     * DB 의 해당 날짜 제출 결과로 ZSET 을 통째로 다시 만든다. 삭제·적재·마커 기록은 MULTI/EXEC 로 한 번에 반영한다.
+     */
+    public void rebuild(LocalDate date) {
+        List<DailyResultSummaryResp> results =
+            competitionResultRepository.fetchResultSummaryOfDaily(date);
+
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (DailyResultSummaryResp result : results) {
+            scores.put(
+                String.valueOf(result.memberId()),
+                score(result.solvedSum(), result.timeSum())
+            );
+        }
+
+        String dateKey = format(date);
+        RBatch batch = redissonClient.createBatch(
+            BatchOptions.defaults().executionMode(ExecutionMode.IN_MEMORY_ATOMIC)
+        );
+        RScoredSortedSetAsync<String> leaderboard = batch.getScoredSortedSet(
+            RedisKeyFactory.liveRankingKey(dateKey), StringCodec.INSTANCE
+        );
+        leaderboard.deleteAsync();
+        if (!scores.isEmpty()) {
+            leaderboard.addAllAsync(scores);
+            leaderboard.expireAsync(KEY_TTL);
+        }
+        batch.getBucket(RedisKeyFactory.liveRankingLoadedKey(dateKey), StringCodec.INSTANCE)
+            .setAsync("1", KEY_TTL);
+        batch.execute();
+
+        log.info("[LiveLeaderboard] {} 실시간 랭킹 {}건 적재 완료", dateKey, scores.size());
+    }
+
+    private boolean ensureLoaded(LocalDate date) {
+        String dateKey = format(date);
+        if (isLoaded(dateKey)) {
+            return true;
+        }
+
+        try {
+            Boolean loaded = lockExecutor.execute(
+                "lock:competition:live:" + dateKey, 3, 30, TimeUnit.SECONDS, () -> {
+                    if (!isLoaded(dateKey)) {
+                        rebuild(date);
+                    }
+                    return true;
+                }
+            );
+            return Boolean.TRUE.equals(loaded);
+        } catch (CustomException e) {
+            log.warn("[LiveLeaderboard] {} 실시간 랭킹 적재 실패, DB 조회로 대체합니다.", dateKey, e);
+            return false;
+        }
+    }
+
+    private boolean isLoaded(String dateKey) {
+        return redissonClient
+            .getBucket(RedisKeyFactory.liveRankingLoadedKey(dateKey), StringCodec.INSTANCE)
+            .isExists();
+    }
+
+    private RScoredSortedSet<String> leaderboardOf(LocalDate date) {
+        return redissonClient.getScoredSortedSet(
+            RedisKeyFactory.liveRankingKey(format(date)), StringCodec.INSTANCE
+        );
+    }
+
+    static double score(short solvedCount, int elapsedTime) {
+        return solvedCount * SCORE_BASE - elapsedTime;
+    }
+
+    static short solvedCountOf(double score) {
+        return (short) Math.ceil(score / SCORE_BASE);
+    }
+
+    static int elapsedTimeOf(double score) {
+        return (int) (solvedCountOf(score) * SCORE_BASE - score);
+    }
+
+    private String format(LocalDate date) {
+        return date.format(DATE_FORMATTER);
+    }
+}
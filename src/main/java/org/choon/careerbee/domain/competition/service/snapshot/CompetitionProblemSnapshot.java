@@ -0,0 +1,85 @@
+package org.choon.careerbee.domain.competition.service.snapshot;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.dto.CommonResponse;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.competition.dto.response.CompetitionProblemResp;
+import org.choon.careerbee.domain.competition.dto.response.CompetitionProblemSnapshotResp;
+import org.choon.careerbee.domain.competition.repository.CompetitionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 대회별 문제 응답을 직렬화된 바이트로 보관하는 스냅샷.
+ * <p>
+ * 대회 문제는 대회가 만들어진 뒤 바뀌지 않으므로 한 번 만든 스냅샷을 그대로 응답한다. 오늘 대회는 시작 전에
+ * {@link #warmUp(Long)} 으로 미리 만들어 두고, 그 밖의 대회는 처음 요청될 때 한 번만 DB 에서 읽어 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompetitionProblemSnapshot {
+
+    private static final String PROBLEM_SUCCESS_MESSAGE = "대회 문제 조회에 성공하였습니다.";
+
+    private final CompetitionRepository competitionRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, CompetitionProblemSnapshotResp> snapshots = new ConcurrentHashMap<>();
+
+    public CompetitionProblemSnapshotResp get(Long competitionId) {
+        CompetitionProblemSnapshotResp snapshot = snapshots.get(competitionId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        // 같은 대회의 동시 요청이 몰려도 DB 조회는 한 번만 일어난다.
+        return snapshots.computeIfAbsent(competitionId, this::build);
+    }
+
+    /**
+     * 오늘 대회의 스냅샷을 새로 만들고, 지난 대회의 스냅샷은 비운다.
+     */
+    public CompetitionProblemSnapshotResp warmUp(Long competitionId) {
+        CompetitionProblemSnapshotResp snapshot = build(competitionId);
+        snapshots.put(competitionId, snapshot);
+        snapshots.keySet().removeIf(id -> !id.equals(competitionId));
+
+        log.info("[CompetitionProblemSnapshot] 대회 문제 스냅샷 생성 - 대회 ID: {}, {} bytes",
+            competitionId, snapshot.body().length);
+        return snapshot;
+    }
+
+    private CompetitionProblemSnapshotResp build(Long competitionId) {
+        if (!competitionRepository.existsById(competitionId)) {
+            throw new CustomException(CustomResponseStatus.COMPETITION_NOT_EXIST);
+        }
+
+        CompetitionProblemResp problems =
+            competitionRepository.fetchCompetitionProblemsByCompetitionId(competitionId);
+        return serialize(problems);
+    }
+
+    private CompetitionProblemSnapshotResp serialize(CompetitionProblemResp problems) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(
+                CommonResponse.createSuccessWithMessage(
+                    problems,
+                    CustomResponseStatus.SUCCESS,
+                    PROBLEM_SUCCESS_MESSAGE
+                )
+            );
+            return new CompetitionProblemSnapshotResp(
+                body, "\"" + DigestUtils.md5DigestAsHex(body) + "\""
+            );
+        } catch (JsonProcessingException e) {
+            throw new CustomException(CustomResponseStatus.JSON_PARSING_ERROR);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.choon.careerbee.domain.competition.service.submission;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.choon.careerbee.domain.competition.dto.event.CompetitionResultSubmitted;
+import org.choon.careerbee.domain.competition.dto.event.PointEvent;
+import org.choon.careerbee.domain.competition.dto.internal.CompetitionSubmission;
+import org.choon.careerbee.domain.competition.repository.CompetitionResultRepository;
+import org.choon.careerbee.domain.member.entity.Member;
+import org.choon.careerbee.domain.member.repository.MemberRepository;
+import org.choon.careerbee.domain.notification.entity.enums.NotificationType;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 대회 제출 묶음을 한 트랜잭션으로 저장한다.
+ * <p>
+ * 결과는 multi-row INSERT 로, 참가 포인트는 지급액별 UPDATE 한 번으로 반영한다. 포인트 알림은 같은 트랜잭션의 outbox 에 기록되고,
+ * 실시간 순위는 커밋 이후에 갱신된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompetitionResultWriter {
+
+    public static final int PARTICIPATION_POINT = 15;
+
+    private final CompetitionResultRepository competitionResultRepository;
+    private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 이미 저장된 (대회, 회원) 은 건너뛰므로 같은 제출을 여러 번 넘겨도 한 번만 반영된다.
+     *
+     * @return 새로 저장한 제출 수
+     */
+    @Transactional
+    public int write(List<CompetitionSubmission> submissions) {
+        List<CompetitionSubmission> fresh = excludeWritten(submissions);
+        if (fresh.isEmpty()) {
+            return 0;
+        }
+
+        competitionResultRepository.batchInsert(fresh);
+        addParticipationPoints(fresh);
+
+        for (CompetitionSubmission submission : fresh) {
+            eventPublisher.publishEvent(new PointEvent(
+                Member.ofId(submission.memberId()), PARTICIPATION_POINT,
+                NotificationType.POINT, false
+            ));
+            eventPublisher.publishEvent(new CompetitionResultSubmitted(
+                submission.memberId(),
+                submission.day(),
+                submission.solvedCount(),
+                submission.elapsedTime()
+            ));
+        }
+        return fresh.size();
+    }
+
+    private List<CompetitionSubmission> excludeWritten(List<CompetitionSubmission> submissions) {
+        Map<Long, List<CompetitionSubmission>> byCompetition = submissions.stream()
+            .collect(Collectors.groupingBy(CompetitionSubmission::competitionId));
+
+        List<CompetitionSubmission> fresh = new ArrayList<>(submissions.size());
+        byCompetition.forEach((competitionId, group) -> {
+            Set<Long> seen = new HashSet<>(competitionResultRepository.findSubmittedMemberIds(
+                competitionId,
+                group.stream().map(CompetitionSubmission::memberId).distinct().toList()
+            ));
+            for (CompetitionSubmission submission : group) {
+                if (seen.add(submission.memberId())) {
+                    fresh.add(submission);
+                }
+            }
+        });
+        return fresh;
+    }
+
+    /**
+     * 한 묶음에 같은 회원이 여러 대회로 들어올 수 있으므로, 회원별 지급액을 모은 뒤 지급액이 같은 회원끼리 한 번에 더한다.
+     */
+    private void addParticipationPoints(List<CompetitionSubmission> submissions) {
+        Map<Long, Integer> pointsByMember = new HashMap<>();
+        submissions.forEach(submission ->
+            pointsByMember.merge(submission.memberId(), PARTICIPATION_POINT, Integer::sum));
+
+        pointsByMember.entrySet().stream()
+            .collect(Collectors.groupingBy(
+                Map.Entry::getValue,
+                Collectors.mapping(Map.Entry::getKey, Collectors.toList())
+            ))
+            .forEach((point, memberIds) -> memberRepository.addPoints(memberIds, point));
+    }
+}
@@ -0,0 +1,136 @@
+package org.choon.careerbee.domain.competition.service.submission;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.domain.competition.dto.internal.CompetitionSubmission;
+import org.choon.careerbee.util.redis.RedisKeyFactory;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채점을 마친 대회 제출을 저장 전까지 보관한다.
+ * <p>
+ * 제출은 먼저 Redis Stream 에 기록한 뒤 노드 로컬의 bounded 큐에 넣는다. 저장이 끝난 항목만 스트림에서 지우므로, 큐가 가득 차거나
+ * 노드가 내려가 로컬 큐가 사라져도 스트림에 남은 항목을 복구 주기에 다시 저장한다. 같은 항목이 두 번 저장될 수 있으므로 저장하는
+ * 쪽은 멱등이어야 한다.
+ */
+@Slf4j
+@Component
+public class CompetitionSubmissionQueue {
+
+    private static final String COMPETITION_ID = "competitionId";
+    private static final String MEMBER_ID = "memberId";
+    private static final String SOLVED_COUNT = "solvedCount";
+    private static final String ELAPSED_TIME = "elapsedTime";
+    private static final String DAY = "day";
+
+    private final RedissonClient redissonClient;
+    private final Clock clock;
+    private final BlockingQueue<QueuedSubmission> buffer;
+
+    public CompetitionSubmissionQueue(
+        RedissonClient redissonClient,
+        Clock clock,
+        @Value("${competition.submission.queue-capacity:10000}") int capacity
+    ) {
+        this.redissonClient = redissonClient;
+        this.clock = clock;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 스트림 기록에 실패하면 예외가 그대로 전파된다. 로컬 큐가 가득 찬 경우는 스트림에만 남기고 복구 주기에 맡긴다.
+     */
+    public void enqueue(CompetitionSubmission submission) {
+        StreamMessageId messageId = stream().add(StreamAddArgs.entries(toFields(submission)));
+
+        if (!buffer.offer(new QueuedSubmission(messageId, submission))) {
+            log.warn("[CompetitionSubmission] 제출 큐 포화로 복구 주기에 저장 - memberId: {}, id: {}",
+                submission.memberId(), messageId);
+        }
+    }
+
+    public List<QueuedSubmission> drain(int maxSize) {
+        List<QueuedSubmission> drained = new ArrayList<>(Math.min(maxSize, buffer.size()));
+        buffer.drainTo(drained, maxSize);
+        return drained;
+    }
+
+    /**
+     * 기록된 지 {@code age} 이상 지났는데 아직 스트림에 남아 있는 항목을 오래된 순으로 읽는다.
+     */
+    public List<QueuedSubmission> fetchStale(Duration age, int count) {
+        StreamMessageId cutoff = new StreamMessageId(clock.millis() - age.toMillis(), 0);
+        Map<StreamMessageId, Map<String, String>> entries =
+            stream().range(count, StreamMessageId.MIN, cutoff);
+
+        List<QueuedSubmission> stale = new ArrayList<>(entries.size());
+        entries.forEach((messageId, fields) -> {
+            try {
+                stale.add(new QueuedSubmission(messageId, fromFields(fields)));
+            } catch (RuntimeException e) {
+                log.error("[CompetitionSubmission] 읽을 수 없는 제출 항목 삭제 - id: {}, fields: {}",
+                    messageId, fields, e);
+                stream().remove(messageId);
+            }
+        });
+        return stale;
+    }
+
+    public void ack(Collection<StreamMessageId> messageIds) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        stream().remove(messageIds.toArray(StreamMessageId[]::new));
+    }
+
+    public int pendingSize() {
+        return buffer.size();
+    }
+
+    private RStream<String, String> stream() {
+        return redissonClient.getStream(
+            RedisKeyFactory.competitionSubmissionStreamKey(), StringCodec.INSTANCE
+        );
+    }
+
+    private static Map<String, String> toFields(CompetitionSubmission submission) {
+        return Map.of(
+            COMPETITION_ID, String.valueOf(submission.competitionId()),
+            MEMBER_ID, String.valueOf(submission.memberId()),
+            SOLVED_COUNT, String.valueOf(submission.solvedCount()),
+            ELAPSED_TIME, String.valueOf(submission.elapsedTime()),
+            DAY, submission.day().toString()
+        );
+    }
+
+    private static CompetitionSubmission fromFields(Map<String, String> fields) {
+        return new CompetitionSubmission(
+            Long.valueOf(fields.get(COMPETITION_ID)),
+            Long.valueOf(fields.get(MEMBER_ID)),
+            Short.parseShort(fields.get(SOLVED_COUNT)),
+            Integer.parseInt(fields.get(ELAPSED_TIME)),
+            LocalDate.parse(fields.get(DAY))
+        );
+    }
+
+    public record QueuedSubmission(
+        StreamMessageId messageId,
+        CompetitionSubmission submission
+    ) {
+
+    }
+}
@@ -4,7 +4,6 @@ import io.sentry.Sentry;
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -16,15 +15,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.choon.careerbee.domain.competition.domain.CompetitionSummary;
 import org.choon.careerbee.domain.competition.domain.enums.SummaryType;
 import org.choon.careerbee.domain.competition.dto.event.DailyWinnerCalculated;
+import org.choon.careerbee.domain.competition.dto.internal.PeriodSummaryState;
 import org.choon.careerbee.domain.competition.dto.request.SummaryPeriod;
-import org.choon.careerbee.domain.competition.dto.request.TempSummaryInfo;
 import org.choon.careerbee.domain.competition.dto.response.DailyResultSummaryResp;
-import org.choon.careerbee.domain.competition.dto.response.DateSummaryResp;
-import org.choon.careerbee.domain.competition.dto.response.ResultSummaryResp;
 import org.choon.careerbee.domain.competition.repository.CompetitionResultRepository;
 import org.choon.careerbee.domain.competition.repository.CompetitionSummaryRepository;
 import org.choon.careerbee.domain.member.entity.Member;
 import org.choon.careerbee.domain.member.service.MemberQueryService;
+import org.choon.careerbee.util.date.DateUtil;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.TransientDataAccessException;
 import org.springframework.retry.annotation.Backoff;
@@ -80,11 +78,7 @@ public class CompetitionSummaryServiceImpl implements CompetitionSummaryService
 
         // 일일 대회 1등 유저 알림 발송
         eventPublisher.publishEvent(
-            new DailyWinnerCalculated(
-                winnerNickRef.get(),
-                now,
-                memberQueryService.findAllMemberIds()
-            )
+            new DailyWinnerCalculated(winnerNickRef.get(), now)
         );
     }
 
@@ -99,118 +93,52 @@ public class CompetitionSummaryServiceImpl implements CompetitionSummaryService
         maxAttempts = 3,
         backoff = @Backoff(delay = 3000, multiplier = 2))
     @Override
-    public void weekAndMonthSummary(SummaryPeriod summaryPeriod, SummaryType summaryType) {
-        // 1. 기간 내의 대회 결과 데이터 조회
-        List<ResultSummaryResp> resultSummaryList = resultRepository
-            .fetchResultSummaryByPeriod(summaryPeriod);
-        if (resultSummaryList.isEmpty()) {
-            log.info("[주간, 월간 집계] 집계할 데이터가 존재하지 않습니다. 타입 : {}", summaryType);
+    public void weekAndMonthSummary(LocalDate day, SummaryType summaryType) {
+        SummaryPeriod summaryPeriod = DateUtil.getPeriod(day, summaryType);
+
+        // 1. 집계 당일의 대회 결과만 조회 (기간 전체를 다시 읽지 않는다)
+        List<DailyResultSummaryResp> dailyResults = resultRepository.fetchResultSummaryOfDaily(day);
+        if (dailyResults.isEmpty()) {
+            int streakReset = summaryRepository.resetBrokenStreaks(summaryType, summaryPeriod, day);
+            log.info("[주간, 월간 집계] 집계할 데이터가 존재하지 않습니다. 타입 : {}, 연속 참여 초기화 {}건",
+                summaryType, streakReset);
             return;
         }
 
-        // 2. 최대 연속 참여일 계산하기 위한 데이터 조회
-        // 2-1. 집계 기간동안 참여한 유저의 ID 조회
-        List<Long> summaryMemberIds = resultSummaryList.stream()
-            .map(ResultSummaryResp::memberId)
+        // 2. 당일 참여자의 기간 누적 상태 조회
+        List<Long> memberIds = dailyResults.stream()
+            .map(DailyResultSummaryResp::memberId)
             .toList();
-
-        // 2-2. 유저의 최대 연속 참여일을 계산하기 위한 데이터 조회
-        List<DateSummaryResp> dateSummaryResps = resultRepository.fetchDateSummaryIn(
-            summaryPeriod, summaryMemberIds
-        );
-
-        // 2-3. 각 유저당 최대 연속 참여일을 Map 형태로 저장
-        Map<Long, Integer> maxStreakMap = dateSummaryResps.stream()
-            .collect(Collectors.groupingBy(
-                DateSummaryResp::memberId,
-                Collectors.mapping(DateSummaryResp::createdDateOnly, Collectors.toList())))
-            .entrySet().stream()
-            .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                e -> calculateMaxStreak(e.getValue())));
-
-        // 2-4. 위의 데이터를 조합하여 임시 집계 데이터 생성
-        List<TempSummaryInfo> tempSummaryInfos = new ArrayList<>();
-        for (ResultSummaryResp resultSummaryResp : resultSummaryList) {
-            Long memberId = resultSummaryResp.memberId();
-
-            tempSummaryInfos.add(new TempSummaryInfo(
-                memberId,
-                resultSummaryResp.solvedSum(),
-                resultSummaryResp.timeSum(),
-                resultSummaryResp.correctRate(),
-                maxStreakMap.getOrDefault(memberId, 0)
-            ));
-        }
-
-        // 3. 기존에 존재하는 집계 데이터 조회
-        List<CompetitionSummary> existSummaries = summaryRepository.fetchSummaryByPeriodAndType(
-            summaryPeriod, summaryType);
-
-        // 4. Map으로 변환
-        Map<Long, CompetitionSummary> existSummaryMap = existSummaries.stream()
-            .collect(Collectors.toMap(
-                cs -> cs.getMember().getId(),
-                Function.identity()
-            ));
-
-        // 5. 새롭게 집계한 데이터로 기존 데이터 업데이트
-        // 만약 새로운 집계데이터라면 insert
-        List<CompetitionSummary> competitionSummaryToInsert = new ArrayList<>();
-        for (TempSummaryInfo tempSummaryInfo : tempSummaryInfos) {
-            CompetitionSummary competitionSummary = existSummaryMap.get(tempSummaryInfo.memberId());
-
-            if (competitionSummary == null) {
-                competitionSummaryToInsert.add(CompetitionSummary.of(
-                    Member.ofId(tempSummaryInfo.memberId()), tempSummaryInfo.solvedSum(),
-                    tempSummaryInfo.timeSum(), 0L,
-                    tempSummaryInfo.maxStreak(), tempSummaryInfo.correctRate(),
-                    summaryType, summaryPeriod.startAt(), summaryPeriod.endAt()
-                ));
+        Map<Long, PeriodSummaryState> stateMap = summaryRepository
+            .fetchPeriodStates(summaryPeriod, summaryType, memberIds).stream()
+            .collect(Collectors.toMap(PeriodSummaryState::memberId, Function.identity()));
+
+        // 3. 당일 결과를 누적 상태에 반영 (이미 반영된 날짜는 건너뛰어 재실행해도 중복 합산되지 않는다)
+        List<PeriodSummaryState> foldedStates = new ArrayList<>();
+        for (DailyResultSummaryResp result : dailyResults) {
+            PeriodSummaryState state = stateMap.getOrDefault(
+                result.memberId(), PeriodSummaryState.empty(result.memberId()));
+            if (state.hasFolded(day)) {
                 continue;
             }
-
-            competitionSummary.updateSummary(tempSummaryInfo);
+            foldedStates.add(state.fold(result, day));
         }
 
-        // 6. 랭킹 계산
-        // (1) 신규 + 기존 집계 합치기
-        List<CompetitionSummary> allSummaries = new ArrayList<>(existSummaryMap.values());
-        allSummaries.addAll(competitionSummaryToInsert);
-
-        // (2) 정렬
-        allSummaries.sort(Comparator
-            .comparingLong(CompetitionSummary::getSolvedCount).reversed()
-            .thenComparingLong(CompetitionSummary::getElapsedTime));
+        // 4. 변경된 상태를 bulk upsert 하고, 당일 참여하지 않은 회원의 연속 참여 일수를 끊은 뒤 기간 전체 순위를 DB 에서
+        //    다시 매긴다.
+        summaryRepository.upsertPeriodStates(summaryType, summaryPeriod, foldedStates);
+        int streakReset = summaryRepository.resetBrokenStreaks(summaryType, summaryPeriod, day);
+        int reranked = summaryRepository.rerankPeriod(summaryType, summaryPeriod);
 
-        // (3) 랭킹 부여
-        long rank = 1L;
-        for (CompetitionSummary cs : allSummaries) {
-            cs.updateRank(rank++);
-        }
-
-        summaryRepository.flush();
-        summaryRepository.batchInsert(competitionSummaryToInsert);
+        log.info("[주간, 월간 집계] {} {} 반영 {}건, 연속 참여 초기화 {}건, 순위 변경 {}건",
+            summaryType, summaryPeriod, foldedStates.size(), streakReset, reranked);
     }
 
     @Recover
     public void weekOrMonthSummaryRecover(
-        TransientDataAccessException ex, SummaryPeriod period, SummaryType type) {
-        log.error("[주간/월간 집계] {}({}) 재시도 후 실패", type, period, ex);
+        TransientDataAccessException ex, LocalDate day, SummaryType type) {
+        log.error("[주간/월간 집계] {}({}) 재시도 후 실패", type, day, ex);
 
         Sentry.captureException(ex);
     }
-
-    private int calculateMaxStreak(List<LocalDate> days) {
-        if (days.isEmpty()) {
-            return 0;
-        }
-        days.sort(null);
-        int max = 1, cur = 1;
-        for (int i = 1; i < days.size(); i++) {
-            cur = days.get(i).equals(days.get(i - 1).plusDays(1)) ? cur + 1 : 1;
-            max = Math.max(max, cur);
-        }
-        return max;
-    }
 }
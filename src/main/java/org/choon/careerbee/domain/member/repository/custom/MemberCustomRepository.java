@@ -1,6 +1,6 @@
 package org.choon.careerbee.domain.member.repository.custom;
 
-import java.util.List;
+import java.util.Collection;
 import java.util.Optional;
 import org.choon.careerbee.domain.auth.dto.internal.MemberAuthInfo;
 import org.choon.careerbee.domain.member.dto.response.MyInfoResp;
@@ -13,5 +13,15 @@ public interface MemberCustomRepository {
 
     Optional<String> getNicknameByMemberId(Long memberId);
 
-    List<Long> findAllMemberIds();
+    /**
+     * 회원들의 포인트를 한 번의 UPDATE 로 더한다. 영속성 컨텍스트를 거치지 않으므로 이미 불러온 엔티티에는 반영되지 않는다.
+     */
+    long addPoints(Collection<Long> memberIds, int point);
+
+    /**
+     * 포인트가 충분할 때만 차감한다. 조건과 차감을 한 문장으로 처리하므로 락 없이도 잔액이 음수가 되지 않는다.
+     *
+     * @return 차감했으면 true, 포인트가 부족하면 false
+     */
+    boolean deductPoints(Long memberId, int point);
 }
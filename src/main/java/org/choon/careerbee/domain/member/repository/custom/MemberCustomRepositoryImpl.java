@@ -2,11 +2,13 @@ package org.choon.careerbee.domain.member.repository.custom;
 
 import static com.querydsl.jpa.JPAExpressions.selectOne;
 import static org.choon.careerbee.domain.member.entity.QMember.member;
-import static org.choon.careerbee.domain.notification.entity.QNotification.notification;
+import static org.choon.careerbee.domain.notification.entity.QBroadcastNotification.broadcastNotification;
+import static org.choon.careerbee.domain.notification.entity.QBroadcastWatermark.broadcastWatermark;
 
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import java.util.List;
+import java.util.Collection;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.choon.careerbee.domain.auth.dto.internal.MemberAuthInfo;
@@ -39,12 +41,7 @@ public class MemberCustomRepositoryImpl implements MemberCustomRepository {
                 member.nickname,
                 member.email,
                 member.imgUrl,
-                selectOne()
-                    .from(notification)
-                    .where(
-                        notification.member.id.eq(memberId),
-                        notification.isRead.isFalse()
-                    ).exists(),
+                hasUnmergedBroadcast(memberId),
                 member.points
             ))
             .from(member)
@@ -64,10 +61,41 @@ public class MemberCustomRepositoryImpl implements MemberCustomRepository {
     }
 
     @Override
-    public List<Long> findAllMemberIds() {
+    public long addPoints(Collection<Long> memberIds, int point) {
+        if (memberIds.isEmpty()) {
+            return 0;
+        }
+
         return queryFactory
-            .select(member.id)
-            .from(member)
-            .fetch();
+            .update(member)
+            .set(member.points, member.points.add(point))
+            .where(member.id.in(memberIds))
+            .execute();
+    }
+
+    @Override
+    public boolean deductPoints(Long memberId, int point) {
+        return queryFactory
+            .update(member)
+            .set(member.points, member.points.subtract(point))
+            .where(member.id.eq(memberId), member.points.goe(point))
+            .execute() > 0;
+    }
+
+    /**
+     * 가입 이후 생성됐지만 아직 개인 알림으로 옮기지 않은 전체 알림이 있는지 확인한다.
+     */
+    private BooleanExpression hasUnmergedBroadcast(Long memberId) {
+        return selectOne()
+            .from(broadcastNotification)
+            .where(
+                broadcastNotification.createdAt.goe(member.createdAt),
+                selectOne()
+                    .from(broadcastWatermark)
+                    .where(
+                        broadcastWatermark.memberId.eq(memberId),
+                        broadcastWatermark.lastBroadcastId.goe(broadcastNotification.id)
+                    ).notExists()
+            ).exists();
     }
 }
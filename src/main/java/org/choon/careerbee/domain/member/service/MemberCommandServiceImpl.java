@@ -12,6 +12,7 @@ import org.choon.careerbee.common.pubsub.dto.AiErrorEvent;
 import org.choon.careerbee.common.pubsub.dto.ResumeExtractedEvent;
 import org.choon.careerbee.common.pubsub.enums.EventName;
 import org.choon.careerbee.domain.auth.service.oauth.OAuthInfoResponse;
+import org.choon.careerbee.domain.auth.service.version.MemberTokenVersion;
 import org.choon.careerbee.domain.image.dto.request.ExtractResumeReq;
 import org.choon.careerbee.domain.image.dto.response.GetPresignedUrlResp;
 import org.choon.careerbee.domain.image.service.ImageService;
@@ -48,6 +49,7 @@ public class MemberCommandServiceImpl implements MemberCommandService {
     private final ImageService imageService;
     private final AiApiClient aiApiClient;
     private final RedisPublisher redisPublisher;
+    private final MemberTokenVersion memberTokenVersion;
 
     @Override
     public Member forceJoin(OAuthInfoResponse oAuthInfo) {
@@ -98,6 +100,7 @@ public class MemberCommandServiceImpl implements MemberCommandService {
         LocalDateTime withdrawAt) {
         Member validMember = memberQueryService.findById(accessMemberId);
         validMember.withdraw(new WithdrawCommand(withdrawalReq.withdrawReason(), withdrawAt));
+        memberTokenVersion.bump(validMember.getId());
     }
 
     @Override
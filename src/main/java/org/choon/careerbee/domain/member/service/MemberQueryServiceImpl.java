@@ -1,7 +1,6 @@
 package org.choon.careerbee.domain.member.service;
 
 import jakarta.persistence.EntityNotFoundException;
-import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.choon.careerbee.common.enums.CustomResponseStatus;
@@ -9,6 +8,7 @@ import org.choon.careerbee.common.exception.CustomException;
 import org.choon.careerbee.domain.member.dto.response.MyInfoResp;
 import org.choon.careerbee.domain.member.entity.Member;
 import org.choon.careerbee.domain.member.repository.MemberRepository;
+import org.choon.careerbee.domain.notification.service.unread.UnreadNotificationCounter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,10 +18,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberQueryServiceImpl implements MemberQueryService {
 
     private final MemberRepository memberRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
+    /**
+     * 개인 알림의 읽음 여부는 Redis 카운터로 확인하고, 쿼리에서는 아직 옮기지 않은 전체 알림만 확인한다.
+     */
     @Override
     public MyInfoResp getMyInfoByMemberId(Long memberId) {
-        return memberRepository.fetchMyInfoByMemberId(memberId);
+        MyInfoResp myInfo = memberRepository.fetchMyInfoByMemberId(memberId);
+        if (myInfo == null || myInfo.hasNewAlarm()
+            || unreadNotificationCounter.get(memberId) == 0) {
+            return myInfo;
+        }
+
+        return new MyInfoResp(
+            myInfo.nickname(), myInfo.email(), myInfo.profileUrl(), true, myInfo.point()
+        );
     }
 
     @Override
@@ -50,9 +62,4 @@ public class MemberQueryServiceImpl implements MemberQueryService {
             .orElseThrow(() -> new CustomException(CustomResponseStatus.MEMBER_NOT_EXIST));
     }
 
-    @Override
-    public List<Long> findAllMemberIds() {
-        return memberRepository.findAllMemberIds();
-    }
-
 }
@@ -57,4 +57,16 @@ public class NotificationController {
             "알림 읽음 처리에 성공하였습니다."
         );
     }
+
+    @PatchMapping("/read-all")
+    public ResponseEntity<CommonResponse<Void>> markAllNotificationsAsRead(
+        @AuthenticationPrincipal PrincipalDetails principalDetails
+    ) {
+        commandService.markAllAsRead(principalDetails.getId());
+
+        return CommonResponseEntity.ok(
+            CustomResponseStatus.SUCCESS_WITH_NO_CONTENT,
+            "전체 알림 읽음 처리에 성공하였습니다."
+        );
+    }
 }
@@ -0,0 +1,11 @@
+package org.choon.careerbee.domain.notification.dto.event;
+
+import org.choon.careerbee.domain.notification.entity.enums.NotificationType;
+
+public record PointNotificationPayload(
+    Long memberId,
+    int point,
+    NotificationType type
+) {
+
+}
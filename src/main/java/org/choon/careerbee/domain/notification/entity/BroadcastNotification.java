@@ -0,0 +1,51 @@
+package org.choon.careerbee.domain.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.choon.careerbee.common.entity.BaseEntity;
+import org.choon.careerbee.domain.notification.entity.enums.NotificationType;
+
+/**
+ * 모든 회원에게 같은 내용으로 가는 알림. 회원별 행을 미리 만들지 않고 한 행만 기록한 뒤, 회원이 알림함을 조회할 때
+ * {@link BroadcastWatermark} 이후의 알림만 개인 알림으로 옮긴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "broadcast_notification")
+public class BroadcastNotification extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 50, nullable = false)
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private NotificationType type;
+
+    @Builder
+    private BroadcastNotification(String content, NotificationType type) {
+        this.content = content;
+        this.type = type;
+    }
+
+    public static BroadcastNotification of(String content, NotificationType type) {
+        return BroadcastNotification.builder()
+            .content(content)
+            .type(type)
+            .build();
+    }
+}
@@ -0,0 +1,26 @@
+package org.choon.careerbee.domain.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별로 개인 알림에 반영한 마지막 전체 알림 ID.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "broadcast_watermark")
+public class BroadcastWatermark {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "last_broadcast_id", nullable = false)
+    private Long lastBroadcastId;
+}
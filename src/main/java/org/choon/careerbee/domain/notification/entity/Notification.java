@@ -8,9 +8,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,7 +27,15 @@ import org.choon.careerbee.domain.notification.entity.enums.NotificationType;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Table(
-    name = "notification"
+    name = "notification",
+    uniqueConstraints = {
+        // outbox 재처리 시 같은 이벤트로 같은 회원에게 알림이 중복 생성되지 않도록 한다.
+        // 한 이벤트가 여러 기업의 공고 오픈을 묶으므로 기업명(content)까지 키에 포함한다.
+        @UniqueConstraint(columnNames = {"event_id", "member_id", "content"})
+    },
+    indexes = {
+        @Index(name = "idx_notification_member_read", columnList = "member_id, is_read")
+    }
 )
 public class Notification extends BaseEntity {
 
@@ -47,12 +57,19 @@ public class Notification extends BaseEntity {
     @Column(name = "is_read", nullable = false)
     private Boolean isRead;
 
+    // 알림을 만든 outbox 이벤트 ID (outbox 를 거치지 않은 알림은 null)
+    @Column(name = "event_id")
+    private Long eventId;
+
     @Builder
-    private Notification(Member member, String content, NotificationType type, Boolean isRead) {
+    private Notification(
+        Member member, String content, NotificationType type, Boolean isRead, Long eventId
+    ) {
         this.member = member;
         this.content = content;
         this.type = type;
         this.isRead = isRead;
+        this.eventId = eventId;
     }
 
     public static Notification of(Member member, String content, NotificationType type,
@@ -65,6 +82,18 @@ public class Notification extends BaseEntity {
             .build();
     }
 
+    public static Notification ofEvent(
+        Long eventId, Long memberId, String content, NotificationType type
+    ) {
+        return Notification.builder()
+            .member(Member.ofId(memberId))
+            .content(content)
+            .type(type)
+            .isRead(false)
+            .eventId(eventId)
+            .build();
+    }
+
     public void markAsRead() {
         this.isRead = true;
     }
@@ -0,0 +1,90 @@
+package org.choon.careerbee.domain.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.choon.careerbee.common.entity.BaseEntity;
+import org.choon.careerbee.domain.notification.entity.enums.OutboxEventType;
+import org.choon.careerbee.domain.notification.entity.enums.OutboxStatus;
+
+/**
+ * 알림 생성 요청을 원본 트랜잭션과 함께 기록해 두는 outbox.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "notification_outbox",
+    indexes = @Index(name = "idx_notification_outbox_status", columnList = "status, id")
+)
+public class NotificationOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 20, nullable = false)
+    private OutboxEventType eventType;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Builder
+    private NotificationOutbox(OutboxEventType eventType, String payload) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+    }
+
+    public static NotificationOutbox of(OutboxEventType eventType, String payload) {
+        return NotificationOutbox.builder()
+            .eventType(eventType)
+            .payload(payload)
+            .build();
+    }
+
+    public void markDone(LocalDateTime processedAt) {
+        this.status = OutboxStatus.DONE;
+        this.processedAt = processedAt;
+    }
+
+    /**
+     * 처리 실패를 기록한다. 최대 시도 횟수에 도달하면 FAILED 로 바꿔 더 이상 조회되지 않게 한다.
+     */
+    public void recordFailure(int maxAttempts, LocalDateTime failedAt) {
+        this.attempts++;
+        if (this.attempts >= maxAttempts) {
+            markFailed(failedAt);
+        }
+    }
+
+    /**
+     * 다시 시도해도 성공할 수 없는 행(역직렬화 실패 등)은 바로 FAILED 로 둔다.
+     */
+    public void markFailed(LocalDateTime failedAt) {
+        this.status = OutboxStatus.FAILED;
+        this.processedAt = failedAt;
+    }
+}
@@ -0,0 +1,6 @@
+package org.choon.careerbee.domain.notification.entity.enums;
+
+public enum OutboxEventType {
+    POINT,
+    OPEN_RECRUITING
+}
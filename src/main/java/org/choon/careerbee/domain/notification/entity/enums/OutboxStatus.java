@@ -0,0 +1,7 @@
+package org.choon.careerbee.domain.notification.entity.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
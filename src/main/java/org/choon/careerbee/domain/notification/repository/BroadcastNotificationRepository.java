@@ -0,0 +1,9 @@
+package org.choon.careerbee.domain.notification.repository;
+
+import org.choon.careerbee.domain.notification.entity.BroadcastNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BroadcastNotificationRepository extends
+    JpaRepository<BroadcastNotification, Long> {
+
+}
@@ -0,0 +1,16 @@
+package org.choon.careerbee.domain.notification.repository;
+
+import java.util.List;
+import org.choon.careerbee.domain.notification.entity.NotificationOutbox;
+import org.choon.careerbee.domain.notification.entity.enums.OutboxStatus;
+import org.choon.careerbee.domain.notification.repository.jdbc.NotificationOutboxJdbcRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationOutboxRepository extends
+    JpaRepository<NotificationOutbox, Long>,
+    NotificationOutboxJdbcRepository
+{
+
+    List<NotificationOutbox> findByStatusOrderByIdAsc(OutboxStatus status, Limit limit);
+}
@@ -12,6 +12,8 @@ public interface NotificationRepository extends
     NotificationCustomJdbcRepository
 {
 
-    List<Notification> findByIdInAndMemberId(List<Long> ids, Long memberId);
+    long countByIdInAndMemberId(List<Long> ids, Long memberId);
+
+    long countByMemberIdAndIsReadFalse(Long memberId);
 
 }
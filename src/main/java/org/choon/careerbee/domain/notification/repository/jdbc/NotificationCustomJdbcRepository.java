@@ -5,5 +5,20 @@ import org.choon.careerbee.domain.notification.entity.Notification;
 
 public interface NotificationCustomJdbcRepository {
 
-    void batchInsert(List<Notification> notifications);
+    /**
+     * 알림을 일괄 저장하고, 이미 있던 알림을 제외하고 실제로 저장한 알림을 반환한다.
+     */
+    List<Notification> batchInsert(List<Notification> notifications);
+
+    /**
+     * 회원의 watermark 이후에 생성된 전체 알림을 개인 알림으로 옮기고, 옮긴 건수를 반환한다.
+     */
+    int mergeBroadcasts(Long memberId);
+
+    /**
+     * 회원의 알림 중 지정한 ID 의 읽지 않은 알림을 읽음 처리하고, 실제로 바뀐 건수를 반환한다.
+     */
+    int markAsRead(Long memberId, List<Long> notificationIds);
+
+    int markAllAsRead(Long memberId);
 }
@@ -1,11 +1,13 @@
 package org.choon.careerbee.domain.notification.repository.jdbc;
 
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.choon.careerbee.domain.notification.entity.Notification;
-import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,37 +16,170 @@ import org.springframework.transaction.annotation.Transactional;
 @Repository
 public class NotificationCustomJdbcRepositoryImpl implements
     NotificationCustomJdbcRepository {
-    private static final int CHUNK = 200;
-    private static final String INSERT_SQL = """
+    private static final int CHUNK = 500;
+    private static final String INSERT_PREFIX = """
+        INSERT INTO notification
+          (member_id, content, type, is_read, event_id, created_at, modified_at)
+        VALUES
+        """;
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, NOW(), NOW())";
+    private static final String INSERT_SUFFIX = " ON DUPLICATE KEY UPDATE id = id";
+    private static final String EXISTING_EVENT_KEYS_PREFIX = """
+        SELECT event_id, member_id, content FROM notification WHERE event_id IN (""";
+
+    private static final String HAS_PENDING_BROADCAST_SQL = """
+        SELECT COALESCE(
+                 (SELECT last_broadcast_id FROM broadcast_watermark WHERE member_id = ?), 0
+               ) < COALESCE((SELECT MAX(id) FROM broadcast_notification), 0)
+        """;
+    private static final String INIT_WATERMARK_SQL = """
+        INSERT IGNORE INTO broadcast_watermark (member_id, last_broadcast_id) VALUES (?, 0)
+        """;
+    private static final String LOCK_WATERMARK_SQL = """
+        SELECT last_broadcast_id FROM broadcast_watermark WHERE member_id = ? FOR UPDATE
+        """;
+    private static final String MAX_BROADCAST_ID_SQL = """
+        SELECT COALESCE(MAX(id), 0) FROM broadcast_notification
+        """;
+    // 가입 이전의 전체 알림은 옮기지 않는다. 알림 시각은 전체 알림이 생성된 시각으로 유지한다.
+    private static final String MERGE_BROADCAST_SQL = """
         INSERT INTO notification
           (member_id, content, type, is_read, created_at, modified_at)
-        VALUES (?, ?, ?, ?, NOW(), NOW())
-        ON DUPLICATE KEY UPDATE id = id
+        SELECT m.id, b.content, b.type, false, b.created_at, NOW()
+        FROM broadcast_notification b
+        JOIN member m ON m.id = ?
+        WHERE b.id > ?
+          AND b.id <= ?
+          AND b.created_at >= m.created_at
+        ORDER BY b.id
+        """;
+    private static final String ADVANCE_WATERMARK_SQL = """
+        UPDATE broadcast_watermark SET last_broadcast_id = ? WHERE member_id = ?
+        """;
+
+    private static final String MARK_AS_READ_PREFIX = """
+        UPDATE notification SET is_read = true, modified_at = NOW()
+        WHERE member_id = ? AND is_read = false AND id IN (""";
+    private static final String MARK_ALL_AS_READ_SQL = """
+        UPDATE notification SET is_read = true, modified_at = NOW()
+        WHERE member_id = ? AND is_read = false
         """;
 
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * 청크마다 하나의 multi-row INSERT 문으로 저장한다. (event_id, member_id, content) 가 이미 있거나 목록 안에서
+     * 겹치는 알림은 저장 전에 걸러 내고, 저장한 알림만 반환한다. 동시에 같은 이벤트를 저장한 경우에 대비해 ON DUPLICATE KEY
+     * 는 그대로 둔다.
+     */
     @Override
     @Transactional
-    public void batchInsert(List<Notification> list) {
-        if (list.isEmpty()) return;
-
-        for (int from = 0; from < list.size(); from += CHUNK) {
-            int to = Math.min(from + CHUNK, list.size());
-            List<Notification> sub = list.subList(from, to);
-
-            jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
-                @Override
-                public void setValues(PreparedStatement ps, int i) throws SQLException {
-                    Notification n = sub.get(i);
-                    ps.setLong  (1, n.getMember().getId());
-                    ps.setString(2, n.getContent());
-                    ps.setString(3, n.getType().name());
-                    ps.setBoolean(4, n.getIsRead());
-                }
-                @Override
-                public int getBatchSize() { return sub.size(); }
-            });
+    public List<Notification> batchInsert(List<Notification> list) {
+        List<Notification> fresh = excludeExisting(list);
+        if (fresh.isEmpty()) return fresh;
+
+        for (int from = 0; from < fresh.size(); from += CHUNK) {
+            int to = Math.min(from + CHUNK, fresh.size());
+            List<Notification> sub = fresh.subList(from, to);
+
+            String sql = INSERT_PREFIX
+                + String.join(", ", Collections.nCopies(sub.size(), VALUES_ROW))
+                + INSERT_SUFFIX;
+
+            List<Object> args = new ArrayList<>(sub.size() * 5);
+            for (Notification n : sub) {
+                args.add(n.getMember().getId());
+                args.add(n.getContent());
+                args.add(n.getType().name());
+                args.add(n.getIsRead());
+                args.add(n.getEventId());
+            }
+
+            jdbcTemplate.update(sql, args.toArray());
+        }
+        return fresh;
+    }
+
+    /**
+     * watermark 행을 잠근 상태에서 옮기므로, 같은 회원의 동시 조회가 있어도 같은 전체 알림이 두 번 옮겨지지 않는다.
+     */
+    @Override
+    @Transactional
+    public int mergeBroadcasts(Long memberId) {
+        Boolean hasPending = jdbcTemplate.queryForObject(
+            HAS_PENDING_BROADCAST_SQL, Boolean.class, memberId
+        );
+        if (!Boolean.TRUE.equals(hasPending)) {
+            return 0;
+        }
+
+        jdbcTemplate.update(INIT_WATERMARK_SQL, memberId);
+        Long watermark = jdbcTemplate.queryForObject(LOCK_WATERMARK_SQL, Long.class, memberId);
+        Long upper = jdbcTemplate.queryForObject(MAX_BROADCAST_ID_SQL, Long.class);
+        if (upper <= watermark) {
+            return 0;
+        }
+
+        int merged = jdbcTemplate.update(MERGE_BROADCAST_SQL, memberId, watermark, upper);
+        jdbcTemplate.update(ADVANCE_WATERMARK_SQL, upper, memberId);
+        return merged;
+    }
+
+    /**
+     * 이미 읽은 알림은 조건에서 제외하므로, 반환값은 읽지 않은 알림 수에서 빼야 할 건수와 같다.
+     */
+    @Override
+    public int markAsRead(Long memberId, List<Long> notificationIds) {
+        if (notificationIds.isEmpty()) return 0;
+
+        String sql = MARK_AS_READ_PREFIX
+            + String.join(", ", Collections.nCopies(notificationIds.size(), "?"))
+            + ")";
+
+        List<Object> args = new ArrayList<>(notificationIds.size() + 1);
+        args.add(memberId);
+        args.addAll(notificationIds);
+
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    @Override
+    public int markAllAsRead(Long memberId) {
+        return jdbcTemplate.update(MARK_ALL_AS_READ_SQL, memberId);
+    }
+
+    private List<Notification> excludeExisting(List<Notification> list) {
+        List<Long> eventIds = list.stream()
+            .map(Notification::getEventId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+
+        Set<EventKey> seen = new HashSet<>();
+        if (!eventIds.isEmpty()) {
+            String sql = EXISTING_EVENT_KEYS_PREFIX
+                + String.join(", ", Collections.nCopies(eventIds.size(), "?"))
+                + ")";
+            jdbcTemplate.query(sql, rs -> {
+                seen.add(new EventKey(
+                    rs.getLong("event_id"), rs.getLong("member_id"), rs.getString("content")));
+            }, eventIds.toArray());
+        }
+
+        List<Notification> fresh = new ArrayList<>(list.size());
+        for (Notification n : list) {
+            if (n.getEventId() == null || seen.add(EventKey.of(n))) {
+                fresh.add(n);
+            }
+        }
+        return fresh;
+    }
+
+    private record EventKey(Long eventId, Long memberId, String content) {
+
+        static EventKey of(Notification notification) {
+            return new EventKey(notification.getEventId(),
+                notification.getMember().getId(), notification.getContent());
         }
     }
 }
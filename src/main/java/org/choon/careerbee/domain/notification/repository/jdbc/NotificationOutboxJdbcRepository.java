@@ -0,0 +1,11 @@
+package org.choon.careerbee.domain.notification.repository.jdbc;
+
+import java.time.LocalDateTime;
+
+public interface NotificationOutboxJdbcRepository {
+
+    /**
+     * 지정한 시각 이전에 완료된 outbox 를 최대 limit 건 삭제하고, 삭제한 건수를 반환한다.
+     */
+    int deleteDoneBefore(LocalDateTime before, int limit);
+}
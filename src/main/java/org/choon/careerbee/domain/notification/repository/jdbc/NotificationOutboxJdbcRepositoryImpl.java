@@ -0,0 +1,27 @@
+package org.choon.careerbee.domain.notification.repository.jdbc;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class NotificationOutboxJdbcRepositoryImpl implements NotificationOutboxJdbcRepository {
+
+    // (status, id) 인덱스를 타도록 id 순으로 나눠 지운다. 한 번에 잡는 행 잠금을 limit 건으로 제한한다.
+    private static final String DELETE_DONE_SQL = """
+        DELETE FROM notification_outbox
+        WHERE status = 'DONE'
+          AND processed_at < ?
+        ORDER BY id
+        LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int deleteDoneBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(DELETE_DONE_SQL, before, limit);
+    }
+}
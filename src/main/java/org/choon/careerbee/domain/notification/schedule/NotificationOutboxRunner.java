@@ -0,0 +1,117 @@
+package org.choon.careerbee.domain.notification.schedule;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.common.pubsub.RedisPublisher;
+import org.choon.careerbee.domain.competition.dto.event.PointEvent;
+import org.choon.careerbee.domain.member.entity.Member;
+import org.choon.careerbee.domain.notification.dto.event.PointNotificationPayload;
+import org.choon.careerbee.domain.notification.entity.NotificationOutbox;
+import org.choon.careerbee.domain.notification.entity.enums.OutboxEventType;
+import org.choon.careerbee.domain.notification.service.outbox.NotificationOutboxProcessor;
+import org.choon.careerbee.util.lock.DistributedLockExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 outbox 를 주기적으로 비운다. 분산 락을 잡은 한 노드만 처리하므로 알림 저장량은 노드 수와 무관하다.
+ * <p>
+ * 알림 저장이 커밋된 뒤에 pub/sub 으로 SSE 전송을 알린다. 포인트 알림 묶음이 실패하면 건별로 다시 처리하고, 그래도 실패한 행만
+ * 시도 횟수를 올린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxRunner {
+
+    private static final String LOCK_KEY = "lock:notification:outbox";
+    private static final String PURGE_LOCK_KEY = "lock:notification:outbox:purge";
+    private static final int BATCH_SIZE = 100;
+    private static final int PURGE_CHUNK = 1_000;
+
+    private final NotificationOutboxProcessor outboxProcessor;
+    private final RedisPublisher redisPublisher;
+    private final DistributedLockExecutor lockExecutor;
+
+    @Scheduled(fixedDelay = 2000)
+    public void dispatch() {
+        try {
+            lockExecutor.execute(LOCK_KEY, 0L, 300L, TimeUnit.SECONDS, this::drain);
+        } catch (CustomException e) {
+            log.error("[Notification Outbox] outbox 처리 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void purge() {
+        try {
+            lockExecutor.execute(PURGE_LOCK_KEY, 0L, 300L, TimeUnit.SECONDS, this::purgeDone);
+        } catch (CustomException e) {
+            log.error("[Notification Outbox] 완료된 outbox 정리 실패", e);
+        }
+    }
+
+    private void drain() {
+        List<NotificationOutbox> pending = outboxProcessor.fetchPending(BATCH_SIZE);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<OutboxEventType, List<NotificationOutbox>> byType = pending.stream()
+            .collect(Collectors.groupingBy(NotificationOutbox::getEventType));
+
+        List<NotificationOutbox> points = byType.getOrDefault(OutboxEventType.POINT, List.of());
+        if (!points.isEmpty()) {
+            dispatchPoints(points.stream().map(NotificationOutbox::getId).toList());
+        }
+
+        for (NotificationOutbox outbox : byType.getOrDefault(
+            OutboxEventType.OPEN_RECRUITING, List.of())) {
+            Long outboxId = outbox.getId();
+            dispatchEach(outboxId, () -> outboxProcessor.dispatchOpenRecruiting(outboxId)
+                .ifPresent(redisPublisher::publishOpenRecruitingEvent));
+        }
+
+        log.info("[Notification Outbox] {}건 처리 완료", pending.size());
+    }
+
+    private void dispatchPoints(List<Long> outboxIds) {
+        try {
+            publishPoints(outboxProcessor.dispatchPoints(outboxIds));
+        } catch (RuntimeException e) {
+            log.warn("[Notification Outbox] 포인트 알림 일괄 처리 실패, 건별로 다시 처리", e);
+            outboxIds.forEach(outboxId -> dispatchEach(outboxId,
+                () -> publishPoints(outboxProcessor.dispatchPoints(List.of(outboxId)))));
+        }
+    }
+
+    private void publishPoints(List<PointNotificationPayload> payloads) {
+        payloads.forEach(payload -> redisPublisher.publishPointEvent(new PointEvent(
+            Member.ofId(payload.memberId()), payload.point(), payload.type(), false)));
+    }
+
+    private void dispatchEach(Long outboxId, Runnable dispatch) {
+        try {
+            dispatch.run();
+        } catch (RuntimeException e) {
+            log.error("[Notification Outbox] outbox 처리 실패. id={}", outboxId, e);
+            outboxProcessor.recordFailure(outboxId);
+        }
+    }
+
+    private void purgeDone() {
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = outboxProcessor.purgeDone(PURGE_CHUNK);
+            purged += deleted;
+        } while (deleted == PURGE_CHUNK);
+
+        log.info("[Notification Outbox] 완료된 outbox {}건 정리", purged);
+    }
+}
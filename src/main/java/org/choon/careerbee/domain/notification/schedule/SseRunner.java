@@ -15,4 +15,9 @@ public class SseRunner {
     public void sendPing() {
         sseService.sendPingToAll();
     }
+
+    @Scheduled(fixedRate = 30_000)
+    public void refreshPresence() {
+        sseService.refreshPresence();
+    }
 }
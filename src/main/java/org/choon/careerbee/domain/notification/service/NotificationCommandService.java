@@ -5,4 +5,6 @@ import org.choon.careerbee.domain.notification.dto.request.ReadNotificationReq;
 public interface NotificationCommandService {
 
     void markAsRead(Long accessMemberId, ReadNotificationReq request);
+
+    void markAllAsRead(Long accessMemberId);
 }
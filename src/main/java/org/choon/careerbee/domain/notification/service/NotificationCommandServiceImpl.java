@@ -5,7 +5,8 @@ import lombok.RequiredArgsConstructor;
 import org.choon.careerbee.common.enums.CustomResponseStatus;
 import org.choon.careerbee.common.exception.CustomException;
 import org.choon.careerbee.domain.notification.dto.request.ReadNotificationReq;
-import org.choon.careerbee.domain.notification.entity.Notification;
+import org.choon.careerbee.domain.notification.repository.NotificationRepository;
+import org.choon.careerbee.domain.notification.service.unread.UnreadNotificationCounter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,17 +16,27 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationCommandServiceImpl implements NotificationCommandService {
 
     private final NotificationQueryService queryService;
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadCounter;
 
     @Override
     public void markAsRead(Long accessMemberId, ReadNotificationReq request) {
-        List<Notification> notifications = queryService.fetchNotificationInIds(
-            request.notificationIds(), accessMemberId
-        );
+        List<Long> notificationIds = request.notificationIds();
+        long ownedCount = queryService.countNotificationInIds(notificationIds, accessMemberId);
 
-        if (notifications.size() != request.notificationIds().size()) {
+        if (ownedCount != notificationIds.size()) {
             throw new CustomException(CustomResponseStatus.NOTIFICATION_UPDATE_INVALID);
         }
 
-        notifications.forEach(Notification::markAsRead);
+        int updated = notificationRepository.markAsRead(accessMemberId, notificationIds);
+        unreadCounter.decrement(accessMemberId, updated);
+    }
+
+    @Override
+    public void markAllAsRead(Long accessMemberId) {
+        // 아직 옮기지 않은 전체 알림도 읽음 처리되도록 먼저 합친다.
+        notificationRepository.mergeBroadcasts(accessMemberId);
+        notificationRepository.markAllAsRead(accessMemberId);
+        unreadCounter.reset(accessMemberId);
     }
 }
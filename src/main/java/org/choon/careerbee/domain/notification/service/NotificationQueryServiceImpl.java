@@ -3,8 +3,8 @@ package org.choon.careerbee.domain.notification.service;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.choon.careerbee.domain.notification.dto.response.FetchNotiResp;
-import org.choon.careerbee.domain.notification.entity.Notification;
 import org.choon.careerbee.domain.notification.repository.NotificationRepository;
+import org.choon.careerbee.domain.notification.service.unread.UnreadNotificationCounter;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
@@ -12,14 +12,20 @@ import org.springframework.stereotype.Service;
 public class NotificationQueryServiceImpl implements NotificationQueryService {
 
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadCounter;
 
     @Override
     public FetchNotiResp fetchMemberNotifications(Long accessMemberId, Long cursor, int size) {
+        // 첫 페이지 조회 시 아직 옮기지 않은 전체 알림을 개인 알림에 합친다.
+        if (cursor == null) {
+            int merged = notificationRepository.mergeBroadcasts(accessMemberId);
+            unreadCounter.increment(accessMemberId, merged);
+        }
         return notificationRepository.fetchNotificationsByMemberId(accessMemberId, cursor, size);
     }
 
     @Override
-    public List<Notification> fetchNotificationInIds(List<Long> notificationIds, Long memberId) {
-        return notificationRepository.findByIdInAndMemberId(notificationIds, memberId);
+    public long countNotificationInIds(List<Long> notificationIds, Long memberId) {
+        return notificationRepository.countByIdInAndMemberId(notificationIds, memberId);
     }
 }
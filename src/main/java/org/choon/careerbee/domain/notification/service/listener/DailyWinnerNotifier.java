@@ -6,6 +6,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.choon.careerbee.common.pubsub.RedisPublisher;
 import org.choon.careerbee.common.pubsub.dto.DailyWinnerEventPayload;
 import org.choon.careerbee.domain.competition.dto.event.DailyWinnerCalculated;
+import org.choon.careerbee.domain.notification.entity.BroadcastNotification;
+import org.choon.careerbee.domain.notification.entity.enums.NotificationType;
+import org.choon.careerbee.domain.notification.repository.BroadcastNotificationRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -15,8 +18,20 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class DailyWinnerNotifier {
 
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
     private final RedisPublisher redisPublisher;
 
+    /**
+     * 집계 트랜잭션 **안에서** 전체 알림 한 건만 기록한다. 회원별 알림은 각 회원이 알림함을 조회할 때 만들어진다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(DailyWinnerCalculated e) {
+        log.info("일일 1등 전체 알림 기록: {}, {}", e.winnerNickname(), e.day());
+        broadcastNotificationRepository.save(
+            BroadcastNotification.of(e.winnerNickname(), NotificationType.COMPETITION)
+        );
+    }
+
     /**
      * 집계 트랜잭션이 **정상 커밋된 후**에만 호출된다.
      */
@@ -4,9 +4,10 @@ import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.choon.careerbee.common.pubsub.RedisPublisher;
 import org.choon.careerbee.common.pubsub.dto.OpenRecruitingEventPayload;
 import org.choon.careerbee.domain.notification.dto.event.OpenRecruitingEvent;
+import org.choon.careerbee.domain.notification.entity.enums.OutboxEventType;
+import org.choon.careerbee.domain.notification.service.outbox.NotificationOutboxAppender;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -16,17 +17,21 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class OpenRecruitingNotifier {
 
-    private final RedisPublisher redisPublisher;
+    private final NotificationOutboxAppender outboxAppender;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void on(OpenRecruitingEvent event) {
         Map<String, Set<Long>> map = event.notifyMap();
         if (map.isEmpty()) {
             return;
         }
 
-        redisPublisher.publishOpenRecruitingEvent(new OpenRecruitingEventPayload(map));
-        log.info("공채 오픈 알림 이벤트 발행 완료 (총 대상자 수: {})",
+        // 알림 중복 방지 키가 (이벤트, 회원) 이므로, 한 회원이 여러 기업 알림을 받을 수 있게 기업별로 나눠 기록한다.
+        map.forEach((companyName, memberIds) -> outboxAppender.append(
+            OutboxEventType.OPEN_RECRUITING,
+            new OpenRecruitingEventPayload(Map.of(companyName, memberIds))
+        ));
+        log.info("공채 오픈 알림 outbox 기록 완료 (총 대상자 수: {})",
             map.values().stream().mapToInt(Set::size).sum());
     }
 }
@@ -2,10 +2,10 @@ package org.choon.careerbee.domain.notification.service.listener;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.choon.careerbee.common.pubsub.RedisPublisher;
 import org.choon.careerbee.domain.competition.dto.event.PointEvent;
-import org.choon.careerbee.domain.notification.entity.Notification;
-import org.choon.careerbee.domain.notification.repository.NotificationRepository;
+import org.choon.careerbee.domain.notification.dto.event.PointNotificationPayload;
+import org.choon.careerbee.domain.notification.entity.enums.OutboxEventType;
+import org.choon.careerbee.domain.notification.service.outbox.NotificationOutboxAppender;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -15,22 +15,17 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class PointNotifier {
 
-    private final NotificationRepository notificationRepository;
-    private final RedisPublisher redisPublisher;
+    private final NotificationOutboxAppender outboxAppender;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void on(PointEvent pointEvent) {
-        log.info("포인트 획득 알림 전송 시작");
+        log.info("포인트 획득 알림 outbox 기록");
 
-        notificationRepository.save(
-            Notification.of(
-                pointEvent.member(),
-                String.valueOf(pointEvent.point()),
-                pointEvent.type(),
-                false
+        outboxAppender.append(
+            OutboxEventType.POINT,
+            new PointNotificationPayload(
+                pointEvent.member().getId(), pointEvent.point(), pointEvent.type()
             )
         );
-
-        redisPublisher.publishPointEvent(pointEvent);
     }
 }
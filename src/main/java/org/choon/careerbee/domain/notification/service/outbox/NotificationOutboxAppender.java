@@ -0,0 +1,30 @@
+package org.choon.careerbee.domain.notification.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.choon.careerbee.domain.notification.entity.NotificationOutbox;
+import org.choon.careerbee.domain.notification.entity.enums.OutboxEventType;
+import org.choon.careerbee.domain.notification.repository.NotificationOutboxRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 이벤트를 outbox 에 기록한다. 호출한 쪽의 트랜잭션에 참여하므로 원본 데이터와 함께 커밋·롤백된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxAppender {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public void append(OutboxEventType eventType, Object payload) {
+        try {
+            outboxRepository.save(
+                NotificationOutbox.of(eventType, objectMapper.writeValueAsString(payload))
+            );
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("알림 outbox 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.choon.careerbee.domain.notification.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.pubsub.dto.OpenRecruitingEventPayload;
+import org.choon.careerbee.domain.notification.dto.event.PointNotificationPayload;
+import org.choon.careerbee.domain.notification.entity.Notification;
+import org.choon.careerbee.domain.notification.entity.NotificationOutbox;
+import org.choon.careerbee.domain.notification.entity.enums.NotificationType;
+import org.choon.careerbee.domain.notification.entity.enums.OutboxStatus;
+import org.choon.careerbee.domain.notification.repository.NotificationOutboxRepository;
+import org.choon.careerbee.domain.notification.repository.NotificationRepository;
+import org.choon.careerbee.domain.notification.service.unread.UnreadNotificationCounter;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * outbox 이벤트를 실제 알림 행으로 펼친다. 각 메서드는 독립된 트랜잭션으로, 알림 저장과 outbox 상태 변경을 함께 커밋한다.
+ * <p>
+ * 알림은 (event_id, member_id, content) 유니크 키로 저장하므로 같은 이벤트를 다시 처리해도 중복 행이 생기지 않는다. 한
+ * 이벤트에 여러 기업이 묶여 있어도 기업(content)마다 알림이 따로 저장된다. 읽지 않은 알림 수는 실제로 저장된 알림만큼만
+ * 올린다.
+ * 역직렬화할 수 없는 행은 바로 FAILED 로, 처리 중 예외가 난 행은 시도 횟수를 올려 {@link #MAX_ATTEMPTS} 번째에 FAILED 로
+ * 바꾸므로, 한 행의 실패가 뒤따르는 outbox 처리를 막지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class NotificationOutboxProcessor {
+
+    public static final int MAX_ATTEMPTS = 5;
+    private static final Duration DONE_RETENTION = Duration.ofDays(7);
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadCounter;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Transactional(readOnly = true)
+    public List<NotificationOutbox> fetchPending(int size) {
+        return outboxRepository.findByStatusOrderByIdAsc(OutboxStatus.PENDING, Limit.of(size));
+    }
+
+    /**
+     * 포인트 알림 여러 건을 한 번의 INSERT 로 저장하고, SSE 로 알릴 대상을 반환한다.
+     */
+    public List<PointNotificationPayload> dispatchPoints(List<Long> outboxIds) {
+        List<PointNotificationPayload> payloads = new ArrayList<>();
+        List<Notification> notifications = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        for (NotificationOutbox outbox : outboxRepository.findAllById(outboxIds)) {
+            if (outbox.getStatus() != OutboxStatus.PENDING) {
+                continue;
+            }
+
+            Optional<PointNotificationPayload> parsed =
+                payloadOf(outbox, PointNotificationPayload.class, now);
+            if (parsed.isEmpty()) {
+                continue;
+            }
+
+            PointNotificationPayload payload = parsed.get();
+            notifications.add(Notification.ofEvent(
+                outbox.getId(), payload.memberId(), String.valueOf(payload.point()), payload.type()
+            ));
+            payloads.add(payload);
+            outbox.markDone(now);
+        }
+
+        List<Notification> inserted = notificationRepository.batchInsert(notifications);
+        unreadCounter.increment(receiverIdsOf(inserted));
+        return payloads;
+    }
+
+    /**
+     * 공고 오픈 알림을 저장하고, SSE 로 알릴 내용을 반환한다. 이미 처리됐거나 실패 처리된 행이면 비어 있다.
+     */
+    public Optional<OpenRecruitingEventPayload> dispatchOpenRecruiting(Long outboxId) {
+        NotificationOutbox outbox = outboxRepository.findById(outboxId).orElseThrow();
+        if (outbox.getStatus() != OutboxStatus.PENDING) {
+            return Optional.empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        Optional<OpenRecruitingEventPayload> parsed =
+            payloadOf(outbox, OpenRecruitingEventPayload.class, now);
+        if (parsed.isEmpty()) {
+            return Optional.empty();
+        }
+
+        OpenRecruitingEventPayload payload = parsed.get();
+        List<Notification> notifications = new ArrayList<>();
+        payload.notifyMap().forEach((companyName, memberIds) ->
+            memberIds.forEach(memberId -> notifications.add(Notification.ofEvent(
+                outboxId, memberId, companyName, NotificationType.RECRUITMENT)))
+        );
+
+        List<Notification> inserted = notificationRepository.batchInsert(notifications);
+        unreadCounter.increment(receiverIdsOf(inserted));
+        outbox.markDone(now);
+        return parsed;
+    }
+
+    /**
+     * 처리에 실패한 outbox 의 시도 횟수를 올린다. 이미 끝난 행이면 무시한다.
+     */
+    public void recordFailure(Long outboxId) {
+        outboxRepository.findById(outboxId)
+            .filter(outbox -> outbox.getStatus() == OutboxStatus.PENDING)
+            .ifPresent(outbox -> {
+                outbox.recordFailure(MAX_ATTEMPTS, LocalDateTime.now(clock));
+                if (outbox.getStatus() == OutboxStatus.FAILED) {
+                    log.error("[Notification Outbox] 최대 시도 횟수 초과로 실패 처리. id={}", outboxId);
+                }
+            });
+    }
+
+    /**
+     * 보관 기간이 지난 완료 행을 최대 limit 건 지우고, 지운 건수를 반환한다.
+     */
+    public int purgeDone(int limit) {
+        LocalDateTime before = LocalDateTime.now(clock).minus(DONE_RETENTION);
+        return outboxRepository.deleteDoneBefore(before, limit);
+    }
+
+    private List<Long> receiverIdsOf(List<Notification> notifications) {
+        return notifications.stream()
+            .map(notification -> notification.getMember().getId())
+            .toList();
+    }
+
+    private <T> Optional<T> payloadOf(
+        NotificationOutbox outbox, Class<T> type, LocalDateTime now
+    ) {
+        try {
+            return Optional.of(objectMapper.readValue(outbox.getPayload(), type));
+        } catch (JsonProcessingException e) {
+            log.error("[Notification Outbox] 역직렬화 실패로 실패 처리. id={}", outbox.getId(), e);
+            outbox.markFailed(now);
+            return Optional.empty();
+        }
+    }
+}
@@ -1,25 +1,22 @@
 package org.choon.careerbee.domain.notification.service.processor;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.choon.careerbee.common.pubsub.dto.OpenRecruitingEventPayload;
-import org.choon.careerbee.domain.member.entity.Member;
-import org.choon.careerbee.domain.notification.entity.Notification;
-import org.choon.careerbee.domain.notification.entity.enums.NotificationType;
-import org.choon.careerbee.domain.notification.repository.NotificationRepository;
 import org.choon.careerbee.domain.notification.service.sse.SseService;
 import org.springframework.stereotype.Service;
 
+/**
+ * 공채 오픈 알림은 outbox 처리 노드에서 이미 저장되었으므로, 각 노드는 자신에게 연결된 대상자에게 SSE 만 보낸다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OpenRecruitingNotificationProcessor {
 
-    private final NotificationRepository notificationRepository;
     private final SseService sseService;
 
     public void process(OpenRecruitingEventPayload event) {
@@ -29,25 +26,12 @@ public class OpenRecruitingNotificationProcessor {
             return;
         }
 
-        List<Notification> notifications = new ArrayList<>();
-
-        map.forEach((companyName, memberIds) ->
-            memberIds.forEach(memberId ->
-                notifications.add(Notification.of(
-                    Member.ofId(memberId),
-                    companyName,
-                    NotificationType.RECRUITMENT,
-                    false))
-            )
-        );
-
-        notificationRepository.batchInsert(notifications);
-
-        map.values().stream()
+        List<Long> memberIds = map.values().stream()
             .flatMap(Set::stream)
             .distinct()
-            .forEach(sseService::sendTo);
+            .toList();
+        sseService.sendTo(memberIds);
 
-        log.info("공채 오픈 알림 {}건 DB 저장 및 SSE 발송 완료", notifications.size());
+        log.info("공채 오픈 알림 SSE 발송 요청 {}명", memberIds.size());
     }
 }
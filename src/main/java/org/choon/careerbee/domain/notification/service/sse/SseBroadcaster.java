@@ -0,0 +1,285 @@
+package org.choon.careerbee.domain.notification.service.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE emitter 를 회원 ID 기준으로 샤드에 나눠 보관하고, 샤드별 작업 큐에서 전송하는 브로드캐스트 엔진.
+ * <p>
+ * 이벤트는 브로드캐스트당 한 번만 직렬화해 모든 emitter 가 같은 페이로드를 공유한다. 각 전송은 가상 스레드에서 실행하고
+ * {@code send-timeout} 안에 끝나지 않으면 연결을 끊어, 느린 클라이언트가 자기 샤드를 최대 타임아웃만큼만 붙잡도록 한다.
+ * 샤드 안에서는 순서대로 전송하므로 한 회원에게 가는 이벤트 순서는 유지된다.
+ */
+@Slf4j
+@Component
+public class SseBroadcaster implements DisposableBean {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration sendTimeout;
+    private final Shard[] shards;
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter timeoutDropCounter;
+    private final Counter errorDropCounter;
+    private final Counter rejectedCounter;
+
+    public SseBroadcaster(
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${sse.broadcast.shard-count:8}") int shardCount,
+        @Value("${sse.broadcast.queue-capacity:1024}") int queueCapacity,
+        @Value("${sse.broadcast.send-timeout-ms:2000}") long sendTimeoutMillis
+    ) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.sendTimeout = Duration.ofMillis(sendTimeoutMillis);
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, queueCapacity);
+        }
+
+        this.timeoutDropCounter = droppedCounter("timeout");
+        this.errorDropCounter = droppedCounter("error");
+        this.rejectedCounter = Counter.builder("sse.delivery.rejected")
+            .description("샤드 큐가 가득 차 전송하지 못한 건수")
+            .register(meterRegistry);
+        Gauge.builder("sse.emitter.active", this, SseBroadcaster::connectionCount)
+            .description("현재 연결된 SSE emitter 수")
+            .register(meterRegistry);
+    }
+
+    public void register(Long memberId, SseEmitter emitter) {
+        shardOf(memberId).emitters.put(memberId, emitter);
+    }
+
+    /**
+     * 같은 회원이 재연결한 경우 새 emitter 를 지우지 않도록, 등록된 emitter 가 일치할 때만 제거한다.
+     */
+    public void unregister(Long memberId, SseEmitter emitter) {
+        shardOf(memberId).emitters.remove(memberId, emitter);
+    }
+
+    public boolean isConnected(Long memberId) {
+        return shardOf(memberId).emitters.containsKey(memberId);
+    }
+
+    public List<Long> connectedMemberIds() {
+        List<Long> memberIds = new ArrayList<>();
+        for (Shard shard : shards) {
+            memberIds.addAll(shard.emitters.keySet());
+        }
+        return memberIds;
+    }
+
+    public int connectionCount() {
+        int count = 0;
+        for (Shard shard : shards) {
+            count += shard.emitters.size();
+        }
+        return count;
+    }
+
+    /**
+     * 현재 노드에 연결된 모든 회원에게 전송한다.
+     */
+    public void broadcast(String eventName, Object data) {
+        Set<DataWithMediaType> payload = serialize(eventName, data);
+        FanOut fanOut = new FanOut(eventName, shards.length);
+
+        for (Shard shard : shards) {
+            shard.submit(fanOut, shard.emitters.size(), () -> {
+                shard.emitters.forEach((memberId, emitter) ->
+                    deliver(shard, memberId, emitter, payload));
+            });
+        }
+    }
+
+    /**
+     * 지정한 회원들에게 전송한다. 회원 목록을 샤드별로 나눠 샤드마다 한 번씩만 작업을 넣는다.
+     */
+    public void multicast(Collection<Long> memberIds, String eventName, Object data) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        List<List<Long>> targetsByShard = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            targetsByShard.add(new ArrayList<>());
+        }
+        for (Long memberId : memberIds) {
+            targetsByShard.get(shardIndexOf(memberId)).add(memberId);
+        }
+
+        Set<DataWithMediaType> payload = serialize(eventName, data);
+        int shardCount = (int) targetsByShard.stream().filter(ids -> !ids.isEmpty()).count();
+        FanOut fanOut = new FanOut(eventName, shardCount);
+
+        for (int i = 0; i < shards.length; i++) {
+            List<Long> targets = targetsByShard.get(i);
+            if (targets.isEmpty()) {
+                continue;
+            }
+
+            Shard shard = shards[i];
+            shard.submit(fanOut, targets.size(), () -> {
+                for (Long memberId : targets) {
+                    SseEmitter emitter = shard.emitters.get(memberId);
+                    if (emitter != null) {
+                        deliver(shard, memberId, emitter, payload);
+                    }
+                }
+            });
+        }
+    }
+
+    public void unicast(Long memberId, String eventName, Object data) {
+        multicast(List.of(memberId), eventName, data);
+    }
+
+    @Override
+    public void destroy() {
+        for (Shard shard : shards) {
+            shard.worker.shutdownNow();
+        }
+        sender.shutdownNow();
+    }
+
+    private void deliver(
+        Shard shard, Long memberId, SseEmitter emitter, Set<DataWithMediaType> payload
+    ) {
+        Future<?> future = sender.submit(() -> {
+            emitter.send(payload);
+            return null;
+        });
+
+        try {
+            future.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutDropCounter.increment();
+            log.warn("[SSE Timeout] memberId={} 전송 {}ms 초과, emitter 제거",
+                memberId, sendTimeout.toMillis());
+            drop(shard, memberId, emitter, e);
+        } catch (ExecutionException e) {
+            errorDropCounter.increment();
+            log.warn("[SSE Broken] memberId={} 전송 실패, emitter 제거. msg={}",
+                memberId, e.getCause().getMessage());
+            drop(shard, memberId, emitter, e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drop(Shard shard, Long memberId, SseEmitter emitter, Throwable cause) {
+        shard.emitters.remove(memberId, emitter);
+        emitter.completeWithError(cause);
+    }
+
+    private Set<DataWithMediaType> serialize(String eventName, Object data) {
+        try {
+            Object body = data instanceof String ? data : objectMapper.writeValueAsString(data);
+            return SseEmitter.event().name(eventName).data(body).build();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("SSE 이벤트 직렬화 실패", e);
+        }
+    }
+
+    private Counter droppedCounter(String reason) {
+        return Counter.builder("sse.emitter.dropped")
+            .description("전송 실패로 끊은 SSE 연결 수")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    private Shard shardOf(Long memberId) {
+        return shards[shardIndexOf(memberId)];
+    }
+
+    private int shardIndexOf(Long memberId) {
+        return (int) Math.floorMod(memberId, (long) shards.length);
+    }
+
+    private final class Shard {
+
+        private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+        private final ThreadPoolExecutor worker;
+
+        private Shard(int index, int queueCapacity) {
+            this.worker = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofVirtual().name("sse-shard-" + index).factory()
+            );
+        }
+
+        private void submit(FanOut fanOut, int targetCount, Runnable task) {
+            try {
+                worker.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        fanOut.shardDone();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                rejectedCounter.increment(targetCount);
+                log.warn("[SSE Rejected] 샤드 큐 포화로 {}건 전송 생략", targetCount);
+                fanOut.shardDone();
+            }
+        }
+    }
+
+    /**
+     * 한 번의 브로드캐스트가 모든 샤드에서 끝날 때까지 걸린 시간을 기록한다.
+     */
+    private final class FanOut {
+
+        private final String eventName;
+        private final long startedAt = System.nanoTime();
+        private final AtomicInteger pendingShards;
+
+        private FanOut(String eventName, int shardCount) {
+            this.eventName = eventName;
+            this.pendingShards = new AtomicInteger(shardCount);
+        }
+
+        private void shardDone() {
+            if (pendingShards.decrementAndGet() == 0) {
+                Timer.builder("sse.broadcast.fanout")
+                    .description("브로드캐스트 시작부터 모든 샤드 전송 완료까지 걸린 시간")
+                    .tag("event", eventName)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.choon.careerbee.domain.notification.service.sse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.pubsub.MemberNodeLocator;
+import org.choon.careerbee.util.redis.RedisKeyFactory;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원이 어느 노드들에 SSE 로 연결되어 있는지 Redis 에 기록한다.
+ * <p>
+ * 한 회원이 여러 탭으로 서로 다른 노드에 연결될 수 있으므로 회원마다 {@code nodeId → 만료 시각} 해시로 기록한다. 연결 시
+ * 현재 노드의 만료 시각을 기록하고 {@code SseRunner} 의 heartbeat 로 연장한다. 노드가 비정상 종료되면 그 노드의 만료 시각이
+ * 더 이상 연장되지 않으므로 조회 시 걸러지고, 모든 노드가 사라지면 키 TTL 로 해시도 사라진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SsePresenceRegistry implements MemberNodeLocator {
+
+    private static final Duration PRESENCE_TTL = Duration.ofSeconds(90);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedissonClient redissonClient;
+    private final Clock clock;
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public void register(Long memberId) {
+        RMap<String, String> presence = presenceOf(memberId);
+        presence.fastPut(nodeId, nextDeadline());
+        presence.expire(PRESENCE_TTL);
+    }
+
+    /**
+     * 다른 노드에 남은 연결의 기록은 지우지 않도록, 현재 노드의 기록만 제거한다.
+     */
+    public void unregister(Long memberId) {
+        presenceOf(memberId).fastRemove(nodeId);
+    }
+
+    /**
+     * 만료 시각이 지나지 않은 노드만 반환한다. 만료된 노드는 비정상 종료된 것이므로 기록에서 지운다.
+     */
+    @Override
+    public Set<String> findNodes(Long memberId) {
+        RMap<String, String> presence = presenceOf(memberId);
+        long now = clock.millis();
+
+        Set<String> alive = new HashSet<>();
+        Set<String> expired = new HashSet<>();
+        for (Map.Entry<String, String> entry : presence.readAllMap().entrySet()) {
+            if (Long.parseLong(entry.getValue()) > now) {
+                alive.add(entry.getKey());
+            } else {
+                expired.add(entry.getKey());
+            }
+        }
+        if (!expired.isEmpty()) {
+            presence.fastRemove(expired.toArray(String[]::new));
+        }
+        return alive;
+    }
+
+    /**
+     * 현재 노드에 연결된 회원들의 기록을 한 번의 왕복으로 갱신한다. 현재 노드의 만료 시각을 연장하고, 다른 노드의 기록은
+     * 건드리지 않는다.
+     */
+    public void heartbeat(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        String deadline = nextDeadline();
+        RBatch batch = redissonClient.createBatch();
+        for (Long memberId : memberIds) {
+            RMapAsync<String, String> presence = batch.getMap(
+                RedisKeyFactory.ssePresenceKey(memberId), StringCodec.INSTANCE
+            );
+            presence.fastPutAsync(nodeId, deadline);
+            presence.expireAsync(PRESENCE_TTL);
+        }
+        batch.execute();
+
+        log.debug("[SSE Presence] node={} heartbeat {}건", nodeId, memberIds.size());
+    }
+
+    private String nextDeadline() {
+        return String.valueOf(clock.millis() + PRESENCE_TTL.toMillis());
+    }
+
+    private RMap<String, String> presenceOf(Long memberId) {
+        return redissonClient.getMap(
+            RedisKeyFactory.ssePresenceKey(memberId), StringCodec.INSTANCE
+        );
+    }
+}
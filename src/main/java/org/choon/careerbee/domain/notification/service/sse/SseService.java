@@ -1,5 +1,6 @@
 package org.choon.careerbee.domain.notification.service.sse;
 
+import java.util.Collection;
 import org.choon.careerbee.common.pubsub.enums.EventName;
 import org.choon.careerbee.domain.interview.dto.response.AiFeedbackResp;
 import org.choon.careerbee.domain.member.dto.response.AdvancedResumeInitResp;
@@ -13,6 +14,8 @@ public interface SseService<T> {
 
     void sendTo(Long memberId);
 
+    void sendTo(Collection<Long> memberIds);
+
     void pushResumeExtracted(Long memberId, ExtractResumeResp resp);
 
     void pushAdvancedResumeInit(Long memberId, AdvancedResumeInitResp resp);
@@ -25,5 +28,7 @@ public interface SseService<T> {
 
     void sendPingToAll();
 
+    void refreshPresence();
+
     void pushError(Long memberId, EventName eventName, String errorMessage);
 }
@@ -1,9 +1,8 @@
 package org.choon.careerbee.domain.notification.service.sse;
 
-import java.io.IOException;
 import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.choon.careerbee.common.pubsub.enums.EventName;
 import org.choon.careerbee.domain.interview.dto.response.AiFeedbackResp;
@@ -15,138 +14,108 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class SseServiceImpl implements SseService {
 
     private static final String NOTIFICATION = "notification";
     private static final String PING = "ping";
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+
+    private final SseBroadcaster broadcaster;
+    private final SsePresenceRegistry presenceRegistry;
 
     @Override
     public SseEmitter connect(Long memberId) {
         SseEmitter emitter = new SseEmitter(Duration.ofMinutes(30).toMillis());
 
-        emitter.onCompletion(() -> emitters.remove(memberId));
+        emitter.onCompletion(() -> disconnect(memberId, emitter));
         emitter.onTimeout(() -> {
             log.warn("[SSE Time Out] memberId={}", memberId);
             emitter.complete();
-            emitters.remove(memberId);
+            disconnect(memberId, emitter);
         });
         emitter.onError(e -> {
             log.warn("[SSE Error] memberId={}, msg={}", memberId, e.getMessage());
             emitter.completeWithError(e);
-            emitters.remove(memberId);
+            disconnect(memberId, emitter);
         });
 
-        emitters.put(memberId, emitter);
+        broadcaster.register(memberId, emitter);
+        presenceRegistry.register(memberId);
         log.info("[SSE Send SUC] SSE 연결 & 알림 전송 성공");
         return emitter;
     }
 
     @Override
     public void sendTo(Long memberId) {
-        log.info("알림 전송 시도. id : {}", memberId);
-        SseEmitter emitter = emitters.get(memberId);
-
-        if (emitter == null) {
+        if (!broadcaster.isConnected(memberId)) {
             log.warn("[SSE No Connection] memberId={}", memberId);
             return;
         }
-        try {
-            emitter.send(SseEmitter.event()
-                .name(NOTIFICATION)
-                .data(true));
-            log.info("[SSE Success] memberId={}", memberId);
-        } catch (IOException ex) {
-            log.warn("[SSE Broken] memberId={} -> remove emitter", memberId);
-            emitter.completeWithError(ex);
-            emitters.remove(memberId);
-        }
+        broadcaster.unicast(memberId, NOTIFICATION, true);
+    }
+
+    @Override
+    public void sendTo(Collection<Long> memberIds) {
+        broadcaster.multicast(memberIds, NOTIFICATION, true);
+        log.info("[SSE Multicast] 알림 전송 요청 {}명", memberIds.size());
     }
 
     @Override
     public void pushResumeExtracted(Long memberId, ExtractResumeResp resp) {
-        sendSseEvent(memberId, EventName.RESUME_EXTRACTED, resp, "이력서 추출");
+        sendSseEvent(memberId, EventName.RESUME_EXTRACTED.getValue(), resp, "이력서 추출");
     }
 
     @Override
     public void pushAdvancedResumeInit(Long memberId, AdvancedResumeInitResp resp) {
-        sendSseEvent(memberId, EventName.ADVANCED_RESUME_INIT, resp, "고급 이력서 init");
+        sendSseEvent(memberId, EventName.ADVANCED_RESUME_INIT.getValue(), resp, "고급 이력서 init");
     }
 
     @Override
     public void pushAdvancedResumeUpdate(Long memberId, AdvancedResumeResp resp) {
-        sendSseEvent(memberId, EventName.ADVANCED_RESUME_UPDATE, resp, "고급 이력서 update");
+        sendSseEvent(
+            memberId, EventName.ADVANCED_RESUME_UPDATE.getValue(), resp, "고급 이력서 update");
     }
 
     @Override
     public void pushProblemFeedback(Long memberId, AiFeedbackResp resp) {
-        sendSseEvent(memberId, EventName.PROBLEM_FEEDBACK, resp, "면접 피드백");
+        sendSseEvent(memberId, EventName.PROBLEM_FEEDBACK.getValue(), resp, "면접 피드백");
     }
 
     @Override
     public void sendAll() {
-        log.info("[BROADCAST] 전체 알림 전송 시작. 총 {}명", emitters.size());
-
-        emitters.forEach((memberId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event().name(NOTIFICATION).data(true));
-                log.info("[SSE Success] {}에게 전송 성공", memberId);
-            } catch (IOException e) {
-                emitters.remove(memberId);
-                log.warn("[SSE Fail] {}에게 전송 실패, emitter 제거", memberId);
-            }
-        });
-
+        log.info("[BROADCAST] 전체 알림 전송 시작. 총 {}명", broadcaster.connectionCount());
+        broadcaster.broadcast(NOTIFICATION, true);
     }
 
     @Override
     public void sendPingToAll() {
-        emitters.forEach((memberId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event().name(PING).data("keep-alive"));
-            } catch (IOException e) {
-                emitters.remove(memberId);
-                log.warn("[SSE Fail] {}에게 Ping 전송 실패, emitter 제거", memberId);
-            }
-        });
+        broadcaster.broadcast(PING, "keep-alive");
     }
 
-    private <T> void sendSseEvent(Long memberId, EventName eventName, T data, String logPrefix) {
-        SseEmitter emitter = emitters.get(memberId);
-        if (emitter == null) {
-            log.warn("[SSE] {} - emitter 없음 (memberId={})", logPrefix, memberId);
-            return;
-        }
-
-        try {
-            log.info("[SSE] {} - 전송 시작", logPrefix);
-            emitter.send(SseEmitter.event().name(eventName.getValue()).data(data));
-            log.info("[SSE] {} - 전송 완료", logPrefix);
-        } catch (IOException e) {
-            log.error("[SSE] {} - 전송 실패", logPrefix, e);
-            emitter.completeWithError(e);
-            emitters.remove(memberId);
-        }
+    @Override
+    public void refreshPresence() {
+        presenceRegistry.heartbeat(broadcaster.connectedMemberIds());
     }
 
     @Override
     public void pushError(Long memberId, EventName eventName, String errorMessage) {
-        SseEmitter emitter = emitters.get(memberId);
-        if (emitter == null) {
-            log.warn("[SSE Error] {} - emitter 없음 (memberId={})", eventName, memberId);
-            return;
-        }
+        sendSseEvent(memberId, eventName.getValue() + "-error", errorMessage, "에러");
+    }
 
-        try {
-            log.info("[SSE Error] {} - 전송 시작", eventName);
-            emitter.send(
-                SseEmitter.event().name(eventName.getValue() + "-error").data(errorMessage));
-            log.info("[SSE Error] {} - 전송 완료", eventName);
-        } catch (IOException e) {
-            log.error("[SSE Error] {} - 전송 실패", eventName, e);
-            emitter.completeWithError(e);
-            emitters.remove(memberId);
+    private void disconnect(Long memberId, SseEmitter emitter) {
+        broadcaster.unregister(memberId, emitter);
+        if (!broadcaster.isConnected(memberId)) {
+            presenceRegistry.unregister(memberId);
         }
     }
 
+    private <T> void sendSseEvent(Long memberId, String eventName, T data, String logPrefix) {
+        if (!broadcaster.isConnected(memberId)) {
+            log.warn("[SSE] {} - emitter 없음 (memberId={})", logPrefix, memberId);
+            return;
+        }
+
+        log.info("[SSE] {} - 전송 요청", logPrefix);
+        broadcaster.unicast(memberId, eventName, data);
+    }
 }
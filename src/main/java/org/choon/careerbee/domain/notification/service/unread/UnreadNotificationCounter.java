@@ -0,0 +1,119 @@
+package org.choon.careerbee.domain.notification.service.unread;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.transaction.TransactionCallbacks;
+import org.choon.careerbee.domain.notification.repository.NotificationRepository;
+import org.choon.careerbee.util.redis.RedisKeyFactory;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript.Mode;
+import org.redisson.api.RScript.ReturnType;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 읽지 않은 알림 수를 Redis 카운터로 관리한다.
+ * <p>
+ * 원본은 notification 테이블이며, 카운터는 커밋 이후에만 증감한다. 카운터가 없는 회원은 증감을 건너뛰고 다음 조회 때 DB 에서
+ * 한 번 읽어 채운다. 어긋난 값이 오래 남지 않도록 채울 때 TTL 을 건다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final Duration COUNTER_TTL = Duration.ofDays(1);
+
+    // 카운터가 있을 때만 증감한다. 없는 키를 INCRBY 로 만들면 DB 와 다른 값이 생기기 때문이다.
+    private static final String ADD_IF_EXISTS = """
+        if redis.call('exists', KEYS[1]) == 1 then
+          return redis.call('incrby', KEYS[1], ARGV[1])
+        end
+        return nil
+        """;
+
+    private final RedissonClient redissonClient;
+    private final NotificationRepository notificationRepository;
+
+    public long get(Long memberId) {
+        RAtomicLong counter = counterOf(memberId);
+        if (counter.isExists()) {
+            return counter.get();
+        }
+        return seed(memberId);
+    }
+
+    /**
+     * 저장된 알림의 수신자 목록을 받아 회원별 증가량을 모아 한 번의 왕복으로 반영한다.
+     */
+    public void increment(Collection<Long> receiverIds) {
+        if (receiverIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        receiverIds.forEach(memberId -> deltas.merge(memberId, 1L, Long::sum));
+        TransactionCallbacks.afterCommit(() -> addAll(deltas));
+    }
+
+    public void increment(Long memberId, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> addAll(Map.of(memberId, delta)));
+    }
+
+    public void decrement(Long memberId, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> {
+            Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                Mode.READ_WRITE, ADD_IF_EXISTS, ReturnType.INTEGER,
+                List.<Object>of(RedisKeyFactory.unreadNotificationKey(memberId)),
+                String.valueOf(-delta)
+            );
+            if (result != null && result < 0) {
+                log.warn("[UnreadCount] 읽지 않은 알림 수 음수 - memberId: {}, value: {}",
+                    memberId, result);
+                counterOf(memberId).delete();
+            }
+        });
+    }
+
+    public void reset(Long memberId) {
+        TransactionCallbacks.afterCommit(() -> redissonClient
+            .getBucket(RedisKeyFactory.unreadNotificationKey(memberId), StringCodec.INSTANCE)
+            .set("0", COUNTER_TTL));
+    }
+
+    private void addAll(Map<Long, Long> deltas) {
+        RBatch batch = redissonClient.createBatch();
+        deltas.forEach((memberId, delta) -> batch.getScript(StringCodec.INSTANCE).evalAsync(
+            Mode.READ_WRITE, ADD_IF_EXISTS, ReturnType.INTEGER,
+            List.<Object>of(RedisKeyFactory.unreadNotificationKey(memberId)), String.valueOf(delta)
+        ));
+        batch.execute();
+    }
+
+    private long seed(Long memberId) {
+        long dbCount = notificationRepository.countByMemberIdAndIsReadFalse(memberId);
+        // 다른 요청이 먼저 채웠다면 그 값을 존중한다.
+        boolean seeded = redissonClient
+            .getBucket(RedisKeyFactory.unreadNotificationKey(memberId), StringCodec.INSTANCE)
+            .setIfAbsent(String.valueOf(dbCount), COUNTER_TTL);
+        return seeded ? dbCount : counterOf(memberId).get();
+    }
+
+    private RAtomicLong counterOf(Long memberId) {
+        return redissonClient.getAtomicLong(RedisKeyFactory.unreadNotificationKey(memberId));
+    }
+}
@@ -1,12 +1,15 @@
 package org.choon.careerbee.domain.store.domain;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,6 +22,10 @@ import org.choon.careerbee.domain.member.entity.Member;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(
+    name = "purchase_history",
+    indexes = @Index(name = "idx_purchase_history_stock_applied", columnList = "stock_applied, id")
+)
 public class PurchaseHistory extends BaseEntity {
 
     @Id
@@ -33,11 +40,16 @@ public class PurchaseHistory extends BaseEntity {
     @JoinColumn(name = "ticket_id", nullable = false)
     private Ticket ticket;
 
+    // 티켓 재고(quantity)에 반영했는지 여부. 재고 차감은 구매 이후 묶어서 반영한다.
+    @Column(name = "stock_applied")
+    private Boolean stockApplied;
+
     private PurchaseHistory(
         Member member, Ticket ticket
     ) {
         this.member = member;
         this.ticket = ticket;
+        this.stockApplied = false;
     }
 
     @Builder
@@ -0,0 +1,8 @@
+package org.choon.careerbee.domain.store.dto.internal;
+
+public record TicketStockState(
+    Long ticketId,
+    int expectedStock
+) {
+
+}
@@ -3,9 +3,10 @@ package org.choon.careerbee.domain.store.repository;
 import java.util.Optional;
 import org.choon.careerbee.domain.store.domain.Ticket;
 import org.choon.careerbee.domain.store.domain.enums.TicketType;
+import org.choon.careerbee.domain.store.repository.jdbc.TicketJdbcRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface TicketRepository extends JpaRepository<Ticket, Long> {
+public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketJdbcRepository {
 
     Optional<Ticket> findTicketByType(TicketType type);
 }
@@ -0,0 +1,21 @@
+package org.choon.careerbee.domain.store.repository.jdbc;
+
+import java.util.List;
+import org.choon.careerbee.domain.store.dto.internal.TicketStockState;
+
+public interface TicketJdbcRepository {
+
+    /**
+     * 재고에 아직 반영하지 않은 구매를 최대 {@code limit} 건 모아 티켓별로 한 번씩 차감한다.
+     *
+     * @return 이번에 반영한 구매 수
+     */
+    int applyPurchasedStock(int limit);
+
+    /**
+     * 티켓별로 반영 전 구매까지 뺀 현재 재고를 계산한다.
+     */
+    List<TicketStockState> fetchExpectedStocks();
+
+    Integer fetchExpectedStock(Long ticketId);
+}
@@ -0,0 +1,95 @@
+package org.choon.careerbee.domain.store.repository.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.choon.careerbee.domain.store.dto.internal.TicketStockState;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class TicketJdbcRepositoryImpl implements TicketJdbcRepository {
+
+    // 커밋되지 않은 구매는 보이지 않으므로 다음 주기에 반영된다. 다른 반영이 잠근 행은 건너뛰어 다시 세지 않는다.
+    // (stock_applied, id) 인덱스로 미반영 행만 읽는다.
+    private static final String LOCK_UNAPPLIED_SQL = """
+        SELECT id, ticket_id FROM purchase_history
+        WHERE stock_applied = false
+        ORDER BY id
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+    private static final String DECREASE_QUANTITY_SQL = """
+        UPDATE ticket SET quantity = quantity - ?, modified_at = NOW() WHERE id = ?
+        """;
+    private static final String MARK_APPLIED_PREFIX = """
+        UPDATE purchase_history SET stock_applied = true WHERE id IN (""";
+    private static final String EXPECTED_STOCK_SQL = """
+        SELECT t.id, t.quantity - COUNT(p.id) AS expected_stock
+        FROM ticket t
+        LEFT JOIN purchase_history p
+          ON p.ticket_id = t.id AND p.stock_applied = false
+        GROUP BY t.id, t.quantity
+        """;
+    private static final String EXPECTED_STOCK_BY_ID_SQL = """
+        SELECT t.quantity - (
+                 SELECT COUNT(*) FROM purchase_history p
+                 WHERE p.ticket_id = t.id AND p.stock_applied = false
+               )
+        FROM ticket t
+        WHERE t.id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * READ COMMITTED 로 실행해 갭 잠금을 걸지 않는다. REPEATABLE READ 에서는 미반영 구간 끝의 next-key 잠금이
+     * 구매 경로의 purchase_history INSERT 를 막는다.
+     */
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public int applyPurchasedStock(int limit) {
+        List<Long> purchaseIds = new ArrayList<>();
+        // 티켓 ID 순으로 갱신해 다른 트랜잭션과 잠금 순서를 맞춘다.
+        Map<Long, Integer> countByTicket = new TreeMap<>();
+        jdbcTemplate.query(LOCK_UNAPPLIED_SQL, rs -> {
+            purchaseIds.add(rs.getLong("id"));
+            countByTicket.merge(rs.getLong("ticket_id"), 1, Integer::sum);
+        }, limit);
+
+        if (purchaseIds.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(DECREASE_QUANTITY_SQL, countByTicket.entrySet().stream()
+            .map(e -> new Object[]{e.getValue(), e.getKey()})
+            .toList());
+
+        String markSql = MARK_APPLIED_PREFIX
+            + String.join(", ", Collections.nCopies(purchaseIds.size(), "?"))
+            + ")";
+        jdbcTemplate.update(markSql, purchaseIds.toArray());
+
+        return purchaseIds.size();
+    }
+
+    @Override
+    public List<TicketStockState> fetchExpectedStocks() {
+        return jdbcTemplate.query(EXPECTED_STOCK_SQL, (rs, rowNum) -> new TicketStockState(
+            rs.getLong("id"),
+            rs.getInt("expected_stock")
+        ));
+    }
+
+    @Override
+    public Integer fetchExpectedStock(Long ticketId) {
+        return jdbcTemplate.query(EXPECTED_STOCK_BY_ID_SQL, rs -> rs.next() ? rs.getInt(1) : null,
+            ticketId);
+    }
+}
@@ -0,0 +1,58 @@
+package org.choon.careerbee.domain.store.schedule;
+
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.store.repository.TicketRepository;
+import org.choon.careerbee.domain.store.service.stock.TicketStock;
+import org.choon.careerbee.util.lock.DistributedLockExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구매 내역을 티켓 재고에 묶어 반영하고, Redis 재고 카운터를 DB 와 대사한다. 분산 락을 잡은 한 노드만 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketStockRunner {
+
+    private static final String APPLY_LOCK_KEY = "lock:ticket:stock:apply";
+    private static final String RECONCILE_LOCK_KEY = "lock:ticket:stock:reconcile";
+    private static final int BATCH_SIZE = 500;
+
+    private final TicketRepository ticketRepository;
+    private final TicketStock ticketStock;
+    private final DistributedLockExecutor lockExecutor;
+
+    @Scheduled(fixedDelay = 1000)
+    public void applyPurchasedStock() {
+        try {
+            lockExecutor.execute(APPLY_LOCK_KEY, 0L, 300L, TimeUnit.SECONDS, this::drain);
+        } catch (CustomException e) {
+            log.error("[TicketStock] 구매 재고 반영 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void reconcile() {
+        try {
+            lockExecutor.execute(RECONCILE_LOCK_KEY, 0L, 300L, TimeUnit.SECONDS, () -> {
+                int corrected = ticketStock.reconcile();
+                if (corrected > 0) {
+                    log.info("[TicketStock] 재고 카운터 {}건 보정", corrected);
+                }
+            });
+        } catch (CustomException e) {
+            log.error("[TicketStock] 재고 대사 실패", e);
+        }
+    }
+
+    private void drain() {
+        int applied;
+        do {
+            applied = ticketRepository.applyPurchasedStock(BATCH_SIZE);
+        } while (applied == BATCH_SIZE);
+    }
+}
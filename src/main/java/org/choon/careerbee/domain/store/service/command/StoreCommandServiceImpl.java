@@ -1,13 +1,11 @@
 package org.choon.careerbee.domain.store.service.command;
 
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.choon.careerbee.common.enums.CustomResponseStatus;
-import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.store.domain.Ticket;
 import org.choon.careerbee.domain.store.dto.request.TicketPurchaseReq;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.choon.careerbee.domain.store.service.query.StoreQueryService;
+import org.choon.careerbee.domain.store.service.stock.TicketStock;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,31 +13,25 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class StoreCommandServiceImpl implements StoreCommandService {
 
-    private static final String TICKET_LOCK_KEY = "lock:ticket:";
-    private final RedissonClient redissonClient;
+    private final StoreQueryService storeQueryService;
     private final StorePurchaseProcessor storePurchaseProcessor;
+    private final TicketStock ticketStock;
 
+    /**
+     * Redis 재고를 먼저 선점하고, 포인트 차감과 구매 내역 저장이 커밋되면 선점을 확정한다. 실패하면 선점한 재고를 돌려놓는다.
+     */
     @Override
     public void purchaseTicket(TicketPurchaseReq ticketPurchaseReq, Long accessMemberId) {
-        String lockKey = TICKET_LOCK_KEY + ticketPurchaseReq.ticketType();
-        RLock lock = redissonClient.getLock(lockKey);
-        boolean isLocked = false;
+        Ticket ticket = storeQueryService.findTicketByType(ticketPurchaseReq.ticketType());
+        String reservationId = ticketStock.reserve(ticket.getId());
 
         try {
-            isLocked = lock.tryLock(2, 5, TimeUnit.SECONDS);
-            if (!isLocked) {
-                throw new CustomException(CustomResponseStatus.LOCK_ACQUISITION_FAILED);
-            }
-
-            storePurchaseProcessor.executePurchase(ticketPurchaseReq, accessMemberId);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new CustomException(CustomResponseStatus.LOCK_ACQUISITION_FAILED);
-        } finally {
-            if (isLocked) {
-                lock.unlock();
-            }
+            storePurchaseProcessor.executePurchase(ticket, accessMemberId);
+        } catch (RuntimeException e) {
+            ticketStock.release(ticket.getId(), reservationId);
+            throw e;
         }
+        ticketStock.confirm(ticket.getId(), reservationId);
     }
 
 }
@@ -1,13 +1,13 @@
 package org.choon.careerbee.domain.store.service.command;
 
 import lombok.RequiredArgsConstructor;
-import org.choon.careerbee.domain.member.entity.Member;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.member.repository.MemberRepository;
 import org.choon.careerbee.domain.member.service.MemberQueryService;
 import org.choon.careerbee.domain.store.domain.PurchaseHistory;
 import org.choon.careerbee.domain.store.domain.Ticket;
-import org.choon.careerbee.domain.store.dto.request.TicketPurchaseReq;
 import org.choon.careerbee.domain.store.repository.PurchaseHistoryRepository;
-import org.choon.careerbee.domain.store.service.query.StoreQueryService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,18 +15,21 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class StorePurchaseProcessor {
 
+    private final MemberRepository memberRepository;
     private final MemberQueryService memberQueryService;
-    private final StoreQueryService storeQueryService;
     private final PurchaseHistoryRepository purchaseHistoryRepository;
 
+    /**
+     * 회원 행만 갱신하고 티켓 행은 건드리지 않는다. 티켓 재고는 저장된 구매 내역을 모아 나중에 차감한다.
+     */
     @Transactional
-    public void executePurchase(TicketPurchaseReq ticketPurchaseReq, Long accessMemberId) {
-        Member member = memberQueryService.findById(accessMemberId);
-        Ticket ticket = storeQueryService.findTicketByType(ticketPurchaseReq.ticketType());
+    public void executePurchase(Ticket ticket, Long accessMemberId) {
+        if (!memberRepository.deductPoints(accessMemberId, ticket.getPrice())) {
+            throw new CustomException(CustomResponseStatus.NOT_ENOUGH_POINT);
+        }
 
-        member.minusPoint(ticket.getPrice());
-        ticket.use();
-
-        purchaseHistoryRepository.save(PurchaseHistory.of(member, ticket));
+        purchaseHistoryRepository.save(
+            PurchaseHistory.of(memberQueryService.getReferenceById(accessMemberId), ticket)
+        );
     }
 }
@@ -14,6 +14,7 @@ import org.choon.careerbee.domain.store.dto.response.TicketInfoResp.TicketInfo;
 import org.choon.careerbee.domain.store.dto.response.TicketQuantityResp;
 import org.choon.careerbee.domain.store.repository.PurchaseHistoryRepository;
 import org.choon.careerbee.domain.store.repository.TicketRepository;
+import org.choon.careerbee.domain.store.service.stock.TicketStock;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,13 +26,17 @@ public class StoreQueryServiceImpl implements StoreQueryService {
 
     private final TicketRepository ticketRepository;
     private final PurchaseHistoryRepository purchaseHistoryRepository;
+    private final TicketStock ticketStock;
 
+    /**
+     * DB 의 quantity 는 구매가 묶여 늦게 반영되므로, 남은 수량은 Redis 재고 카운터에서 읽는다.
+     */
     @Override
     public TicketQuantityResp fetchTicketQuantity() {
         Map<TicketType, Integer> quantityMap = ticketRepository.findAll().stream()
             .collect(java.util.stream.Collectors.toMap(
                 Ticket::getType,
-                Ticket::getQuantity,
+                ticket -> ticketStock.available(ticket.getId()),
                 (existing, replacement) -> existing
             ));
 
@@ -0,0 +1,218 @@
+package org.choon.careerbee.domain.store.service.stock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.store.dto.internal.TicketStockState;
+import org.choon.careerbee.domain.store.repository.TicketRepository;
+import org.choon.careerbee.util.redis.RedisKeyFactory;
+import org.redisson.api.RScript.Mode;
+import org.redisson.api.RScript.ReturnType;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+/**
+ * 티켓 재고를 Redis 카운터로 관리한다.
+ * <p>
+ * 구매는 Lua 스크립트로 재고 확인과 차감을 한 번에 처리하므로 티켓별 락이 필요 없다. DB 의 {@code ticket.quantity} 는 구매
+ * 내역을 묶어 나중에 차감하므로, 카운터는 "quantity - 아직 반영하지 않은 구매 수" 로 채운다. 어긋난 카운터는
+ * {@link #reconcile()} 가 바로잡는다.
+ * <p>
+ * 선점했지만 아직 구매가 끝나지 않은 건은 선점 ID 와 시각을 ZSET 에 같이 기록하고, 구매가 커밋되면
+ * {@link #confirm(Long, String)}, 실패하면 {@link #release(Long, String)} 로 지운다. 대사는 이 수를 빼고 기대 재고를
+ * 계산한다. 확정이나 반환이 유실된 선점(노드 종료, Redis 오류)은 {@link #RESERVATION_TTL} 이 지나면 대사가 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketStock {
+
+    private static final long NOT_LOADED = -1L;
+    private static final long RESERVED = 1L;
+    // 구매 트랜잭션은 수 초 안에 끝난다. 이보다 오래된 선점은 확정이나 반환이 유실된 것으로 본다.
+    private static final Duration RESERVATION_TTL = Duration.ofMinutes(5);
+
+    private static final String RESERVE = """
+        local stock = redis.call('get', KEYS[1])
+        if not stock then
+          return -1
+        end
+        if tonumber(stock) <= 0 then
+          return 0
+        end
+        redis.call('decr', KEYS[1])
+        redis.call('zadd', KEYS[2], ARGV[2], ARGV[1])
+        return 1
+        """;
+    // 선점 기록이 남아 있을 때만 재고를 돌려준다. 이미 만료되어 지워졌다면 대사가 재고를 맞춘다.
+    private static final String RELEASE = """
+        if redis.call('zrem', KEYS[2], ARGV[1]) == 0 then
+          return nil
+        end
+        if redis.call('exists', KEYS[1]) == 1 then
+          return redis.call('incr', KEYS[1])
+        end
+        return nil
+        """;
+    // 만료된 선점을 지운 뒤 재고 카운터와 남은 선점 수를 함께 읽는다. 카운터가 없으면 빈 배열을 반환한다.
+    private static final String SNAPSHOT = """
+        redis.call('zremrangebyscore', KEYS[2], '-inf', ARGV[1])
+        local stock = redis.call('get', KEYS[1])
+        if not stock then
+          return {}
+        end
+        return {tonumber(stock), redis.call('zcard', KEYS[2])}
+        """;
+    // 카운터가 없으면 건드리지 않는다. 다음 조회 때 DB 기준으로 다시 채운다.
+    private static final String ADD_IF_EXISTS = """
+        if redis.call('exists', KEYS[1]) == 1 then
+          return redis.call('incrby', KEYS[1], ARGV[1])
+        end
+        return nil
+        """;
+
+    private final RedissonClient redissonClient;
+    private final TicketRepository ticketRepository;
+
+    // 직전 대사에서 본 차이. 커밋과 확정 사이의 구매 때문에 생긴 일시적인 차이는 다음 대사 때 사라지므로 두 번 연속 같을 때만
+    // 보정한다.
+    private final Map<Long, Integer> observedDrift = new ConcurrentHashMap<>();
+
+    /**
+     * 재고를 하나 선점하고 선점 ID 를 반환한다. 구매가 커밋되면 {@link #confirm(Long, String)}, 실패하면
+     * {@link #release(Long, String)} 를 이 ID 로 호출해야 한다.
+     */
+    public String reserve(Long ticketId) {
+        String reservationId = UUID.randomUUID().toString();
+        Long result = evalReserve(ticketId, reservationId);
+        if (result == NOT_LOADED) {
+            seed(ticketId);
+            result = evalReserve(ticketId, reservationId);
+        }
+
+        if (result != RESERVED) {
+            throw new CustomException(CustomResponseStatus.TICKET_OUT_OF_STOCK);
+        }
+        return reservationId;
+    }
+
+    public void release(Long ticketId, String reservationId) {
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+            Mode.READ_WRITE, RELEASE, ReturnType.INTEGER, stockKeys(ticketId), reservationId
+        );
+    }
+
+    /**
+     * 구매 내역이 커밋된 선점을 진행 중 목록에서 지운다. 이후 재고 차감은 DB 의 미반영 구매 수로 계산된다.
+     */
+    public void confirm(Long ticketId, String reservationId) {
+        redissonClient.getScoredSortedSet(
+            RedisKeyFactory.ticketReservationsKey(ticketId), StringCodec.INSTANCE
+        ).remove(reservationId);
+    }
+
+    public int available(Long ticketId) {
+        String stock = redissonClient
+            .<String>getBucket(RedisKeyFactory.ticketStockKey(ticketId), StringCodec.INSTANCE)
+            .get();
+        return stock != null ? Integer.parseInt(stock) : seed(ticketId);
+    }
+
+    /**
+     * DB 기준 재고에서 진행 중인 선점 수를 뺀 값과 카운터를 비교해, 같은 차이가 두 번 연속 보이면 그만큼 카운터를 더하거나 뺀다.
+     * 그 사이의 구매를 덮어쓰지 않도록 값을 바꾸지 않고 차이만 반영한다.
+     * <p>
+     * 카운터와 선점 수는 만료된 선점을 지운 뒤 한 스크립트로 함께 읽고, DB 는 그 뒤에 읽는다. 그 사이에 커밋된 구매는 DB 와 선점 수에 모두 잡혀
+     * 기대 재고를 낮추는 쪽으로만 어긋나므로, 진행 중인 구매 때문에 카운터를 늘려 초과 판매하는 일은 없다.
+     *
+     * @return 보정한 티켓 수
+     */
+    public int reconcile() {
+        int corrected = 0;
+        for (TicketStockState state : ticketRepository.fetchExpectedStocks()) {
+            Long ticketId = state.ticketId();
+            Optional<StockSnapshot> snapshot = snapshotOf(ticketId);
+            Integer dbStock = ticketRepository.fetchExpectedStock(ticketId);
+            if (snapshot.isEmpty() || dbStock == null) {
+                observedDrift.remove(ticketId);
+                continue;
+            }
+
+            int expected = dbStock - snapshot.get().reserved();
+            int drift = expected - snapshot.get().stock();
+            Integer previous = drift == 0
+                ? observedDrift.remove(ticketId)
+                : observedDrift.put(ticketId, drift);
+
+            if (drift != 0 && previous != null && previous == drift) {
+                log.warn("[TicketStock] 재고 카운터 보정 - ticketId: {}, redis: {}, reserved: {}, "
+                        + "expected: {}", ticketId, snapshot.get().stock(),
+                    snapshot.get().reserved(), expected);
+                add(ticketId, drift);
+                observedDrift.remove(ticketId);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private Optional<StockSnapshot> snapshotOf(Long ticketId) {
+        long staleBefore = System.currentTimeMillis() - RESERVATION_TTL.toMillis();
+        List<Long> values = redissonClient.getScript(StringCodec.INSTANCE).eval(
+            Mode.READ_WRITE, SNAPSHOT, ReturnType.MULTI, stockKeys(ticketId),
+            String.valueOf(staleBefore)
+        );
+
+        if (values == null || values.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new StockSnapshot(
+            values.get(0).intValue(), values.get(1).intValue()));
+    }
+
+    private int seed(Long ticketId) {
+        Integer expected = ticketRepository.fetchExpectedStock(ticketId);
+        if (expected == null) {
+            throw new CustomException(CustomResponseStatus.TICKET_NOT_EXIST);
+        }
+
+        // 다른 요청이 먼저 채웠다면 그 값을 존중한다.
+        redissonClient
+            .getBucket(RedisKeyFactory.ticketStockKey(ticketId), StringCodec.INSTANCE)
+            .setIfAbsent(String.valueOf(expected));
+        return expected;
+    }
+
+    private Long evalReserve(Long ticketId, String reservationId) {
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(
+            Mode.READ_WRITE, RESERVE, ReturnType.INTEGER, stockKeys(ticketId),
+            reservationId, String.valueOf(System.currentTimeMillis())
+        );
+    }
+
+    private List<Object> stockKeys(Long ticketId) {
+        return List.of(
+            RedisKeyFactory.ticketStockKey(ticketId),
+            RedisKeyFactory.ticketReservationsKey(ticketId)
+        );
+    }
+
+    private void add(Long ticketId, int delta) {
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+            Mode.READ_WRITE, ADD_IF_EXISTS, ReturnType.INTEGER,
+            List.<Object>of(RedisKeyFactory.ticketStockKey(ticketId)), String.valueOf(delta)
+        );
+    }
+
+    private record StockSnapshot(int stock, int reserved) {
+
+    }
+}
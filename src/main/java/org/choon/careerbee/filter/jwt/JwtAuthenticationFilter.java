@@ -15,9 +15,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.choon.careerbee.common.dto.CommonResponse;
 import org.choon.careerbee.common.enums.CustomResponseStatus;
 import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.auth.service.blacklist.TokenBlacklist;
+import org.choon.careerbee.domain.auth.service.version.MemberTokenVersion;
 import org.choon.careerbee.util.jwt.JwtUtil;
-import org.redisson.api.RedissonClient;
-import org.springframework.security.core.Authentication;
+import org.choon.careerbee.util.jwt.TokenPrincipalCache.CachedPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -26,10 +27,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION = "Authorization";
-    private static final String BL_KEY = "bl:";
 
     private final JwtUtil jwtUtil;
-    private final RedissonClient redissonClient;
+    private final TokenBlacklist tokenBlacklist;
+    private final MemberTokenVersion memberTokenVersion;
     private final ObjectMapper objectMapper;
 
     protected void doFilterInternal(
@@ -43,9 +44,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            handleBlacklistedToken(resolveToken);
-            Authentication authentication = jwtUtil.getAuthentication(resolveToken);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            CachedPrincipal verified = jwtUtil.verify(resolveToken);
+            handleBlacklistedToken(verified.tokenId());
+            handleRevokedToken(verified);
+            SecurityContextHolder.getContext()
+                .setAuthentication(jwtUtil.toAuthentication(verified));
             filterChain.doFilter(request, response);
         } catch (CustomException e) {
             writeErrorResponse(response, e.getCustomResponseStatus());
@@ -56,14 +59,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    private void handleBlacklistedToken(String resolveToken) throws CustomException {
-        boolean isBlack = redissonClient.getBucket(BL_KEY + resolveToken).isExists();
-
-        if (isBlack) {
+    private void handleBlacklistedToken(String tokenId) throws CustomException {
+        if (tokenBlacklist.isBlacklisted(tokenId)) {
             throw new CustomException(CustomResponseStatus.LOGOUT_MEMBER);
         }
     }
 
+    /**
+     * 탈퇴·권한 변경으로 회원의 토큰 버전이 올라갔다면 이전에 발급된 토큰의 클레임은 더 이상 믿을 수 없다.
+     */
+    private void handleRevokedToken(CachedPrincipal verified) throws CustomException {
+        if (verified.tokenVersion() != memberTokenVersion.current(verified.memberId())) {
+            throw new CustomException(CustomResponseStatus.REVOKED_JWT);
+        }
+    }
+
     private void writeErrorResponse(HttpServletResponse response, CustomResponseStatus status)
         throws IOException {
         response.setStatus(status.getHttpStatusCode());
@@ -1,6 +1,7 @@
 package org.choon.careerbee.util.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Jwts.SIG;
 import io.jsonwebtoken.io.Decoders;
@@ -10,8 +11,12 @@ import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.choon.careerbee.domain.auth.dto.internal.MemberAuthInfo;
 import org.choon.careerbee.domain.auth.dto.jwt.TokenClaimInfo;
 import org.choon.careerbee.domain.auth.entity.enums.TokenType;
+import org.choon.careerbee.domain.auth.security.PrincipalDetails;
+import org.choon.careerbee.domain.member.entity.enums.RoleType;
+import org.choon.careerbee.util.jwt.TokenPrincipalCache.CachedPrincipal;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -26,6 +31,8 @@ import org.springframework.stereotype.Service;
 public class JwtUtil {
 
     private static final String ID = "id";
+    private static final String ROLE = "role";
+    private static final String VERSION = "ver";
     private static final String BEARER = "Bearer ";
 
     private final String SECRET_KEY;
@@ -33,16 +40,25 @@ public class JwtUtil {
     private final long REFRESH_TOKEN_EXPIRATION_TIME;
     private final UserDetailsService userDetailsService;
 
+    // 서명 키와 파서는 불변이고 스레드 안전하므로 한 번만 만든다.
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final TokenPrincipalCache principalCache;
+
     public JwtUtil(
         @Value("${jwt.secret}") String secretKey,
         @Value("${jwt.expiration_time.access_token}") long accessTokenExprTime,
         @Value("${jwt.expiration_time.refresh_token}") long refreshTokenExprTime,
+        @Value("${jwt.principal-cache.maximum-size:50000}") long principalCacheSize,
         @Qualifier("principalDetailsServiceImpl") UserDetailsService userDetailsService
     ) {
         this.SECRET_KEY = secretKey;
         this.ACCESS_TOKEN_EXPIRATION_TIME = accessTokenExprTime;
         this.REFRESH_TOKEN_EXPIRATION_TIME = refreshTokenExprTime;
         this.userDetailsService = userDetailsService;
+        this.signingKey = getSigningKey(secretKey);
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.principalCache = new TokenPrincipalCache(principalCacheSize);
     }
 
     /***
@@ -59,11 +75,7 @@ public class JwtUtil {
      * @return : 토큰을 파싱하여 토큰에 들어있는 Claim을 리턴
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey(SECRET_KEY))
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /***
@@ -79,27 +91,76 @@ public class JwtUtil {
      * @return : 토큰을 이용하여 로그인 된 UPA 객체를 가져옴 -> UPA 객체 안에 유저의 권한들이 담겨 있음
      */
     public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(
-            String.valueOf(getIdInToken(token)));
+        return toAuthentication(verify(token));
+    }
+
+    /***
+     * @param token : 요청이 들어온 토큰
+     * @return : 서명을 검증한 토큰의 인증 주체와 jti, 토큰 버전
+     * 인증 주체는 토큰 속 id·role 클레임으로 만들며 회원을 조회하지 않는다. role 클레임이 없는 이전 형식의 토큰만 회원을 조회한다.
+     * 같은 토큰의 재요청은 캐시된 결과를 사용하므로 서명 검증을 다시 하지 않는다.
+     */
+    public CachedPrincipal verify(String token) {
+        return principalCache.get(token, () -> {
+            Claims claims = extractAllClaims(token);
+            Long memberId = claims.get(ID, Long.class);
+            Long version = claims.get(VERSION, Long.class);
+
+            return new CachedPrincipal(
+                toPrincipal(memberId, claims.get(ROLE, String.class)),
+                memberId,
+                claims.getId(),
+                version == null ? 0L : version,
+                claims.getExpiration().getTime()
+            );
+        });
+    }
+
+    public Authentication toAuthentication(CachedPrincipal verified) {
+        UserDetails userDetails = verified.principal();
         return new UsernamePasswordAuthenticationToken(userDetails, "",
             userDetails.getAuthorities());
     }
 
+    /***
+     * @param token : 요청이 들어온 토큰
+     * @return : 토큰의 고유 ID(jti). 인증을 거친 토큰이면 캐시에서 꺼내므로 다시 파싱하지 않는다.
+     */
+    public String getTokenId(String token) {
+        return principalCache.find(token)
+            .map(CachedPrincipal::tokenId)
+            .orElseGet(() -> extractAllClaims(token).getId());
+    }
+
+    /***
+     * @param token : 로그아웃 등으로 더 이상 사용하지 않는 토큰
+     * 현재 노드의 인증 주체 캐시에서 제거한다.
+     */
+    public void evictAuthentication(String token) {
+        principalCache.invalidate(token);
+    }
+
     /***
      * @param subject : jwt 의 subject 값
+     * @param role : 회원 권한. 인증 시 회원을 조회하지 않고 이 값으로 권한을 만든다.
+     * @param tokenVersion : 발급 시점의 회원 토큰 버전
      * @param tokenType : AccessToken or RefreshToken
      * @return : 암호화된 JWT
      */
-    public String createToken(Long subject, TokenType tokenType) {
+    public String createToken(
+        Long subject, RoleType role, long tokenVersion, TokenType tokenType
+    ) {
         long expirationTime = getExpirationTime(tokenType);
 
         return Jwts.builder()
             .subject(String.valueOf(subject))
             .claim(ID, subject)
+            .claim(ROLE, role.name())
+            .claim(VERSION, tokenVersion)
             .issuedAt(new Date(System.currentTimeMillis()))
             .expiration(new Date(System.currentTimeMillis() + expirationTime))
             .id(UUID.randomUUID().toString())
-            .signWith(getSigningKey(SECRET_KEY), SIG.HS256)
+            .signWith(signingKey, SIG.HS256)
             .compact();
     }
 
@@ -125,17 +186,19 @@ public class JwtUtil {
      * @return : 토큰의 유효기간이 얼마나 남았는지 리턴
      */
     public Long getRemainingMillis(String token) {
-        Date expiration = Jwts.parser()
-            .verifyWith(getSigningKey(SECRET_KEY))
-            .build()
-            .parseSignedClaims(token)
-            .getPayload()
-            .getExpiration();
+        Date expiration = extractAllClaims(token).getExpiration();
 
         long now = System.currentTimeMillis();
         return expiration.getTime() - now;
     }
 
+    private UserDetails toPrincipal(Long memberId, String role) {
+        if (role == null) {
+            return userDetailsService.loadUserByUsername(String.valueOf(memberId));
+        }
+        return new PrincipalDetails(new MemberAuthInfo(memberId, RoleType.valueOf(role)));
+    }
+
     private long getExpirationTime(TokenType tokenType) {
         return tokenType == TokenType.ACCESS_TOKEN
             ? ACCESS_TOKEN_EXPIRATION_TIME
@@ -3,6 +3,8 @@ package org.choon.careerbee.util.jwt;
 import lombok.RequiredArgsConstructor;
 import org.choon.careerbee.domain.auth.dto.jwt.AuthTokens;
 import org.choon.careerbee.domain.auth.entity.enums.TokenType;
+import org.choon.careerbee.domain.auth.service.version.MemberTokenVersion;
+import org.choon.careerbee.domain.member.entity.enums.RoleType;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -10,16 +12,20 @@ import org.springframework.stereotype.Component;
 public class TokenGenerator {
 
     private final JwtUtil jwtUtil;
+    private final MemberTokenVersion memberTokenVersion;
 
-    public AuthTokens generateToken(Long id) {
-        String accessToken = jwtUtil.createToken(id, TokenType.ACCESS_TOKEN);
-        String refreshToken = jwtUtil.createToken(id, TokenType.REFRESH_TOKEN);
+    public AuthTokens generateToken(Long id, RoleType role) {
+        long tokenVersion = memberTokenVersion.forIssue(id);
+        String accessToken = jwtUtil.createToken(id, role, tokenVersion, TokenType.ACCESS_TOKEN);
+        String refreshToken = jwtUtil.createToken(id, role, tokenVersion, TokenType.REFRESH_TOKEN);
 
         return AuthTokens.of(accessToken, refreshToken);
     }
 
-    public AuthTokens generateTokenWithRF(Long id, String refreshToken) {
-        String accessToken = jwtUtil.createToken(id, TokenType.ACCESS_TOKEN);
+    public AuthTokens generateTokenWithRF(Long id, RoleType role, String refreshToken) {
+        String accessToken = jwtUtil.createToken(
+            id, role, memberTokenVersion.forIssue(id), TokenType.ACCESS_TOKEN
+        );
 
         return AuthTokens.of(accessToken, refreshToken);
     }
@@ -0,0 +1,93 @@
+package org.choon.careerbee.util.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 검증을 마친 토큰의 인증 주체를 노드 로컬에 보관한다.
+ * <p>
+ * 키는 토큰 원문 대신 SHA-256 해시를 쓰고, 각 항목은 토큰 만료 시각에 함께 만료된다. 로그아웃된 토큰은 필터의 블랙리스트
+ * 확인에서 먼저 걸러지므로, 다른 노드에 남은 항목이 로그아웃을 우회하지는 않는다.
+ */
+public class TokenPrincipalCache {
+
+    private final Cache<String, CachedPrincipal> cache;
+
+    public TokenPrincipalCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new UntilTokenExpiry())
+            .build();
+    }
+
+    /**
+     * 캐시에 없으면 {@code loader} 로 토큰을 검증해 인증 주체를 만든다. 검증에 실패하면 예외가 그대로 전파되고 캐시에는 남지 않는다.
+     */
+    public CachedPrincipal get(String token, Supplier<CachedPrincipal> loader) {
+        return cache.get(hash(token), key -> loader.get());
+    }
+
+    public Optional<CachedPrincipal> find(String token) {
+        return Optional.ofNullable(cache.getIfPresent(hash(token)));
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public record CachedPrincipal(
+        UserDetails principal,
+        Long memberId,
+        String tokenId,
+        long tokenVersion,
+        long expiresAtMillis
+    ) {
+
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, CachedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            String key, CachedPrincipal value, long currentTime, long currentDuration
+        ) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+            String key, CachedPrincipal value, long currentTime, long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
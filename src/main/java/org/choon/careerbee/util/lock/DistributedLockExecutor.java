@@ -25,7 +25,7 @@ public class DistributedLockExecutor {
         try {
             acquired = lock.tryLock(waitTime, leaseTime, unit);
             if (!acquired) {
-                log.warn("LOCK 획득 실패: {}", lockKey);
+                log.debug("LOCK 획득 실패: {}", lockKey);
                 return null;
             }
             return action.get();
@@ -0,0 +1,74 @@
+package org.choon.careerbee.util.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 초당 일정 개수의 토큰을 채우는 스레드 안전 토큰 버킷.
+ * <p>
+ * 토큰이 없으면 다음 토큰이 찰 때까지 호출 스레드를 재운다. 가상 스레드가 잠든 동안 캐리어 스레드를 붙잡지 않도록
+ * synchronized 대신 {@link ReentrantLock} 을 쓰고, 잠은 락 밖에서 잔다.
+ */
+public class TokenBucket {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final double permitsPerNano;
+    private final double capacity;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("토큰 버킷 설정은 0보다 커야 합니다.");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+        this.pausedUntilNanos = lastRefillNanos;
+    }
+
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                refill(now);
+                if (now - pausedUntilNanos >= 0 && tokens >= 1) {
+                    tokens -= 1;
+                    return;
+                }
+                long refillNanos = (long) ((1 - tokens) / permitsPerNano);
+                waitNanos = Math.max(pausedUntilNanos - now, refillNanos);
+            } finally {
+                lock.unlock();
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, 1));
+        }
+    }
+
+    /**
+     * 상대 서버가 요청 한도 초과를 알리면 {@code duration} 동안 모든 호출을 멈추고 남은 토큰도 비운다.
+     */
+    public void pause(Duration duration) {
+        lock.lock();
+        try {
+            long until = System.nanoTime() + duration.toNanos();
+            if (until - pausedUntilNanos > 0) {
+                pausedUntilNanos = until;
+            }
+            tokens = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -28,4 +28,56 @@ public class RedisKeyFactory {
     public static String dailySolvedKey(Long memberId, ProblemType type) {
         return "solved:%d:%s:daily".formatted(memberId, type.getPrefix());
     }
+
+    public static String wishCountKey(Long companyId) {
+        return "company:wish:%d".formatted(companyId);
+    }
+
+    public static String wishCountKeyPattern() {
+        return "company:wish:*";
+    }
+
+    public static String liveRankingKey(String date) {
+        return "competition:live:%s".formatted(date);
+    }
+
+    public static String liveRankingLoadedKey(String date) {
+        return "competition:live:%s:loaded".formatted(date);
+    }
+
+    public static String ssePresenceKey(Long memberId) {
+        return "sse:presence:%d:nodes".formatted(memberId);
+    }
+
+    public static String competitionSubmissionKey(Long competitionId, Long memberId) {
+        return "competition:%d:submitted:%d".formatted(competitionId, memberId);
+    }
+
+    public static String competitionSubmissionStreamKey() {
+        return "competition:submissions";
+    }
+
+    public static String ticketStockKey(Long ticketId) {
+        return "store:ticket:%d:stock".formatted(ticketId);
+    }
+
+    public static String ticketReservationsKey(Long ticketId) {
+        return "store:ticket:%d:reservations".formatted(ticketId);
+    }
+
+    public static String tokenBlacklistKey(String tokenId) {
+        return "bl:%s".formatted(tokenId);
+    }
+
+    public static String tokenBlacklistKeyPattern() {
+        return "bl:*";
+    }
+
+    public static String tokenVersionKey(Long memberId) {
+        return "member:%d:tokenVersion".formatted(memberId);
+    }
+
+    public static String unreadNotificationKey(Long memberId) {
+        return "notification:unread:%d".formatted(memberId);
+    }
 }
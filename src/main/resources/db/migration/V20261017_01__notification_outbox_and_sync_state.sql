@@ -0,0 +1,50 @@
+-- 알림 outbox, 전체 알림, 사람인 수집 워터마크 테이블을 만들고 notification 에 outbox 이벤트 ID 를 추가한다.
+-- 엔티티 정의(NotificationOutbox, BroadcastNotification, BroadcastWatermark, SaraminSyncState)와 맞춘다.
+
+-- 알림 생성 요청 outbox. attempts 가 최대 시도 횟수에 도달한 행은 status 를 FAILED 로 바꿔 더 이상 조회하지 않는다.
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    event_type   VARCHAR(20) NOT NULL,
+    payload      TEXT        NOT NULL,
+    status       VARCHAR(10) NOT NULL,
+    attempts     INT         NOT NULL DEFAULT 0,
+    processed_at DATETIME(6) NULL,
+    created_at   TIMESTAMP   NULL,
+    modified_at  TIMESTAMP   NULL,
+    PRIMARY KEY (id),
+    INDEX idx_notification_outbox_status (status, id)
+);
+
+-- 모든 회원에게 같은 내용으로 가는 알림. 회원이 알림함을 조회할 때 개인 알림으로 옮긴다.
+CREATE TABLE IF NOT EXISTS broadcast_notification (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    content     VARCHAR(50) NOT NULL,
+    type        VARCHAR(20) NOT NULL,
+    created_at  TIMESTAMP   NULL,
+    modified_at TIMESTAMP   NULL,
+    PRIMARY KEY (id)
+);
+
+-- 회원별로 개인 알림에 옮긴 마지막 전체 알림 ID.
+CREATE TABLE IF NOT EXISTS broadcast_watermark (
+    member_id         BIGINT NOT NULL,
+    last_broadcast_id BIGINT NOT NULL,
+    PRIMARY KEY (member_id)
+);
+
+-- 사람인 검색(키워드 + 공채 여부)별 수집 워터마크.
+CREATE TABLE IF NOT EXISTS saramin_sync_state (
+    id                     BIGINT        NOT NULL AUTO_INCREMENT,
+    keyword                VARCHAR(50)   NOT NULL,
+    open_recruitment       BIT(1)        NOT NULL,
+    last_posting_timestamp BIGINT        NOT NULL,
+    last_seen_ids          VARCHAR(2000) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_saramin_sync_state_search UNIQUE (keyword, open_recruitment)
+);
+
+-- outbox 재처리 시 같은 이벤트로 같은 회원에게 알림이 중복 생성되지 않도록 한다.
+ALTER TABLE notification
+    ADD COLUMN event_id BIGINT NULL,
+    ADD CONSTRAINT uk_notification_event_member UNIQUE (event_id, member_id),
+    ADD INDEX idx_notification_member_read (member_id, is_read);
@@ -0,0 +1,90 @@
+-- 주간/월간 증분 집계용 누적 상태 컬럼을 추가하고, 기존 주간/월간 행을 competition_result 기준으로 다시 채운다.
+-- 런타임의 PeriodSummaryState.fold 와 같은 규칙을 따른다. 참여일은 결과가 저장된 날(created_at)이고, 참가 신청만 하고
+-- 제출하지 않은 날은 세지 않는다. 연속 참여 일수는 기간 안에서 마지막 참여일로 끝나는 연속 구간의 길이다.
+ALTER TABLE competition_summary
+    ADD COLUMN participation_count  INT  NOT NULL DEFAULT 0,
+    ADD COLUMN current_streak       INT  NOT NULL DEFAULT 0,
+    ADD COLUMN last_participated_on DATE NULL;
+
+-- 증분 집계의 upsert 는 (member_id, type, period_start, period_end) 유니크 키에 의존한다.
+-- 엔티티에는 있지만 수동으로 만든 스키마에는 없을 수 있으므로, 없을 때만 추가한다.
+SET @summary_uk_exists = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'competition_summary'
+      AND non_unique = 0
+      AND column_name = 'period_end'
+);
+SET @summary_uk_sql = IF(@summary_uk_exists = 0,
+    'ALTER TABLE competition_summary ADD CONSTRAINT uk_competition_summary_period
+         UNIQUE (member_id, type, period_start, period_end)',
+    'DO 0');
+PREPARE summary_uk_stmt FROM @summary_uk_sql;
+EXECUTE summary_uk_stmt;
+DEALLOCATE PREPARE summary_uk_stmt;
+
+CREATE TEMPORARY TABLE summary_result_day AS
+SELECT s.id                  AS summary_id,
+       DATE(cr.created_at)   AS day,
+       SUM(cr.solved_count)  AS solved_sum,
+       SUM(cr.elapsed_time)  AS time_sum
+FROM competition_summary s
+JOIN competition_result cr
+  ON cr.member_id = s.member_id
+ AND cr.created_at >= s.period_start
+ AND cr.created_at < s.period_end + INTERVAL 1 DAY
+WHERE s.type IN ('WEEK', 'MONTH')
+GROUP BY s.id, DATE(cr.created_at);
+
+-- MySQL 은 한 쿼리에서 임시 테이블을 두 번 열 수 없으므로 합계, 연속 구간, 최대 연속 일수를 각각 따로 만든다.
+CREATE TEMPORARY TABLE summary_result_total AS
+SELECT summary_id,
+       COUNT(*)        AS participation_count,
+       SUM(solved_sum) AS solved_sum,
+       SUM(time_sum)   AS time_sum,
+       MAX(day)        AS last_day
+FROM summary_result_day
+GROUP BY summary_id;
+
+CREATE TEMPORARY TABLE summary_result_run AS
+SELECT summary_id, run_key, COUNT(*) AS run_length, MAX(day) AS run_end
+FROM (
+    SELECT summary_id,
+           day,
+           DATE_SUB(day, INTERVAL ROW_NUMBER() OVER (
+               PARTITION BY summary_id ORDER BY day
+           ) DAY) AS run_key
+    FROM summary_result_day
+) d
+GROUP BY summary_id, run_key;
+
+CREATE TEMPORARY TABLE summary_result_max_run AS
+SELECT summary_id, MAX(run_length) AS max_streak
+FROM summary_result_run
+GROUP BY summary_id;
+
+-- 정답률은 PeriodSummaryState.correctRate 와 같이 참여일마다 5문제로 계산한다.
+UPDATE competition_summary cs
+JOIN summary_result_total t ON t.summary_id = cs.id
+JOIN summary_result_max_run m ON m.summary_id = cs.id
+JOIN summary_result_run r ON r.summary_id = cs.id AND r.run_end = t.last_day
+SET cs.solved_count         = t.solved_sum,
+    cs.elapsed_time         = t.time_sum,
+    cs.participation_count  = t.participation_count,
+    cs.current_streak       = r.run_length,
+    cs.max_continuous_day   = m.max_streak,
+    cs.correct_rate         = t.solved_sum / (t.participation_count * 5) * 100,
+    cs.last_participated_on = t.last_day;
+
+-- 마지막 참여일 다음 날 대회에 참여하지 않았다면 연속 참여가 이미 끊긴 상태다.
+UPDATE competition_summary
+SET current_streak = 0
+WHERE type IN ('WEEK', 'MONTH')
+  AND current_streak > 0
+  AND last_participated_on < CURDATE() - INTERVAL 1 DAY;
+
+DROP TEMPORARY TABLE summary_result_max_run;
+DROP TEMPORARY TABLE summary_result_run;
+DROP TEMPORARY TABLE summary_result_total;
+DROP TEMPORARY TABLE summary_result_day;
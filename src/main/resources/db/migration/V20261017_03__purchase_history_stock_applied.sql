@@ -0,0 +1,8 @@
+-- 티켓 재고(quantity)에 구매를 반영했는지 여부. 재고 차감은 구매 이후 묶어서 반영한다.
+-- 기존 구매는 구매 시점에 이미 재고를 차감했으므로 반영된 것으로 채우고, 이후 행의 기본값은 미반영으로 둔다.
+ALTER TABLE purchase_history
+    ADD COLUMN stock_applied BIT(1) NOT NULL DEFAULT b'1';
+
+ALTER TABLE purchase_history
+    ALTER COLUMN stock_applied SET DEFAULT b'0',
+    ADD INDEX idx_purchase_history_stock_applied (stock_applied, id);
@@ -0,0 +1,5 @@
+-- 한 outbox 이벤트가 여러 기업의 공고 오픈을 묶으므로, (event_id, member_id) 만으로는 같은 회원의 두 번째 기업 알림이
+-- ON DUPLICATE KEY 로 버려진다. 기업명(content)까지 유니크 키에 포함한다.
+ALTER TABLE notification
+    DROP INDEX uk_notification_event_member,
+    ADD CONSTRAINT uk_notification_event_member_content UNIQUE (event_id, member_id, content);
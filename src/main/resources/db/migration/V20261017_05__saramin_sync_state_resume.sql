@@ -0,0 +1,5 @@
+-- 최대 페이지 수에서 멈춘 사람인 수집을 다음 수집에서 이어 읽기 위한 위치와, 다 읽은 뒤 옮길 워터마크.
+ALTER TABLE saramin_sync_state
+    ADD COLUMN resume_before             BIGINT        NOT NULL DEFAULT 0,
+    ADD COLUMN pending_posting_timestamp BIGINT        NOT NULL DEFAULT 0,
+    ADD COLUMN pending_seen_ids          VARCHAR(2000) NOT NULL DEFAULT '';
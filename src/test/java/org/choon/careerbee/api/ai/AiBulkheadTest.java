@@ -0,0 +1,94 @@
+package org.choon.careerbee.api.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AiBulkheadTest {
+
+    private MeterRegistry meterRegistry;
+    private AiBulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new AiBulkhead(meterRegistry, 50L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkhead.destroy();
+    }
+
+    @Test
+    @DisplayName("한도만큼 실행 중이면 같은 묶음의 요청은 거절하고, 다른 묶음은 그대로 실행한다")
+    void call_whenGroupIsFull_shouldRejectOnlyThatGroup() throws Exception {
+        // given
+        AiEndpointGroup group = AiEndpointGroup.RESUME_DRAFT;
+        CountDownLatch started = new CountDownLatch(group.getMaxConcurrent());
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<String>> running = new ArrayList<>();
+        for (int i = 0; i < group.getMaxConcurrent(); i++) {
+            running.add(bulkhead.submit(group, () -> {
+                started.countDown();
+                await(release);
+                return "done";
+            }));
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> bulkhead.call(group, () -> "rejected"))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("customResponseStatus",
+                CustomResponseStatus.AI_REQUEST_OVERLOADED);
+        assertThat(bulkhead.call(AiEndpointGroup.FEEDBACK, () -> "ok")).isEqualTo("ok");
+
+        assertThat(gauge("ai.bulkhead.active", group)).isEqualTo(group.getMaxConcurrent());
+        assertThat(meterRegistry.get("ai.bulkhead.rejected")
+            .tag("endpoint", group.getTag()).counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        CompletableFuture.allOf(running.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        assertThat(gauge("ai.bulkhead.active", group)).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 호출한 스레드가 아닌 전용 가상 스레드에서 실행된다")
+    void submit_shouldRunOnDedicatedVirtualThread() throws Exception {
+        // when
+        Thread worker = bulkhead.submit(AiEndpointGroup.FEEDBACK, Thread::currentThread)
+            .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(worker.isVirtual()).isTrue();
+        assertThat(worker.getName()).startsWith("ai-call-");
+        assertThat(gauge("ai.bulkhead.limit", AiEndpointGroup.FEEDBACK))
+            .isEqualTo(AiEndpointGroup.FEEDBACK.getMaxConcurrent());
+    }
+
+    private double gauge(String name, AiEndpointGroup group) {
+        return meterRegistry.get(name).tag("endpoint", group.getTag()).gauge().value();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
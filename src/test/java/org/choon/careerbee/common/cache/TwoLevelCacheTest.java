@@ -0,0 +1,106 @@
+package org.choon.careerbee.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache remote;
+    private List<String> broadcasted;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("recentIssue");
+        broadcasted = new ArrayList<>();
+        cache = new TwoLevelCache(
+            "recentIssue",
+            Caffeine.newBuilder().maximumSize(100).build(),
+            remote,
+            broadcasted::add
+        );
+    }
+
+    @Test
+    @DisplayName("L2 적중 시 L1을 채워 이후 조회는 L2를 거치지 않는다")
+    void get_whenRemoteHit_shouldPopulateLocal() {
+        // given
+        remote.put(1L, "이슈");
+
+        // when
+        cache.get(1L);
+        remote.evict(1L);
+
+        // then
+        assertThat(cache.get(1L, String.class)).isEqualTo("이슈");
+    }
+
+    @Test
+    @DisplayName("put/evict 시 L2에 반영하고, 무효화는 evict 에서만 전파한다")
+    void putAndEvict_shouldWriteThroughAndBroadcastOnlyOnEvict() {
+        // when
+        cache.put(1L, "이슈");
+        cache.evict(1L);
+
+        // then
+        assertThat(remote.get(1L)).isNull();
+        assertThat(cache.get(1L)).isNull();
+        assertThat(broadcasted).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("기존 값을 덮어쓰는 put 은 새 값을 L2에 반영하고 다른 노드로 무효화를 전파한다")
+    void put_whenOverwriting_shouldBroadcast() {
+        // given
+        remote.put(1L, "이전 이슈");
+
+        // when
+        cache.put(1L, "새 이슈");
+
+        // then
+        assertThat(remote.get(1L, String.class)).isEqualTo("새 이슈");
+        assertThat(cache.get(1L, String.class)).isEqualTo("새 이슈");
+        assertThat(broadcasted).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 L1만 비우고 L2 값은 유지한다")
+    void evictLocal_shouldDropOnlyLocalEntry() {
+        // given
+        cache.put(1L, "이전 이슈");
+        remote.put(1L, "새 이슈");
+
+        // when
+        cache.evictLocal("1");
+
+        // then
+        assertThat(cache.get(1L, String.class)).isEqualTo("새 이슈");
+    }
+
+    @Test
+    @DisplayName("null 결과도 캐싱되어 로더를 다시 호출하지 않는다")
+    void get_withLoader_shouldCacheNullValue() {
+        // given
+        int[] calls = {0};
+
+        // when
+        cache.get(1L, () -> {
+            calls[0]++;
+            return null;
+        });
+        cache.get(1L, () -> {
+            calls[0]++;
+            return null;
+        });
+
+        // then
+        assertThat(calls[0]).isEqualTo(1);
+    }
+}
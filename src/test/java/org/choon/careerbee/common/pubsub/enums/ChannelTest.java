@@ -0,0 +1,32 @@
+package org.choon.careerbee.common.pubsub.enums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChannelTest {
+
+    @Test
+    @DisplayName("노드 전용 채널 이름에서 원래 채널을 찾는다")
+    void from_whenNodeTopic_shouldResolveOriginalChannel() {
+        // given
+        String nodeId = UUID.randomUUID().toString();
+        String topic = Channel.PROBLEM_FEEDBACK.forNode(nodeId);
+
+        // when
+        Channel channel = Channel.from(topic);
+
+        // then
+        assertThat(channel).isEqualTo(Channel.PROBLEM_FEEDBACK);
+        assertThat(topic).startsWith(Channel.nodePattern(nodeId).replace("*", ""));
+    }
+
+    @Test
+    @DisplayName("전역 채널 이름은 그대로 찾는다")
+    void from_whenGlobalTopic_shouldResolveChannel() {
+        // when & then
+        assertThat(Channel.from("daily-winner")).isEqualTo(Channel.DAILY_WINNER);
+    }
+}
@@ -23,6 +23,7 @@ import org.choon.careerbee.domain.auth.service.oauth.kakao.KakaoInfoResponse;
 import org.choon.careerbee.domain.auth.service.oauth.kakao.KakaoInfoResponse.Profile;
 import org.choon.careerbee.domain.auth.service.oauth.kakao.KakaoLoginParams;
 import org.choon.careerbee.domain.member.entity.Member;
+import org.choon.careerbee.domain.member.entity.enums.RoleType;
 import org.choon.careerbee.domain.member.repository.MemberRepository;
 import org.choon.careerbee.domain.member.service.MemberCommandService;
 import org.choon.careerbee.filter.jwt.JwtAuthenticationFilter;
@@ -96,7 +97,9 @@ class AuthControllerTest {
         testMember = memberRepository.saveAndFlush(createMember("testnick", "test@test.com", 1L));
 
         testAccessToken =
-            "Bearer " + jwtUtil.createToken(testMember.getId(), TokenType.ACCESS_TOKEN);
+            "Bearer " + jwtUtil.createToken(
+                testMember.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+            );
     }
 
     @Test
@@ -230,8 +233,9 @@ class AuthControllerTest {
     @DisplayName("로그아웃 요청이 성공적으로 처리된다")
     void logout_success() throws Exception {
         // given
-        String testRefreshTokenValue = jwtUtil.createToken(testMember.getId(),
-            TokenType.REFRESH_TOKEN);
+        String testRefreshTokenValue = jwtUtil.createToken(
+            testMember.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.REFRESH_TOKEN
+        );
         redissonClient.getBucket(RT_KEY + testMember.getId())
             .set(testRefreshTokenValue, Duration.ofMillis(RT_TTL));
 
@@ -259,7 +263,9 @@ class AuthControllerTest {
     @DisplayName("토큰 재발급 요청이 성공적으로 처리된다")
     void reissue_success() throws Exception {
         // given
-        String validRefreshToken = jwtUtil.createToken(testMember.getId(), TokenType.REFRESH_TOKEN);
+        String validRefreshToken = jwtUtil.createToken(
+            testMember.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.REFRESH_TOKEN
+        );
         redissonClient.getBucket(RT_KEY + testMember.getId())
             .set(validRefreshToken, Duration.ofMillis(RT_TTL));
 
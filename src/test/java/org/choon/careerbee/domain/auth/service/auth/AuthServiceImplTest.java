@@ -27,7 +27,7 @@ import org.choon.careerbee.domain.auth.dto.jwt.AuthTokens;
 import org.choon.careerbee.domain.auth.dto.jwt.TokenClaimInfo;
 import org.choon.careerbee.domain.auth.dto.response.OAuthLoginUrlResp;
 import org.choon.careerbee.domain.auth.entity.enums.OAuthProvider;
-import org.choon.careerbee.domain.auth.entity.enums.TokenType;
+import org.choon.careerbee.domain.auth.service.blacklist.TokenBlacklist;
 import org.choon.careerbee.domain.auth.service.oauth.OAuthLoginUrlProvider;
 import org.choon.careerbee.domain.auth.service.oauth.OAuthLoginUrlProviderFactory;
 import org.choon.careerbee.domain.auth.service.oauth.RequestOAuthInfoService;
@@ -35,6 +35,7 @@ import org.choon.careerbee.domain.auth.service.oauth.kakao.KakaoInfoResponse;
 import org.choon.careerbee.domain.auth.service.oauth.kakao.KakaoInfoResponse.KakaoAccount;
 import org.choon.careerbee.domain.auth.service.oauth.kakao.KakaoLoginParams;
 import org.choon.careerbee.domain.member.entity.Member;
+import org.choon.careerbee.domain.member.entity.enums.RoleType;
 import org.choon.careerbee.domain.member.repository.MemberRepository;
 import org.choon.careerbee.domain.member.service.MemberCommandService;
 import org.choon.careerbee.domain.member.service.MemberQueryService;
@@ -56,7 +57,6 @@ import org.springframework.test.util.ReflectionTestUtils;
 class AuthServiceImplTest {
 
     private static final String RT_KEY = "rt:";
-    private static final String BL_KEY = "bl:";
     private static final Long RT_TTL = (long) (1000 * 600);
 
     @InjectMocks
@@ -77,6 +77,9 @@ class AuthServiceImplTest {
     @Mock
     private RedissonClient redissonClient;
 
+    @Mock
+    private TokenBlacklist tokenBlacklist;
+
     @Mock
     private TokenGenerator tokenGenerator;
     @Mock
@@ -149,8 +152,8 @@ class AuthServiceImplTest {
         when(redissonClient.<String>getBucket(RT_KEY + member.getId())).thenReturn(rtBucket);
 
         // (4) 토큰 생성 mock
-        when(jwtUtil.createToken(10L, TokenType.ACCESS_TOKEN)).thenReturn("new-access");
-        when(jwtUtil.createToken(10L, TokenType.REFRESH_TOKEN)).thenReturn("new-refresh");
+        when(tokenGenerator.generateToken(10L, RoleType.ROLE_MEMBER))
+            .thenReturn(new AuthTokens("new-access", "new-refresh"));
 
         // when
         AuthTokens result = authService.login(params, "http://localhost:5173");
@@ -190,8 +193,8 @@ class AuthServiceImplTest {
         when(memberCommandService.forceJoin(oAuthInfo)).thenReturn(newMember);
 
         // (3) 토큰 생성 mock
-        when(jwtUtil.createToken(2L, TokenType.ACCESS_TOKEN)).thenReturn("access-token-new");
-        when(jwtUtil.createToken(2L, TokenType.REFRESH_TOKEN)).thenReturn("refresh-token-new");
+        when(tokenGenerator.generateToken(2L, RoleType.ROLE_MEMBER))
+            .thenReturn(new AuthTokens("access-token-new", "refresh-token-new"));
 
         // (4) Redis 버킷 mock
         RBucket<String> rtBucket = mock(RBucket.class);
@@ -234,8 +237,8 @@ class AuthServiceImplTest {
             .thenReturn(Optional.of(member));
 
         // (3) 토큰 생성 stub
-        when(jwtUtil.createToken(20L, TokenType.ACCESS_TOKEN)).thenReturn("access-exist");
-        when(jwtUtil.createToken(20L, TokenType.REFRESH_TOKEN)).thenReturn("refresh-exist");
+        when(tokenGenerator.generateToken(20L, RoleType.ROLE_MEMBER))
+            .thenReturn(new AuthTokens("access-exist", "refresh-exist"));
 
         // (4) Redis 버킷 mock
         @SuppressWarnings("unchecked")
@@ -290,6 +293,7 @@ class AuthServiceImplTest {
 
         String bearerAt = "Bearer some-access-token";
         String accessToken = "some-access-token";
+        String tokenId = "some-token-id";
         long remainMs = 120_000L;
 
         TokenClaimInfo claim = new TokenClaimInfo(memberId);
@@ -298,23 +302,23 @@ class AuthServiceImplTest {
         when(jwtUtil.resolveToken(bearerAt)).thenReturn(accessToken);
         when(jwtUtil.getTokenClaims(accessToken)).thenReturn(claim);
         when(jwtUtil.getRemainingMillis(accessToken)).thenReturn(remainMs);
+        when(jwtUtil.getTokenId(accessToken)).thenReturn(tokenId);
 
         // ② 멤버 조회 mock
         when(memberQueryService.getReferenceById(memberId)).thenReturn(member);
 
         // ③ Redis 버킷 mock
         RBucket<String> rtBucket = mock(RBucket.class);
-        RBucket<String> blBucket = mock(RBucket.class);
         when(redissonClient.<String>getBucket(RT_KEY + memberId)).thenReturn(rtBucket);
-        when(redissonClient.<String>getBucket(BL_KEY + accessToken)).thenReturn(blBucket);
 
         // when
         assertDoesNotThrow(() -> authService.logout(bearerAt));
 
         // then
         verify(rtBucket).delete();
-        verify(blBucket).set(eq(""), argThat(d -> d.toMillis() == remainMs));
-        verifyNoMoreInteractions(rtBucket, blBucket, jwtUtil, memberQueryService);
+        verify(tokenBlacklist).blacklist(eq(tokenId), argThat(d -> d.toMillis() == remainMs));
+        verify(jwtUtil).evictAuthentication(accessToken);
+        verifyNoMoreInteractions(rtBucket, tokenBlacklist, jwtUtil, memberQueryService);
     }
 
     @Test
@@ -351,11 +355,12 @@ class AuthServiceImplTest {
         RBucket<String> bucket = mock(RBucket.class);
 
         when(jwtUtil.getTokenClaims(oldRt)).thenReturn(new TokenClaimInfo(memberId));
-        when(memberQueryService.getReferenceById(memberId)).thenReturn(member);
+        when(memberQueryService.findById(memberId)).thenReturn(member);
         when(bucket.get()).thenReturn(oldRt);
         doNothing().when(bucket).set(eq(newRt), any(Duration.class));
         when(redissonClient.<String>getBucket(anyString())).thenReturn(bucket);
-        when(tokenGenerator.generateToken(memberId)).thenReturn(new AuthTokens(newAt, newRt));
+        when(tokenGenerator.generateToken(memberId, RoleType.ROLE_MEMBER))
+            .thenReturn(new AuthTokens(newAt, newRt));
 
         // refreshTokenTTL 주입 (예: 7일)
         ReflectionTestUtils.setField(authService, "refreshTokenTTL", RT_TTL);
@@ -397,7 +402,7 @@ class AuthServiceImplTest {
         RBucket<String> bucket = mock(RBucket.class);
 
         when(jwtUtil.getTokenClaims(rtInCookie)).thenReturn(claimInfo);
-        when(memberQueryService.getReferenceById(member.getId())).thenReturn(member);
+        when(memberQueryService.findById(member.getId())).thenReturn(member);
         when(redissonClient.<String>getBucket(anyString())).thenReturn(bucket);
         when(bucket.get()).thenReturn(null);
 
@@ -410,4 +415,25 @@ class AuthServiceImplTest {
         // Redis에 새로운 RT를 저장하려 시도하지 않은 것도 확인
         verify(bucket, never()).set(anyString(), any(Duration.class));
     }
+
+    @DisplayName("재발급 실패 - 탈퇴한 회원은 토큰을 다시 발급받을 수 없음")
+    @Test
+    void reissue_shouldThrow_whenMemberWithdrawn() {
+        // given
+        Member member = createMember("nick", "email@test.com", 1234L);
+        ReflectionTestUtils.setField(member, "id", 1L);
+        ReflectionTestUtils.setField(member, "withdrawnAt", LocalDateTime.now());
+
+        String rtInCookie = "refresh-token";
+        when(jwtUtil.getTokenClaims(rtInCookie)).thenReturn(new TokenClaimInfo(member.getId()));
+        when(memberQueryService.findById(member.getId())).thenReturn(member);
+
+        // when & then
+        assertThatThrownBy(() -> authService.reissue(rtInCookie))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("customResponseStatus",
+                CustomResponseStatus.WITHDRAWAL_MEMBER);
+
+        verify(tokenGenerator, never()).generateToken(anyLong(), any(RoleType.class));
+    }
 }
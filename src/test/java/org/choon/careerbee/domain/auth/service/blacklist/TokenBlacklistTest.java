@@ -0,0 +1,84 @@
+package org.choon.careerbee.domain.auth.service.blacklist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.choon.careerbee.common.pubsub.RedisPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBucket;
+import org.redisson.api.RKeys;
+import org.redisson.api.RedissonClient;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RedisPublisher redisPublisher;
+
+    @Mock
+    private RKeys keys;
+
+    @Mock
+    private RBucket<Object> bucket;
+
+    private TokenBlacklist tokenBlacklist;
+
+    @BeforeEach
+    void setUp() {
+        tokenBlacklist = new TokenBlacklist(redissonClient, redisPublisher, 1_000L, 0.01);
+        when(redissonClient.getKeys()).thenReturn(keys);
+        when(keys.getKeysByPattern("bl:*")).thenReturn(List.of("bl:revoked-jti"));
+        tokenBlacklist.rebuild();
+    }
+
+    @Test
+    @DisplayName("필터에 없는 토큰은 Redis 를 조회하지 않고 통과시킨다")
+    void isBlacklisted_whenFilterMiss_shouldSkipRedis() {
+        // when
+        boolean result = tokenBlacklist.isBlacklisted("active-jti");
+
+        // then
+        assertThat(result).isFalse();
+        verify(redissonClient, never()).getBucket(anyString());
+    }
+
+    @Test
+    @DisplayName("필터에 걸린 토큰은 Redis 로 블랙리스트 여부를 확인한다")
+    void isBlacklisted_whenFilterHit_shouldCheckRedis() {
+        // given
+        when(redissonClient.getBucket("bl:revoked-jti")).thenReturn(bucket);
+        when(bucket.isExists()).thenReturn(true);
+
+        // when
+        boolean result = tokenBlacklist.isBlacklisted("revoked-jti");
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 받은 로그아웃 토큰은 필터에 반영된다")
+    void addLocal_shouldMakeTokenVisibleToFilter() {
+        // given
+        when(redissonClient.getBucket("bl:remote-jti")).thenReturn(bucket);
+        when(bucket.isExists()).thenReturn(true);
+
+        // when
+        tokenBlacklist.addLocal("remote-jti");
+
+        // then
+        assertThat(tokenBlacklist.isBlacklisted("remote-jti")).isTrue();
+    }
+}
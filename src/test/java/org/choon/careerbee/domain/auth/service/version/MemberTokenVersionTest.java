@@ -0,0 +1,73 @@
+package org.choon.careerbee.domain.auth.service.version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.choon.careerbee.common.pubsub.RedisPublisher;
+import org.choon.careerbee.common.pubsub.dto.TokenVersionChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+
+@ExtendWith(MockitoExtension.class)
+class MemberTokenVersionTest {
+
+    private static final String VERSION_KEY = "member:1:tokenVersion";
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RedisPublisher redisPublisher;
+
+    @Mock
+    private RAtomicLong version;
+
+    private MemberTokenVersion memberTokenVersion;
+
+    @BeforeEach
+    void setUp() {
+        memberTokenVersion = new MemberTokenVersion(redissonClient, redisPublisher, 60L, 100L);
+        when(redissonClient.getAtomicLong(VERSION_KEY)).thenReturn(version);
+    }
+
+    @Test
+    @DisplayName("현재 버전은 로컬 캐시에 없을 때만 Redis 에서 읽는다")
+    void current_shouldReadRedisOnce() {
+        // given
+        when(version.get()).thenReturn(0L);
+
+        // when
+        long first = memberTokenVersion.current(1L);
+        long second = memberTokenVersion.current(1L);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        verify(version, times(1)).get();
+    }
+
+    @Test
+    @DisplayName("버전을 올리면 로컬 캐시를 비우고 다른 노드에 변경을 알린다")
+    void bump_shouldIncrementEvictAndPublish() {
+        // given
+        when(version.get()).thenReturn(0L, 1L);
+        when(version.incrementAndGet()).thenReturn(1L);
+        memberTokenVersion.current(1L);
+
+        // when
+        memberTokenVersion.bump(1L);
+        long result = memberTokenVersion.current(1L);
+
+        // then
+        assertThat(result).isEqualTo(1L);
+        verify(redisPublisher).publishTokenVersionChangedEvent(new TokenVersionChangedEvent(1L));
+    }
+}
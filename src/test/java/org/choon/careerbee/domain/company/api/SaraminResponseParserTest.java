@@ -0,0 +1,102 @@
+package org.choon.careerbee.domain.company.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.company.dto.response.SaraminRecruitingResp;
+import org.choon.careerbee.domain.company.dto.response.SaraminRecruitingResp.Job;
+import org.choon.careerbee.domain.company.exception.RetryableSaraminException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SaraminResponseParserTest {
+
+    private final SaraminResponseParser parser = new SaraminResponseParser(new JsonFactory());
+
+    @Test
+    @DisplayName("공고 목록에서 저장에 쓰는 필드만 읽고 나머지는 건너뛴다")
+    void parse_shouldReadOnlyUsedFields() throws IOException {
+        // given
+        String body = """
+            {"jobs":{"count":2,"start":0,"total":"345","job":[
+              {"url":"https://saramin/1","active":1,
+               "company":{"detail":{"href":"https://c","name":"카카오"}},
+               "position":{"title":"백엔드 개발자","industry":{"code":"1","name":"IT"},
+                 "location":{"code":"102180","name":"판교"}},
+               "keyword":"백엔드","salary":{"code":"0","name":"면접후 결정"},
+               "id":"49001","posting-timestamp":"1700000000",
+               "posting-date":"2025-01-02T09:00:00+0900",
+               "expiration-date":"2025-02-01T23:59:59+0900",
+               "close-type":{"code":"1","name":"접수마감일"},"read-cnt":"10"},
+              {"url":"https://saramin/2","active":0,"company":null,
+               "position":{"title":"보안 엔지니어"},"id":49002}
+            ]}}
+            """;
+
+        // when
+        SaraminRecruitingResp resp = parser.parse(stream(body));
+
+        // then
+        assertThat(resp.total()).isEqualTo(345);
+        assertThat(resp.count()).isEqualTo(2);
+        assertThat(resp.jobs()).containsExactly(
+            new Job(49001L, "https://saramin/1", 1, "카카오", "백엔드 개발자", 1700000000L,
+                "2025-01-02T09:00:00+0900", "2025-02-01T23:59:59+0900"),
+            new Job(49002L, "https://saramin/2", 0, null, "보안 엔지니어", null, null, null)
+        );
+    }
+
+    @Test
+    @DisplayName("code 99 는 다시 시도할 수 있는 예외로 던진다")
+    void parse_whenCode99_shouldThrowRetryable() {
+        // given
+        String body = """
+            {"code":"99","message":"temporary error"}
+            """;
+
+        // when & then
+        assertThatThrownBy(() -> parser.parse(stream(body)))
+            .isInstanceOf(RetryableSaraminException.class);
+    }
+
+    @Test
+    @DisplayName("요청 한도 초과(code 4)는 사람인 오류 상태로 바꿔 던진다")
+    void parse_whenCode4_shouldThrowTooManyRequest() {
+        // given
+        String body = """
+            {"code":4,"message":"too many requests"}
+            """;
+
+        // when & then
+        assertThatThrownBy(() -> parser.parse(stream(body)))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("customResponseStatus",
+                CustomResponseStatus.SARAMIN_TOO_MANY_REQUEST_ERROR);
+    }
+
+    @Test
+    @DisplayName("공고가 없는 응답은 빈 목록으로 읽는다")
+    void parse_whenNoJobs_shouldReturnEmpty() throws IOException {
+        // given
+        String body = """
+            {"jobs":{"count":0,"start":0,"total":"0"}}
+            """;
+
+        // when
+        SaraminRecruitingResp resp = parser.parse(stream(body));
+
+        // then
+        assertThat(resp.jobs()).isEmpty();
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -9,6 +9,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import jakarta.persistence.EntityManager;
 import org.choon.careerbee.common.enums.CustomResponseStatus;
 import org.choon.careerbee.domain.company.entity.Company;
+import org.choon.careerbee.domain.company.service.index.CompanyMarkerIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -35,6 +36,9 @@ class CompanyControllerTest {
     @Autowired
     private EntityManager em;
 
+    @Autowired
+    private CompanyMarkerIndex companyMarkerIndex;
+
     @Test
     @DisplayName("주어진 반경 내 기업이 거리순으로 정상 조회된다")
     void fetchCompaniesByDistance_success() throws Exception {
@@ -54,6 +58,7 @@ class CompanyControllerTest {
 
         em.flush();
         em.clear();
+        companyMarkerIndex.reload();
 
         // when & then
         mockMvc.perform(get("/api/v1/companies")
@@ -79,6 +84,7 @@ class CompanyControllerTest {
         em.persist(createCompany("멀리있는 기업", lat + 0.1, lon + 0.1));
         em.flush();
         em.clear();
+        companyMarkerIndex.reload();
 
         // when & then
         mockMvc.perform(get("/api/v1/companies")
@@ -15,6 +15,7 @@ import org.choon.careerbee.domain.company.entity.Company;
 import org.choon.careerbee.domain.company.repository.CompanyRepository;
 import org.choon.careerbee.domain.company.repository.wish.WishCompanyRepository;
 import org.choon.careerbee.domain.member.entity.Member;
+import org.choon.careerbee.domain.member.entity.enums.RoleType;
 import org.choon.careerbee.domain.member.repository.MemberRepository;
 import org.choon.careerbee.util.jwt.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,7 +63,9 @@ class WishCompanyControllerTest {
         testMember = memberRepository.save(createMember("testnick", "test@test.com", 1L));
         testCompany = companyRepository.save(createCompany("테스트 회사", 37.1234, 127.46));
         // JWT 토큰 발급
-        jwtToken = jwtUtil.createToken(testMember.getId(), TokenType.ACCESS_TOKEN);
+        jwtToken = jwtUtil.createToken(
+            testMember.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
     }
 
     @Test
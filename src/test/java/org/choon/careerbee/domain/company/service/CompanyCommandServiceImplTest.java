@@ -1,5 +1,6 @@
 package org.choon.careerbee.domain.company.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.choon.careerbee.fixture.CompanyFixture.createCompany;
 import static org.choon.careerbee.fixture.MemberFixture.createMember;
@@ -7,19 +8,31 @@ import static org.choon.careerbee.fixture.WishCompanyFixture.createWishCompany;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.choon.careerbee.common.enums.CustomResponseStatus;
 import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.company.api.NextApiClient;
+import org.choon.careerbee.domain.company.dto.event.CompanyMarkerChangedEvent;
+import org.choon.careerbee.domain.company.dto.internal.RecruitmentExpiryResult;
+import org.choon.careerbee.domain.company.dto.request.CompanyRevalidateReq;
+import org.choon.careerbee.domain.company.dto.request.RecentIssueUpdateReq;
 import org.choon.careerbee.domain.company.entity.Company;
 import org.choon.careerbee.domain.company.entity.wish.WishCompany;
+import org.choon.careerbee.domain.company.repository.CompanyRepository;
+import org.choon.careerbee.domain.company.repository.recruitment.RecruitmentRepository;
 import org.choon.careerbee.domain.company.repository.wish.WishCompanyRepository;
 import org.choon.careerbee.domain.company.service.command.CompanyCommandServiceImpl;
 import org.choon.careerbee.domain.company.service.query.CompanyQueryService;
+import org.choon.careerbee.domain.company.service.wish.CompanyWishCounter;
 import org.choon.careerbee.domain.member.entity.Member;
 import org.choon.careerbee.domain.member.service.MemberQueryService;
 import org.junit.jupiter.api.DisplayName;
@@ -28,9 +41,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RAtomicLong;
 import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class CompanyCommandServiceImplTest {
@@ -50,6 +67,24 @@ class CompanyCommandServiceImplTest {
     @Mock
     private RedissonClient redissonClient;
 
+    @Mock
+    private CompanyWishCounter companyWishCounter;
+
+    @Mock
+    private RecruitmentRepository recruitmentRepository;
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private NextApiClient nextApiClient;
+
     @Test
     @DisplayName("관심 회사 등록 - 성공")
     void registWishCompany_success() {
@@ -59,17 +94,6 @@ class CompanyCommandServiceImplTest {
         Member mockMember = createMember("testnick", "test@test.com", memberId);
         Company mockCompany = createCompany("테스트 기업", 37.0, 127.0);
 
-        // 1. 중복 요청 방지 락 모킹
-        RBucket<String> lockBucket = mock(RBucket.class);
-        when(redissonClient.<String>getBucket(anyString())).thenReturn(lockBucket);
-        when(lockBucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(true);
-
-        // 2. RAtomicLong 모킹
-        RAtomicLong mockAtomicLong = mock(RAtomicLong.class);
-        // wishCountKey로 getAtomicLong 호출 시, 위에서 만든 mockAtomicLong을 반환하도록 설정
-        when(redissonClient.getAtomicLong(anyString())).thenReturn(mockAtomicLong);
-
-        // 3. DB 관련 모킹
         when(memberQueryService.findById(memberId)).thenReturn(mockMember);
         when(companyQueryService.findById(companyId)).thenReturn(mockCompany);
         when(wishCompanyRepository.existsByMemberAndCompany(mockMember, mockCompany)).thenReturn(
@@ -81,8 +105,8 @@ class CompanyCommandServiceImplTest {
         // then
         // DB에 저장이 1번 호출되었는지 검증
         verify(wishCompanyRepository, times(1)).save(any());
-        // 캐시 카운터가 1 증가했는지 검증
-        verify(mockAtomicLong, times(1)).incrementAndGet();
+        // 관심 수 카운터가 1 증가했는지 검증
+        verify(companyWishCounter, times(1)).increment(companyId);
     }
 
     @Test
@@ -120,19 +144,6 @@ class CompanyCommandServiceImplTest {
         Company mockCompany = createCompany("테스트 기업", 37.0, 127.0);
         WishCompany mockWishCompany = createWishCompany(mockCompany, mockMember);
 
-        // 1. 중복 요청 방지 락 모킹
-        RBucket<String> lockBucket = mock(RBucket.class);
-        when(redissonClient.<String>getBucket(anyString())).thenReturn(lockBucket);
-        when(lockBucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(true);
-
-        // 2. RAtomicLong 모킹
-        RAtomicLong mockAtomicLong = mock(RAtomicLong.class);
-        when(redissonClient.getAtomicLong(anyString())).thenReturn(mockAtomicLong);
-        // 카운터가 존재하고 0보다 크다고 가정 (감소 로직의 if문 통과를 위해)
-        when(mockAtomicLong.isExists()).thenReturn(true);
-        when(mockAtomicLong.get()).thenReturn(5L); // 0보다 큰 임의의 값
-
-        // 3. DB 관련 모킹
         when(memberQueryService.findById(memberId)).thenReturn(mockMember);
         when(companyQueryService.findById(companyId)).thenReturn(mockCompany);
         when(wishCompanyRepository.findByMemberAndCompany(mockMember, mockCompany)).thenReturn(
@@ -144,8 +155,8 @@ class CompanyCommandServiceImplTest {
         // then
         // DB 삭제가 1번 호출되었는지 검증
         verify(wishCompanyRepository, times(1)).delete(mockWishCompany);
-        // 캐시 카운터가 1 감소했는지 검증
-        verify(mockAtomicLong, times(1)).decrementAndGet();
+        // 관심 수 카운터가 1 감소했는지 검증
+        verify(companyWishCounter, times(1)).decrement(companyId);
     }
 
     @Test
@@ -172,4 +183,67 @@ class CompanyCommandServiceImplTest {
 
         verify(wishCompanyRepository, times(0)).delete(any());
     }
+
+    @Test
+    @DisplayName("마감 공고 정리 - 공고가 만료된 기업의 공고 캐시를 비우고, 채용 종료된 기업만 마커 변경 이벤트로 알린다")
+    void cleanExpiredRecruitments_shouldEvictAndPublishChangedCompanies() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 14, 0);
+        Cache recruitmentsCache = mock(Cache.class);
+        when(recruitmentRepository.expireEndedBefore(now)).thenReturn(Set.of(1L, 2L));
+        when(companyRepository.closeRecruitingWithoutActivePostings()).thenReturn(Set.of(2L, 3L));
+        when(cacheManager.getCache("recruitments")).thenReturn(recruitmentsCache);
+
+        // when
+        RecruitmentExpiryResult result = companyCommandService.cleanExpiredRecruitments(now);
+
+        // then
+        assertThat(result.changedCompanyIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(recruitmentsCache).evict(1L);
+        verify(recruitmentsCache).evict(2L);
+        verify(eventPublisher).publishEvent(new CompanyMarkerChangedEvent(Set.of(2L, 3L)));
+    }
+
+    @Test
+    @DisplayName("마감 공고 정리 - 채용 상태가 바뀐 기업이 없으면 이벤트를 발행하지 않는다")
+    void cleanExpiredRecruitments_whenNothingClosed_shouldNotPublish() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 14, 0);
+        when(recruitmentRepository.expireEndedBefore(now)).thenReturn(Set.of());
+        when(companyRepository.closeRecruitingWithoutActivePostings()).thenReturn(Set.of());
+
+        // when
+        RecruitmentExpiryResult result = companyCommandService.cleanExpiredRecruitments(now);
+
+        // then
+        assertThat(result.changedCompanyIds()).isEmpty();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("최근 이슈 갱신 - 캐시 무효화와 revalidate 요청은 커밋된 뒤에 수행한다")
+    void updateRecentIssue_shouldEvictAfterCommit() {
+        // given
+        Cache recentIssueCache = mock(Cache.class);
+        when(companyQueryService.findIdByCompanyNameIn(List.of("카카오"))).thenReturn(List.of(1L));
+        when(cacheManager.getCache("recentIssue")).thenReturn(recentIssueCache);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            companyCommandService.updateRecentIssue(
+                List.of(new RecentIssueUpdateReq("카카오", "새 이슈")));
+
+            // then
+            verify(recentIssueCache, never()).evict(any());
+            verify(nextApiClient, never()).revalidateRecentIssue(any());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+            verify(recentIssueCache).evict(1L);
+            verify(nextApiClient).revalidateRecentIssue(new CompanyRevalidateReq(List.of(1L)));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 }
@@ -42,6 +42,8 @@ import org.choon.careerbee.domain.company.entity.enums.CompanyType;
 import org.choon.careerbee.domain.company.entity.enums.RecruitingStatus;
 import org.choon.careerbee.domain.company.repository.CompanyRepository;
 import org.choon.careerbee.domain.company.repository.wish.WishCompanyRepository;
+import org.choon.careerbee.domain.company.service.index.CompanyMarkerIndex;
+import org.choon.careerbee.domain.company.service.wish.CompanyWishCounter;
 import org.choon.careerbee.domain.company.service.query.CompanyQueryServiceImpl;
 import org.choon.careerbee.domain.company.service.query.internal.CompanyRecentIssueQueryService;
 import org.choon.careerbee.domain.company.service.query.internal.CompanyRecruitmentQueryService;
@@ -98,6 +100,12 @@ class CompanyQueryServiceImplTest {
     @Mock
     private CompanyStaticDataQueryService staticDataQueryService;
 
+    @Mock
+    private CompanyMarkerIndex companyMarkerIndex;
+
+    @Mock
+    private CompanyWishCounter companyWishCounter;
+
     @Test
     @DisplayName("정상 주소와 조건으로 회사 조회 시 레포지토리 호출 및 결과 반환")
     void fetchCompaniesByDistance_shouldCallRepository_andReturnExpectedResult() {
@@ -141,6 +149,31 @@ class CompanyQueryServiceImplTest {
         assertThat(firstMarker.locationInfo().longitude()).isEqualTo(127.3);
     }
 
+    @Test
+    @DisplayName("격자 인덱스가 적재된 경우 DB를 조회하지 않고 인덱스에서 결과 반환")
+    void fetchCompaniesByDistance_whenIndexLoaded_shouldNotQueryRepository() {
+        // given
+        CompanyQueryAddressInfo addressInfo = new CompanyQueryAddressInfo(
+            37.40024430415324, 127.10698761648364
+        );
+        CompanyQueryCond queryCond = new CompanyQueryCond(500, RecruitingStatus.ONGOING, null);
+        CompanyRangeSearchResp expectedResponse = new CompanyRangeSearchResp(List.of(
+            new CompanyMarkerInfo(1L, "test.url", BusinessType.PLATFORM, RecruitingStatus.ONGOING,
+                new LocationInfo(37.4, 127.1))
+        ));
+
+        when(companyMarkerIndex.isLoaded()).thenReturn(true);
+        when(companyMarkerIndex.search(addressInfo, queryCond)).thenReturn(expectedResponse);
+
+        // when
+        CompanyRangeSearchResp actualResponse = companyQueryService.fetchCompaniesByDistance(
+            addressInfo, queryCond);
+
+        // then
+        assertThat(actualResponse).isEqualTo(expectedResponse);
+        verify(companyRepository, never()).fetchByDistanceAndCondition(any(), any());
+    }
+
     @Test
     @DisplayName("[기업 위치 정보 조회] Repository에 조회를 위임하고 결과를 반환한다")
     void fetchCompanyLocation_delegatesToRepository() {
@@ -632,18 +665,15 @@ class CompanyQueryServiceImplTest {
         Long companyId = 3L;
         Long wishCount = 77L;
 
-        RBucket<String> wishBucket = mock(RBucket.class);
-        when(redissonClient.<String>getBucket(COMPANY_WISH_KEY_PREFIX + companyId)).thenReturn(
-            wishBucket);
-        when(wishBucket.get()).thenReturn(null);
-        when(wishCompanyRepository.fetchWishCountById(companyId)).thenReturn(wishCount);
+        when(companyWishCounter.get(companyId)).thenReturn(wishCount);
 
         // when
         var result = companyQueryService.fetchCompanyWishCount(companyId);
 
         // then
         assertThat(result.wishCount()).isEqualTo(wishCount);
-        verify(wishCompanyRepository, times(1)).fetchWishCountById(companyId);
+        verify(companyWishCounter, times(1)).get(companyId);
+        verify(wishCompanyRepository, never()).fetchWishCountById(any());
     }
 
 
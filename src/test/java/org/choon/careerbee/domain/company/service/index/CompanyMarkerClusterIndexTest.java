@@ -0,0 +1,54 @@
+package org.choon.careerbee.domain.company.service.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.choon.careerbee.domain.company.dto.request.CompanyQueryAddressInfo;
+import org.choon.careerbee.domain.company.dto.request.CompanyQueryCond;
+import org.choon.careerbee.domain.company.dto.response.CompanyClusterResp;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.LocationInfo;
+import org.choon.careerbee.domain.company.entity.enums.BusinessType;
+import org.choon.careerbee.domain.company.entity.enums.RecruitingStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyMarkerClusterIndexTest {
+
+    @Mock
+    private CompanyMarkerIndex companyMarkerIndex;
+
+    @InjectMocks
+    private CompanyMarkerClusterIndex clusterIndex;
+
+    @Test
+    @DisplayName("[클러스터] 반경 검색은 사각 영역 모서리에 있는 원 밖의 기업을 묶지 않는다")
+    void query_withRadius_shouldExcludeCornerMarkersOutsideCircle() {
+        // given
+        CompanyQueryAddressInfo center = new CompanyQueryAddressInfo(37.40, 127.10);
+        CompanyMarkerInfo inside = marker(1L, 37.4010, 127.1010);
+        // 위도, 경도 모두 1km 경계 안쪽이지만 대각선 거리는 1km 를 넘는다.
+        CompanyMarkerInfo corner = marker(2L, 37.4085, 127.1107);
+        when(companyMarkerIndex.snapshot())
+            .thenReturn(CompanyMarkerGrid.of(List.of(inside, corner)));
+
+        // when
+        CompanyClusterResp result = clusterIndex.query(center,
+            new CompanyQueryCond(1000, null, null), CompanyMarkerClusterer.MAX_CLUSTER_ZOOM);
+
+        // then
+        assertThat(result.clusters()).isEmpty();
+        assertThat(result.companies()).extracting(CompanyMarkerInfo::id).containsExactly(1L);
+    }
+
+    private static CompanyMarkerInfo marker(Long id, double lat, double lon) {
+        return new CompanyMarkerInfo(id, "marker.url", BusinessType.PLATFORM,
+            RecruitingStatus.ONGOING, new LocationInfo(lat, lon));
+    }
+}
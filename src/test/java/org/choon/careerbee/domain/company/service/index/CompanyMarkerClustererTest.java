@@ -0,0 +1,103 @@
+package org.choon.careerbee.domain.company.service.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.choon.careerbee.domain.company.dto.response.CompanyClusterResp;
+import org.choon.careerbee.domain.company.dto.response.CompanyClusterResp.ClusterInfo;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.LocationInfo;
+import org.choon.careerbee.domain.company.entity.enums.BusinessType;
+import org.choon.careerbee.domain.company.entity.enums.RecruitingStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CompanyMarkerClustererTest {
+
+    private final List<CompanyMarkerInfo> markers = List.of(
+        marker(1L, 37.4002, 127.1069, BusinessType.PLATFORM, RecruitingStatus.ONGOING),
+        marker(2L, 37.4010, 127.1075, BusinessType.GAME, RecruitingStatus.ONGOING),
+        marker(3L, 37.4020, 127.1080, BusinessType.PLATFORM, RecruitingStatus.CLOSED),
+        marker(4L, 35.1796, 129.0756, BusinessType.FINANCE, RecruitingStatus.ONGOING)
+    );
+
+    @Test
+    @DisplayName("[클러스터] 낮은 줌에서는 가까운 기업을 묶고 업종/채용상태별 개수를 집계한다")
+    void query_atCoarseZoom_shouldGroupNearbyMarkers() {
+        // given
+        CompanyMarkerClusterer clusterer = CompanyMarkerClusterer.of(markers);
+
+        // when
+        CompanyClusterResp result = clusterer.query(33d, 39d, 125d, 131d, 8);
+
+        // then
+        assertThat(result.clusters()).hasSize(1);
+        ClusterInfo cluster = result.clusters().get(0);
+        assertThat(cluster.count()).isEqualTo(3);
+        assertThat(cluster.businessTypeCounts())
+            .containsEntry(BusinessType.PLATFORM, 2)
+            .containsEntry(BusinessType.GAME, 1);
+        assertThat(cluster.recruitingStatusCounts())
+            .containsEntry(RecruitingStatus.ONGOING, 2)
+            .containsEntry(RecruitingStatus.CLOSED, 1);
+        assertThat(cluster.locationInfo().latitude()).isBetween(37.40, 37.41);
+
+        assertThat(result.companies()).extracting(CompanyMarkerInfo::id).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("[클러스터] 최대 클러스터 줌을 넘으면 모든 기업을 개별 마커로 반환한다")
+    void query_beyondMaxClusterZoom_shouldReturnIndividualMarkers() {
+        // given
+        CompanyMarkerClusterer clusterer = CompanyMarkerClusterer.of(markers);
+
+        // when
+        CompanyClusterResp result = clusterer.query(
+            33d, 39d, 125d, 131d, CompanyMarkerClusterer.MAX_CLUSTER_ZOOM + 1);
+
+        // then
+        assertThat(result.clusters()).isEmpty();
+        assertThat(result.companies()).hasSize(markers.size());
+    }
+
+    @Test
+    @DisplayName("[클러스터] 모든 줌 레벨에서 클러스터 개수와 개별 마커 수의 합은 전체 기업 수와 같다")
+    void query_shouldPreserveTotalCountOnEveryZoom() {
+        // given
+        CompanyMarkerClusterer clusterer = CompanyMarkerClusterer.of(markers);
+
+        for (int z = CompanyMarkerClusterer.MIN_ZOOM; z <= CompanyMarkerClusterer.MAX_CLUSTER_ZOOM;
+            z++) {
+            // when
+            CompanyClusterResp result = clusterer.query(-90d, 90d, -180d, 180d, z);
+
+            // then
+            int total = result.companies().size()
+                + result.clusters().stream().mapToInt(ClusterInfo::count).sum();
+            assertThat(total).isEqualTo(markers.size());
+        }
+    }
+
+    @Test
+    @DisplayName("[클러스터] 한 줌만 묶은 인덱스도 같은 줌에서 가까운 기업을 묶고, 다른 줌 조회는 거부한다")
+    void ofZoom_shouldClusterOnlyRequestedZoom() {
+        // given
+        CompanyMarkerClusterer clusterer = CompanyMarkerClusterer.ofZoom(markers, 8);
+
+        // when
+        CompanyClusterResp result = clusterer.query(33d, 39d, 125d, 131d, 8);
+
+        // then
+        assertThat(result.clusters()).extracting(ClusterInfo::count).containsExactly(3);
+        assertThat(result.companies()).extracting(CompanyMarkerInfo::id).containsExactly(4L);
+        assertThatThrownBy(() -> clusterer.query(33d, 39d, 125d, 131d, 9))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CompanyMarkerInfo marker(
+        Long id, double lat, double lon, BusinessType type, RecruitingStatus status
+    ) {
+        return new CompanyMarkerInfo(id, "marker.url", type, status, new LocationInfo(lat, lon));
+    }
+}
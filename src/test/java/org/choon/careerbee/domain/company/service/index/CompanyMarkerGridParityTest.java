@@ -0,0 +1,93 @@
+package org.choon.careerbee.domain.company.service.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.choon.careerbee.fixture.CompanyFixture.createCompany;
+
+import jakarta.transaction.Transactional;
+import java.util.List;
+import org.choon.careerbee.config.querydsl.QueryDSLConfig;
+import org.choon.careerbee.domain.company.dto.request.CompanyQueryAddressInfo;
+import org.choon.careerbee.domain.company.dto.request.CompanyQueryCond;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
+import org.choon.careerbee.domain.company.entity.Company;
+import org.choon.careerbee.domain.company.entity.enums.BusinessType;
+import org.choon.careerbee.domain.company.entity.enums.RecruitingStatus;
+import org.choon.careerbee.domain.company.repository.custom.CompanyCustomRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@Import(QueryDSLConfig.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CompanyMarkerGridParityTest {
+
+    private static final double LAT = 37.40024430415324;
+    private static final double LON = 127.10698761648364;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CompanyCustomRepositoryImpl companyCustomRepository;
+
+    @BeforeEach
+    void setUp() {
+        em.persist(createCompany("기준점 기업", LAT, LON));
+        em.persist(createCompany("북쪽 555m 기업", LAT + 0.005, LON));
+        em.persist(createCompany("동쪽 450m 기업", LAT, LON + 0.005));
+        em.persist(createCompany("셀 경계 기업", LAT + 0.0089, LON - 0.0089));
+        em.persist(createCompany("북쪽 2.2km 기업", LAT + 0.02, LON));
+        em.persist(createCompany("동쪽 1.7km 기업", LAT, LON + 0.02));
+        em.persist(createCompany("남서쪽 2km 기업", LAT - 0.015, LON - 0.015));
+        em.persist(createCompany("부산 기업", 35.1796, 129.0756));
+
+        Company closed = createCompany("마감 기업", LAT + 0.001, LON + 0.001);
+        closed.changeRecruitingStatus(RecruitingStatus.CLOSED);
+        em.persist(closed);
+
+        em.flush();
+        em.clear();
+    }
+
+    @ParameterizedTest
+    @DisplayName("[격자 인덱스] 반경/채용상태/업종 조건 조회 결과가 SQL 조회 결과와 동일하다")
+    @CsvSource(value = {
+        "1000, ONGOING, PLATFORM",
+        "1000, NULL, NULL",
+        "1200, CLOSED, NULL",
+        "2500, NULL, PLATFORM",
+        "500, NULL, GAME",
+        "400000, NULL, NULL",
+        "NULL, ONGOING, NULL",
+        "NULL, NULL, NULL"
+    }, nullValues = "NULL")
+    void search_shouldMatchSqlPath(
+        Integer radius, RecruitingStatus status, BusinessType type
+    ) {
+        // given
+        CompanyQueryAddressInfo center = new CompanyQueryAddressInfo(LAT, LON);
+        CompanyQueryCond cond = new CompanyQueryCond(radius, status, type);
+        CompanyMarkerGrid grid = CompanyMarkerGrid.of(
+            companyCustomRepository.fetchAllCompanyMarkerInfo()
+        );
+
+        // when
+        List<CompanyMarkerInfo> fromSql = companyCustomRepository
+            .fetchByDistanceAndCondition(center, cond)
+            .companies();
+        List<CompanyMarkerInfo> fromGrid = grid.search(center, cond);
+
+        // then
+        assertThat(fromGrid).containsExactlyInAnyOrderElementsOf(fromSql);
+    }
+}
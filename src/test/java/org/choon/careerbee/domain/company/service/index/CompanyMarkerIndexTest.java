@@ -0,0 +1,81 @@
+package org.choon.careerbee.domain.company.service.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.choon.careerbee.domain.company.dto.event.CompanyMarkerChangedEvent;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.LocationInfo;
+import org.choon.careerbee.domain.company.entity.enums.BusinessType;
+import org.choon.careerbee.domain.company.entity.enums.RecruitingStatus;
+import org.choon.careerbee.domain.company.repository.CompanyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyMarkerIndexTest {
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @InjectMocks
+    private CompanyMarkerIndex companyMarkerIndex;
+
+    private final CompanyMarkerInfo ongoing = marker(1L, RecruitingStatus.ONGOING);
+    private final CompanyMarkerInfo closed = marker(1L, RecruitingStatus.CLOSED);
+
+    @Test
+    @DisplayName("[마커 인덱스] 전체 재적재 중에 커밋된 변경은 새 격자로 교체되기 전에 다시 반영한다")
+    void reload_whenChangedDuringReload_shouldReapplyChange() {
+        // given
+        Set<Long> changedIds = Set.of(1L);
+        when(companyRepository.fetchCompanyMarkerInfosByIds(changedIds))
+            .thenReturn(List.of(closed));
+        when(companyRepository.fetchCompanyMarkerInfosByIds(List.of(1L)))
+            .thenReturn(List.of(closed));
+        when(companyRepository.fetchAllCompanyMarkerInfo()).thenAnswer(invocation -> {
+            // 전체 목록을 읽은 뒤에 변경이 커밋되고 갱신 리스너가 먼저 끝난 상황
+            companyMarkerIndex.on(new CompanyMarkerChangedEvent(changedIds));
+            return List.of(ongoing);
+        });
+
+        // when
+        companyMarkerIndex.reload();
+
+        // then
+        assertThat(companyMarkerIndex.snapshot().get(1L).recruitingStatus())
+            .isEqualTo(RecruitingStatus.CLOSED);
+        assertThat(companyMarkerIndex.generation()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("[마커 인덱스] 재적재 중이 아닐 때의 변경은 해당 기업만 교체한다")
+    void on_whenNotReloading_shouldPatchOnlyChangedCompany() {
+        // given
+        CompanyMarkerInfo other = marker(2L, RecruitingStatus.ONGOING);
+        when(companyRepository.fetchAllCompanyMarkerInfo()).thenReturn(List.of(ongoing, other));
+        when(companyRepository.fetchCompanyMarkerInfosByIds(Set.of(1L)))
+            .thenReturn(List.of(closed));
+        companyMarkerIndex.reload();
+
+        // when
+        companyMarkerIndex.on(new CompanyMarkerChangedEvent(Set.of(1L)));
+
+        // then
+        assertThat(companyMarkerIndex.snapshot().get(1L).recruitingStatus())
+            .isEqualTo(RecruitingStatus.CLOSED);
+        assertThat(companyMarkerIndex.snapshot().get(2L)).isEqualTo(other);
+        assertThat(companyMarkerIndex.generation()).isEqualTo(1L);
+    }
+
+    private static CompanyMarkerInfo marker(Long id, RecruitingStatus status) {
+        return new CompanyMarkerInfo(id, "marker.url", BusinessType.PLATFORM, status,
+            new LocationInfo(37.4002, 127.1069));
+    }
+}
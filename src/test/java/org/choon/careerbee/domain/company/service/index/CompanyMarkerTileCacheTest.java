@@ -0,0 +1,124 @@
+package org.choon.careerbee.domain.company.service.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Set;
+import org.choon.careerbee.domain.company.dto.event.CompanyMarkerChangedEvent;
+import org.choon.careerbee.domain.company.dto.response.CompanyMarkerTileResp;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.CompanyMarkerInfo;
+import org.choon.careerbee.domain.company.dto.response.CompanyRangeSearchResp.LocationInfo;
+import org.choon.careerbee.domain.company.entity.enums.BusinessType;
+import org.choon.careerbee.domain.company.entity.enums.RecruitingStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyMarkerTileCacheTest {
+
+    private static final int ZOOM = 14;
+
+    @Mock
+    private CompanyMarkerIndex companyMarkerIndex;
+
+    private CompanyMarkerTileCache tileCache;
+
+    private final CompanyMarkerInfo pangyo = marker(1L, 37.4002, 127.1069, RecruitingStatus.ONGOING);
+    private final CompanyMarkerInfo busan = marker(2L, 35.1796, 129.0756, RecruitingStatus.ONGOING);
+
+    @BeforeEach
+    void setUp() {
+        tileCache = new CompanyMarkerTileCache(companyMarkerIndex, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("[마커 타일] 같은 타일을 다시 요청하면 직렬화된 동일 응답과 ETag를 반환한다")
+    void get_shouldReuseSerializedTile() {
+        // given
+        when(companyMarkerIndex.generation()).thenReturn(1L);
+        when(companyMarkerIndex.snapshot()).thenReturn(CompanyMarkerGrid.of(List.of(pangyo, busan)));
+        MarkerTile tile = MarkerTile.containing(37.4002, 127.1069, ZOOM);
+
+        // when
+        CompanyMarkerTileResp first = tileCache.get(tile);
+        CompanyMarkerTileResp second = tileCache.get(tile);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.body())).contains("\"id\":1").doesNotContain("\"id\":2");
+    }
+
+    @Test
+    @DisplayName("[마커 타일] 기업 변경 이벤트는 해당 기업이 속한 타일만 무효화한다")
+    void on_shouldEvictOnlyAffectedTiles() {
+        // given
+        CompanyMarkerInfo closedPangyo = marker(1L, 37.4002, 127.1069, RecruitingStatus.CLOSED);
+        when(companyMarkerIndex.generation()).thenReturn(1L);
+        when(companyMarkerIndex.snapshot())
+            .thenReturn(CompanyMarkerGrid.of(List.of(pangyo, busan)))
+            .thenReturn(CompanyMarkerGrid.of(List.of(pangyo, busan)))
+            .thenReturn(CompanyMarkerGrid.of(List.of(closedPangyo, busan)));
+
+        MarkerTile pangyoTile = MarkerTile.containing(37.4002, 127.1069, ZOOM);
+        MarkerTile busanTile = MarkerTile.containing(35.1796, 129.0756, ZOOM);
+        CompanyMarkerTileResp pangyoBefore = tileCache.get(pangyoTile);
+        CompanyMarkerTileResp busanBefore = tileCache.get(busanTile);
+
+        // when
+        tileCache.on(new CompanyMarkerChangedEvent(Set.of(1L)));
+
+        // then
+        assertThat(tileCache.get(busanTile)).isSameAs(busanBefore);
+        CompanyMarkerTileResp pangyoAfter = tileCache.get(pangyoTile);
+        assertThat(pangyoAfter.etag()).isNotEqualTo(pangyoBefore.etag());
+        assertThat(new String(pangyoAfter.body())).contains("CLOSED");
+    }
+
+    @Test
+    @DisplayName("[마커 타일] 인덱스가 전체 재적재되면 캐시된 타일을 다시 만든다")
+    void get_whenGenerationChanged_shouldRebuild() {
+        // given
+        when(companyMarkerIndex.generation()).thenReturn(1L, 2L);
+        when(companyMarkerIndex.snapshot()).thenReturn(CompanyMarkerGrid.of(List.of(pangyo)));
+        MarkerTile tile = MarkerTile.containing(37.4002, 127.1069, ZOOM);
+
+        // when
+        CompanyMarkerTileResp first = tileCache.get(tile);
+        CompanyMarkerTileResp second = tileCache.get(tile);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.etag()).isEqualTo(first.etag());
+    }
+
+    @Test
+    @DisplayName("[마커 타일] 마커가 없는 타일은 캐시에 올리지 않는다")
+    void get_whenTileIsEmpty_shouldNotCache() {
+        // given
+        when(companyMarkerIndex.generation()).thenReturn(1L);
+        when(companyMarkerIndex.snapshot()).thenReturn(CompanyMarkerGrid.of(List.of(pangyo)));
+        MarkerTile ocean = MarkerTile.containing(30.0, 140.0, ZOOM);
+
+        // when
+        CompanyMarkerTileResp first = tileCache.get(ocean);
+        CompanyMarkerTileResp second = tileCache.get(ocean);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.etag()).isEqualTo(first.etag());
+    }
+
+    private static CompanyMarkerInfo marker(
+        Long id, double lat, double lon, RecruitingStatus status
+    ) {
+        return new CompanyMarkerInfo(
+            id, "marker.url", BusinessType.PLATFORM, status, new LocationInfo(lat, lon)
+        );
+    }
+}
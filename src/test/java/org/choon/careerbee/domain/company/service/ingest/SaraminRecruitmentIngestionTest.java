@@ -0,0 +1,263 @@
+package org.choon.careerbee.domain.company.service.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.company.api.CompanyApiClient;
+import org.choon.careerbee.domain.company.dto.internal.CollectedRecruitments;
+import org.choon.careerbee.domain.company.dto.internal.SaraminSyncWatermark;
+import org.choon.careerbee.domain.company.dto.response.SaraminRecruitingResp;
+import org.choon.careerbee.domain.company.dto.response.SaraminRecruitingResp.Job;
+import org.choon.careerbee.domain.company.entity.recruitment.SaraminSyncState;
+import org.choon.careerbee.domain.company.exception.RetryableSaraminException;
+import org.choon.careerbee.domain.company.repository.recruitment.SaraminSyncStateRepository;
+import org.choon.careerbee.domain.company.service.RecruitmentSyncService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SaraminRecruitmentIngestionTest {
+
+    @Mock
+    private CompanyApiClient companyApiClient;
+
+    @Mock
+    private RecruitmentSyncService recruitmentSyncService;
+
+    @Mock
+    private SaraminSyncStateRepository syncStateRepository;
+
+    private SaraminRecruitmentIngestion ingestion;
+
+    @BeforeEach
+    void setUp() {
+        ingestion = new SaraminRecruitmentIngestion(
+            companyApiClient, recruitmentSyncService, syncStateRepository, 1000, 100, 3, 1L, 3
+        );
+    }
+
+    @Test
+    @DisplayName("키워드 사이에 겹친 공고는 하나로 합치고, 공채 검색에 나온 공고는 공채로 표시해 한 번만 저장한다")
+    void ingest_shouldMergeAcrossKeywordsAndPersistOnce() {
+        // given
+        given(syncStateRepository.findAll()).willReturn(List.of());
+        given(companyApiClient.searchRecruitment("백엔드", false, 0L, 0L, 0))
+            .willReturn(page(job(1L, 10L), job(2L, 20L)));
+        given(companyApiClient.searchRecruitment("백엔드", true, 0L, 0L, 0))
+            .willReturn(page(job(2L, 20L)));
+        given(companyApiClient.searchRecruitment("보안", false, 0L, 0L, 0))
+            .willReturn(page(job(2L, 20L), job(3L, 30L)));
+        given(companyApiClient.searchRecruitment("보안", true, 0L, 0L, 0)).willReturn(page());
+
+        // when
+        ingestion.ingest(List.of("백엔드", "보안"));
+
+        // then
+        ArgumentCaptor<CollectedRecruitments> captor =
+            ArgumentCaptor.forClass(CollectedRecruitments.class);
+        verify(recruitmentSyncService, times(1)).persistNewRecruitmentsAndNotify(captor.capture());
+
+        CollectedRecruitments collected = captor.getValue();
+        assertThat(collected.jobs()).extracting(Job::id).containsExactly(1L, 2L, 3L);
+        assertThat(collected.openRecruitmentIds()).containsExactly(2L);
+        assertThat(collected.watermarks()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("워터마크 이후만 검색하고, 이미 본 공고를 만나면 페이지 넘기기를 멈춘다")
+    void collect_whenWatermarkExists_shouldStopAtSeenIds() {
+        // given
+        SaraminSyncState state = SaraminSyncState.of("백엔드", false);
+        state.advance(100L, Set.of(5L));
+        given(syncStateRepository.findAll()).willReturn(List.of(state));
+
+        List<Job> fullPage = LongStream.rangeClosed(1, CompanyApiClient.PAGE_SIZE - 1)
+            .mapToObj(i -> job(1000L + i, 150L))
+            .collect(Collectors.toList());
+        fullPage.addFirst(job(999L, 200L));
+        fullPage.add(job(5L, 100L));
+        given(companyApiClient.searchRecruitment("백엔드", false, 100L, 0L, 0))
+            .willReturn(new SaraminRecruitingResp(0, fullPage.size(), 500, fullPage));
+        given(companyApiClient.searchRecruitment("백엔드", true, 0L, 0L, 0)).willReturn(page());
+
+        // when
+        CollectedRecruitments collected = ingestion.collect(List.of("백엔드"));
+
+        // then
+        verify(companyApiClient, never()).searchRecruitment("백엔드", false, 100L, 0L, 1);
+        assertThat(collected.jobs()).hasSize(CompanyApiClient.PAGE_SIZE)
+            .extracting(Job::id).doesNotContain(5L);
+        assertThat(collected.watermarks()).containsExactly(
+            new SaraminSyncWatermark("백엔드", false, 200L, Set.of(999L)));
+    }
+
+    @Test
+    @DisplayName("가득 찬 페이지가 오면 다음 페이지를 가져오고, 최대 페이지 수에서 멈춘다")
+    void collect_whenPagesAreFull_shouldPageUntilMaxPages() {
+        // given
+        given(syncStateRepository.findAll()).willReturn(List.of());
+        given(companyApiClient.searchRecruitment(
+            eq("it"), eq(false), eq(0L), eq(0L), anyInt()))
+            .willAnswer(invocation -> {
+                int pageNo = invocation.getArgument(4);
+                List<Job> jobs = LongStream.range(0, CompanyApiClient.PAGE_SIZE)
+                    .mapToObj(i -> job(pageNo * 1000L + i, 10L))
+                    .toList();
+                return new SaraminRecruitingResp(pageNo, jobs.size(), 10_000, jobs);
+            });
+        given(companyApiClient.searchRecruitment("it", true, 0L, 0L, 0)).willReturn(page());
+
+        // when
+        CollectedRecruitments collected = ingestion.collect(List.of("it"));
+
+        // then
+        verify(companyApiClient, times(3))
+            .searchRecruitment(eq("it"), eq(false), eq(0L), eq(0L), anyInt());
+        assertThat(collected.jobs()).hasSize(CompanyApiClient.PAGE_SIZE * 3);
+        assertThat(collected.watermarks()).singleElement()
+            .satisfies(watermark -> {
+                assertThat(watermark.isSuspended()).isTrue();
+                assertThat(watermark.resumeBefore()).isEqualTo(10L);
+            });
+    }
+
+    @Test
+    @DisplayName("이미 본 공고에 닿기 전에 최대 페이지 수에서 멈추면 워터마크 대신 이어 읽을 위치를 남긴다")
+    void collect_whenScanIsTruncated_shouldSuspendAtOldestPosting() {
+        // given
+        SaraminSyncState state = SaraminSyncState.of("it", false);
+        state.advance(100L, Set.of(5L));
+        given(syncStateRepository.findAll()).willReturn(List.of(state));
+        given(companyApiClient.searchRecruitment(
+            eq("it"), eq(false), eq(100L), eq(0L), anyInt()))
+            .willAnswer(invocation -> {
+                int pageNo = invocation.getArgument(4);
+                List<Job> jobs = LongStream.range(0, CompanyApiClient.PAGE_SIZE)
+                    .mapToObj(i -> job(pageNo * 1000L + i, 500L - pageNo))
+                    .toList();
+                return new SaraminRecruitingResp(pageNo, jobs.size(), 10_000, jobs);
+            });
+        given(companyApiClient.searchRecruitment("it", true, 0L, 0L, 0))
+            .willReturn(page(job(7L, 300L)));
+
+        // when
+        CollectedRecruitments collected = ingestion.collect(List.of("it"));
+
+        // then
+        verify(companyApiClient, never()).searchRecruitment("it", false, 100L, 0L, 3);
+        assertThat(collected.jobs()).hasSize(CompanyApiClient.PAGE_SIZE * 3 + 1);
+        Set<Long> newestIds = LongStream.range(0, CompanyApiClient.PAGE_SIZE).boxed()
+            .collect(Collectors.toSet());
+        assertThat(collected.watermarks()).containsExactlyInAnyOrder(
+            new SaraminSyncWatermark("it", false, 500L, newestIds, 498L),
+            new SaraminSyncWatermark("it", true, 300L, Set.of(7L)));
+    }
+
+    @Test
+    @DisplayName("이어 읽을 위치가 있으면 그 시각 이전만 읽고, 다 읽으면 처음 멈춘 검색의 워터마크로 옮긴다")
+    void collect_whenResuming_shouldReadBeforeCursorAndCompletePendingWatermark() {
+        // given
+        SaraminSyncState state = SaraminSyncState.of("it", false);
+        state.advance(100L, Set.of(5L));
+        state.suspend(498L, 500L, Set.of(0L));
+        given(syncStateRepository.findAll()).willReturn(List.of(state));
+        given(companyApiClient.searchRecruitment("it", false, 100L, 498L, 0))
+            .willReturn(page(job(2000L, 450L), job(5L, 100L)));
+        given(companyApiClient.searchRecruitment("it", true, 0L, 0L, 0)).willReturn(page());
+
+        // when
+        CollectedRecruitments collected = ingestion.collect(List.of("it"));
+
+        // then
+        assertThat(collected.jobs()).extracting(Job::id).containsExactly(2000L);
+        assertThat(collected.watermarks()).containsExactly(
+            new SaraminSyncWatermark("it", false, 500L, Set.of(0L)));
+    }
+
+    @Test
+    @DisplayName("사람인 일시 오류(code 99)는 최대 횟수만큼 다시 시도하고, 실패한 검색만 건너뛴다")
+    void ingest_whenRetryableError_shouldRetryAndSkipFailedSearch() {
+        // given
+        String keyword = "백엔드";
+        given(syncStateRepository.findAll()).willReturn(List.of());
+        given(companyApiClient.searchRecruitment(keyword, false, 0L, 0L, 0))
+            .willThrow(new RetryableSaraminException("stub error"));
+        given(companyApiClient.searchRecruitment(keyword, true, 0L, 0L, 0))
+            .willReturn(page(job(7L, 70L)));
+
+        // when
+        ingestion.ingest(List.of(keyword));
+
+        // then
+        verify(companyApiClient, times(3)).searchRecruitment(keyword, false, 0L, 0L, 0);
+
+        ArgumentCaptor<CollectedRecruitments> captor =
+            ArgumentCaptor.forClass(CollectedRecruitments.class);
+        verify(recruitmentSyncService).persistNewRecruitmentsAndNotify(captor.capture());
+        assertThat(captor.getValue().jobs()).extracting(Job::id).containsExactly(7L);
+        assertThat(captor.getValue().watermarks())
+            .extracting(SaraminSyncWatermark::openRecruitment).containsExactly(true);
+    }
+
+    @Test
+    @DisplayName("요청 한도 초과(code 4)를 받으면 잠시 멈춘 뒤 다시 시도한다")
+    void collect_whenTooManyRequests_shouldPauseAndRetry() {
+        // given
+        given(syncStateRepository.findAll()).willReturn(List.of());
+        given(companyApiClient.searchRecruitment("it", false, 0L, 0L, 0))
+            .willThrow(new CustomException(CustomResponseStatus.SARAMIN_TOO_MANY_REQUEST_ERROR))
+            .willReturn(page(job(1L, 10L)));
+        given(companyApiClient.searchRecruitment("it", true, 0L, 0L, 0)).willReturn(page());
+
+        // when
+        CollectedRecruitments collected = ingestion.collect(List.of("it"));
+
+        // then
+        verify(companyApiClient, times(2)).searchRecruitment("it", false, 0L, 0L, 0);
+        assertThat(collected.jobs()).extracting(Job::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("수집된 공고가 없으면 저장하지 않는다")
+    void ingest_whenNothingCollected_shouldNotPersist() {
+        // given
+        given(syncStateRepository.findAll()).willReturn(List.of());
+        given(companyApiClient.searchRecruitment(
+            anyString(), anyBoolean(), anyLong(), anyLong(), anyInt()))
+            .willReturn(page());
+
+        // when
+        ingestion.ingest(List.of("it"));
+
+        // then
+        verify(recruitmentSyncService, never()).persistNewRecruitmentsAndNotify(any());
+    }
+
+    private static SaraminRecruitingResp page(Job... jobs) {
+        return new SaraminRecruitingResp(0, jobs.length, jobs.length, List.of(jobs));
+    }
+
+    private static Job job(Long id, Long postingTimestamp) {
+        return new Job(id, null, 1, null, null, postingTimestamp, null, null);
+    }
+}
@@ -0,0 +1,163 @@
+package org.choon.careerbee.domain.company.service.wish;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.choon.careerbee.domain.company.repository.wish.WishCompanyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RAtomicLongAsync;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RKeys;
+import org.redisson.api.RedissonClient;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyWishCounterTest {
+
+    @InjectMocks
+    private CompanyWishCounter companyWishCounter;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private WishCompanyRepository wishCompanyRepository;
+
+    @Mock
+    private RAtomicLong atomicLong;
+
+    @Test
+    @DisplayName("관심 수 조회 - 카운터가 존재하면 DB를 조회하지 않는다")
+    void get_whenCounterExists_shouldNotQueryDb() {
+        // given
+        Long companyId = 1L;
+        when(redissonClient.getAtomicLong("company:wish:1")).thenReturn(atomicLong);
+        when(atomicLong.isExists()).thenReturn(true);
+        when(atomicLong.get()).thenReturn(7L);
+
+        // when
+        long result = companyWishCounter.get(companyId);
+
+        // then
+        assertThat(result).isEqualTo(7L);
+        verify(wishCompanyRepository, never()).fetchWishCountById(anyLong());
+    }
+
+    @Test
+    @DisplayName("관심 수 조회 - 카운터가 없으면 DB 집계로 초기화한다")
+    void get_whenCounterMissing_shouldSeedFromDb() {
+        // given
+        Long companyId = 2L;
+        when(redissonClient.getAtomicLong("company:wish:2")).thenReturn(atomicLong);
+        when(atomicLong.isExists()).thenReturn(false);
+        when(wishCompanyRepository.fetchWishCountById(companyId)).thenReturn(42L);
+        when(atomicLong.compareAndSet(0L, 42L)).thenReturn(true);
+
+        // when
+        long result = companyWishCounter.get(companyId);
+
+        // then
+        assertThat(result).isEqualTo(42L);
+        verify(atomicLong).compareAndSet(0L, 42L);
+    }
+
+    @Test
+    @DisplayName("관심 등록 - 카운터가 존재하면 1 증가시킨다")
+    void increment_whenCounterExists_shouldIncrement() {
+        // given
+        Long companyId = 3L;
+        when(redissonClient.getAtomicLong("company:wish:3")).thenReturn(atomicLong);
+        when(atomicLong.isExists()).thenReturn(true);
+
+        // when
+        companyWishCounter.increment(companyId);
+
+        // then
+        verify(atomicLong).incrementAndGet();
+        verify(wishCompanyRepository, never()).fetchWishCountById(anyLong());
+    }
+
+    @Test
+    @DisplayName("관심 취소 - 카운터가 음수가 되면 DB 집계로 교정한다")
+    void decrement_whenCounterBecomesNegative_shouldResetFromDb() {
+        // given
+        Long companyId = 4L;
+        when(redissonClient.getAtomicLong("company:wish:4")).thenReturn(atomicLong);
+        when(atomicLong.isExists()).thenReturn(true);
+        when(atomicLong.decrementAndGet()).thenReturn(-1L);
+        when(wishCompanyRepository.fetchWishCountById(companyId)).thenReturn(0L);
+
+        // when
+        companyWishCounter.decrement(companyId);
+
+        // then
+        verify(atomicLong).set(0L);
+    }
+
+    @Test
+    @DisplayName("관심 수 교정 - 형식이 다른 키는 건너뛰고 나머지 기업을 교정한다")
+    void reconcile_whenMalformedKeyExists_shouldSkipIt() {
+        // given
+        RKeys keys = mock(RKeys.class);
+        RBatch batch = mock(RBatch.class);
+        RAtomicLongAsync counter = mock(RAtomicLongAsync.class);
+        RFuture<Long> future = mock(RFuture.class);
+
+        when(wishCompanyRepository.fetchAllWishCounts()).thenReturn(Map.of(3L, 2L));
+        when(redissonClient.getKeys()).thenReturn(keys);
+        when(keys.getKeysByPattern("company:wish:*")).thenReturn(
+            List.of("company:wish:3", "company:wish:abc", "company:wish:3:tmp"));
+        when(redissonClient.createBatch()).thenReturn(batch);
+        when(batch.getAtomicLong("company:wish:3")).thenReturn(counter);
+        when(counter.getAsync()).thenReturn(future);
+        when(future.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(2L));
+
+        // when
+        int drifted = companyWishCounter.reconcile();
+
+        // then
+        assertThat(drifted).isZero();
+        verify(batch, times(1)).getAtomicLong("company:wish:3");
+    }
+
+    @Test
+    @DisplayName("관심 수 교정 - 같은 차이가 두 번 연속 보일 때만 DB 값으로 교정한다")
+    void reconcile_shouldCorrectOnlyStableDrift() {
+        // given
+        RKeys keys = mock(RKeys.class);
+        RBatch batch = mock(RBatch.class);
+        RAtomicLongAsync counter = mock(RAtomicLongAsync.class);
+        RFuture<Long> future = mock(RFuture.class);
+
+        when(redissonClient.getKeys()).thenReturn(keys);
+        when(keys.getKeysByPattern("company:wish:*")).thenReturn(List.of("company:wish:3"));
+        when(redissonClient.createBatch()).thenReturn(batch);
+        when(batch.getAtomicLong("company:wish:3")).thenReturn(counter);
+        when(counter.getAsync()).thenReturn(future);
+        when(future.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(5L));
+        when(wishCompanyRepository.fetchAllWishCounts()).thenReturn(Map.of(3L, 4L));
+
+        // when
+        int first = companyWishCounter.reconcile();
+        int second = companyWishCounter.reconcile();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        verify(counter, times(1)).compareAndSetAsync(5L, 4L);
+    }
+}
@@ -28,6 +28,7 @@ import org.choon.careerbee.domain.competition.repository.CompetitionProblemRepos
 import org.choon.careerbee.domain.competition.repository.CompetitionRepository;
 import org.choon.careerbee.domain.competition.repository.ProblemChoiceRepository;
 import org.choon.careerbee.domain.member.entity.Member;
+import org.choon.careerbee.domain.member.entity.enums.RoleType;
 import org.choon.careerbee.domain.member.repository.MemberRepository;
 import org.choon.careerbee.fixture.competition.RankingTestDataSupport;
 import org.choon.careerbee.util.jwt.JwtUtil;
@@ -39,6 +40,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -96,7 +98,9 @@ class CompetitionControllerTest {
                 LocalDateTime.of(2025, 5, 30, 20, 10, 0)
             )
         );
-        accessToken = "Bearer " + jwtUtil.createToken(testMember.getId(), TokenType.ACCESS_TOKEN);
+        accessToken = "Bearer " + jwtUtil.createToken(
+            testMember.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
     }
 
     @Test
@@ -330,6 +334,30 @@ class CompetitionControllerTest {
             .andExpect(jsonPath("$.data.problems[0].choices[1].content").value("보기2"));
     }
 
+    @Test
+    @DisplayName("대회 문제 조회 - ETag 가 일치하면 본문 없이 304 응답")
+    void fetchCompetitionProblems_whenEtagMatches_shouldReturnNotModified() throws Exception {
+        // given
+        competitionProblemRepository.save(
+            createProblem(testCompetition, "문제 제목", "문제 설명", "문제 해설", (short) 2)
+        );
+
+        String etag = mockMvc.perform(
+                get("/api/v1/competitions/{competitionId}/problems", testCompetition.getId())
+                    .header("Authorization", accessToken))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(
+                get("/api/v1/competitions/{competitionId}/problems", testCompetition.getId())
+                    .header("Authorization", accessToken)
+                    .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+    }
+
     @Test
     @DisplayName("대회 문제 조회 - 존재하지 않는 대회")
     void fetchCompetitionProblems_competitionNotFound() throws Exception {
@@ -412,7 +440,9 @@ class CompetitionControllerTest {
     void fetchMemberCompetitionRanking_success() throws Exception {
         // given
         Member me = testDataSupport.prepareRankingData(LocalDate.of(2025, 6, 2));
-        String meToken = "Bearer " + jwtUtil.createToken(me.getId(), TokenType.ACCESS_TOKEN);
+        String meToken = "Bearer " + jwtUtil.createToken(
+            me.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
 
         // when & then
         mockMvc.perform(get("/api/v1/members/competitions/rankings")
@@ -442,7 +472,9 @@ class CompetitionControllerTest {
         // given
         Member me = testDataSupport.prepareLiveRankingData();
 
-        String token = "Bearer " + jwtUtil.createToken(me.getId(), TokenType.ACCESS_TOKEN);
+        String token = "Bearer " + jwtUtil.createToken(
+            me.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
 
         // when & then
         mockMvc.perform(get("/api/v1/members/competitions/rankings/live")
@@ -463,7 +495,9 @@ class CompetitionControllerTest {
     @DisplayName("실시간 내 랭킹 조회 - 데이터가 존재하지 않을 경우 data는 null")
     void fetchMemberLiveRanking_notFound() throws Exception {
         // given
-        String token = "Bearer " + jwtUtil.createToken(testMember.getId(), TokenType.ACCESS_TOKEN);
+        String token = "Bearer " + jwtUtil.createToken(
+            testMember.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
 
         // when & then
         mockMvc.perform(get("/api/v1/members/competitions/rankings/live")
@@ -0,0 +1,62 @@
+package org.choon.careerbee.domain.competition.dto.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import org.choon.careerbee.domain.competition.dto.response.DailyResultSummaryResp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PeriodSummaryStateTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 6, 9);
+
+    @Test
+    @DisplayName("연속된 날짜를 반영하면 현재/최대 연속 참여일이 함께 증가한다")
+    void fold_consecutiveDays_shouldIncreaseStreak() {
+        // given
+        PeriodSummaryState state = PeriodSummaryState.empty(1L);
+
+        // when
+        state = state.fold(new DailyResultSummaryResp(1L, (short) 3, 100), MONDAY);
+        state = state.fold(new DailyResultSummaryResp(1L, (short) 5, 200), MONDAY.plusDays(1));
+
+        // then
+        assertThat(state.solvedSum()).isEqualTo((short) 8);
+        assertThat(state.timeSum()).isEqualTo(300L);
+        assertThat(state.participationCount()).isEqualTo(2);
+        assertThat(state.currentStreak()).isEqualTo(2);
+        assertThat(state.maxStreak()).isEqualTo(2);
+        assertThat(state.correctRate()).isEqualTo(80.0);
+    }
+
+    @Test
+    @DisplayName("참여가 끊기면 현재 연속 참여일은 1로 초기화되고 최대 연속 참여일은 유지된다")
+    void fold_afterGap_shouldResetCurrentStreakOnly() {
+        // given
+        PeriodSummaryState state = PeriodSummaryState.empty(1L)
+            .fold(new DailyResultSummaryResp(1L, (short) 1, 10), MONDAY)
+            .fold(new DailyResultSummaryResp(1L, (short) 1, 10), MONDAY.plusDays(1));
+
+        // when
+        state = state.fold(new DailyResultSummaryResp(1L, (short) 1, 10), MONDAY.plusDays(3));
+
+        // then
+        assertThat(state.currentStreak()).isEqualTo(1);
+        assertThat(state.maxStreak()).isEqualTo(2);
+        assertThat(state.lastParticipatedOn()).isEqualTo(MONDAY.plusDays(3));
+    }
+
+    @Test
+    @DisplayName("이미 반영한 날짜는 hasFolded 가 true 를 반환해 재실행 시 중복 합산을 막는다")
+    void hasFolded_whenSameDay_shouldReturnTrue() {
+        // given
+        PeriodSummaryState state = PeriodSummaryState.empty(1L)
+            .fold(new DailyResultSummaryResp(1L, (short) 1, 10), MONDAY);
+
+        // when & then
+        assertThat(state.hasFolded(MONDAY)).isTrue();
+        assertThat(state.hasFolded(MONDAY.plusDays(1))).isFalse();
+        assertThat(PeriodSummaryState.empty(1L).hasFolded(MONDAY)).isFalse();
+    }
+}
@@ -0,0 +1,212 @@
+package org.choon.careerbee.domain.competition.repository.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.choon.careerbee.fixture.MemberFixture.createMember;
+import static org.choon.careerbee.fixture.competition.CompetitionFixture.createCompetition;
+import static org.choon.careerbee.fixture.competition.CompetitionResultFixture.createCompetitionResult;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.choon.careerbee.config.querydsl.QueryDSLConfig;
+import org.choon.careerbee.domain.competition.domain.Competition;
+import org.choon.careerbee.domain.competition.domain.CompetitionResult;
+import org.choon.careerbee.domain.competition.domain.enums.SummaryType;
+import org.choon.careerbee.domain.competition.dto.internal.PeriodSummaryState;
+import org.choon.careerbee.domain.competition.dto.request.SummaryPeriod;
+import org.choon.careerbee.domain.competition.repository.CompetitionSummaryRepository;
+import org.choon.careerbee.domain.competition.service.summary.CompetitionSummaryService;
+import org.choon.careerbee.domain.competition.service.summary.CompetitionSummaryServiceImpl;
+import org.choon.careerbee.domain.member.entity.Member;
+import org.choon.careerbee.domain.member.service.MemberQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@Import({QueryDSLConfig.class, CompetitionSummaryServiceImpl.class})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class CompetitionSummaryJdbcRepositoryImplTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 6, 2);
+    private static final SummaryPeriod WEEK =
+        new SummaryPeriod(MONDAY, MONDAY.plusDays(6));
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CompetitionSummaryRepository summaryRepository;
+
+    @Autowired
+    private CompetitionSummaryService summaryService;
+
+    @MockitoBean
+    private MemberQueryService memberQueryService;
+
+    private Member first;
+    private Member second;
+    private Member third;
+
+    @BeforeEach
+    void setUp() {
+        first = persistMember("first", 1L);
+        second = persistMember("second", 2L);
+        third = persistMember("third", 3L);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("[기간 상태 upsert] 처음에는 순위 0 으로 넣고, 다시 넣으면 같은 행의 누적 상태만 바꾼다")
+    void upsertPeriodStates_shouldInsertThenUpdateSameRow() {
+        // given
+        summaryRepository.upsertPeriodStates(SummaryType.WEEK, WEEK, List.of(
+            new PeriodSummaryState(first.getId(), (short) 3, 100L, 1, 1, 1, MONDAY)
+        ));
+
+        // when
+        summaryRepository.upsertPeriodStates(SummaryType.WEEK, WEEK, List.of(
+            new PeriodSummaryState(first.getId(), (short) 8, 250L, 2, 2, 2, MONDAY.plusDays(1))
+        ));
+
+        // then
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+            SELECT solved_count, elapsed_time, ranking, participation_count, current_streak,
+                   max_continuous_day, last_participated_on
+            FROM competition_summary
+            WHERE member_id = ? AND type = 'WEEK'
+            """, first.getId());
+        assertThat(rows).hasSize(1);
+        Map<String, Object> row = rows.get(0);
+        assertThat(((Number) row.get("solved_count")).intValue()).isEqualTo(8);
+        assertThat(((Number) row.get("elapsed_time")).longValue()).isEqualTo(250L);
+        assertThat(((Number) row.get("ranking")).longValue()).isZero();
+        assertThat(((Number) row.get("participation_count")).intValue()).isEqualTo(2);
+        assertThat(((Number) row.get("current_streak")).intValue()).isEqualTo(2);
+        assertThat(((Number) row.get("max_continuous_day")).intValue()).isEqualTo(2);
+        assertThat(row.get("last_participated_on").toString())
+            .isEqualTo(MONDAY.plusDays(1).toString());
+    }
+
+    @Test
+    @DisplayName("[기간 재순위] 푼 문제 수, 소요 시간, 회원 ID 순으로 순위를 매기고 바뀐 행만 센다")
+    void rerankPeriod_shouldRankBySolvedThenTimeThenMemberId() {
+        // given
+        summaryRepository.upsertPeriodStates(SummaryType.WEEK, WEEK, List.of(
+            new PeriodSummaryState(third.getId(), (short) 5, 100L, 1, 1, 1, MONDAY),
+            new PeriodSummaryState(second.getId(), (short) 5, 100L, 1, 1, 1, MONDAY),
+            new PeriodSummaryState(first.getId(), (short) 3, 50L, 1, 1, 1, MONDAY)
+        ));
+
+        // when
+        int firstRerank = summaryRepository.rerankPeriod(SummaryType.WEEK, WEEK);
+        int secondRerank = summaryRepository.rerankPeriod(SummaryType.WEEK, WEEK);
+
+        // then
+        assertThat(firstRerank).isEqualTo(3);
+        assertThat(secondRerank).isZero();
+        assertThat(rankOf(second, SummaryType.WEEK)).isEqualTo(1L);
+        assertThat(rankOf(third, SummaryType.WEEK)).isEqualTo(2L);
+        assertThat(rankOf(first, SummaryType.WEEK)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("[연속 참여 초기화] 지정한 날에 참여하지 않은 회원만 연속 참여 일수를 0 으로 되돌린다")
+    void resetBrokenStreaks_shouldResetOnlyAbsentMembers() {
+        // given
+        LocalDate tuesday = MONDAY.plusDays(1);
+        summaryRepository.upsertPeriodStates(SummaryType.WEEK, WEEK, List.of(
+            new PeriodSummaryState(first.getId(), (short) 5, 100L, 2, 2, 2, tuesday),
+            new PeriodSummaryState(second.getId(), (short) 5, 100L, 1, 1, 1, MONDAY)
+        ));
+
+        // when
+        int reset = summaryRepository.resetBrokenStreaks(SummaryType.WEEK, WEEK, tuesday);
+
+        // then
+        assertThat(reset).isEqualTo(1);
+        assertThat(streakOf(first, SummaryType.WEEK)).isEqualTo(2);
+        assertThat(streakOf(second, SummaryType.WEEK)).isZero();
+    }
+
+    @Test
+    @DisplayName("[주간 집계] 하루씩 누적하고, 같은 날을 다시 집계해도 중복 합산하지 않는다")
+    void weekAndMonthSummary_shouldFoldDailyResultsIdempotently() {
+        // given
+        LocalDate tuesday = MONDAY.plusDays(1);
+        persistResult(first, MONDAY, (short) 4, 100);
+        persistResult(second, MONDAY, (short) 5, 90);
+        persistResult(first, tuesday, (short) 5, 80);
+        em.flush();
+
+        // when
+        summaryService.weekAndMonthSummary(MONDAY, SummaryType.WEEK);
+        summaryService.weekAndMonthSummary(tuesday, SummaryType.WEEK);
+        summaryService.weekAndMonthSummary(tuesday, SummaryType.WEEK);
+
+        // then
+        Map<String, Object> firstRow = summaryRow(first);
+        assertThat(((Number) firstRow.get("solved_count")).intValue()).isEqualTo(9);
+        assertThat(((Number) firstRow.get("participation_count")).intValue()).isEqualTo(2);
+        assertThat(((Number) firstRow.get("current_streak")).intValue()).isEqualTo(2);
+        assertThat(((Number) firstRow.get("max_continuous_day")).intValue()).isEqualTo(2);
+        assertThat(((Number) firstRow.get("ranking")).longValue()).isEqualTo(1L);
+
+        Map<String, Object> secondRow = summaryRow(second);
+        assertThat(((Number) secondRow.get("participation_count")).intValue()).isEqualTo(1);
+        assertThat(((Number) secondRow.get("current_streak")).intValue()).isZero();
+        assertThat(((Number) secondRow.get("max_continuous_day")).intValue()).isEqualTo(1);
+        assertThat(((Number) secondRow.get("ranking")).longValue()).isEqualTo(2L);
+    }
+
+    private Member persistMember(String nickname, Long providerId) {
+        Member member = createMember(nickname, nickname + "@test.com", providerId);
+        em.persist(member);
+        return member;
+    }
+
+    private void persistResult(Member member, LocalDate day, short solvedCount, int elapsedTime) {
+        Competition competition = createCompetition(
+            day.atTime(20, 0), day.atTime(20, 10));
+        em.persist(competition);
+        CompetitionResult result = createCompetitionResult(
+            competition, member, solvedCount, elapsedTime);
+        em.persist(result);
+        em.flush();
+
+        jdbcTemplate.update("UPDATE competition_result SET created_at = ? WHERE id = ?",
+            day.atTime(20, 10), result.getId());
+    }
+
+    private Map<String, Object> summaryRow(Member member) {
+        return jdbcTemplate.queryForMap("""
+            SELECT solved_count, participation_count, current_streak, max_continuous_day, ranking
+            FROM competition_summary
+            WHERE member_id = ? AND type = 'WEEK' AND period_start = ?
+            """, member.getId(), WEEK.startAt());
+    }
+
+    private Long rankOf(Member member, SummaryType type) {
+        return jdbcTemplate.queryForObject(
+            "SELECT ranking FROM competition_summary WHERE member_id = ? AND type = ?",
+            Long.class, member.getId(), type.name());
+    }
+
+    private Integer streakOf(Member member, SummaryType type) {
+        return jdbcTemplate.queryForObject(
+            "SELECT current_streak FROM competition_summary WHERE member_id = ? AND type = ?",
+            Integer.class, member.getId(), type.name());
+    }
+}
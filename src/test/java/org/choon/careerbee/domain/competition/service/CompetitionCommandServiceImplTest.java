@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -14,6 +15,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
@@ -22,16 +24,18 @@ import org.choon.careerbee.common.enums.CustomResponseStatus;
 import org.choon.careerbee.common.exception.CustomException;
 import org.choon.careerbee.domain.competition.domain.Competition;
 import org.choon.careerbee.domain.competition.domain.CompetitionParticipant;
-import org.choon.careerbee.domain.competition.domain.CompetitionResult;
+import org.choon.careerbee.domain.competition.dto.internal.CompetitionAnswerKey;
+import org.choon.careerbee.domain.competition.dto.internal.CompetitionSubmission;
 import org.choon.careerbee.domain.competition.dto.internal.ProblemAnswerInfo;
 import org.choon.careerbee.domain.competition.dto.request.CompetitionResultSubmitReq;
 import org.choon.careerbee.domain.competition.dto.request.CompetitionResultSubmitReq.SubmitInfo;
 import org.choon.careerbee.domain.competition.dto.response.CompetitionGradingResp;
 import org.choon.careerbee.domain.competition.repository.CompetitionParticipantRepository;
-import org.choon.careerbee.domain.competition.repository.CompetitionProblemRepository;
 import org.choon.careerbee.domain.competition.repository.CompetitionRepository;
-import org.choon.careerbee.domain.competition.repository.CompetitionResultRepository;
 import org.choon.careerbee.domain.competition.service.command.CompetitionCommandServiceImpl;
+import org.choon.careerbee.domain.competition.service.grading.CompetitionAnswerKeyCache;
+import org.choon.careerbee.domain.competition.service.grading.CompetitionSubmissionGuard;
+import org.choon.careerbee.domain.competition.service.submission.CompetitionSubmissionQueue;
 import org.choon.careerbee.domain.member.entity.Member;
 import org.choon.careerbee.domain.member.service.MemberQueryService;
 import org.junit.jupiter.api.DisplayName;
@@ -43,11 +47,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
 import org.redisson.codec.TypedJsonJacksonCodec;
-import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class CompetitionCommandServiceImplTest {
 
+    private static final LocalDateTime COMPETITION_END = LocalDateTime.of(2025, 6, 2, 13, 10);
+
     @InjectMocks
     private CompetitionCommandServiceImpl competitionCommandService;
 
@@ -58,16 +63,16 @@ class CompetitionCommandServiceImplTest {
     private CompetitionParticipantRepository competitionParticipantRepository;
 
     @Mock
-    private CompetitionProblemRepository competitionProblemRepository;
+    private CompetitionAnswerKeyCache answerKeyCache;
 
     @Mock
-    private CompetitionResultRepository competitionResultRepository;
+    private CompetitionSubmissionGuard submissionGuard;
 
     @Mock
-    private MemberQueryService memberQueryService;
+    private CompetitionSubmissionQueue submissionQueue;
 
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private MemberQueryService memberQueryService;
 
     @Mock
     private RedissonClient redissonClient;
@@ -147,13 +152,11 @@ class CompetitionCommandServiceImplTest {
     }
 
     @Test
-    @DisplayName("대회 결과 제출 - 성공")
+    @DisplayName("대회 결과 제출 - 채점 결과를 바로 반환하고 저장은 제출 큐에 맡긴다")
     void submitCompetitionResult_success() {
         // given
         Long competitionId = 1L;
         Long memberId = 10L;
-        Competition competition = mock(Competition.class);
-        Member member = mock(Member.class);
         int elapsedTime = 123;
 
         CompetitionResultSubmitReq submitReq = mock(CompetitionResultSubmitReq.class);
@@ -166,32 +169,56 @@ class CompetitionCommandServiceImplTest {
         when(submitReq.submittedAnswers()).thenReturn(submittedAnswers);
         when(submitReq.elapsedTime()).thenReturn(elapsedTime);
 
-        when(competitionRepository.findById(competitionId)).thenReturn(Optional.of(competition));
-        when(memberQueryService.findById(memberId)).thenReturn(member);
-        when(competitionResultRepository.existsByMemberIdAndCompetitionId(memberId,
-            competitionId)).thenReturn(false);
-
-        when(competitionProblemRepository.getProblemAnswerInfoByCompetitionId(
-            competitionId)).thenReturn(
+        when(answerKeyCache.get(competitionId)).thenReturn(CompetitionAnswerKey.of(
+            competitionId,
+            COMPETITION_END,
             List.of(
                 new ProblemAnswerInfo(1L, (short) 5, "sol1"),
                 new ProblemAnswerInfo(2L, (short) 3, "sol2"),
                 new ProblemAnswerInfo(3L, (short) 2, "sol3")
             )
-        );
+        ));
 
         // when
         CompetitionGradingResp resp = competitionCommandService.submitCompetitionResult(
             competitionId, submitReq, memberId);
 
         // then
-        verify(competitionResultRepository, times(1)).save(any(CompetitionResult.class));
-        verify(member, times(1)).plusPoint(5);
+        verify(submissionGuard).acquire(competitionId, memberId, COMPETITION_END);
+        verify(submissionQueue).enqueue(new CompetitionSubmission(
+            competitionId, memberId, (short) 2, elapsedTime, COMPETITION_END.toLocalDate()
+        ));
+        verify(memberQueryService, never()).findById(anyLong());
+        verify(submissionGuard, never()).release(anyLong(), anyLong());
 
         assertThat(resp.gradingResults()).hasSize(3);
         assertThat(resp.gradingResults().get(0).isCorrect()).isTrue();
         assertThat(resp.gradingResults().get(1).isCorrect()).isTrue();
         assertThat(resp.gradingResults().get(2).isCorrect()).isFalse();
+        assertThat(resp.gradingResults().get(2).solution()).isEqualTo("sol3");
+    }
+
+    @Test
+    @DisplayName("대회 결과 제출 - 제출 큐 기록에 실패하면 선점한 키를 풀고 예외를 던진다")
+    void submitCompetitionResult_whenEnqueueFails_shouldReleaseGuard() {
+        // given
+        Long competitionId = 1L;
+        Long memberId = 10L;
+        CompetitionResultSubmitReq submitReq = mock(CompetitionResultSubmitReq.class);
+
+        when(submitReq.submittedAnswers()).thenReturn(List.of(new SubmitInfo(1L, (short) 5)));
+        when(answerKeyCache.get(competitionId)).thenReturn(CompetitionAnswerKey.of(
+            competitionId, COMPETITION_END, List.of(new ProblemAnswerInfo(1L, (short) 5, "sol1"))
+        ));
+        doThrow(new IllegalStateException("redis down"))
+            .when(submissionQueue).enqueue(any(CompetitionSubmission.class));
+
+        // when & then
+        assertThatThrownBy(() ->
+            competitionCommandService.submitCompetitionResult(competitionId, submitReq, memberId))
+            .isInstanceOf(IllegalStateException.class);
+
+        verify(submissionGuard).release(competitionId, memberId);
     }
 
     @Test
@@ -202,7 +229,8 @@ class CompetitionCommandServiceImplTest {
         Long memberId = 10L;
         CompetitionResultSubmitReq submitReq = mock(CompetitionResultSubmitReq.class);
 
-        when(competitionRepository.findById(competitionId)).thenReturn(Optional.empty());
+        when(answerKeyCache.get(competitionId))
+            .thenThrow(new CustomException(CustomResponseStatus.COMPETITION_NOT_EXIST));
 
         // when & then
         assertThatThrownBy(() ->
@@ -211,7 +239,7 @@ class CompetitionCommandServiceImplTest {
             .isInstanceOf(CustomException.class)
             .hasMessageContaining(CustomResponseStatus.COMPETITION_NOT_EXIST.getMessage());
 
-        verify(competitionResultRepository, never()).save(any());
+        verify(submissionQueue, never()).enqueue(any());
     }
 
     @Test
@@ -220,14 +248,13 @@ class CompetitionCommandServiceImplTest {
         // given
         Long competitionId = 1L;
         Long memberId = 10L;
-        Competition competition = mock(Competition.class);
-        Member member = mock(Member.class);
         CompetitionResultSubmitReq submitReq = mock(CompetitionResultSubmitReq.class);
 
-        when(competitionRepository.findById(competitionId)).thenReturn(Optional.of(competition));
-        when(memberQueryService.findById(memberId)).thenReturn(member);
-        when(competitionResultRepository.existsByMemberIdAndCompetitionId(memberId, competitionId))
-            .thenReturn(true);
+        when(answerKeyCache.get(competitionId)).thenReturn(
+            CompetitionAnswerKey.of(competitionId, COMPETITION_END, List.of())
+        );
+        doThrow(new CustomException(CustomResponseStatus.RESULT_ALREADY_SUBMIT))
+            .when(submissionGuard).acquire(competitionId, memberId, COMPETITION_END);
 
         // when & then
         assertThatThrownBy(() ->
@@ -235,6 +262,7 @@ class CompetitionCommandServiceImplTest {
             .isInstanceOf(CustomException.class)
             .hasMessageContaining(CustomResponseStatus.RESULT_ALREADY_SUBMIT.getMessage());
 
-        verify(competitionResultRepository, never()).save(any());
+        verify(submissionQueue, never()).enqueue(any());
+        verify(submissionGuard, never()).release(anyLong(), anyLong());
     }
 }
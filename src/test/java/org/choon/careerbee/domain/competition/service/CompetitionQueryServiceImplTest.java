@@ -27,6 +27,7 @@ import org.choon.careerbee.domain.competition.repository.CompetitionRepository;
 import org.choon.careerbee.domain.competition.repository.CompetitionResultRepository;
 import org.choon.careerbee.domain.competition.repository.CompetitionSummaryRepository;
 import org.choon.careerbee.domain.competition.service.query.CompetitionQueryServiceImpl;
+import org.choon.careerbee.domain.competition.service.ranking.CompetitionLiveLeaderboard;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -57,6 +58,9 @@ class CompetitionQueryServiceImplTest {
     @Mock
     private RedissonClient redissonClient;
 
+    @Mock
+    private CompetitionLiveLeaderboard liveLeaderboard;
+
     @Mock
     private Clock clock;
 
@@ -386,4 +390,22 @@ class CompetitionQueryServiceImplTest {
         verify(competitionResultRepository).fetchLiveRankingByDate(today);
     }
 
+    @Test
+    @DisplayName("실시간 랭킹 조회 - 오늘 랭킹이 ZSET에 적재되어 있으면 DB를 조회하지 않는다")
+    void fetchLiveRanking_whenLeaderboardServing_shouldNotQueryDb() {
+        // given
+        LocalDate today = LocalDate.of(2025, 6, 10);
+        LiveRankingResp leaderboardResp = new LiveRankingResp(
+            List.of(new RankerInfo(1L, "user1", "url1", 123000, (short) 5))
+        );
+        when(liveLeaderboard.isServing(today)).thenReturn(true);
+        when(liveLeaderboard.fetchTop(today)).thenReturn(leaderboardResp);
+
+        // when
+        LiveRankingResp result = competitionQueryService.fetchLiveRanking(today);
+
+        // then
+        assertThat(result).isEqualTo(leaderboardResp);
+        verify(competitionResultRepository, never()).fetchLiveRankingByDate(any());
+    }
 }
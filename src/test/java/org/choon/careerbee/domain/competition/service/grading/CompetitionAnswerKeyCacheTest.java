@@ -0,0 +1,93 @@
+package org.choon.careerbee.domain.competition.service.grading;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import org.choon.careerbee.domain.competition.domain.Competition;
+import org.choon.careerbee.domain.competition.dto.internal.CompetitionAnswerKey;
+import org.choon.careerbee.domain.competition.dto.internal.ProblemAnswerInfo;
+import org.choon.careerbee.domain.competition.repository.CompetitionProblemRepository;
+import org.choon.careerbee.domain.competition.repository.CompetitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CompetitionAnswerKeyCacheTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private CompetitionRepository competitionRepository;
+
+    @Mock
+    private CompetitionProblemRepository competitionProblemRepository;
+
+    private CompetitionAnswerKeyCache answerKeyCache;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-06-02T04:30:00Z"), SEOUL); // 13:30 KST
+        answerKeyCache = new CompetitionAnswerKeyCache(
+            competitionRepository, competitionProblemRepository, clock
+        );
+    }
+
+    @Test
+    @DisplayName("정답표는 한 번만 DB 에서 읽고 문제 ID 로 정답과 해설을 찾는다")
+    void get_shouldLoadOnce() {
+        // given
+        stubCompetition(1L, LocalDateTime.of(2025, 6, 2, 23, 59));
+
+        // when
+        answerKeyCache.get(1L);
+        CompetitionAnswerKey answerKey = answerKeyCache.get(1L);
+
+        // then
+        int index = answerKey.indexOf(20L);
+        assertThat(answerKey.answerAt(index)).isEqualTo((short) 3);
+        assertThat(answerKey.solutionAt(index)).isEqualTo("해설2");
+        assertThat(answerKey.indexOf(99L)).isNegative();
+        verify(competitionProblemRepository, times(1)).getProblemAnswerInfoByCompetitionId(1L);
+    }
+
+    @Test
+    @DisplayName("종료된 대회의 정답표만 제거한다")
+    void evictEnded_shouldRemoveOnlyEndedCompetitions() {
+        // given
+        stubCompetition(1L, LocalDateTime.of(2025, 6, 2, 13, 10));
+        stubCompetition(2L, LocalDateTime.of(2025, 6, 2, 23, 59));
+        answerKeyCache.warmUp(1L);
+        answerKeyCache.warmUp(2L);
+
+        // when
+        int evicted = answerKeyCache.evictEnded();
+        answerKeyCache.get(2L);
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        verify(competitionProblemRepository, times(1)).getProblemAnswerInfoByCompetitionId(2L);
+    }
+
+    private void stubCompetition(Long competitionId, LocalDateTime endsAt) {
+        when(competitionRepository.findById(competitionId)).thenReturn(Optional.of(
+            Competition.of(endsAt.minusMinutes(10), endsAt)
+        ));
+        when(competitionProblemRepository.getProblemAnswerInfoByCompetitionId(competitionId))
+            .thenReturn(List.of(
+                new ProblemAnswerInfo(20L, (short) 3, "해설2"),
+                new ProblemAnswerInfo(10L, (short) 1, "해설1")
+            ));
+    }
+}
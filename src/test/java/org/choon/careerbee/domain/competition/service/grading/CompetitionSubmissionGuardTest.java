@@ -0,0 +1,74 @@
+package org.choon.careerbee.domain.competition.service.grading;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+@ExtendWith(MockitoExtension.class)
+class CompetitionSubmissionGuardTest {
+
+    private static final String GUARD_KEY = "competition:1:submitted:10";
+    private static final LocalDateTime ENDS_AT = LocalDateTime.of(2025, 6, 2, 13, 10);
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RBucket<Object> guard;
+
+    private CompetitionSubmissionGuard submissionGuard;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-06-02T04:05:00Z"), ZoneId.of("Asia/Seoul"));
+        submissionGuard = new CompetitionSubmissionGuard(redissonClient, clock);
+        when(redissonClient.getBucket(GUARD_KEY, StringCodec.INSTANCE)).thenReturn(guard);
+    }
+
+    @Test
+    @DisplayName("처음 제출하면 대회 종료 후 하루까지 남는 키를 선점한다")
+    void acquire_whenFirstSubmission_shouldSetKey() {
+        // given
+        when(guard.setIfAbsent(eq("1"), any(Duration.class))).thenReturn(true);
+
+        // when & then
+        assertThatCode(() -> submissionGuard.acquire(1L, 10L, ENDS_AT))
+            .doesNotThrowAnyException();
+        verify(guard).setIfAbsent(eq("1"),
+            argThat((Duration ttl) -> ttl.equals(Duration.ofMinutes(5).plusDays(1))));
+    }
+
+    @Test
+    @DisplayName("이미 선점된 키가 있으면 중복 제출 예외를 던진다")
+    void acquire_whenAlreadySubmitted_shouldThrow() {
+        // given
+        when(guard.setIfAbsent(eq("1"), any(Duration.class))).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> submissionGuard.acquire(1L, 10L, ENDS_AT))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("customResponseStatus",
+                CustomResponseStatus.RESULT_ALREADY_SUBMIT);
+    }
+}
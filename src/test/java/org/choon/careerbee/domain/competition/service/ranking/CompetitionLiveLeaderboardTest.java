@@ -0,0 +1,41 @@
+package org.choon.careerbee.domain.competition.service.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CompetitionLiveLeaderboardTest {
+
+    @Test
+    @DisplayName("점수는 맞힌 개수 내림차순, 소요 시간 오름차순으로 정렬된다")
+    void score_shouldOrderBySolvedCountDescThenElapsedTimeAsc() {
+        // given
+        double fastFive = CompetitionLiveLeaderboard.score((short) 5, 1_000);
+        double slowFive = CompetitionLiveLeaderboard.score((short) 5, 900_000);
+        double fastFour = CompetitionLiveLeaderboard.score((short) 4, 1);
+
+        // when & then
+        assertThat(fastFive).isGreaterThan(slowFive);
+        assertThat(slowFive).isGreaterThan(fastFour);
+    }
+
+    @Test
+    @DisplayName("점수에서 맞힌 개수와 소요 시간을 그대로 복원한다")
+    void score_shouldRoundTrip() {
+        // given
+        short[] solvedCounts = {0, 1, 5, 10};
+        int[] elapsedTimes = {0, 1, 10_000, Integer.MAX_VALUE};
+
+        for (short solvedCount : solvedCounts) {
+            for (int elapsedTime : elapsedTimes) {
+                // when
+                double score = CompetitionLiveLeaderboard.score(solvedCount, elapsedTime);
+
+                // then
+                assertThat(CompetitionLiveLeaderboard.solvedCountOf(score)).isEqualTo(solvedCount);
+                assertThat(CompetitionLiveLeaderboard.elapsedTimeOf(score)).isEqualTo(elapsedTime);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.choon.careerbee.domain.competition.service.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.competition.dto.response.CompetitionProblemResp;
+import org.choon.careerbee.domain.competition.dto.response.CompetitionProblemResp.ProblemChoiceInfo;
+import org.choon.careerbee.domain.competition.dto.response.CompetitionProblemResp.ProblemInfo;
+import org.choon.careerbee.domain.competition.dto.response.CompetitionProblemSnapshotResp;
+import org.choon.careerbee.domain.competition.repository.CompetitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CompetitionProblemSnapshotTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private CompetitionRepository competitionRepository;
+
+    private CompetitionProblemSnapshot problemSnapshot;
+
+    @BeforeEach
+    void setUp() {
+        problemSnapshot = new CompetitionProblemSnapshot(competitionRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("스냅샷은 한 번만 DB 에서 만들고 이후에는 같은 바이트와 ETag 를 돌려준다")
+    void get_shouldBuildOnceAndServeFromMemory() throws Exception {
+        // given
+        stubProblems(1L);
+
+        // when
+        CompetitionProblemSnapshotResp first = problemSnapshot.get(1L);
+        CompetitionProblemSnapshotResp second = problemSnapshot.get(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.etag()).startsWith("\"").endsWith("\"");
+
+        JsonNode body = objectMapper.readTree(first.body());
+        assertThat(body.get("message").asText()).isEqualTo("대회 문제 조회에 성공하였습니다.");
+        assertThat(body.at("/data/problems/0/choices/1/content").asText()).isEqualTo("보기2");
+        verify(competitionRepository, times(1)).fetchCompetitionProblemsByCompetitionId(1L);
+    }
+
+    @Test
+    @DisplayName("웜업하면 지난 대회의 스냅샷은 비운다")
+    void warmUp_shouldDropPreviousCompetitions() {
+        // given
+        stubProblems(1L);
+        stubProblems(2L);
+        problemSnapshot.get(1L);
+
+        // when
+        problemSnapshot.warmUp(2L);
+        problemSnapshot.get(1L);
+
+        // then
+        verify(competitionRepository, times(2)).fetchCompetitionProblemsByCompetitionId(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 대회는 예외를 던지고 스냅샷을 남기지 않는다")
+    void get_whenCompetitionNotExist_shouldThrow() {
+        // given
+        when(competitionRepository.existsById(99L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> problemSnapshot.get(99L))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("customResponseStatus",
+                CustomResponseStatus.COMPETITION_NOT_EXIST);
+        assertThatThrownBy(() -> problemSnapshot.get(99L))
+            .isInstanceOf(CustomException.class);
+        verify(competitionRepository, never()).fetchCompetitionProblemsByCompetitionId(99L);
+    }
+
+    private void stubProblems(Long competitionId) {
+        when(competitionRepository.existsById(competitionId)).thenReturn(true);
+        when(competitionRepository.fetchCompetitionProblemsByCompetitionId(competitionId))
+            .thenReturn(new CompetitionProblemResp(List.of(
+                new ProblemInfo(10L, 1, "문제 제목", "문제 설명", List.of(
+                    new ProblemChoiceInfo(1, "보기1"),
+                    new ProblemChoiceInfo(2, "보기2")
+                ))
+            )));
+    }
+}
@@ -0,0 +1,105 @@
+package org.choon.careerbee.domain.competition.service.submission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.choon.careerbee.domain.competition.dto.event.CompetitionResultSubmitted;
+import org.choon.careerbee.domain.competition.dto.event.PointEvent;
+import org.choon.careerbee.domain.competition.dto.internal.CompetitionSubmission;
+import org.choon.careerbee.domain.competition.repository.CompetitionResultRepository;
+import org.choon.careerbee.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class CompetitionResultWriterTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 2);
+
+    @InjectMocks
+    private CompetitionResultWriter resultWriter;
+
+    @Mock
+    private CompetitionResultRepository competitionResultRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("이미 저장된 제출은 건너뛰고 나머지만 한 번에 저장하고 포인트를 지급한다")
+    void write_shouldSkipAlreadyWritten() {
+        // given
+        CompetitionSubmission written = new CompetitionSubmission(1L, 10L, (short) 3, 100, DAY);
+        CompetitionSubmission fresh = new CompetitionSubmission(1L, 11L, (short) 5, 200, DAY);
+        when(competitionResultRepository.findSubmittedMemberIds(1L, List.of(10L, 11L)))
+            .thenReturn(List.of(10L));
+
+        // when
+        int count = resultWriter.write(List.of(written, fresh));
+
+        // then
+        assertThat(count).isEqualTo(1);
+        verify(competitionResultRepository).batchInsert(List.of(fresh));
+        verify(memberRepository)
+            .addPoints(List.of(11L), CompetitionResultWriter.PARTICIPATION_POINT);
+        verify(eventPublisher).publishEvent(any(PointEvent.class));
+        verify(eventPublisher)
+            .publishEvent(new CompetitionResultSubmitted(11L, DAY, (short) 5, 200));
+    }
+
+    @Test
+    @DisplayName("묶음 안에서 같은 회원이 여러 대회에 제출하면 포인트를 합산해 지급한다")
+    void write_whenSameMemberInMultipleCompetitions_shouldSumPoints() {
+        // given
+        CompetitionSubmission first = new CompetitionSubmission(1L, 10L, (short) 3, 100, DAY);
+        CompetitionSubmission second = new CompetitionSubmission(2L, 10L, (short) 4, 150, DAY);
+        CompetitionSubmission other = new CompetitionSubmission(2L, 11L, (short) 1, 300, DAY);
+        when(competitionResultRepository.findSubmittedMemberIds(any(), anyList()))
+            .thenReturn(List.of());
+
+        // when
+        int count = resultWriter.write(List.of(first, second, other));
+
+        // then
+        assertThat(count).isEqualTo(3);
+        verify(memberRepository)
+            .addPoints(List.of(10L), CompetitionResultWriter.PARTICIPATION_POINT * 2);
+        verify(memberRepository)
+            .addPoints(List.of(11L), CompetitionResultWriter.PARTICIPATION_POINT);
+        verify(eventPublisher, times(3)).publishEvent(any(PointEvent.class));
+    }
+
+    @Test
+    @DisplayName("모두 이미 저장된 제출이면 아무것도 쓰지 않는다")
+    void write_whenAllWritten_shouldDoNothing() {
+        // given
+        CompetitionSubmission written = new CompetitionSubmission(1L, 10L, (short) 3, 100, DAY);
+        when(competitionResultRepository.findSubmittedMemberIds(1L, List.of(10L)))
+            .thenReturn(List.of(10L));
+
+        // when
+        int count = resultWriter.write(List.of(written));
+
+        // then
+        assertThat(count).isZero();
+        verify(competitionResultRepository, never()).batchInsert(anyList());
+        verify(memberRepository, never()).addPoints(anyList(), anyInt());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -12,6 +12,7 @@ import org.choon.careerbee.domain.image.dto.request.PresignedUrlReq;
 import org.choon.careerbee.domain.image.enums.SupportedExtension;
 import org.choon.careerbee.domain.image.enums.UploadType;
 import org.choon.careerbee.domain.member.entity.Member;
+import org.choon.careerbee.domain.member.entity.enums.RoleType;
 import org.choon.careerbee.domain.member.repository.MemberRepository;
 import org.choon.careerbee.fixture.MemberFixture;
 import org.choon.careerbee.util.jwt.JwtUtil;
@@ -52,7 +53,9 @@ class ImageControllerTest {
     void setUp() {
         testMember = memberRepository.saveAndFlush(
             MemberFixture.createMember("nick", "nick@a.com", 1L));
-        accessToken = "Bearer " + jwtUtil.createToken(testMember.getId(), TokenType.ACCESS_TOKEN);
+        accessToken = "Bearer " + jwtUtil.createToken(
+            testMember.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
     }
 
     @Test
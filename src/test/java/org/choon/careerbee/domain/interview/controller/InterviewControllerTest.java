@@ -19,6 +19,7 @@ import org.choon.careerbee.domain.interview.domain.enums.SaveStatus;
 import org.choon.careerbee.domain.interview.repository.InterviewProblemRepository;
 import org.choon.careerbee.domain.interview.repository.SolvedInterviewProblemRepository;
 import org.choon.careerbee.domain.member.entity.Member;
+import org.choon.careerbee.domain.member.entity.enums.RoleType;
 import org.choon.careerbee.domain.member.repository.MemberRepository;
 import org.choon.careerbee.util.jwt.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -67,7 +68,9 @@ class InterviewControllerTest {
         memberRepository.deleteAllInBatch();
 
         testMember = memberRepository.save(createMember("solveUser", "solve@bee.com", 33L));
-        accessToken = "Bearer " + jwtUtil.createToken(testMember.getId(), TokenType.ACCESS_TOKEN);
+        accessToken = "Bearer " + jwtUtil.createToken(
+            testMember.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
     }
 
     @Test
@@ -150,7 +153,9 @@ class InterviewControllerTest {
         InterviewProblem problem = interviewProblemRepository.save(
             createInterviewProblem("백엔드 문제입니다.", ProblemType.BACKEND)
         );
-        String token = "Bearer " + jwtUtil.createToken(member.getId(), TokenType.ACCESS_TOKEN);
+        String token = "Bearer " + jwtUtil.createToken(
+            member.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
         solvedProblemRepository.save(
             createSolvedProblem(member, problem, "answer", "feedback", SaveStatus.UNSAVED));
 
@@ -175,7 +180,9 @@ class InterviewControllerTest {
         InterviewProblem unsolvedProblem = interviewProblemRepository.save(
             createInterviewProblem("AI 문제입니다.", ProblemType.AI));
 
-        String token = "Bearer " + jwtUtil.createToken(member.getId(), TokenType.ACCESS_TOKEN);
+        String token = "Bearer " + jwtUtil.createToken(
+            member.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
 
         // when & then
         mockMvc.perform(
@@ -203,7 +210,9 @@ class InterviewControllerTest {
             createSolvedProblem(member, problem, "answer", "feedback", SaveStatus.SAVED)
         );
 
-        String token = "Bearer " + jwtUtil.createToken(member.getId(), TokenType.ACCESS_TOKEN);
+        String token = "Bearer " + jwtUtil.createToken(
+            member.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
 
         // when & then
         mockMvc.perform(patch("/api/v1/members/interview-problems/{problemId}", problem.getId())
@@ -226,7 +235,9 @@ class InterviewControllerTest {
         solvedProblemRepository.save(
             createSolvedProblem(member, problem, "answer", "feedback", SaveStatus.SAVED));
 
-        String token = "Bearer " + jwtUtil.createToken(member.getId(), TokenType.ACCESS_TOKEN);
+        String token = "Bearer " + jwtUtil.createToken(
+            member.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
 
         // when & then
         mockMvc.perform(
@@ -246,7 +257,9 @@ class InterviewControllerTest {
         InterviewProblem problem = interviewProblemRepository.save(
             createInterviewProblem("AI 문제", ProblemType.AI));
 
-        String token = "Bearer " + jwtUtil.createToken(member.getId(), TokenType.ACCESS_TOKEN);
+        String token = "Bearer " + jwtUtil.createToken(
+            member.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
 
         // when & then
         mockMvc.perform(
@@ -270,7 +283,9 @@ class InterviewControllerTest {
         solvedProblemRepository.save(
             createSolvedProblem(member, problem, "answer", "feedback", SaveStatus.UNSAVED));
 
-        String token = "Bearer " + jwtUtil.createToken(member.getId(), TokenType.ACCESS_TOKEN);
+        String token = "Bearer " + jwtUtil.createToken(
+            member.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
 
         // when & then
         mockMvc.perform(
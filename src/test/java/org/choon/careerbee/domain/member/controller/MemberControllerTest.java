@@ -15,6 +15,7 @@ import org.choon.careerbee.domain.member.dto.request.WithdrawalReq;
 import org.choon.careerbee.domain.member.entity.Member;
 import org.choon.careerbee.domain.member.entity.enums.MajorType;
 import org.choon.careerbee.domain.member.entity.enums.PreferredJob;
+import org.choon.careerbee.domain.member.entity.enums.RoleType;
 import org.choon.careerbee.domain.member.repository.MemberRepository;
 import org.choon.careerbee.util.jwt.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,7 +54,9 @@ class MemberControllerTest {
     @BeforeEach
     void setUp() {
         testMember = memberRepository.save(createMember("testnick", "test@test.com", 1L));
-        accessToken = jwtUtil.createToken(testMember.getId(), TokenType.ACCESS_TOKEN);
+        accessToken = jwtUtil.createToken(
+            testMember.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
     }
 
     @Test
@@ -90,7 +93,9 @@ class MemberControllerTest {
     void updateResumeInfo_memberNotFound_shouldReturn404() throws Exception {
         // given
         Long invalidMemberId = testMember.getId() + 100L;
-        String invalidToken = jwtUtil.createToken(invalidMemberId, TokenType.ACCESS_TOKEN);
+        String invalidToken = jwtUtil.createToken(
+            invalidMemberId, RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
 
         UpdateResumeReq req = new UpdateResumeReq(
             PreferredJob.BACKEND, "BR1", 1, 1, MajorType.MAJOR, "카카오", 12, "백엔드", "인턴 경험 있음"
@@ -165,7 +170,9 @@ class MemberControllerTest {
     void withdrawal_memberNotFound_shouldReturn404() throws Exception {
         // given
         Long invalidId = testMember.getId() + 999L;
-        String invalidToken = jwtUtil.createToken(invalidId, TokenType.ACCESS_TOKEN);
+        String invalidToken = jwtUtil.createToken(
+            invalidId, RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
 
         WithdrawalReq req = new WithdrawalReq("사용자 없음");
         String json = objectMapper.writeValueAsString(req);
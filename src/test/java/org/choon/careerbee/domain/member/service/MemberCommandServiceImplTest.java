@@ -11,6 +11,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import org.choon.careerbee.domain.auth.service.version.MemberTokenVersion;
 import org.choon.careerbee.domain.image.dto.response.ObjectUrlResp;
 import org.choon.careerbee.domain.image.service.ImageService;
 import org.choon.careerbee.domain.member.dto.request.UpdateProfileInfoReq;
@@ -36,6 +37,9 @@ class MemberCommandServiceImplTest {
     @Mock
     private ImageService imageService;
 
+    @Mock
+    private MemberTokenVersion memberTokenVersion;
+
     @InjectMocks
     private MemberCommandServiceImpl memberCommandService;
 
@@ -132,6 +136,7 @@ class MemberCommandServiceImplTest {
         when(req.withdrawReason()).thenReturn(reason);
 
         Member mockMember = mock(Member.class);
+        when(mockMember.getId()).thenReturn(accessMemberId);
         when(memberQueryService.findById(accessMemberId)).thenReturn(mockMember);
 
         // when
@@ -143,5 +148,6 @@ class MemberCommandServiceImplTest {
                 command.reason().equals(reason) &&
                     command.requestedAt().equals(withdrawAt))
         );
+        verify(memberTokenVersion).bump(accessMemberId);
     }
 }
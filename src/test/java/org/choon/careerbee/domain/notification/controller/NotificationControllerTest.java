@@ -13,6 +13,7 @@ import java.util.List;
 import org.choon.careerbee.common.enums.CustomResponseStatus;
 import org.choon.careerbee.domain.auth.entity.enums.TokenType;
 import org.choon.careerbee.domain.member.entity.Member;
+import org.choon.careerbee.domain.member.entity.enums.RoleType;
 import org.choon.careerbee.domain.member.repository.MemberRepository;
 import org.choon.careerbee.domain.notification.dto.request.ReadNotificationReq;
 import org.choon.careerbee.domain.notification.entity.Notification;
@@ -59,7 +60,9 @@ class NotificationControllerTest {
     void setUp() {
         testMember = memberRepository.saveAndFlush(
             createMember("알림유저", "noti@test.com", 88L));
-        accessToken = "Bearer " + jwtUtil.createToken(testMember.getId(), TokenType.ACCESS_TOKEN);
+        accessToken = "Bearer " + jwtUtil.createToken(
+            testMember.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
     }
 
     @Test
@@ -4,12 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.choon.careerbee.fixture.MemberFixture.createMember;
 import static org.choon.careerbee.fixture.NotificationFixture.createNotification;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import org.choon.careerbee.config.querydsl.QueryDSLConfig;
 import org.choon.careerbee.domain.member.entity.Member;
 import org.choon.careerbee.domain.member.repository.MemberRepository;
 import org.choon.careerbee.domain.notification.dto.response.FetchNotiResp;
+import org.choon.careerbee.domain.notification.entity.BroadcastNotification;
 import org.choon.careerbee.domain.notification.entity.Notification;
 import org.choon.careerbee.domain.notification.entity.enums.NotificationType;
+import org.choon.careerbee.domain.notification.repository.BroadcastNotificationRepository;
 import org.choon.careerbee.domain.notification.repository.NotificationRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 @Import({QueryDSLConfig.class, NotificationCustomRepositoryImpl.class})
@@ -31,6 +36,12 @@ class NotificationCustomRepositoryTest {
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private BroadcastNotificationRepository broadcastNotificationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("회원 알림 목록 조회 - 첫 페이지에서는 default size만큼 가져와짐")
     void fetchNotifications_firstPage() {
@@ -82,4 +93,80 @@ class NotificationCustomRepositoryTest {
         assertThat(secondPage.hasNext()).isFalse();
         assertThat(secondPage.notifications().get(0).id()).isLessThan(cursor);
     }
+
+    @Test
+    @DisplayName("알림 일괄 저장 - 같은 이벤트라도 기업이 다르면 각각 저장하고, 재처리한 알림은 저장 목록에서 빠진다")
+    void batchInsert_whenSameEventHasSeveralCompanies_shouldKeepEach() {
+        // given
+        Member member = memberRepository.save(createMember("eventUser", "event@test.com", 88L));
+        List<Notification> notifications = List.of(
+            Notification.ofEvent(1L, member.getId(), "기업A", NotificationType.RECRUITMENT),
+            Notification.ofEvent(1L, member.getId(), "기업B", NotificationType.RECRUITMENT)
+        );
+
+        // when
+        List<Notification> first = notificationRepository.batchInsert(notifications);
+        List<Notification> replayed = notificationRepository.batchInsert(notifications);
+
+        // then
+        assertThat(first).hasSize(2);
+        assertThat(replayed).isEmpty();
+        assertThat(notificationRepository.countByMemberIdAndIsReadFalse(member.getId()))
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체 알림 병합 - 같은 회원이 다시 병합해도 이미 옮긴 알림은 중복되지 않는다")
+    void mergeBroadcasts_whenMergedTwice_shouldNotDuplicate() {
+        // given
+        Member member = memberRepository.save(createMember("mergeUser", "merge@test.com", 77L));
+        LocalDateTime joinedAt = LocalDateTime.now().minusDays(1);
+        backdateMember(member, joinedAt);
+        broadcastNotificationRepository.save(
+            BroadcastNotification.of("전체 알림 1", NotificationType.RECRUITMENT));
+        broadcastNotificationRepository.save(
+            BroadcastNotification.of("전체 알림 2", NotificationType.RECRUITMENT));
+
+        // when
+        int first = notificationRepository.mergeBroadcasts(member.getId());
+        int second = notificationRepository.mergeBroadcasts(member.getId());
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isZero();
+        assertThat(notificationRepository.countByMemberIdAndIsReadFalse(member.getId()))
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체 알림 병합 - 가입 이전에 생성된 전체 알림은 옮기지 않고, 이후 알림만 옮긴다")
+    void mergeBroadcasts_whenJoinedAfterBroadcast_shouldSkipEarlierBroadcasts() {
+        // given
+        LocalDateTime joinedAt = LocalDateTime.now().minusDays(1);
+        BroadcastNotification beforeJoin = broadcastNotificationRepository.save(
+            BroadcastNotification.of("가입 전 알림", NotificationType.RECRUITMENT));
+        jdbcTemplate.update("UPDATE broadcast_notification SET created_at = ? WHERE id = ?",
+            joinedAt.minusDays(1), beforeJoin.getId());
+
+        Member member = memberRepository.save(createMember("lateUser", "late@test.com", 66L));
+        backdateMember(member, joinedAt);
+
+        // when
+        int beforeAnyNew = notificationRepository.mergeBroadcasts(member.getId());
+        broadcastNotificationRepository.save(
+            BroadcastNotification.of("가입 후 알림", NotificationType.RECRUITMENT));
+        int afterNew = notificationRepository.mergeBroadcasts(member.getId());
+
+        // then
+        assertThat(beforeAnyNew).isZero();
+        assertThat(afterNew).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT content FROM notification WHERE member_id = ?", String.class, member.getId()))
+            .isEqualTo("가입 후 알림");
+    }
+
+    private void backdateMember(Member member, LocalDateTime joinedAt) {
+        jdbcTemplate.update("UPDATE member SET created_at = ? WHERE id = ?",
+            joinedAt, member.getId());
+    }
 }
@@ -1,7 +1,9 @@
 package org.choon.careerbee.domain.notification.service;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -10,7 +12,8 @@ import java.util.List;
 import org.choon.careerbee.common.enums.CustomResponseStatus;
 import org.choon.careerbee.common.exception.CustomException;
 import org.choon.careerbee.domain.notification.dto.request.ReadNotificationReq;
-import org.choon.careerbee.domain.notification.entity.Notification;
+import org.choon.careerbee.domain.notification.repository.NotificationRepository;
+import org.choon.careerbee.domain.notification.service.unread.UnreadNotificationCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,6 +26,12 @@ class NotificationCommandServiceImplTest {
     @Mock
     private NotificationQueryService queryService;
 
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UnreadNotificationCounter unreadCounter;
+
     @InjectMocks
     private NotificationCommandServiceImpl commandService;
 
@@ -39,18 +48,15 @@ class NotificationCommandServiceImplTest {
         List<Long> ids = Arrays.asList(101L, 102L);
         ReadNotificationReq request = new ReadNotificationReq(ids);
 
-        Notification noti1 = mock(Notification.class);
-        Notification noti2 = mock(Notification.class);
-        List<Notification> fetched = Arrays.asList(noti1, noti2);
-
-        when(queryService.fetchNotificationInIds(ids, memberId)).thenReturn(fetched);
+        when(queryService.countNotificationInIds(ids, memberId)).thenReturn(2L);
+        when(notificationRepository.markAsRead(memberId, ids)).thenReturn(1);
 
         // when
         commandService.markAsRead(memberId, request);
 
         // then
-        verify(noti1).markAsRead();
-        verify(noti2).markAsRead();
+        verify(notificationRepository).markAsRead(memberId, ids);
+        verify(unreadCounter).decrement(memberId, 1);
     }
 
     @Test
@@ -61,15 +67,27 @@ class NotificationCommandServiceImplTest {
         List<Long> ids = Arrays.asList(101L, 102L, 103L);
         ReadNotificationReq request = new ReadNotificationReq(ids);
 
-        Notification noti1 = mock(Notification.class);
-        Notification noti2 = mock(Notification.class);
-        List<Notification> fetched = Arrays.asList(noti1, noti2);
-
-        when(queryService.fetchNotificationInIds(ids, memberId)).thenReturn(fetched);
+        when(queryService.countNotificationInIds(ids, memberId)).thenReturn(2L);
 
         // when & then
         assertThatThrownBy(() -> commandService.markAsRead(memberId, request))
             .isInstanceOf(CustomException.class)
             .hasMessage(CustomResponseStatus.NOTIFICATION_UPDATE_INVALID.getMessage());
+        verify(notificationRepository, never()).markAsRead(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("전체 알림 읽음 처리 - 전체 알림을 합친 뒤 모두 읽음 처리하고 카운터를 초기화한다")
+    void markAllAsRead_success() {
+        // given
+        Long memberId = 1L;
+
+        // when
+        commandService.markAllAsRead(memberId);
+
+        // then
+        verify(notificationRepository).mergeBroadcasts(memberId);
+        verify(notificationRepository).markAllAsRead(memberId);
+        verify(unreadCounter).reset(memberId);
     }
 }
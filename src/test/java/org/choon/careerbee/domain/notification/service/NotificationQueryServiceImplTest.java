@@ -1,6 +1,7 @@
 package org.choon.careerbee.domain.notification.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -11,9 +12,11 @@ import org.choon.careerbee.domain.notification.dto.response.FetchNotiResp;
 import org.choon.careerbee.domain.notification.dto.response.FetchNotiResp.NotificationInfo;
 import org.choon.careerbee.domain.notification.entity.enums.NotificationType;
 import org.choon.careerbee.domain.notification.repository.NotificationRepository;
+import org.choon.careerbee.domain.notification.service.unread.UnreadNotificationCounter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -27,6 +30,9 @@ class NotificationQueryServiceImplTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private UnreadNotificationCounter unreadCounter;
+
     @Test
     @DisplayName("알림 목록 조회 - 정상 반환")
     void fetchMemberNotifications_success() {
@@ -84,4 +90,26 @@ class NotificationQueryServiceImplTest {
         verify(notificationRepository, times(1))
             .fetchNotificationsByMemberId(memberId, cursor, size);
     }
+
+    @Test
+    @DisplayName("알림 목록 첫 페이지 조회 시 전체 알림을 개인 알림에 먼저 합친다")
+    void fetchMemberNotifications_firstPage_mergesBroadcasts() {
+        // given
+        Long memberId = 123L;
+        int size = 5;
+
+        FetchNotiResp mockResp = new FetchNotiResp(List.of(), null, false);
+        when(notificationRepository.mergeBroadcasts(memberId)).thenReturn(2);
+        when(notificationRepository.fetchNotificationsByMemberId(memberId, null, size))
+            .thenReturn(mockResp);
+
+        // when
+        notificationQueryService.fetchMemberNotifications(memberId, null, size);
+
+        // then
+        InOrder inOrder = inOrder(notificationRepository);
+        inOrder.verify(notificationRepository).mergeBroadcasts(memberId);
+        inOrder.verify(notificationRepository).fetchNotificationsByMemberId(memberId, null, size);
+        verify(unreadCounter).increment(memberId, 2);
+    }
 }
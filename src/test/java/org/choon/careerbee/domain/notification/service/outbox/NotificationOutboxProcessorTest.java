@@ -0,0 +1,168 @@
+package org.choon.careerbee.domain.notification.service.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import org.choon.careerbee.domain.notification.dto.event.PointNotificationPayload;
+import org.choon.careerbee.domain.notification.entity.Notification;
+import org.choon.careerbee.domain.notification.entity.NotificationOutbox;
+import org.choon.careerbee.domain.notification.entity.enums.OutboxEventType;
+import org.choon.careerbee.domain.notification.entity.enums.OutboxStatus;
+import org.choon.careerbee.domain.notification.repository.NotificationOutboxRepository;
+import org.choon.careerbee.domain.notification.repository.NotificationRepository;
+import org.choon.careerbee.domain.notification.service.unread.UnreadNotificationCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxProcessorTest {
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UnreadNotificationCounter unreadCounter;
+
+    private NotificationOutboxProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new NotificationOutboxProcessor(
+            outboxRepository,
+            notificationRepository,
+            unreadCounter,
+            new ObjectMapper(),
+            Clock.fixed(Instant.parse("2025-06-10T00:00:00Z"), ZoneId.of("Asia/Seoul"))
+        );
+    }
+
+    @Test
+    @DisplayName("포인트 알림 여러 건을 한 번에 저장하고 모두 완료 처리한다")
+    void dispatchPoints_shouldInsertOnceAndMarkDone() {
+        // given
+        NotificationOutbox first = outbox(1L, OutboxEventType.POINT,
+            "{\"memberId\":10,\"point\":3,\"type\":\"POINT\"}");
+        NotificationOutbox second = outbox(2L, OutboxEventType.POINT,
+            "{\"memberId\":20,\"point\":3,\"type\":\"POINT\"}");
+        when(outboxRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        givenAllInserted();
+
+        // when
+        List<PointNotificationPayload> payloads = processor.dispatchPoints(List.of(1L, 2L));
+
+        // then
+        assertThat(payloads).extracting(PointNotificationPayload::memberId)
+            .containsExactly(10L, 20L);
+        assertThat(first.getStatus()).isEqualTo(OutboxStatus.DONE);
+        assertThat(second.getStatus()).isEqualTo(OutboxStatus.DONE);
+        verify(notificationRepository, times(1)).batchInsert(anyList());
+        verify(unreadCounter).increment(List.of(10L, 20L));
+    }
+
+    @Test
+    @DisplayName("이미 완료된 outbox 는 다시 처리하지 않는다")
+    void dispatchOpenRecruiting_whenAlreadyDone_shouldSkip() {
+        // given
+        NotificationOutbox outbox = outbox(1L, OutboxEventType.OPEN_RECRUITING,
+            "{\"notifyMap\":{\"기업\":[1]}}");
+        outbox.markDone(null);
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+
+        // when
+        processor.dispatchOpenRecruiting(1L);
+
+        // then
+        verify(notificationRepository, never()).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("역직렬화할 수 없는 포인트 알림은 실패 처리하고 나머지는 그대로 저장한다")
+    void dispatchPoints_whenPayloadIsBroken_shouldFailOnlyThatRow() {
+        // given
+        NotificationOutbox broken = outbox(1L, OutboxEventType.POINT, "{not-json");
+        NotificationOutbox valid = outbox(2L, OutboxEventType.POINT,
+            "{\"memberId\":20,\"point\":3,\"type\":\"POINT\"}");
+        when(outboxRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(broken, valid));
+        givenAllInserted();
+
+        // when
+        List<PointNotificationPayload> payloads = processor.dispatchPoints(List.of(1L, 2L));
+
+        // then
+        assertThat(payloads).extracting(PointNotificationPayload::memberId)
+            .containsExactly(20L);
+        assertThat(broken.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(valid.getStatus()).isEqualTo(OutboxStatus.DONE);
+        verify(unreadCounter).increment(List.of(20L));
+    }
+
+    @Test
+    @DisplayName("이미 저장된 알림은 읽지 않은 알림 수를 올리지 않는다")
+    void dispatchOpenRecruiting_whenSomeAlreadyInserted_shouldCountOnlyInserted() {
+        // given
+        NotificationOutbox outbox = outbox(1L, OutboxEventType.OPEN_RECRUITING,
+            "{\"notifyMap\":{\"기업A\":[1],\"기업B\":[1]}}");
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        when(notificationRepository.batchInsert(anyList())).thenAnswer(invocation -> {
+            List<Notification> notifications = invocation.getArgument(0);
+            return notifications.subList(0, 1);
+        });
+
+        // when
+        processor.dispatchOpenRecruiting(1L);
+
+        // then
+        verify(unreadCounter).increment(List.of(1L));
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("처리 실패가 최대 시도 횟수에 도달하면 실패 처리해 더 이상 조회되지 않게 한다")
+    void recordFailure_whenReachesMaxAttempts_shouldMarkFailed() {
+        // given
+        NotificationOutbox outbox = outbox(1L, OutboxEventType.OPEN_RECRUITING,
+            "{\"notifyMap\":{\"기업\":[1]}}");
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+
+        // when
+        for (int i = 1; i < NotificationOutboxProcessor.MAX_ATTEMPTS; i++) {
+            processor.recordFailure(1L);
+        }
+        OutboxStatus beforeLastAttempt = outbox.getStatus();
+        processor.recordFailure(1L);
+
+        // then
+        assertThat(beforeLastAttempt).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(outbox.getAttempts()).isEqualTo(NotificationOutboxProcessor.MAX_ATTEMPTS);
+    }
+
+    private NotificationOutbox outbox(Long id, OutboxEventType type, String payload) {
+        NotificationOutbox outbox = NotificationOutbox.of(type, payload);
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+
+    private void givenAllInserted() {
+        when(notificationRepository.batchInsert(anyList()))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+}
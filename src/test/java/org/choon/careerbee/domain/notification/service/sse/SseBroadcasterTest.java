@@ -0,0 +1,116 @@
+package org.choon.careerbee.domain.notification.service.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new SseBroadcaster(new ObjectMapper(), meterRegistry, 2, 16, 200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    @DisplayName("응답이 없는 클라이언트는 타임아웃 후 제거되고, 같은 샤드의 다른 클라이언트는 계속 수신한다")
+    void broadcast_whenClientStalls_shouldDropOnlyThatClient() throws Exception {
+        // given : 1L, 3L 은 같은 샤드(2개 중 1번)
+        CountDownLatch received = new CountDownLatch(1);
+        broadcaster.register(1L, new StallingEmitter());
+        RecordingEmitter healthy = new RecordingEmitter(received);
+        broadcaster.register(3L, healthy);
+
+        // when
+        broadcaster.broadcast("notification", true);
+
+        // then
+        assertThat(received.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(broadcaster.isConnected(1L)).isFalse();
+        assertThat(broadcaster.isConnected(3L)).isTrue();
+        assertThat(meterRegistry.counter("sse.emitter.dropped", "reason", "timeout").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("멀티캐스트 시 한 번 직렬화한 페이로드를 모든 대상이 공유한다")
+    void multicast_shouldShareSerializedPayload() throws Exception {
+        // given
+        CountDownLatch received = new CountDownLatch(2);
+        RecordingEmitter first = new RecordingEmitter(received);
+        RecordingEmitter second = new RecordingEmitter(received);
+        broadcaster.register(1L, first);
+        broadcaster.register(2L, second);
+
+        // when
+        broadcaster.multicast(List.of(1L, 2L), "notification", true);
+
+        // then
+        assertThat(received.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(first.payloads.get(0)).isSameAs(second.payloads.get(0));
+    }
+
+    @Test
+    @DisplayName("재연결로 교체된 emitter 는 이전 emitter 의 종료 콜백으로 제거되지 않는다")
+    void unregister_whenEmitterReplaced_shouldKeepNewEmitter() {
+        // given
+        SseEmitter previous = new SseEmitter();
+        SseEmitter current = new SseEmitter();
+        broadcaster.register(1L, previous);
+        broadcaster.register(1L, current);
+
+        // when
+        broadcaster.unregister(1L, previous);
+
+        // then
+        assertThat(broadcaster.isConnected(1L)).isTrue();
+    }
+
+    private static class StallingEmitter extends SseEmitter {
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<DataWithMediaType>> payloads = new ArrayList<>();
+        private final CountDownLatch latch;
+
+        private RecordingEmitter(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            payloads.add(items);
+            latch.countDown();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.choon.careerbee.domain.notification.service.unread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import org.choon.careerbee.domain.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RScript.Mode;
+import org.redisson.api.RScript.ReturnType;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadNotificationCounterTest {
+
+    @InjectMocks
+    private UnreadNotificationCounter unreadCounter;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private RAtomicLong atomicLong;
+
+    @Mock
+    private RBucket<Object> bucket;
+
+    @Mock
+    private RScript script;
+
+    @Test
+    @DisplayName("읽지 않은 알림 수 조회 - 카운터가 존재하면 DB를 조회하지 않는다")
+    void get_whenCounterExists_shouldNotQueryDb() {
+        // given
+        when(redissonClient.getAtomicLong("notification:unread:1")).thenReturn(atomicLong);
+        when(atomicLong.isExists()).thenReturn(true);
+        when(atomicLong.get()).thenReturn(3L);
+
+        // when
+        long result = unreadCounter.get(1L);
+
+        // then
+        assertThat(result).isEqualTo(3L);
+        verify(notificationRepository, never()).countByMemberIdAndIsReadFalse(anyLong());
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수 조회 - 카운터가 없으면 DB 집계로 초기화한다")
+    void get_whenCounterMissing_shouldSeedFromDb() {
+        // given
+        when(redissonClient.getAtomicLong("notification:unread:2")).thenReturn(atomicLong);
+        when(atomicLong.isExists()).thenReturn(false);
+        when(notificationRepository.countByMemberIdAndIsReadFalse(2L)).thenReturn(5L);
+        when(redissonClient.getBucket("notification:unread:2", StringCodec.INSTANCE))
+            .thenReturn(bucket);
+        when(bucket.setIfAbsent(eq("5"), eq(Duration.ofDays(1)))).thenReturn(true);
+
+        // when
+        long result = unreadCounter.get(2L);
+
+        // then
+        assertThat(result).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("읽음 처리 - 카운터가 음수가 되면 지워서 다음 조회 때 DB 집계로 다시 채운다")
+    void decrement_whenCounterBecomesNegative_shouldDeleteCounter() {
+        // given
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(script);
+        when(script.eval(eq(Mode.READ_WRITE), anyString(), eq(ReturnType.INTEGER),
+            eq(List.<Object>of("notification:unread:3")), eq("-2")))
+            .thenReturn(-1L);
+        when(redissonClient.getAtomicLong("notification:unread:3")).thenReturn(atomicLong);
+
+        // when
+        unreadCounter.decrement(3L, 2);
+
+        // then
+        verify(atomicLong).delete();
+    }
+}
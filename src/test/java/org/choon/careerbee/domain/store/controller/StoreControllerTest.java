@@ -10,6 +10,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import org.choon.careerbee.domain.auth.entity.enums.TokenType;
 import org.choon.careerbee.domain.member.entity.Member;
+import org.choon.careerbee.domain.member.entity.enums.RoleType;
 import org.choon.careerbee.domain.member.repository.MemberRepository;
 import org.choon.careerbee.domain.store.domain.enums.TicketType;
 import org.choon.careerbee.domain.store.dto.request.TicketPurchaseReq;
@@ -59,7 +60,9 @@ class StoreControllerTest {
         member.plusPoint(1000);
         ticketRepository.save(createTicket(10, 10, "무뜨", "red.png", TicketType.RED));
 
-        String token = "Bearer " + jwtUtil.createToken(member.getId(), TokenType.ACCESS_TOKEN);
+        String token = "Bearer " + jwtUtil.createToken(
+            member.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
         TicketPurchaseReq ticketPurchaseReq = new TicketPurchaseReq(TicketType.RED);
 
         // when & then
@@ -102,7 +105,9 @@ class StoreControllerTest {
     void fetchMemberTicketQuantity_noPurchaseHistory_returnsZero() throws Exception {
         // given
         Member member = memberRepository.save(createMember("member2", "nopurchase@test.com", 2L));
-        String token = "Bearer " + jwtUtil.createToken(member.getId(), TokenType.ACCESS_TOKEN);
+        String token = "Bearer " + jwtUtil.createToken(
+            member.getId(), RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+        );
 
         // when & then
         mockMvc.perform(get("/api/v1/members/tickets")
@@ -17,8 +17,10 @@ import org.choon.careerbee.domain.store.repository.PurchaseHistoryRepository;
 import org.choon.careerbee.domain.store.repository.TicketRepository;
 import org.choon.careerbee.domain.store.service.command.StoreCommandService;
 import org.choon.careerbee.domain.store.service.query.StoreQueryService;
+import org.choon.careerbee.util.redis.RedisKeyFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
@@ -45,6 +47,9 @@ public class TicketConcurrencyTest {
     @Autowired
     private StoreQueryService storeQueryService;
 
+    @Autowired
+    private RedissonClient redissonClient;
+
     private Ticket ticket;
 
     @Test
@@ -56,6 +61,7 @@ public class TicketConcurrencyTest {
         // given
         ticket = createTicket(initialStock, 100, "무뜨", "test.url", RED);
         ticketRepository.save(ticket);
+        redissonClient.getBucket(RedisKeyFactory.ticketStockKey(ticket.getId())).delete();
 
         ExecutorService executorService = Executors.newFixedThreadPool(5);
         CountDownLatch latch = new CountDownLatch(requestCount);
@@ -79,6 +85,8 @@ public class TicketConcurrencyTest {
         }
 
         latch.await();
+        // 티켓 재고는 구매 내역을 묶어 나중에 차감하므로, 확인 전에 반영한다.
+        ticketRepository.applyPurchasedStock(requestCount);
 
         Ticket updated = ticketRepository.findById(ticket.getId()).orElseThrow();
         long successCount = purchaseHistoryRepository.count();
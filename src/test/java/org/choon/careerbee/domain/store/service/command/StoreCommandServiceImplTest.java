@@ -1,26 +1,29 @@
 package org.choon.careerbee.domain.store.service.command;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.concurrent.TimeUnit;
 import org.choon.careerbee.common.enums.CustomResponseStatus;
 import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.store.domain.Ticket;
 import org.choon.careerbee.domain.store.domain.enums.TicketType;
 import org.choon.careerbee.domain.store.dto.request.TicketPurchaseReq;
+import org.choon.careerbee.domain.store.service.query.StoreQueryService;
+import org.choon.careerbee.domain.store.service.stock.TicketStock;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 
 @ExtendWith(MockitoExtension.class)
 class StoreCommandServiceImplTest {
@@ -29,61 +32,75 @@ class StoreCommandServiceImplTest {
     private StoreCommandServiceImpl storeCommandService;
 
     @Mock
-    private RedissonClient redissonClient;
+    private StoreQueryService storeQueryService;
 
     @Mock
     private StorePurchaseProcessor storePurchaseProcessor;
 
     @Mock
-    private RLock rLock;
+    private TicketStock ticketStock;
 
     private static final Long MEMBER_ID = 1L;
+    private static final Long TICKET_ID = 7L;
     private static final TicketPurchaseReq REQUEST = new TicketPurchaseReq(TicketType.RED);
+    private static final String RESERVATION_ID = "reservation-1";
 
     @Test
-    @DisplayName("[티켓 구매] 락 획득 성공 시 구매 로직이 실행된다")
-    void purchaseTicket_success() throws InterruptedException {
+    @DisplayName("[티켓 구매] 재고 선점에 성공하면 구매 로직이 실행된다")
+    void purchaseTicket_success() {
         // given
-        when(redissonClient.getLock(anyString())).thenReturn(rLock);
-        when(rLock.tryLock(2, 5, TimeUnit.SECONDS)).thenReturn(true);
+        Ticket ticket = redTicket();
+        when(ticketStock.reserve(TICKET_ID)).thenReturn(RESERVATION_ID);
 
         // when
         storeCommandService.purchaseTicket(REQUEST, MEMBER_ID);
 
         // then
-        verify(storePurchaseProcessor, times(1)).executePurchase(REQUEST, MEMBER_ID);
-        verify(rLock, times(1)).unlock();
+        verify(ticketStock, times(1)).reserve(TICKET_ID);
+        verify(storePurchaseProcessor, times(1)).executePurchase(ticket, MEMBER_ID);
+        verify(ticketStock, never()).release(anyLong(), anyString());
+        verify(ticketStock, times(1)).confirm(TICKET_ID, RESERVATION_ID);
     }
 
     @Test
-    @DisplayName("[티켓 구매] 락 획득 실패 시 예외를 던진다")
-    void purchaseTicket_lockFail_throwsException() throws InterruptedException {
+    @DisplayName("[티켓 구매] 재고가 없으면 구매 로직을 실행하지 않고 예외를 던진다")
+    void purchaseTicket_outOfStock_throwsException() {
         // given
-        when(redissonClient.getLock(anyString())).thenReturn(rLock);
-        when(rLock.tryLock(2, 5, TimeUnit.SECONDS)).thenReturn(false);
+        redTicket();
+        doThrow(new CustomException(CustomResponseStatus.TICKET_OUT_OF_STOCK))
+            .when(ticketStock).reserve(TICKET_ID);
 
         // when & then
         assertThatThrownBy(() -> storeCommandService.purchaseTicket(REQUEST, MEMBER_ID))
             .isInstanceOf(CustomException.class)
-            .hasMessageContaining(CustomResponseStatus.LOCK_ACQUISITION_FAILED.getMessage());
+            .hasMessageContaining(CustomResponseStatus.TICKET_OUT_OF_STOCK.getMessage());
 
         verify(storePurchaseProcessor, never()).executePurchase(any(), any());
-        verify(rLock, never()).unlock();
+        verify(ticketStock, never()).release(anyLong(), anyString());
     }
 
     @Test
-    @DisplayName("[티켓 구매] 락 대기 중 인터럽트가 발생하면 예외를 던진다")
-    void purchaseTicket_interrupted_throwsException() throws InterruptedException {
+    @DisplayName("[티켓 구매] 포인트가 부족하면 선점한 재고를 돌려놓고 예외를 던진다")
+    void purchaseTicket_notEnoughPoint_releasesStock() {
         // given
-        when(redissonClient.getLock(anyString())).thenReturn(rLock);
-        when(rLock.tryLock(2, 5, TimeUnit.SECONDS)).thenThrow(new InterruptedException());
+        Ticket ticket = redTicket();
+        when(ticketStock.reserve(TICKET_ID)).thenReturn(RESERVATION_ID);
+        doThrow(new CustomException(CustomResponseStatus.NOT_ENOUGH_POINT))
+            .when(storePurchaseProcessor).executePurchase(ticket, MEMBER_ID);
 
         // when & then
         assertThatThrownBy(() -> storeCommandService.purchaseTicket(REQUEST, MEMBER_ID))
             .isInstanceOf(CustomException.class)
-            .hasMessageContaining(CustomResponseStatus.LOCK_ACQUISITION_FAILED.getMessage());
+            .hasMessageContaining(CustomResponseStatus.NOT_ENOUGH_POINT.getMessage());
 
-        verify(storePurchaseProcessor, never()).executePurchase(any(), any());
-        verify(rLock, never()).unlock();
+        verify(ticketStock, times(1)).release(TICKET_ID, RESERVATION_ID);
+        verify(ticketStock, never()).confirm(anyLong(), anyString());
+    }
+
+    private Ticket redTicket() {
+        Ticket ticket = mock(Ticket.class);
+        when(ticket.getId()).thenReturn(TICKET_ID);
+        when(storeQueryService.findTicketByType(TicketType.RED)).thenReturn(ticket);
+        return ticket;
     }
 }
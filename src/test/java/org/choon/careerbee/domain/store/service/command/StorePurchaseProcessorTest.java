@@ -1,20 +1,24 @@
 package org.choon.careerbee.domain.store.service.command;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.choon.careerbee.fixture.MemberFixture.createMember;
 import static org.choon.careerbee.fixture.ticket.TicketFixture.createTicket;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
 import org.choon.careerbee.domain.member.entity.Member;
+import org.choon.careerbee.domain.member.repository.MemberRepository;
 import org.choon.careerbee.domain.member.service.MemberQueryService;
 import org.choon.careerbee.domain.store.domain.PurchaseHistory;
 import org.choon.careerbee.domain.store.domain.Ticket;
 import org.choon.careerbee.domain.store.domain.enums.TicketType;
-import org.choon.careerbee.domain.store.dto.request.TicketPurchaseReq;
 import org.choon.careerbee.domain.store.repository.PurchaseHistoryRepository;
-import org.choon.careerbee.domain.store.service.query.StoreQueryService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,34 +33,47 @@ class StorePurchaseProcessorTest {
     private StorePurchaseProcessor storePurchaseProcessor;
 
     @Mock
-    private MemberQueryService memberQueryService;
+    private MemberRepository memberRepository;
 
     @Mock
-    private StoreQueryService storeQueryService;
+    private MemberQueryService memberQueryService;
 
     @Mock
     private PurchaseHistoryRepository purchaseHistoryRepository;
 
     @Test
-    @DisplayName("[티켓 구매 처리] 포인트 차감, 티켓 차감, 구매내역 저장이 실행된다")
+    @DisplayName("[티켓 구매 처리] 포인트 차감 후 구매내역이 저장되고 티켓 행은 갱신하지 않는다")
     void executePurchase_shouldProcessCorrectly() {
         // given
         Long memberId = 1L;
-        TicketPurchaseReq request = new TicketPurchaseReq(TicketType.RED);
-
-        Member mockMember = createMember("testNick", "test@test.com", 3452L);
-        Ticket mockTicket = createTicket(5, 10, "무뜨", "test.jpg", TicketType.RED);
+        Member member = createMember("testNick", "test@test.com", 3452L);
+        Ticket ticket = createTicket(5, 10, "무뜨", "test.jpg", TicketType.RED);
 
-        mockMember.plusPoint(10);
-        when(memberQueryService.findById(memberId)).thenReturn(mockMember);
-        when(storeQueryService.findTicketByType(TicketType.RED)).thenReturn(mockTicket);
+        when(memberRepository.deductPoints(memberId, 5)).thenReturn(true);
+        when(memberQueryService.getReferenceById(memberId)).thenReturn(member);
 
         // when
-        storePurchaseProcessor.executePurchase(request, memberId);
+        storePurchaseProcessor.executePurchase(ticket, memberId);
 
         // then
-        verify(memberQueryService).findById(memberId);
-        verify(storeQueryService).findTicketByType(TicketType.RED);
         verify(purchaseHistoryRepository, times(1)).save(any(PurchaseHistory.class));
+        assertThat(ticket.getQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("[티켓 구매 처리] 포인트가 부족하면 구매내역을 저장하지 않고 예외를 던진다")
+    void executePurchase_whenNotEnoughPoint_shouldThrow() {
+        // given
+        Long memberId = 1L;
+        Ticket ticket = createTicket(5, 10, "무뜨", "test.jpg", TicketType.RED);
+
+        when(memberRepository.deductPoints(memberId, 5)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> storePurchaseProcessor.executePurchase(ticket, memberId))
+            .isInstanceOf(CustomException.class)
+            .hasMessageContaining(CustomResponseStatus.NOT_ENOUGH_POINT.getMessage());
+
+        verify(purchaseHistoryRepository, never()).save(any());
     }
 }
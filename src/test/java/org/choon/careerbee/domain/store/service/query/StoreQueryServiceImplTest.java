@@ -2,6 +2,7 @@ package org.choon.careerbee.domain.store.service.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.choon.careerbee.fixture.ticket.TicketFixture.createTicket;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,6 +13,7 @@ import org.choon.careerbee.domain.store.domain.enums.TicketType;
 import org.choon.careerbee.domain.store.dto.response.TicketQuantityResp;
 import org.choon.careerbee.domain.store.repository.PurchaseHistoryRepository;
 import org.choon.careerbee.domain.store.repository.TicketRepository;
+import org.choon.careerbee.domain.store.service.stock.TicketStock;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,18 +33,23 @@ class StoreQueryServiceImplTest {
     @Mock
     private PurchaseHistoryRepository purchaseHistoryRepository;
 
+    @Mock
+    private TicketStock ticketStock;
 
     @Test
-    @DisplayName("[티켓 수량 조회] 티켓 수량 조회시 DB 조회")
-    void fetchTicketQuantity_shouldCacheResult() {
+    @DisplayName("[티켓 수량 조회] 남은 수량은 Redis 재고 카운터에서 읽는다")
+    void fetchTicketQuantity_shouldReadStockCounter() {
         // given
         List<Ticket> expectedTickets = List.of(
-            Ticket.of(1000, 3, "무뜨", "red.png", TicketType.RED),
-            Ticket.of(1200, 5, "요아정", "green.png", TicketType.GREEN),
-            Ticket.of(1500, 7, "하겐다즈", "blue.png", TicketType.BLUE)
+            ticketWithId(1L, TicketType.RED),
+            ticketWithId(2L, TicketType.GREEN),
+            ticketWithId(3L, TicketType.BLUE)
         );
 
         when(ticketRepository.findAll()).thenReturn(expectedTickets);
+        when(ticketStock.available(1L)).thenReturn(3);
+        when(ticketStock.available(2L)).thenReturn(5);
+        when(ticketStock.available(3L)).thenReturn(7);
 
         // when
         TicketQuantityResp actualTicketList = storeQueryService.fetchTicketQuantity();
@@ -160,4 +167,11 @@ class StoreQueryServiceImplTest {
         assertThat(actualResp.greenTicket()).isNotNull();
         assertThat(actualResp.blueTicket()).isNull();
     }
+
+    private Ticket ticketWithId(Long id, TicketType type) {
+        Ticket ticket = mock(Ticket.class);
+        when(ticket.getId()).thenReturn(id);
+        when(ticket.getType()).thenReturn(type);
+        return ticket;
+    }
 }
@@ -0,0 +1,177 @@
+package org.choon.careerbee.domain.store.service.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.choon.careerbee.common.enums.CustomResponseStatus;
+import org.choon.careerbee.common.exception.CustomException;
+import org.choon.careerbee.domain.store.dto.internal.TicketStockState;
+import org.choon.careerbee.domain.store.repository.TicketRepository;
+import org.choon.careerbee.util.redis.RedisKeyFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RScript.Mode;
+import org.redisson.api.RScript.ReturnType;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TicketStockTest {
+
+    private static final Long TICKET_ID = 1L;
+    private static final String KEY = RedisKeyFactory.ticketStockKey(TICKET_ID);
+    private static final String RESERVED_KEY = RedisKeyFactory.ticketReservationsKey(TICKET_ID);
+
+    @InjectMocks
+    private TicketStock ticketStock;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private RScript script;
+
+    @Mock
+    private RBucket<Object> bucket;
+
+    @Mock
+    private RScoredSortedSet<Object> reservations;
+
+    @BeforeEach
+    void setUp() {
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(script);
+        when(redissonClient.getBucket(KEY, StringCodec.INSTANCE)).thenReturn(bucket);
+        when(redissonClient.getScoredSortedSet(RESERVED_KEY, StringCodec.INSTANCE))
+            .thenReturn(reservations);
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 DB 기준 재고로 채운 뒤 다시 선점한다")
+    void reserve_whenNotLoaded_shouldSeedAndRetry() {
+        // given
+        when(script.<Long>eval(eq(Mode.READ_WRITE), anyString(), eq(ReturnType.INTEGER),
+            eq(List.<Object>of(KEY, RESERVED_KEY)), anyString(), anyString()))
+            .thenReturn(-1L, 1L);
+        when(ticketRepository.fetchExpectedStock(TICKET_ID)).thenReturn(10);
+
+        // when
+        String reservationId = ticketStock.reserve(TICKET_ID);
+
+        // then
+        verify(bucket).setIfAbsent("10");
+        assertThat(reservationId).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("재고가 없으면 품절 예외를 던진다")
+    void reserve_whenSoldOut_shouldThrow() {
+        // given
+        when(script.<Long>eval(eq(Mode.READ_WRITE), anyString(), eq(ReturnType.INTEGER),
+            eq(List.<Object>of(KEY, RESERVED_KEY)), anyString(), anyString())).thenReturn(0L);
+
+        // when & then
+        assertThatThrownBy(() -> ticketStock.reserve(TICKET_ID))
+            .isInstanceOf(CustomException.class)
+            .hasMessageContaining(CustomResponseStatus.TICKET_OUT_OF_STOCK.getMessage());
+        verify(ticketRepository, never()).fetchExpectedStock(any());
+    }
+
+    @Test
+    @DisplayName("같은 차이가 두 번 연속 보일 때만 카운터를 그 차이만큼 보정한다")
+    void reconcile_shouldCorrectOnlyStableDrift() {
+        // given
+        when(ticketRepository.fetchExpectedStocks())
+            .thenReturn(List.of(new TicketStockState(TICKET_ID, 8)));
+        when(ticketRepository.fetchExpectedStock(TICKET_ID)).thenReturn(8);
+        givenSnapshot(5L, 0L);
+
+        // when
+        int first = ticketStock.reconcile();
+        int second = ticketStock.reconcile();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        verify(script, times(1)).eval(eq(Mode.READ_WRITE), anyString(), eq(ReturnType.INTEGER),
+            anyList(), eq("3"));
+    }
+
+    @Test
+    @DisplayName("진행 중인 선점 수만큼 낮은 카운터는 정상으로 보고 보정하지 않는다")
+    void reconcile_whenReservationsInFlight_shouldNotCorrect() {
+        // given
+        when(ticketRepository.fetchExpectedStocks())
+            .thenReturn(List.of(new TicketStockState(TICKET_ID, 8)));
+        when(ticketRepository.fetchExpectedStock(TICKET_ID)).thenReturn(8);
+        givenSnapshot(5L, 3L);
+
+        // when
+        int first = ticketStock.reconcile();
+        int second = ticketStock.reconcile();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        verify(script, never()).eval(eq(Mode.READ_WRITE), anyString(), eq(ReturnType.INTEGER),
+            anyList(), anyString());
+    }
+
+    @Test
+    @DisplayName("구매가 커밋되면 선점 ID 를 진행 중 목록에서 지운다")
+    void confirm_shouldRemoveReservation() {
+        // when
+        ticketStock.confirm(TICKET_ID, "reservation-1");
+
+        // then
+        verify(reservations).remove("reservation-1");
+    }
+
+    @Test
+    @DisplayName("대사는 만료 기준 시각을 넘겨 오래된 선점을 먼저 지운 뒤 선점 수를 읽는다")
+    void reconcile_shouldDropStaleReservationsBeforeCounting() {
+        // given
+        when(ticketRepository.fetchExpectedStocks())
+            .thenReturn(List.of(new TicketStockState(TICKET_ID, 8)));
+        when(ticketRepository.fetchExpectedStock(TICKET_ID)).thenReturn(8);
+        givenSnapshot(8L, 0L);
+        long before = System.currentTimeMillis();
+
+        // when
+        ticketStock.reconcile();
+
+        // then
+        verify(script).eval(eq(Mode.READ_WRITE), anyString(), eq(ReturnType.MULTI),
+            eq(List.<Object>of(KEY, RESERVED_KEY)), argThat(staleBefore ->
+                Long.parseLong((String) staleBefore) <= before - 60_000L));
+    }
+
+    private void givenSnapshot(long stock, long reserved) {
+        when(script.<List<Long>>eval(eq(Mode.READ_WRITE), anyString(), eq(ReturnType.MULTI),
+            eq(List.<Object>of(KEY, RESERVED_KEY)), anyString()))
+            .thenReturn(List.of(stock, reserved));
+    }
+}
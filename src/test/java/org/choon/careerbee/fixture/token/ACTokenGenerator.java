@@ -5,6 +5,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import org.choon.careerbee.domain.auth.entity.enums.TokenType;
+import org.choon.careerbee.domain.member.entity.enums.RoleType;
 import org.choon.careerbee.util.jwt.JwtUtil;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -35,7 +36,9 @@ class ACTokenGenerator {
 
         try (BufferedWriter bw = Files.newBufferedWriter(out)) {
             for (long memberId = 100; memberId < 200; memberId++) {
-                String token = jwtUtil.createToken(memberId, TokenType.ACCESS_TOKEN);
+                String token = jwtUtil.createToken(
+                    memberId, RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+                );
 
                 // (2) 토큰 null 체크 -- 문제 진단에 도움
                 if (token == null) {
@@ -60,7 +63,9 @@ class ACTokenGenerator {
 
         try (BufferedWriter bw = Files.newBufferedWriter(out)) {
             for (long memberId = 21; memberId < 31; memberId++) {
-                String token = jwtUtil.createToken(memberId, TokenType.ACCESS_TOKEN);
+                String token = jwtUtil.createToken(
+                    memberId, RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN
+                );
 
                 // (2) 토큰 null 체크 -- 문제 진단에 도움
                 if (token == null) {
@@ -0,0 +1,108 @@
+package org.choon.careerbee.util.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Jwts.SIG;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import org.choon.careerbee.domain.auth.dto.internal.MemberAuthInfo;
+import org.choon.careerbee.domain.auth.entity.enums.TokenType;
+import org.choon.careerbee.domain.auth.security.PrincipalDetails;
+import org.choon.careerbee.domain.member.entity.enums.RoleType;
+import org.choon.careerbee.util.jwt.TokenPrincipalCache.CachedPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+@ExtendWith(MockitoExtension.class)
+class JwtUtilTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(
+        "careerbee-jwt-util-test-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+    private static final long ONE_HOUR_MILLIS = 3_600_000L;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, ONE_HOUR_MILLIS, ONE_HOUR_MILLIS, 100L, userDetailsService);
+    }
+
+    @Test
+    @DisplayName("role 클레임이 있는 토큰은 회원을 조회하지 않고 클레임으로 인증 주체를 만든다")
+    void getAuthentication_whenRoleClaim_shouldNotLoadMember() {
+        // given
+        String token = jwtUtil.createToken(1L, RoleType.ROLE_ADMIN, 3L, TokenType.ACCESS_TOKEN);
+
+        // when
+        Authentication first = jwtUtil.getAuthentication(token);
+        Authentication second = jwtUtil.getAuthentication(token);
+        CachedPrincipal verified = jwtUtil.verify(token);
+
+        // then
+        PrincipalDetails principal = (PrincipalDetails) first.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(first.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly(RoleType.ROLE_ADMIN.name());
+        assertThat(second.getPrincipal()).isSameAs(principal);
+        assertThat(verified.memberId()).isEqualTo(1L);
+        assertThat(verified.tokenVersion()).isEqualTo(3L);
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("role 클레임이 없는 이전 토큰은 회원을 조회하고, 캐시에서 제거하면 다시 조회한다")
+    void getAuthentication_whenLegacyToken_shouldLoadMemberAndReloadAfterEvict() {
+        // given
+        String legacyToken = Jwts.builder()
+            .subject("2")
+            .claim("id", 2L)
+            .expiration(new Date(System.currentTimeMillis() + ONE_HOUR_MILLIS))
+            .id("legacy-jti")
+            .signWith(jwtUtil.getSigningKey(), SIG.HS256)
+            .compact();
+        when(userDetailsService.loadUserByUsername("2"))
+            .thenReturn(new PrincipalDetails(new MemberAuthInfo(2L, RoleType.ROLE_MEMBER)));
+
+        // when
+        jwtUtil.getAuthentication(legacyToken);
+        jwtUtil.getAuthentication(legacyToken);
+        jwtUtil.evictAuthentication(legacyToken);
+        CachedPrincipal reloaded = jwtUtil.verify(legacyToken);
+
+        // then
+        assertThat(reloaded.tokenVersion()).isZero();
+        assertThat(reloaded.tokenId()).isEqualTo("legacy-jti");
+        verify(userDetailsService, times(2)).loadUserByUsername("2");
+    }
+
+    @Test
+    @DisplayName("서명이 올바르지 않은 토큰은 캐시하지 않고 예외를 던진다")
+    void getAuthentication_whenTampered_shouldThrow() {
+        // given
+        String token = jwtUtil.createToken(3L, RoleType.ROLE_MEMBER, 0L, TokenType.ACCESS_TOKEN);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtil.getAuthentication(tampered))
+            .isInstanceOf(JwtException.class);
+        verifyNoInteractions(userDetailsService);
+    }
+}